@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.benchmark;
+
+import at.blvckbytes.component_markup.constructor.SlotType;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.markup.interpreter.JsonComponentConstructor;
+import at.blvckbytes.component_markup.markup.interpreter.MarkupInterpreter;
+import at.blvckbytes.component_markup.test_utils.NullInterpreterLogger;
+import com.google.gson.JsonObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchRenderBenchmark {
+
+  @Param({ "5000" })
+  public int environmentCount;
+
+  private MarkupNode node;
+  private List<InterpretationEnvironment> environments;
+
+  @Setup
+  public void setup() {
+    node = BenchmarkCorpus.parse(BenchmarkCorpus.CHAT_MESSAGE);
+    environments = new ArrayList<>();
+
+    for (int index = 0; index < environmentCount; ++index)
+      environments.add(BenchmarkCorpus.makeEnvironment().withVariable("message", "Message #" + index));
+  }
+
+  @Benchmark
+  public List<List<JsonObject>> renderSequentially() {
+    List<List<JsonObject>> results = new ArrayList<>(environments.size());
+
+    for (InterpretationEnvironment environment : environments)
+      results.add(MarkupInterpreter.interpret(node, SlotType.CHAT, environment, JsonComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE));
+
+    return results;
+  }
+
+  @Benchmark
+  public List<List<JsonObject>> renderBatched() {
+    return MarkupInterpreter.interpretAll(node, SlotType.CHAT, environments, JsonComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE);
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.benchmark;
+
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.markup.ast.tag.built_in.BuiltInTagRegistry;
+import at.blvckbytes.component_markup.markup.parser.MarkupParser;
+import at.blvckbytes.component_markup.util.InputView;
+
+import java.util.*;
+
+public class BenchmarkCorpus {
+
+  public static final String SCOREBOARD = String.join("\n",
+    "<&6><b>Top Players</>",
+    "<br/>",
+    "<container",
+    "  *for-player=\"players\"",
+    "  *for-separator={<br/>}",
+    "  *let-rank=\"loop.index + 1\"",
+    ">",
+    "  <&8>#{rank} <gradient color=\"gold\" color=\"yellow\">{player.name}</> <&7>- <&a>{player.score} <&7>points",
+    "  <&7 *if=\"player.online\">(<&a>online<&7>)</>",
+    "</>"
+  );
+
+  public static final String CHAT_MESSAGE = String.join("\n",
+    "<hover-text value={",
+    "  <&7>Rank: <&e>{upper(sender.rank)}<br/>",
+    "  <&7>Balance: <&a>{sender.balance}<br/>",
+    "  <&a>Click to reply",
+    "}>",
+    "  <suggest-command [value]=\"'/msg ' & sender.name & ' '\">",
+    "    <&8>[<gradient color=\"aqua\" color=\"blue\"><b>{sender.rank}</b></>]",
+    "    <&f>{sender.name}",
+    "  </>",
+    "</>",
+    "<&8>: <&7>{message}",
+    "<run-command *if=\"has_link\" value=\"/rules\"><&9><u>[rules]</>"
+  );
+
+  public static final String ITEM_LORE = String.join("\n",
+    "<&7>Enchantments:<br/>",
+    "<word-wrap",
+    "  width=35",
+    "  value-separator={<&7>,<space/>}",
+    "  token-renderer={<&6>{token}}",
+    "  [@value]='enchantments'",
+    "/>",
+    "<br/><br/>",
+    "<rainbow>Legendary Item</>",
+    "<br/>",
+    "<&7>Durability: <&e>{durability}<&7>/<&e>{max_durability}"
+  );
+
+  public static final String[] TEMPLATES = { SCOREBOARD, CHAT_MESSAGE, ITEM_LORE };
+
+  public static final String[] EXPRESSIONS = {
+    "loop.index + 1",
+    "'/msg ' & sender.name & ' '",
+    "player.online and player.score > 100 or player.name eq 'Notch'",
+    "upper(sender.rank) & ' ' & (sender.balance ?? 0) * 1.5",
+    "durability / max_durability * 100 > 50 then 'good' else 'worn'",
+    "enchantments[0] in 'Sharpness V' and len(enchantments) >= 3",
+  };
+
+  private BenchmarkCorpus() {}
+
+  public static MarkupNode parse(String template) {
+    return MarkupParser.parse(InputView.of(template), BuiltInTagRegistry.INSTANCE);
+  }
+
+  public static InterpretationEnvironment makeEnvironment() {
+    List<Map<String, Object>> players = new ArrayList<>();
+
+    for (int index = 0; index < 10; ++index) {
+      Map<String, Object> player = new HashMap<>();
+      player.put("name", "Player" + index);
+      player.put("score", 1000 - index * 37);
+      player.put("online", index % 3 != 0);
+      players.add(player);
+    }
+
+    Map<String, Object> sender = new HashMap<>();
+    sender.put("name", "BlvckBytes");
+    sender.put("rank", "admin");
+    sender.put("balance", 1337.42);
+
+    return new InterpretationEnvironment()
+      .withVariable("players", players)
+      .withVariable("sender", sender)
+      .withVariable("message", "Has anyone seen my diamond pickaxe? I left it next to the spawn portal.")
+      .withVariable("has_link", true)
+      .withVariable("enchantments", Arrays.asList(
+        "Sharpness V", "Unbreaking III", "Mending", "Looting III",
+        "Fire Aspect II", "Sweeping Edge III", "Knockback II"
+      ))
+      .withVariable("durability", 1337)
+      .withVariable("max_durability", 1561);
+  }
+}
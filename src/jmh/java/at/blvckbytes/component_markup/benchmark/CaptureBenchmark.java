@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.benchmark;
+
+import at.blvckbytes.component_markup.constructor.SlotType;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.markup.interpreter.JsonComponentConstructor;
+import at.blvckbytes.component_markup.markup.interpreter.MarkupInterpreter;
+import at.blvckbytes.component_markup.test_utils.NullInterpreterLogger;
+import com.google.gson.JsonObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CaptureBenchmark {
+
+  // Every iteration captures its line, while only referencing a few of all variables at hand
+  private static final String TEMPLATE = String.join("\n",
+    "<container *for-player=\"players\" *let-(line)={<&7>{loop.index + 1}. <&e>{player} <&7>on {server}}>",
+    "  <container *let-server=\"'elsewhere'\">{line}<br/>"
+  );
+
+  @Param({ "10", "100", "1000" })
+  public int environmentSize;
+
+  private MarkupNode node;
+  private InterpretationEnvironment environment;
+
+  @Setup
+  public void setup() {
+    node = BenchmarkCorpus.parse(TEMPLATE);
+    environment = BenchmarkCorpus.makeEnvironment();
+
+    String[] players = new String[20];
+
+    for (int index = 0; index < players.length; ++index)
+      players[index] = "Player" + index;
+
+    environment.withVariable("players", players);
+    environment.withVariable("server", "Lobby");
+
+    for (int index = 0; index < environmentSize; ++index)
+      environment.withVariable("unrelated_" + index, index);
+  }
+
+  @Benchmark
+  public List<JsonObject> renderCapturingLoop() {
+    return MarkupInterpreter.interpret(node, SlotType.CHAT, environment, JsonComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE);
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.benchmark;
+
+import at.blvckbytes.component_markup.expression.interpreter.CompiledExpression;
+import at.blvckbytes.component_markup.expression.interpreter.ExpressionCompiler;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.expression.parser.ExpressionParser;
+import at.blvckbytes.component_markup.test_utils.NullInterpreterLogger;
+import at.blvckbytes.component_markup.util.InputView;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CollectionOperatorBenchmark {
+
+  @Param({ "100", "2000" })
+  public int memberCount;
+
+  private CompiledExpression subtraction;
+  private CompiledExpression addition;
+  private CompiledExpression membership;
+  private InterpretationEnvironment environment;
+
+  @Setup
+  public void setup() {
+    List<String> members = new ArrayList<>();
+    List<String> online = new ArrayList<>();
+
+    for (int index = 0; index < memberCount; ++index) {
+      members.add("Member" + index);
+
+      if (index % 3 == 0)
+        online.add("Member" + index);
+    }
+
+    subtraction = compile("members - online");
+    addition = compile("len(members + online + members)");
+    membership = compile("'Member' & (member_count - 1) in online");
+
+    environment = new InterpretationEnvironment()
+      .withVariable("members", members)
+      .withVariable("online", online)
+      .withVariable("member_count", memberCount);
+  }
+
+  @Benchmark
+  public Object subtractOnline() {
+    return subtraction.evaluate(environment, NullInterpreterLogger.INSTANCE);
+  }
+
+  @Benchmark
+  public Object addMembers() {
+    return addition.evaluate(environment, NullInterpreterLogger.INSTANCE);
+  }
+
+  @Benchmark
+  public Object checkMembership() {
+    return membership.evaluate(environment, NullInterpreterLogger.INSTANCE);
+  }
+
+  private static CompiledExpression compile(String expression) {
+    return ExpressionCompiler.compile(ExpressionParser.parse(InputView.of(expression), null));
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.benchmark;
+
+import at.blvckbytes.component_markup.constructor.PlainTextComponentConstructor;
+import at.blvckbytes.component_markup.constructor.SlotType;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.markup.interpreter.MarkupInterpreter;
+import at.blvckbytes.component_markup.test_utils.NullInterpreterLogger;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DurationTagBenchmark {
+
+  // 1.5 seconds, one hour, one year and two decades
+  @Param({ "1500", "3600000", "31536000000", "630720000000" })
+  public long duration;
+
+  @Param({ "ydhms", "ms" })
+  public String units;
+
+  private MarkupNode node;
+  private InterpretationEnvironment environment;
+
+  @Setup
+  public void setup() {
+    node = BenchmarkCorpus.parse("<duration units='" + units + "' [value]='duration' />");
+    environment = new InterpretationEnvironment().withVariable("duration", duration);
+  }
+
+  @Benchmark
+  public List<String> renderDuration() {
+    return MarkupInterpreter.interpret(node, SlotType.CHAT, environment, PlainTextComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE);
+  }
+}
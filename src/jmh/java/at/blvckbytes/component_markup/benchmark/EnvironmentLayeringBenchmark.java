@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.benchmark;
+
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.expression.interpreter.PersistentInterpretationEnvironment;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EnvironmentLayeringBenchmark {
+
+  private static final String[] PLAYER_VARIABLES = { "player", "world", "rank", "balance", "message" };
+
+  @Param({ "100", "1000" })
+  public int globalVariableCount;
+
+  private InterpretationEnvironment mutableGlobal;
+  private PersistentInterpretationEnvironment persistentGlobal;
+  private String[] lookupNames;
+
+  @Setup
+  public void setup() {
+    mutableGlobal = new InterpretationEnvironment();
+    persistentGlobal = new PersistentInterpretationEnvironment();
+    lookupNames = new String[16];
+
+    for (int index = 0; index < globalVariableCount; ++index) {
+      mutableGlobal.withVariable("global_" + index, index);
+      persistentGlobal = persistentGlobal.withVariable("global_" + index, index);
+    }
+
+    for (int index = 0; index < lookupNames.length; ++index)
+      lookupNames[index] = "global_" + (index * globalVariableCount / lookupNames.length);
+  }
+
+  @Benchmark
+  public InterpretationEnvironment layerMutable() {
+    InterpretationEnvironment environment = mutableGlobal.copy();
+
+    for (String name : PLAYER_VARIABLES)
+      environment.withVariable(name, name);
+
+    return environment;
+  }
+
+  @Benchmark
+  public InterpretationEnvironment layerPersistent() {
+    PersistentInterpretationEnvironment environment = persistentGlobal;
+
+    for (String name : PLAYER_VARIABLES)
+      environment = environment.withVariable(name, name);
+
+    return environment;
+  }
+
+  @Benchmark
+  public void lookupMutable(Blackhole blackhole) {
+    for (String name : lookupNames)
+      blackhole.consume(mutableGlobal.getVariableValue(name));
+  }
+
+  @Benchmark
+  public void lookupPersistent(Blackhole blackhole) {
+    for (String name : lookupNames)
+      blackhole.consume(persistentGlobal.getVariableValue(name));
+  }
+}
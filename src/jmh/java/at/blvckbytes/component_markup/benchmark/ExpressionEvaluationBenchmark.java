@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.benchmark;
+
+import at.blvckbytes.component_markup.expression.ast.ExpressionNode;
+import at.blvckbytes.component_markup.expression.interpreter.CompiledExpression;
+import at.blvckbytes.component_markup.expression.interpreter.ExpressionCompiler;
+import at.blvckbytes.component_markup.expression.interpreter.ExpressionInterpreter;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.expression.parser.ExpressionParser;
+import at.blvckbytes.component_markup.test_utils.NullInterpreterLogger;
+import at.blvckbytes.component_markup.util.InputView;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExpressionEvaluationBenchmark {
+
+  private static final String[] EXPRESSIONS = {
+    "sender.balance * 1.5 + 10",
+    "durability / max_durability * 100 > 50 then 'good' else 'worn'",
+    "upper(sender.rank) & ' ' & sender.name",
+    "len(enchantments) >= 3 and has_link",
+  };
+
+  private ExpressionNode[] nodes;
+  private CompiledExpression[] compiledExpressions;
+  private InterpretationEnvironment environment;
+
+  @Setup
+  public void setup() {
+    nodes = new ExpressionNode[EXPRESSIONS.length];
+    compiledExpressions = new CompiledExpression[EXPRESSIONS.length];
+
+    for (int index = 0; index < EXPRESSIONS.length; ++index) {
+      nodes[index] = ExpressionParser.parse(InputView.of(EXPRESSIONS[index]), null);
+      compiledExpressions[index] = ExpressionCompiler.compile(nodes[index]);
+    }
+
+    environment = BenchmarkCorpus.makeEnvironment();
+  }
+
+  @Benchmark
+  public void interpreted(Blackhole blackhole) {
+    for (ExpressionNode node : nodes)
+      blackhole.consume(ExpressionInterpreter.interpret(node, environment, NullInterpreterLogger.INSTANCE));
+  }
+
+  @Benchmark
+  public void compiled(Blackhole blackhole) {
+    for (CompiledExpression compiledExpression : compiledExpressions)
+      blackhole.consume(compiledExpression.evaluate(environment, NullInterpreterLogger.INSTANCE));
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.benchmark;
+
+import at.blvckbytes.component_markup.constructor.SlotType;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.markup.interpreter.JsonComponentConstructor;
+import at.blvckbytes.component_markup.markup.interpreter.MarkupInterpreter;
+import at.blvckbytes.component_markup.test_utils.NullInterpreterLogger;
+import com.google.gson.JsonObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GradientBenchmark {
+
+  @Param({ "gradient", "rainbow" })
+  public String tag;
+
+  private MarkupNode node;
+
+  @Setup
+  public void setup() {
+    StringBuilder text = new StringBuilder();
+
+    while (text.length() < 1000)
+      text.append("The quick brown fox jumps over the lazy dog. ");
+
+    String attributes = tag.equals("gradient") ? " c=\"red\" c=\"gold\" c=\"green\" c=\"aqua\" c=\"blue\" phase=\"30\"" : "";
+
+    node = BenchmarkCorpus.parse("<" + tag + attributes + ">" + text + "</" + tag + ">");
+  }
+
+  @Benchmark
+  public List<JsonObject> renderLongText() {
+    return MarkupInterpreter.interpret(node, SlotType.CHAT, new InterpretationEnvironment(), JsonComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE);
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.benchmark;
+
+import at.blvckbytes.component_markup.constructor.PlainTextComponentConstructor;
+import at.blvckbytes.component_markup.constructor.SlotType;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.markup.interpreter.MarkupInterpreter;
+import at.blvckbytes.component_markup.test_utils.NullInterpreterLogger;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GuardConditionBenchmark {
+
+  // Guards whose left-hand-side mostly decides the result on its own, followed by costly checks
+  private static final String TEMPLATE = String.join("\n",
+    "<container *for-player=\"players\">",
+    "  <&a *if=\"player.online eq false or player.name matches '^Player[0-9]+$' and len(player.name) > 3\">",
+    "    {player.nickname ?? upper(player.name) & ' (' & player.score & ')'}",
+    "  </>",
+    "  <&c *if=\"player.score < 0 and player.name matches '^[A-Z].*[0-9]$'\">banned</>",
+    "  <br/>",
+    "</>"
+  );
+
+  private MarkupNode node;
+  private InterpretationEnvironment environment;
+
+  @Setup
+  public void setup() {
+    node = BenchmarkCorpus.parse(TEMPLATE);
+    environment = BenchmarkCorpus.makeEnvironment();
+
+    @SuppressWarnings("unchecked")
+    List<Map<String, Object>> players = (List<Map<String, Object>>) environment.getVariableValue("players");
+
+    for (int index = 0; index < players.size(); ++index)
+      players.get(index).put("nickname", index % 2 == 0 ? "Nick" + index : null);
+  }
+
+  @Benchmark
+  public List<String> renderGuarded() {
+    return MarkupInterpreter.interpret(node, SlotType.CHAT, environment, PlainTextComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE);
+  }
+}
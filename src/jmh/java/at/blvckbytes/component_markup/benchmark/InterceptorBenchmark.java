@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.benchmark;
+
+import at.blvckbytes.component_markup.constructor.SlotType;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.markup.interpreter.JsonComponentConstructor;
+import at.blvckbytes.component_markup.markup.interpreter.MarkupInterpreter;
+import at.blvckbytes.component_markup.test_utils.NullInterpreterLogger;
+import com.google.gson.JsonObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InterceptorBenchmark {
+
+  // Every node within the loop passes by all three colorizers, most of which are not text
+  private static final String TEMPLATE = String.join("\n",
+    "<gradient color=\"red\" color=\"blue\">",
+    "  <rainbow>",
+    "    <transition color=\"gold\" color=\"aqua\" phase=\"50\">",
+    "      <container *for-item=\"1..500\" *for-separator={<space/>}>",
+    "        <b *if=\"item % 2 eq 0\">{item}</b>",
+    "        <i *else>#{item}</i>",
+    "      </container>",
+    "    </transition>",
+    "  </rainbow>",
+    "</gradient>"
+  );
+
+  private MarkupNode node;
+
+  @Setup
+  public void setup() {
+    node = BenchmarkCorpus.parse(TEMPLATE);
+  }
+
+  @Benchmark
+  public List<JsonObject> renderNestedColorizers() {
+    return MarkupInterpreter.interpret(node, SlotType.CHAT, new InterpretationEnvironment(), JsonComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE);
+  }
+}
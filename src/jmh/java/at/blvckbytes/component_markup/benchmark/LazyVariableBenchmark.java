@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.benchmark;
+
+import at.blvckbytes.component_markup.constructor.SlotType;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.markup.interpreter.JsonComponentConstructor;
+import at.blvckbytes.component_markup.markup.interpreter.MarkupInterpreter;
+import at.blvckbytes.component_markup.test_utils.NullInterpreterLogger;
+import com.google.gson.JsonObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LazyVariableBenchmark {
+
+  private static final int PLACEHOLDER_COUNT = 50;
+
+  // Reads a few of all placeholders, one of them repeatedly
+  private static final String TEMPLATE = "<&7>Balance: <&e>{placeholder_0}<br/><&7>Rank: <&e>{placeholder_1} ({placeholder_0})";
+
+  private MarkupNode node;
+
+  @Setup
+  public void setup() {
+    node = BenchmarkCorpus.parse(TEMPLATE);
+  }
+
+  @Benchmark
+  public List<JsonObject> renderEager() {
+    InterpretationEnvironment environment = new InterpretationEnvironment();
+
+    for (int index = 0; index < PLACEHOLDER_COUNT; ++index)
+      environment.withVariable("placeholder_" + index, computePlaceholder(index));
+
+    return MarkupInterpreter.interpret(node, SlotType.CHAT, environment, JsonComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE);
+  }
+
+  @Benchmark
+  public List<JsonObject> renderLazy() {
+    InterpretationEnvironment environment = new InterpretationEnvironment();
+
+    for (int index = 0; index < PLACEHOLDER_COUNT; ++index) {
+      int placeholderIndex = index;
+      environment.withLazyVariable("placeholder_" + index, () -> computePlaceholder(placeholderIndex));
+    }
+
+    return MarkupInterpreter.interpret(node, SlotType.CHAT, environment, JsonComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE);
+  }
+
+  // Stand-in for statistics, balances and the like, which are costly to look up
+  private static String computePlaceholder(int index) {
+    long accumulator = index;
+
+    for (int iteration = 0; iteration < 10_000; ++iteration)
+      accumulator = accumulator * 6364136223846793005L + 1442695040888963407L;
+
+    return Long.toHexString(accumulator);
+  }
+}
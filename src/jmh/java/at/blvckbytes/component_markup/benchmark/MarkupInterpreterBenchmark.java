@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.benchmark;
+
+import at.blvckbytes.component_markup.constructor.PlainTextComponentConstructor;
+import at.blvckbytes.component_markup.constructor.SlotType;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.markup.interpreter.JsonComponentConstructor;
+import at.blvckbytes.component_markup.markup.interpreter.MarkupInterpreter;
+import at.blvckbytes.component_markup.markup.template.StaticSubtreeFolder;
+import at.blvckbytes.component_markup.test_utils.NullInterpreterLogger;
+import com.google.gson.JsonObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MarkupInterpreterBenchmark {
+
+  @Param({ "0", "1", "2" })
+  public int templateIndex;
+
+  @Param({ "false", "true" })
+  public boolean prerenderStaticSubtrees;
+
+  private MarkupNode node;
+  private InterpretationEnvironment environment;
+
+  @Setup
+  public void setup() {
+    node = BenchmarkCorpus.parse(BenchmarkCorpus.TEMPLATES[templateIndex]);
+
+    if (prerenderStaticSubtrees)
+      node = StaticSubtreeFolder.fold(node);
+
+    environment = BenchmarkCorpus.makeEnvironment();
+  }
+
+  @Benchmark
+  public List<String> interpretPlainText() {
+    return MarkupInterpreter.interpret(node, SlotType.CHAT, environment, PlainTextComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE);
+  }
+
+  @Benchmark
+  public List<JsonObject> interpretJson() {
+    return MarkupInterpreter.interpret(node, SlotType.CHAT, environment, JsonComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE);
+  }
+}
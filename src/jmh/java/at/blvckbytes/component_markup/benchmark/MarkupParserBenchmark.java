@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.benchmark;
+
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MarkupParserBenchmark {
+
+  @Param({ "0", "1", "2" })
+  public int templateIndex;
+
+  private String template;
+
+  @Setup
+  public void setup() {
+    template = BenchmarkCorpus.TEMPLATES[templateIndex];
+  }
+
+  @Benchmark
+  public MarkupNode parse() {
+    return BenchmarkCorpus.parse(template);
+  }
+}
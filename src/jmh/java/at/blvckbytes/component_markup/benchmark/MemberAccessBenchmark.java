@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.benchmark;
+
+import at.blvckbytes.component_markup.constructor.SlotType;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.expression.interpreter.MemberAccessPolicy;
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.markup.interpreter.JsonComponentConstructor;
+import at.blvckbytes.component_markup.markup.interpreter.MarkupInterpreter;
+import at.blvckbytes.component_markup.test_utils.NullInterpreterLogger;
+import com.google.gson.JsonObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemberAccessBenchmark {
+
+  public static class Player {
+
+    private final String name;
+    private final String rank;
+    private final long balance;
+    private final int ping;
+    private final boolean online;
+
+    public Player(String name, String rank, long balance, int ping, boolean online) {
+      this.name = name;
+      this.rank = rank;
+      this.balance = balance;
+      this.ping = ping;
+      this.online = online;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public String getRank() {
+      return rank;
+    }
+
+    public long getBalance() {
+      return balance;
+    }
+
+    public int getPing() {
+      return ping;
+    }
+
+    public boolean isOnline() {
+      return online;
+    }
+  }
+
+  private static final String TEMPLATE = (
+    "<&7>Player: <&f>{player.name} <&8>({player.rank})<br/>" +
+    "<&7>Balance: <&a>{player.balance}<br/>" +
+    "<&7>Ping: <&e>{player.ping}ms<br/>" +
+    "<&7>Status: {player.online then 'online' else 'offline'}"
+  );
+
+  private MarkupNode node;
+  private Player player;
+  private MemberAccessPolicy memberAccessPolicy;
+
+  @Setup
+  public void setup() {
+    node = BenchmarkCorpus.parse(TEMPLATE);
+    player = new Player("Steve", "Moderator", 1250, 42, true);
+    memberAccessPolicy = MemberAccessPolicy.NONE.withAllowedType(Player.class);
+  }
+
+  @Benchmark
+  public List<JsonObject> renderConvertedToMap() {
+    // What callers had to do before, as only maps and the like could be accessed by member
+    Map<String, Object> playerMap = new HashMap<>();
+    playerMap.put("name", player.getName());
+    playerMap.put("rank", player.getRank());
+    playerMap.put("balance", player.getBalance());
+    playerMap.put("ping", player.getPing());
+    playerMap.put("online", player.isOnline());
+
+    InterpretationEnvironment environment = new InterpretationEnvironment().withVariable("player", playerMap);
+    return MarkupInterpreter.interpret(node, SlotType.CHAT, environment, JsonComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE);
+  }
+
+  @Benchmark
+  public List<JsonObject> renderAccessedByPolicy() {
+    InterpretationEnvironment environment = new InterpretationEnvironment()
+      .withVariable("player", player)
+      .withMemberAccessPolicy(memberAccessPolicy);
+
+    return MarkupInterpreter.interpret(node, SlotType.CHAT, environment, JsonComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE);
+  }
+}
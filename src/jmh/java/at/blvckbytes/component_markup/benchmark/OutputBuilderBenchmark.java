@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.benchmark;
+
+import at.blvckbytes.component_markup.constructor.SlotType;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.markup.ast.node.FunctionDrivenNode;
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.markup.ast.node.control.BreakNode;
+import at.blvckbytes.component_markup.markup.ast.node.terminal.TextNode;
+import at.blvckbytes.component_markup.markup.ast.node.terminal.UnitNode;
+import at.blvckbytes.component_markup.markup.interpreter.JsonComponentConstructor;
+import at.blvckbytes.component_markup.markup.interpreter.MarkupInterpreter;
+import at.blvckbytes.component_markup.markup.interpreter.OutputBuilder;
+import at.blvckbytes.component_markup.test_utils.NullInterpreterLogger;
+import at.blvckbytes.component_markup.util.InputView;
+import com.google.gson.JsonObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the output-stage in isolation, by replaying the terminal- and non-terminal-events
+ * of a static, heavily styled template against a fresh builder and finalizing the result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OutputBuilderBenchmark {
+
+  private static final String STATIC_TEMPLATE = String.join("\n",
+    "<&8><st>                                        </st><br/>",
+    "<&6><b>Welcome to the Network!</b><br/>",
+    "<&7>Visit our <&b><u>website</u> <&7>or join our <&9><i>discord</i><br/>",
+    "<&e>Season <&c><b>IV</b> <&e>has <&a>started</&a>, <&e>good luck!<br/>",
+    "<&8><st>                                        </st>"
+  );
+
+  private MarkupNode node;
+  private MarkupInterpreter<JsonObject, JsonObject> interpreter;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    node = BenchmarkCorpus.parse(STATIC_TEMPLATE);
+
+    MarkupInterpreter.interpret(
+      new FunctionDrivenNode(InputView.EMPTY, null, interpreter -> {
+        this.interpreter = (MarkupInterpreter<JsonObject, JsonObject>) interpreter;
+        return null;
+      }),
+      SlotType.CHAT,
+      new InterpretationEnvironment(),
+      JsonComponentConstructor.INSTANCE,
+      NullInterpreterLogger.INSTANCE
+    );
+  }
+
+  @Benchmark
+  public List<JsonObject> build() {
+    OutputBuilder<JsonObject, JsonObject> builder = new OutputBuilder<>(
+      interpreter,
+      JsonComponentConstructor.INSTANCE.getSlotContext(SlotType.CHAT),
+      JsonComponentConstructor.INSTANCE.getSlotContext(SlotType.CHAT)
+    );
+
+    replay(node, builder);
+
+    return builder.build();
+  }
+
+  private static void replay(MarkupNode node, OutputBuilder<JsonObject, JsonObject> builder) {
+    if (node instanceof TextNode) {
+      builder.onText((TextNode) node, null, false);
+      return;
+    }
+
+    if (node instanceof BreakNode) {
+      builder.onBreak();
+      return;
+    }
+
+    if (node instanceof UnitNode) {
+      builder.onUnit((UnitNode) node, null);
+      return;
+    }
+
+    if (node.children == null)
+      return;
+
+    builder.onNonTerminalBegin(node);
+
+    for (MarkupNode child : node.children)
+      replay(child, builder);
+
+    builder.onNonTerminalEnd();
+  }
+}
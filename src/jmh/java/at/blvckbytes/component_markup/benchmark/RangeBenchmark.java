@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.benchmark;
+
+import at.blvckbytes.component_markup.constructor.PlainTextComponentConstructor;
+import at.blvckbytes.component_markup.constructor.SlotType;
+import at.blvckbytes.component_markup.expression.interpreter.CompiledExpression;
+import at.blvckbytes.component_markup.expression.interpreter.ExpressionCompiler;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.expression.parser.ExpressionParser;
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.markup.interpreter.MarkupInterpreter;
+import at.blvckbytes.component_markup.test_utils.NullInterpreterLogger;
+import at.blvckbytes.component_markup.util.InputView;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RangeBenchmark {
+
+  // A progress-bar, which only ever renders a handful of cells out of a huge range
+  private static final String PROGRESS_BAR = String.join("\n",
+    "<container *for-cell=\"1..20\" *let-step=\"len(0..max_value) / 20\">",
+    "  <&a *if=\"(0..max_value)[cell * step - 1] <= current_value\">|</>",
+    "  <&7 *else>|</>",
+    "</>"
+  );
+
+  private CompiledExpression aggregates;
+  private MarkupNode progressBar;
+  private InterpretationEnvironment environment;
+
+  @Setup
+  public void setup() {
+    aggregates = ExpressionCompiler.compile(ExpressionParser.parse(
+      InputView.of("len(1..max_value) + sum(1..max_value) + avg(1..max_value) + max(1..max_value) + (1..max_value)[-1]"), null
+    ));
+
+    progressBar = BenchmarkCorpus.parse(PROGRESS_BAR);
+
+    environment = new InterpretationEnvironment()
+      .withVariable("max_value", 100000)
+      .withVariable("current_value", 42000);
+  }
+
+  @Benchmark
+  public Object aggregateRange() {
+    return aggregates.evaluate(environment, NullInterpreterLogger.INSTANCE);
+  }
+
+  @Benchmark
+  public List<String> renderProgressBar() {
+    return MarkupInterpreter.interpret(progressBar, SlotType.CHAT, environment, PlainTextComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE);
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.benchmark;
+
+import at.blvckbytes.component_markup.constructor.SlotType;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.markup.ast.tag.built_in.BuiltInTagRegistry;
+import at.blvckbytes.component_markup.markup.interpreter.JsonComponentConstructor;
+import at.blvckbytes.component_markup.markup.template.CompiledTemplate;
+import at.blvckbytes.component_markup.markup.template.RenderCache;
+import at.blvckbytes.component_markup.test_utils.NullInterpreterLogger;
+import com.google.gson.JsonObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RenderCacheBenchmark {
+
+  // Scoreboard-like lines, which are re-rendered periodically while their values rarely change
+  private static final String TEMPLATE = (
+    "<gradient c=\"gold\" c=\"yellow\"><b>{server_name}</></><br/>" +
+    "<&7>Player: <&f>{player.name}<br/>" +
+    "<&7>Rank: <style [color]=\"player.rank_color\">{player.rank}</><br/>" +
+    "<&7>Balance: <&a>{player.balance}<br/>" +
+    "<&7>Online: <&e>{online_count}"
+  );
+
+  private CompiledTemplate template;
+  private RenderCache renderCache;
+  private InterpretationEnvironment environment;
+
+  @Setup
+  public void setup() {
+    template = CompiledTemplate.compile(TEMPLATE, BuiltInTagRegistry.INSTANCE);
+    renderCache = new RenderCache(256);
+
+    Map<String, Object> player = new HashMap<>();
+    player.put("name", "Steve");
+    player.put("rank", "Moderator");
+    player.put("rank_color", "aqua");
+    player.put("balance", 1250);
+    player.put("ping", 42);
+
+    environment = new InterpretationEnvironment()
+      .withVariable("server_name", "Example Network")
+      .withVariable("online_count", 127)
+      .withVariable("player", player);
+  }
+
+  @Benchmark
+  public List<JsonObject> renderUncached() {
+    return template.render(SlotType.CHAT, environment, JsonComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE);
+  }
+
+  @Benchmark
+  public List<JsonObject> renderCached() {
+    return renderCache.render(template, SlotType.CHAT, environment, JsonComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE);
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.benchmark;
+
+import at.blvckbytes.component_markup.constructor.SlotType;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.markup.interpreter.JsonComponentConstructor;
+import at.blvckbytes.component_markup.markup.interpreter.MarkupInterpreter;
+import at.blvckbytes.component_markup.test_utils.NullInterpreterLogger;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RunMergingBenchmark {
+
+  @Param({ "", "merge-distance=2.3", "merge-distance=8", "max-segments=16" })
+  public String mergeAttribute;
+
+  private MarkupNode node;
+
+  @Setup
+  public void setup() {
+    StringBuilder text = new StringBuilder();
+
+    // About as long as a MOTD or a lengthy scoreboard line
+    while (text.length() < 200)
+      text.append("Welcome to the server, enjoy your stay! ");
+
+    node = BenchmarkCorpus.parse("<gradient c=\"gold\" c=\"red\" c=\"light_purple\" " + mergeAttribute + ">" + text.substring(0, 200));
+
+    // Report the size of the result, as to weigh it against the loss in color fidelity
+    List<JsonObject> result = render();
+    int componentCount = 0;
+
+    for (JsonObject component : result)
+      componentCount += countComponents(component);
+
+    System.out.println(
+      "\n[" + (mergeAttribute.isEmpty() ? "exact" : mergeAttribute) + "] components: " + componentCount
+        + ", serialized bytes: " + result.toString().length()
+    );
+  }
+
+  @Benchmark
+  public List<JsonObject> render() {
+    return MarkupInterpreter.interpret(node, SlotType.CHAT, new InterpretationEnvironment(), JsonComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE);
+  }
+
+  private static int countComponents(JsonObject component) {
+    int count = 1;
+
+    if (component.has("extra")) {
+      for (JsonElement child : component.getAsJsonArray("extra"))
+        count += countComponents(child.getAsJsonObject());
+    }
+
+    return count;
+  }
+}
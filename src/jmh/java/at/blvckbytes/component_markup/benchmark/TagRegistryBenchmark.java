@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.benchmark;
+
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.markup.ast.tag.TagDefinition;
+import at.blvckbytes.component_markup.markup.ast.tag.built_in.BuiltInTagRegistry;
+import at.blvckbytes.component_markup.util.InputView;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TagRegistryBenchmark {
+
+  private static final String[] TAG_NAMES = {
+    "container", "gradient", "hover-text", "run-command", "word-wrap", "br", "space", "translate",
+    "map-entries", "$card", "red", "#ff5555", "&7", "b", "!i", "unknown-tag",
+  };
+
+  private InputView[] tagNames;
+  private String tagHeavyTemplate;
+
+  @Setup
+  public void setup() {
+    tagNames = new InputView[TAG_NAMES.length];
+
+    for (int index = 0; index < TAG_NAMES.length; ++index)
+      tagNames[index] = InputView.of(TAG_NAMES[index]);
+
+    StringBuilder template = new StringBuilder();
+
+    for (int index = 0; index < 50; ++index) {
+      template
+        .append("<container><&7>Entry <&e>").append(index).append("</>")
+        .append("<space/><hover-text value={<gray><i>Details</>}><run-command value=\"/entry ").append(index).append("\">")
+        .append("<gradient color=\"red\" color=\"blue\"><b>Click</b></gradient></></>")
+        .append("<space/><translate key=\"entry.").append(index).append("\"/><br/></container>");
+    }
+
+    tagHeavyTemplate = template.toString();
+  }
+
+  @Benchmark
+  public void locateTags(Blackhole blackhole) {
+    for (InputView tagName : tagNames) {
+      TagDefinition definition = BuiltInTagRegistry.INSTANCE.locateTag(tagName);
+      blackhole.consume(definition);
+    }
+  }
+
+  @Benchmark
+  public MarkupNode parseTagHeavy() {
+    return BenchmarkCorpus.parse(tagHeavyTemplate);
+  }
+}
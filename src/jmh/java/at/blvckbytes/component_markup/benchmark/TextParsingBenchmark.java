@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.benchmark;
+
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.util.InputView;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TextParsingBenchmark {
+
+  @Param({ "false", "true" })
+  public boolean escapeHeavy;
+
+  private String textHeavyTemplate;
+
+  private InputView escapedRootView;
+  private int[] lineBoundaries;
+
+  @Setup
+  public void setup() {
+    StringBuilder template = new StringBuilder();
+
+    for (int index = 0; index < 100; ++index) {
+      template.append("<&7>");
+
+      if (escapeHeavy)
+        template.append("Use \\<tags\\> and \\{curly brackets\\} literally, as in \\<red\\>\\{value\\}, entry ");
+      else
+        template.append("Nothing special about this line of plain text, which just goes on and on, entry ");
+
+      template.append(index).append(" of the list\n  continuing on the next line <&e>right here<br/>\n");
+    }
+
+    textHeavyTemplate = template.toString();
+
+    // Mark escapes the way the parser does, such that sub-views can be built in isolation
+    escapedRootView = InputView.of(textHeavyTemplate);
+
+    List<Integer> boundaries = new ArrayList<>();
+    int lineStart = 0;
+
+    for (int index = 0; index < textHeavyTemplate.length(); ++index) {
+      char currentChar = textHeavyTemplate.charAt(index);
+
+      if (currentChar == '\\') {
+        escapedRootView.addIndexToBeRemoved(index);
+        continue;
+      }
+
+      if (currentChar == '\n') {
+        boundaries.add(lineStart);
+        boundaries.add(index);
+        lineStart = index + 1;
+      }
+    }
+
+    lineBoundaries = boundaries.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  @Benchmark
+  public MarkupNode parse() {
+    return BenchmarkCorpus.parse(textHeavyTemplate);
+  }
+
+  @Benchmark
+  public void buildLineStrings(Blackhole blackhole) {
+    for (int index = 0; index < lineBoundaries.length; index += 2)
+      blackhole.consume(escapedRootView.buildSubViewAbsolute(lineBoundaries[index], lineBoundaries[index + 1]).buildString());
+  }
+}
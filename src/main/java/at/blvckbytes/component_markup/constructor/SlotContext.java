@@ -39,7 +39,7 @@ public class SlotContext {
     ' ',
     applyCommonDefaults(() -> {
       ComputedStyle style = new ComputedStyle();
-      style.formats = TriStateBitFlags.write(style.formats, Format.ITALIC.ordinal(), TriState.TRUE);
+      style.setFormats(TriStateBitFlags.write(style.getFormats(), Format.ITALIC.ordinal(), TriState.TRUE));
       return style;
     })
   );
@@ -48,7 +48,7 @@ public class SlotContext {
     '\0',
     applyCommonDefaults(() -> {
       ComputedStyle style = new ComputedStyle();
-      style.formats = TriStateBitFlags.write(style.formats, Format.ITALIC.ordinal(), TriState.TRUE);
+      style.setFormats(TriStateBitFlags.write(style.getFormats(), Format.ITALIC.ordinal(), TriState.TRUE));
       style.setPackedColor(AnsiStyleColor.DARK_PURPLE.packedColor, true);
       return style;
     })
@@ -92,17 +92,15 @@ public class SlotContext {
     if (input.getPackedColor() == PackedColor.NULL_SENTINEL)
       input.setPackedColor(DEFAULT_COLOR, true);
 
-    if (input.packedShadowColor == PackedColor.NULL_SENTINEL) {
-      input.packedShadowColor = DEFAULT_SHADOW_COLOR;
-      input.packedShadowColorOpacity = DEFAULT_SHADOW_COLOR_OPACITY;
-    }
+    if (input.getPackedShadowColor() == PackedColor.NULL_SENTINEL)
+      input.setPackedShadowColor(DEFAULT_SHADOW_COLOR, DEFAULT_SHADOW_COLOR_OPACITY);
 
-    if (input.font == null)
-      input.font = DEFAULT_FONT;
+    if (input.getFont() == null)
+      input.setFont(DEFAULT_FONT, null);
 
     for (int index = 0; index < Format.COUNT; ++index) {
-      if (TriStateBitFlags.read(input.formats, index) == TriState.NULL)
-        input.formats = TriStateBitFlags.write(input.formats, index, TriState.FALSE);
+      if (TriStateBitFlags.read(input.getFormats(), index) == TriState.NULL)
+        input.setFormats(TriStateBitFlags.write(input.getFormats(), index, TriState.FALSE));
     }
 
     return input;
@@ -5,16 +5,31 @@
 
 package at.blvckbytes.component_markup.expression.ast;
 
+import at.blvckbytes.component_markup.expression.interpreter.CompiledExpression;
 import at.blvckbytes.component_markup.expression.tokenizer.InterpolationMember;
 import at.blvckbytes.component_markup.util.JsonifyGetter;
 import at.blvckbytes.component_markup.util.InputView;
+import at.blvckbytes.component_markup.util.JsonifyIgnore;
+import org.jetbrains.annotations.Nullable;
 
 public abstract class ExpressionNode implements InterpolationMember {
 
   public boolean parenthesised = false;
 
+  // Compiled form of this expression, as built on first use by renders which opted into compilation
+  @JsonifyIgnore
+  private volatile @Nullable CompiledExpression compiledForm;
+
   protected ExpressionNode() {}
 
+  public @Nullable CompiledExpression getCompiledForm() {
+    return compiledForm;
+  }
+
+  public void setCompiledForm(@Nullable CompiledExpression compiledForm) {
+    this.compiledForm = compiledForm;
+  }
+
   public int getStartInclusive() {
     return getFirstMemberPositionProvider().startInclusive;
   }
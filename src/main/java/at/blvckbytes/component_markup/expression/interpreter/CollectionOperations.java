@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.expression.interpreter;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+class CollectionOperations {
+
+  // Below this size, a linear scan is cheaper than hashing all members
+  private static final int HASH_INDEX_THRESHOLD = 16;
+
+  private CollectionOperations() {}
+
+  static List<Object> add(Collection<?> lhs, Collection<?> rhs) {
+    List<Object> result = new ArrayList<>(lhs.size() + rhs.size());
+
+    result.addAll(lhs);
+    result.addAll(rhs);
+
+    return result;
+  }
+
+  static List<Object> subtract(Collection<?> lhs, Collection<?> rhs) {
+    List<Object> result = new ArrayList<>(lhs.size());
+
+    if (rhs.isEmpty()) {
+      result.addAll(lhs);
+      return result;
+    }
+
+    Collection<?> subtrahends = rhs;
+
+    if (!(rhs instanceof Set) && !(rhs instanceof LongRange) && rhs.size() > HASH_INDEX_THRESHOLD && lhs.size() > 1)
+      subtrahends = new HashSet<>(rhs);
+
+    for (Object member : lhs) {
+      if (!subtrahends.contains(member))
+        result.add(member);
+    }
+
+    return result;
+  }
+
+  /**
+   * Sets are queried by means of their own notion of equality first, while all collections
+   * are scanned and compared to just as by the equality-operator whenever that misses.
+   */
+  static boolean contains(Collection<?> collection, @Nullable Object member, ValueInterpreter valueInterpreter) {
+    if (collection instanceof Set && collection.contains(member))
+      return true;
+
+    if (collection instanceof LongRange)
+      return containsNumber((LongRange) collection, member, valueInterpreter);
+
+    // Members missed by sets may still be equal by the equality-operator, like a Long and an Integer, or '3' and 3
+    for (Object item : collection) {
+      if (ExpressionInterpreter.checkEquality(item, member, valueInterpreter))
+        return true;
+    }
+
+    return false;
+  }
+
+  private static boolean containsNumber(LongRange range, @Nullable Object member, ValueInterpreter valueInterpreter) {
+    if (member == null)
+      return false;
+
+    Number number = valueInterpreter.asLongOrDouble(member);
+
+    if (!(number instanceof Double))
+      return range.containsMember(number.longValue());
+
+    double doubleValue = number.doubleValue();
+    long closestMember = Math.round(doubleValue);
+
+    return range.containsMember(closestMember) && Math.abs(doubleValue - closestMember) < ExpressionInterpreter.DOUBLE_EQUALITY_THRESHOLD;
+  }
+}
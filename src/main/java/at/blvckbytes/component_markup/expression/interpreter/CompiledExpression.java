@@ -0,0 +1,16 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.expression.interpreter;
+
+import at.blvckbytes.component_markup.util.logging.InterpreterLogger;
+import org.jetbrains.annotations.Nullable;
+
+@FunctionalInterface
+public interface CompiledExpression {
+
+  @Nullable Object evaluate(InterpretationEnvironment environment, InterpreterLogger logger);
+
+}
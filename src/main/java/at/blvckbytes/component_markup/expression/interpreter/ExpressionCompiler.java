@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.expression.interpreter;
+
+import at.blvckbytes.component_markup.expression.ast.*;
+import at.blvckbytes.component_markup.expression.tokenizer.InfixOperator;
+import at.blvckbytes.component_markup.expression.tokenizer.InterpolationMember;
+import at.blvckbytes.component_markup.expression.tokenizer.PrefixOperator;
+import at.blvckbytes.component_markup.expression.tokenizer.token.IdentifierToken;
+import at.blvckbytes.component_markup.expression.tokenizer.token.InfixOperatorToken;
+import at.blvckbytes.component_markup.expression.tokenizer.token.TemplateLiteralToken;
+import at.blvckbytes.component_markup.expression.tokenizer.token.TerminalToken;
+import at.blvckbytes.component_markup.util.InputView;
+import at.blvckbytes.component_markup.util.logging.GlobalLogger;
+import at.blvckbytes.component_markup.util.logging.InterpreterLogger;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.logging.Level;
+
+/**
+ * Alternative to {@link ExpressionInterpreter}, which walks the tree only once, resolving node-types,
+ * operators, literal values and sanitized variable-names ahead of time, and yields a tree of closures
+ * which may then be evaluated repeatedly; results are identical to those of the interpreter. Renders
+ * make use of it if enabled by {@link InterpretationEnvironment#withExpressionCompilation}.
+ */
+public class ExpressionCompiler {
+
+  private static final CompiledExpression NULL_EXPRESSION = (environment, logger) -> null;
+
+  private ExpressionCompiler() {}
+
+  /**
+   * Compiles the expression on first call and hands out the very same compiled form on all further calls,
+   * as it is kept on the expression itself; racing threads compile redundantly, but to equivalent results.
+   */
+  public static CompiledExpression getOrCompile(ExpressionNode expression) {
+    CompiledExpression compiledForm = expression.getCompiledForm();
+
+    if (compiledForm == null) {
+      compiledForm = compile(expression);
+      expression.setCompiledForm(compiledForm);
+    }
+
+    return compiledForm;
+  }
+
+  public static CompiledExpression compile(@Nullable ExpressionNode expression) {
+    if (expression == null)
+      return NULL_EXPRESSION;
+
+    if (expression instanceof TerminalNode)
+      return compileTerminal((TerminalNode) expression);
+
+    if (expression instanceof RawNode) {
+      Object value = ((RawNode) expression).value;
+      return (environment, logger) -> value;
+    }
+
+    if (expression instanceof TransformerNode) {
+      TransformerNode node = (TransformerNode) expression;
+      CompiledExpression wrapped = compile(node.wrapped);
+      TransformerFunction transformer = node.transformer;
+
+      return (environment, logger) -> transformer.transform(wrapped.evaluate(environment, logger), environment, logger);
+    }
+
+    if (expression instanceof FunctionDrivenNode) {
+      FunctionDrivenNode node = (FunctionDrivenNode) expression;
+      return node.function::apply;
+    }
+
+    if (expression instanceof PrefixOperationNode)
+      return compilePrefixOperation((PrefixOperationNode) expression);
+
+    if (expression instanceof InfixOperationNode)
+      return compileInfixOperation((InfixOperationNode) expression);
+
+    if (expression instanceof BranchingNode) {
+      BranchingNode node = (BranchingNode) expression;
+
+      CompiledExpression condition = compile(node.condition);
+      CompiledExpression branchTrue = compile(node.branchTrue);
+      CompiledExpression branchFalse = compile(node.branchFalse);
+
+      return (environment, logger) -> {
+        if (environment.getValueInterpreter().asBoolean(condition.evaluate(environment, logger)))
+          return branchTrue.evaluate(environment, logger);
+
+        return branchFalse.evaluate(environment, logger);
+      };
+    }
+
+    if (expression instanceof SubstringNode)
+      return compileSubstring((SubstringNode) expression);
+
+    if (expression instanceof ArrayNode) {
+      ArrayNode node = (ArrayNode) expression;
+      CompiledExpression[] items = new CompiledExpression[node.items.size()];
+
+      for (int index = 0; index < items.length; ++index)
+        items[index] = compile(node.items.get(index));
+
+      return (environment, logger) -> {
+        List<Object> result = new ArrayList<>(items.length);
+
+        for (CompiledExpression item : items)
+          result.add(item.evaluate(environment, logger));
+
+        return result;
+      };
+    }
+
+    if (expression instanceof MapNode) {
+      MapNode node = (MapNode) expression;
+      Set<Map.Entry<String, ExpressionNode>> entries = node.items.entrySet();
+
+      String[] keys = new String[entries.size()];
+      CompiledExpression[] values = new CompiledExpression[entries.size()];
+
+      int index = 0;
+
+      for (Map.Entry<String, ExpressionNode> entry : entries) {
+        keys[index] = entry.getKey();
+        values[index] = compile(entry.getValue());
+        ++index;
+      }
+
+      return (environment, logger) -> {
+        Map<String, Object> result = new LinkedHashMap<>();
+
+        for (int entryIndex = 0; entryIndex < keys.length; ++entryIndex)
+          result.put(keys[entryIndex], values[entryIndex].evaluate(environment, logger));
+
+        return result;
+      };
+    }
+
+    GlobalLogger.log(Level.WARNING, "Unimplemented node: " + expression.getClass());
+    return NULL_EXPRESSION;
+  }
+
+  private static CompiledExpression compileTerminal(TerminalNode node) {
+    TerminalToken token = node.token;
+
+    if (token instanceof IdentifierToken) {
+      String sanitizedName = ExpressionInterpreter.sanitizeVariableName((String) token.getPlainValue());
+      InputView positionProvider = token.raw;
+
+      return (environment, logger) -> ExpressionInterpreter.accessSanitizedVariableOrLog(environment, sanitizedName, positionProvider, logger);
+    }
+
+    if (token instanceof TemplateLiteralToken) {
+      List<InterpolationMember> members = ((TemplateLiteralToken) token).members;
+      Object[] parts = new Object[members.size()];
+
+      for (int index = 0; index < parts.length; ++index) {
+        InterpolationMember member = members.get(index);
+
+        if (member instanceof InputView) {
+          parts[index] = ((InputView) member).buildString();
+          continue;
+        }
+
+        if (member instanceof ExpressionNode) {
+          parts[index] = compile((ExpressionNode) member);
+          continue;
+        }
+
+        GlobalLogger.log(Level.WARNING, "Encountered unknown interpolation-member: " + (member == null ? null : member.getClass()));
+        parts[index] = "";
+      }
+
+      return (environment, logger) -> {
+        StringBuilder result = new StringBuilder();
+
+        for (Object part : parts) {
+          if (part instanceof CompiledExpression) {
+            result.append(((CompiledExpression) part).evaluate(environment, logger));
+            continue;
+          }
+
+          result.append((String) part);
+        }
+
+        return result.toString();
+      };
+    }
+
+    Object value = token.getPlainValue();
+    return (environment, logger) -> value;
+  }
+
+  private static CompiledExpression compilePrefixOperation(PrefixOperationNode node) {
+    // Avoid has(var_name) to log a warning if var_name does not exist, seeing how
+    // its presence is the very thing we're trying to determine with this operator.
+    if (node.operatorToken.operator == PrefixOperator.HAS && node.operand instanceof TerminalNode) {
+      TerminalNode terminalOperand = (TerminalNode) node.operand;
+
+      if (terminalOperand.token instanceof IdentifierToken) {
+        String identifier = ((IdentifierToken) terminalOperand.token).identifier;
+        return (environment, logger) -> environment.doesVariableExist(identifier);
+      }
+    }
+
+    CompiledExpression operand = compile(node.operand);
+
+    return (environment, logger) -> {
+      Object operandValue = operand.evaluate(environment, logger);
+
+      if (operandValue == null)
+        return null;
+
+      return ExpressionInterpreter.applyPrefixOperator(node, operandValue, environment, logger);
+    };
+  }
+
+  private static CompiledExpression compileInfixOperation(InfixOperationNode node) {
+    InfixOperatorToken operatorToken = node.operatorToken;
+    InfixOperator infixOperator = operatorToken.operator;
+    CompiledExpression lhs = compile(node.lhs);
+
+    if (infixOperator == InfixOperator.MEMBER) {
+      if (node.rhs instanceof TerminalNode) {
+        TerminalToken terminalToken = ((TerminalNode) node.rhs).token;
+
+        if (terminalToken instanceof IdentifierToken) {
+          String identifier = ((IdentifierToken) terminalToken).identifier;
+
+          return (environment, logger) -> ExpressionInterpreter.performSubscripting(
+            operatorToken, lhs.evaluate(environment, logger), identifier, true, environment, logger
+          );
+        }
+      }
+
+      CompiledExpression rhs = compile(node.rhs);
+
+      return (environment, logger) -> ExpressionInterpreter.performSubscripting(
+        operatorToken, lhs.evaluate(environment, logger), rhs.evaluate(environment, logger), false, environment, logger
+      );
+    }
+
+    CompiledExpression rhs = compile(node.rhs);
+    ArithmeticOperator arithmeticOperator = ArithmeticOperator.fromInfix(infixOperator);
+
+    if (arithmeticOperator != null) {
+      return (environment, logger) -> ExpressionInterpreter.performArithmetic(
+        infixOperator, arithmeticOperator, lhs.evaluate(environment, logger), rhs.evaluate(environment, logger), environment.getValueInterpreter()
+      );
+    }
+
+    switch (infixOperator) {
+      // The right-hand-side is only evaluated if the left-hand-side does not already decide the result
+      case CONJUNCTION:
+        return (environment, logger) -> {
+          ValueInterpreter valueInterpreter = environment.getValueInterpreter();
+          return valueInterpreter.asBoolean(lhs.evaluate(environment, logger)) && valueInterpreter.asBoolean(rhs.evaluate(environment, logger));
+        };
+
+      case DISJUNCTION:
+        return (environment, logger) -> {
+          ValueInterpreter valueInterpreter = environment.getValueInterpreter();
+          return valueInterpreter.asBoolean(lhs.evaluate(environment, logger)) || valueInterpreter.asBoolean(rhs.evaluate(environment, logger));
+        };
+
+      case FALLBACK:
+        return (environment, logger) -> {
+          Object lhsValue = lhs.evaluate(environment, logger);
+          return lhsValue != null ? lhsValue : rhs.evaluate(environment, logger);
+        };
+
+      case CONCATENATION:
+        return (environment, logger) -> {
+          Object lhsValue = lhs.evaluate(environment, logger);
+          Object rhsValue = rhs.evaluate(environment, logger);
+          ValueInterpreter valueInterpreter = environment.getValueInterpreter();
+          return valueInterpreter.asString(lhsValue) + valueInterpreter.asString(rhsValue);
+        };
+
+      case GREATER_THAN_OR_EQUAL:
+      case LESS_THAN_OR_EQUAL:
+      case GREATER_THAN:
+      case LESS_THAN:
+        return (environment, logger) -> ExpressionInterpreter.performComparison(
+          infixOperator, lhs.evaluate(environment, logger), rhs.evaluate(environment, logger), environment.getValueInterpreter()
+        );
+
+      case EQUAL_TO:
+        return (environment, logger) -> ExpressionInterpreter.checkEquality(
+          lhs.evaluate(environment, logger), rhs.evaluate(environment, logger), environment.getValueInterpreter()
+        );
+
+      case NOT_EQUAL_TO:
+        return (environment, logger) -> !ExpressionInterpreter.checkEquality(
+          lhs.evaluate(environment, logger), rhs.evaluate(environment, logger), environment.getValueInterpreter()
+        );
+
+      case SUBSCRIPTING:
+        return (environment, logger) -> ExpressionInterpreter.performSubscripting(
+          operatorToken, lhs.evaluate(environment, logger), rhs.evaluate(environment, logger), false, environment, logger
+        );
+
+      default:
+        return (environment, logger) -> ExpressionInterpreter.applyInfixOperator(
+          node, lhs.evaluate(environment, logger), rhs.evaluate(environment, logger), environment, logger
+        );
+    }
+  }
+
+  private static CompiledExpression compileSubstring(SubstringNode node) {
+    CompiledExpression operand = compile(node.operand);
+    SubstringBound lowerBound = compileSubstringBound(node.lowerBound, true);
+    SubstringBound upperBound = compileSubstringBound(node.upperBound, false);
+
+    return (environment, logger) -> {
+      String input = environment.getValueInterpreter().asString(operand.evaluate(environment, logger));
+
+      if (input.isEmpty())
+        return "";
+
+      return ExpressionInterpreter.performSubstring(
+        input,
+        lowerBound.decide(input, environment, logger),
+        upperBound.decide(input, environment, logger)
+      );
+    };
+  }
+
+  @FunctionalInterface
+  private interface SubstringBound {
+
+    @Nullable Long decide(String input, InterpretationEnvironment environment, InterpreterLogger logger);
+
+  }
+
+  private static SubstringBound compileSubstringBound(@Nullable ExpressionNode bound, boolean firstIndex) {
+    if (bound == null)
+      return (input, environment, logger) -> null;
+
+    String delimiter = ExpressionInterpreter.extractStringTerminal(bound);
+
+    if (delimiter != null)
+      return (input, environment, logger) -> ExpressionInterpreter.locateSubstringDelimiter(input, delimiter, firstIndex);
+
+    CompiledExpression compiledBound = compile(bound);
+
+    return (input, environment, logger) -> environment.getValueInterpreter().asLong(compiledBound.evaluate(environment, logger));
+  }
+}
@@ -26,7 +26,7 @@ import java.util.logging.Level;
 
 public class ExpressionInterpreter {
 
-  private static final double DOUBLE_EQUALITY_THRESHOLD = .001;
+  static final double DOUBLE_EQUALITY_THRESHOLD = .001;
 
   private ExpressionInterpreter() {}
 
@@ -68,343 +68,473 @@ public class ExpressionInterpreter {
       if (operandValue == null)
         return null;
 
-      switch (prefixOperator) {
-        case NEGATION:
-          return !valueInterpreter.asBoolean(operandValue);
+      return applyPrefixOperator(node, operandValue, environment, logger);
+    }
 
-        case FLIP_SIGN:
-          return flipSignOf(valueInterpreter.asLongOrDouble(operandValue));
+    if (expression instanceof InfixOperationNode) {
+      InfixOperationNode node = (InfixOperationNode) expression;
+      Object lhsValue = interpret(node.lhs, environment, logger);
 
-        case LOWER_CASE:
-          return valueInterpreter.asString(operandValue).toLowerCase(Locale.ROOT);
+      if (node.operatorToken.operator == InfixOperator.MEMBER) {
+        Object rhsValue = null;
+        boolean isRhsIdentifier = false;
 
-        case UPPER_CASE:
-          return valueInterpreter.asString(operandValue).toUpperCase(Locale.ROOT);
+        if (node.rhs instanceof TerminalNode) {
+          TerminalToken terminalToken = ((TerminalNode) node.rhs).token;
 
-        case TITLE_CASE:
-          return environment.interpretationPlatform.toTitleCase(valueInterpreter.asString(operandValue));
+          if (terminalToken instanceof IdentifierToken) {
+            rhsValue = ((IdentifierToken) terminalToken).identifier;
+            isRhsIdentifier = true;
+          }
+        }
 
-        case TOGGLE_CASE:
-          return toggleCase(valueInterpreter.asString(operandValue));
+        if (rhsValue == null)
+          rhsValue = interpret(node.rhs, environment, logger);
 
-        case SLUGIFY:
-          return environment.interpretationPlatform.slugify(valueInterpreter.asString(operandValue));
+        return performSubscripting(node.operatorToken, lhsValue, rhsValue, isRhsIdentifier, environment, logger);
+      }
 
-        case ASCIIFY:
-          return environment.interpretationPlatform.asciify(valueInterpreter.asString(operandValue));
+      // Only pay for the right-hand-side if the left-hand-side does not already decide the result
+      switch (node.operatorToken.operator) {
+        case CONJUNCTION:
+          return valueInterpreter.asBoolean(lhsValue) && valueInterpreter.asBoolean(interpret(node.rhs, environment, logger));
 
-        case TRIM:
-          return valueInterpreter.asString(operandValue).trim();
+        case DISJUNCTION:
+          return valueInterpreter.asBoolean(lhsValue) || valueInterpreter.asBoolean(interpret(node.rhs, environment, logger));
 
-        case REVERSE:
-          return new StringBuilder(valueInterpreter.asString(operandValue)).reverse().toString();
+        case FALLBACK:
+          return lhsValue != null ? lhsValue : interpret(node.rhs, environment, logger);
+      }
 
-        case LONG:
-          return valueInterpreter.asLong(operandValue);
+      return applyInfixOperator(node, lhsValue, interpret(node.rhs, environment, logger), environment, logger);
+    }
 
-        case DOUBLE:
-          return valueInterpreter.asDouble(operandValue);
+    if (expression instanceof BranchingNode) {
+      BranchingNode node = (BranchingNode) expression;
 
-        case BOOL:
-          return valueInterpreter.asBoolean(operandValue);
+      if (valueInterpreter.asBoolean(interpret(node.condition, environment, logger)))
+        return interpret(node.branchTrue, environment, logger);
 
-        case STR:
-          return valueInterpreter.asString(operandValue);
+      return interpret(node.branchFalse, environment, logger);
+    }
 
-        case ROUND:
-        case CEIL:
-        case FLOOR: {
-          Number numericValue = valueInterpreter.asLongOrDouble(operandValue);
+    if (expression instanceof SubstringNode) {
+      SubstringNode node = (SubstringNode) expression;
 
-          if (numericValue instanceof Long)
-            return numericValue;
+      return performSubstring(
+        valueInterpreter.asString(interpret(node.operand, environment, logger)),
+        node, environment, logger
+      );
+    }
 
-          double doubleValue = numericValue.doubleValue();
+    if (expression instanceof ArrayNode) {
+      ArrayNode node = (ArrayNode) expression;
 
-          switch (prefixOperator) {
-            case ROUND:
-              return (double) Math.round(doubleValue);
-            case FLOOR:
-              return Math.floor(doubleValue);
-            case CEIL:
-              return Math.ceil(doubleValue);
-          }
-        }
+      List<Object> result = new ArrayList<>();
 
-        case MIN:
-        case MAX: {
-          if (!(operandValue instanceof Iterable<?>))
-            return operandValue;
+      for (ExpressionNode item : node.items)
+        result.add(interpret(item, environment, logger));
 
-          Number result = null;
+      return result;
+    }
 
-          for (Iterator<Number> it = new DeepIterator<>((Iterable<?>) operandValue, valueInterpreter::asLongOrDouble); it.hasNext();) {
-            Number number = it.next();
+    if (expression instanceof MapNode) {
+      MapNode node = (MapNode) expression;
 
-            if (result == null || ((compareNumbers(number, result) > 0) ^ (prefixOperator == PrefixOperator.MIN)))
-              result = number;
-          }
+      Map<String, Object> result = new LinkedHashMap<>();
 
-          return result;
-        }
+      for (Map.Entry<String, ExpressionNode> item : node.items.entrySet())
+        result.put(item.getKey(), interpret(item.getValue(), environment, logger));
+
+      return result;
+    }
+
+    GlobalLogger.log(Level.WARNING, "Unimplemented node: " + expression.getClass());
+    return null;
+  }
 
-        case ABS: {
-          Number numericValue = valueInterpreter.asLongOrDouble(operandValue);
+  static @Nullable Object applyPrefixOperator(
+    PrefixOperationNode node,
+    Object operandValue,
+    InterpretationEnvironment environment,
+    InterpreterLogger logger
+  ) {
+    ValueInterpreter valueInterpreter = environment.getValueInterpreter();
+    PrefixOperator prefixOperator = node.operatorToken.operator;
 
-          if (numericValue instanceof Long)
-            return Math.abs(numericValue.longValue());
+    switch (prefixOperator) {
+      case NEGATION:
+        return !valueInterpreter.asBoolean(operandValue);
 
-          return Math.abs(numericValue.doubleValue());
-        }
+      case FLIP_SIGN:
+        return flipSignOf(valueInterpreter.asLongOrDouble(operandValue));
 
-        case LEN: {
-          if (operandValue instanceof Map<?, ?>)
-            return ((Map<?, ?>) operandValue).size();
+      case LOWER_CASE:
+        return valueInterpreter.asString(operandValue).toLowerCase(Locale.ROOT);
 
-          if (operandValue instanceof Collection<?>)
-            return ((Collection<?>) operandValue).size();
+      case UPPER_CASE:
+        return valueInterpreter.asString(operandValue).toUpperCase(Locale.ROOT);
 
-          if (operandValue instanceof String)
-            return ((String) operandValue).length();
+      case TITLE_CASE:
+        return environment.interpretationPlatform.toTitleCase(valueInterpreter.asString(operandValue));
 
-          if (operandValue.getClass().isArray())
-            return Array.getLength(operandValue);
+      case TOGGLE_CASE:
+        return toggleCase(valueInterpreter.asString(operandValue));
 
-          return -1;
-        }
+      case SLUGIFY:
+        return environment.interpretationPlatform.slugify(valueInterpreter.asString(operandValue));
 
-        case HAS:
-          return environment.doesVariableExist(sanitizeVariableName(valueInterpreter.asString(operandValue)));
+      case ASCIIFY:
+        return environment.interpretationPlatform.asciify(valueInterpreter.asString(operandValue));
 
-        case ENV:
-          return accessVariableOrLog(environment, valueInterpreter.asString(operandValue), node.getFirstMemberPositionProvider(), logger);
+      case TRIM:
+        return valueInterpreter.asString(operandValue).trim();
 
-        case SUM:
-        case AVG: {
-          if (!(operandValue instanceof Iterable<?>))
-            return operandValue;
+      case REVERSE:
+        return new StringBuilder(valueInterpreter.asString(operandValue)).reverse().toString();
 
-          double accumulator = 0;
-          int memberCount = 0;
+      case LONG:
+        return valueInterpreter.asLong(operandValue);
 
-          for (Iterator<Number> it = new DeepIterator<>((Iterable<?>) operandValue, valueInterpreter::asLongOrDouble); it.hasNext();) {
-            accumulator += it.next().doubleValue();
-            ++memberCount;
-          }
+      case DOUBLE:
+        return valueInterpreter.asDouble(operandValue);
 
-          if (memberCount == 0)
-            return 0;
+      case BOOL:
+        return valueInterpreter.asBoolean(operandValue);
 
-          if (memberCount == 1 || prefixOperator == PrefixOperator.SUM)
-            return accumulator;
+      case STR:
+        return valueInterpreter.asString(operandValue);
 
-          return accumulator / memberCount;
-        }
+      case ROUND:
+      case CEIL:
+      case FLOOR: {
+        Number numericValue = valueInterpreter.asLongOrDouble(operandValue);
 
-        default:
-          GlobalLogger.log(Level.WARNING, "Unimplemented prefix-operator: " + prefixOperator);
-          return null;
+        if (numericValue instanceof Long)
+          return numericValue;
+
+        double doubleValue = numericValue.doubleValue();
+
+        switch (prefixOperator) {
+          case ROUND:
+            return (double) Math.round(doubleValue);
+          case FLOOR:
+            return Math.floor(doubleValue);
+          case CEIL:
+            return Math.ceil(doubleValue);
+        }
       }
-    }
 
-    if (expression instanceof InfixOperationNode) {
-      InfixOperationNode node = (InfixOperationNode) expression;
-      Object lhsValue = interpret(node.lhs, environment, logger);
+      case MIN:
+      case MAX: {
+        if (!(operandValue instanceof Iterable<?>))
+          return operandValue;
 
-      InfixOperator infixOperator = node.operatorToken.operator;
-      ArithmeticOperator arithmeticOperator = ArithmeticOperator.fromInfix(infixOperator);
+        boolean isMin = prefixOperator == PrefixOperator.MIN;
+        Number result = null;
 
-      if (infixOperator == InfixOperator.MEMBER) {
-        Object rhsValue = null;
-        boolean isRhsIdentifier = false;
+        for (Object member : asAggregateMembers((Iterable<?>) operandValue)) {
+          if (member instanceof LongRange) {
+            LongRange range = (LongRange) member;
 
-        if (node.rhs instanceof TerminalNode) {
-          TerminalToken terminalToken = ((TerminalNode) node.rhs).token;
+            if (range.getMemberCount() > 0)
+              result = pickMinOrMax(result, isMin ? range.lowerBound : range.upperBound, isMin);
 
-          if (terminalToken instanceof IdentifierToken) {
-            rhsValue = ((IdentifierToken) terminalToken).identifier;
-            isRhsIdentifier = true;
+            continue;
           }
-        }
 
-        if (rhsValue == null)
-          rhsValue = interpret(node.rhs, environment, logger);
+          for (Iterator<Number> it = new DeepIterator<>(Collections.singletonList(member), valueInterpreter::asLongOrDouble); it.hasNext();)
+            result = pickMinOrMax(result, it.next(), isMin);
+        }
 
-        return performSubscripting(node.operatorToken, lhsValue, rhsValue, isRhsIdentifier, environment, logger);
+        return result;
       }
 
-      Object rhsValue = interpret(node.rhs, environment, logger);
+      case ABS: {
+        Number numericValue = valueInterpreter.asLongOrDouble(operandValue);
 
-      if (lhsValue instanceof Collection<?> && rhsValue instanceof Collection<?>) {
-        if (infixOperator == InfixOperator.SUBTRACTION || infixOperator == InfixOperator.ADDITION) {
-          List<Object> result = new ArrayList<>((Collection<?>) lhsValue);
+        if (numericValue instanceof Long)
+          return Math.abs(numericValue.longValue());
 
-          if (infixOperator == InfixOperator.SUBTRACTION) {
-            result.removeIf(it -> ((Collection<?>) rhsValue).contains(it));
-            return result;
-          }
+        return Math.abs(numericValue.doubleValue());
+      }
 
-          result.addAll(((Collection<?>) rhsValue));
-          return result;
+      case LEN: {
+        if (operandValue instanceof LongRange) {
+          long memberCount = ((LongRange) operandValue).getMemberCount();
+
+          if (memberCount > Integer.MAX_VALUE)
+            return memberCount;
+
+          return (int) memberCount;
         }
-      }
 
-      if (arithmeticOperator != null) {
-        Number lhs = valueInterpreter.asLongOrDouble(lhsValue);
-        Number rhs = valueInterpreter.asLongOrDouble(rhsValue);
+        if (operandValue instanceof Map<?, ?>)
+          return ((Map<?, ?>) operandValue).size();
+
+        if (operandValue instanceof Collection<?>)
+          return ((Collection<?>) operandValue).size();
 
-        if ((lhs instanceof Double || lhs instanceof Float) || (rhs instanceof Double || rhs instanceof Float))
-          return arithmeticOperator.doubleOperation(lhs.doubleValue(), rhs.doubleValue());
+        if (operandValue instanceof String)
+          return ((String) operandValue).length();
 
-        return arithmeticOperator.longOperation(lhs.longValue(), rhs.longValue());
+        if (operandValue.getClass().isArray())
+          return Array.getLength(operandValue);
+
+        return -1;
       }
 
-      switch (infixOperator) {
-        case CONCATENATION:
-          return valueInterpreter.asString(lhsValue) + valueInterpreter.asString(rhsValue);
+      case HAS:
+        return environment.doesVariableExist(sanitizeVariableName(valueInterpreter.asString(operandValue)));
+
+      case ENV:
+        return accessVariableOrLog(environment, valueInterpreter.asString(operandValue), node.getFirstMemberPositionProvider(), logger);
 
-        case REGEX_SPLIT:
-        case SPLIT: {
-          String input = valueInterpreter.asString(lhsValue);
-          String delimiter = rhsValue == null ? "" : valueInterpreter.asString(rhsValue);
+      case SUM:
+      case AVG: {
+        if (!(operandValue instanceof Iterable<?>))
+          return operandValue;
 
-          String[] result = environment.interpretationPlatform.split(input, delimiter, infixOperator == InfixOperator.REGEX_SPLIT);
+        double accumulator = 0;
+        long memberCount = 0;
 
-          if (result == null) {
-            logger.logErrorScreen(node.rhs.getFirstMemberPositionProvider(), "Encountered malformed pattern: \"" + delimiter + "\"");
-            return Collections.emptyList();
+        for (Object member : asAggregateMembers((Iterable<?>) operandValue)) {
+          if (member instanceof LongRange) {
+            accumulator += ((LongRange) member).getSum();
+            memberCount += ((LongRange) member).getMemberCount();
+            continue;
           }
 
-          return Arrays.asList(result);
+          for (Iterator<Number> it = new DeepIterator<>(Collections.singletonList(member), valueInterpreter::asLongOrDouble); it.hasNext();) {
+            accumulator += it.next().doubleValue();
+            ++memberCount;
+          }
         }
 
-        case REPEAT: {
-          String input = valueInterpreter.asString(lhsValue);
-          int count = (int) valueInterpreter.asLong(rhsValue);
+        if (memberCount == 0)
+          return 0;
 
-          StringBuilder result = new StringBuilder(input.length() * count);
+        if (memberCount == 1 || prefixOperator == PrefixOperator.SUM)
+          return accumulator;
 
-          for (int i = 0; i < count; ++i)
-            result.append(input);
-
-          return result.toString();
-        }
+        return accumulator / memberCount;
+      }
 
-        case GREATER_THAN_OR_EQUAL:
-        case LESS_THAN_OR_EQUAL:
-          if (checkEquality(lhsValue, rhsValue, valueInterpreter))
-            return true;
-
-        case GREATER_THAN:
-        case LESS_THAN: {
-          int comparisonResult = compareNumbers(
-            valueInterpreter.asLongOrDouble(lhsValue),
-            valueInterpreter.asLongOrDouble(rhsValue)
-          );
-
-          return (
-            infixOperator == InfixOperator.GREATER_THAN || infixOperator == InfixOperator.GREATER_THAN_OR_EQUAL
-              ? comparisonResult > 0
-              : comparisonResult < 0
-          );
-        }
+      default:
+        GlobalLogger.log(Level.WARNING, "Unimplemented prefix-operator: " + prefixOperator);
+        return null;
+    }
+  }
 
-        case EQUAL_TO:
-          return checkEquality(lhsValue, rhsValue, valueInterpreter);
+  // Ranges are aggregated arithmetically, whether passed directly or as one of multiple operands
+  private static Iterable<?> asAggregateMembers(Iterable<?> operandValue) {
+    if (operandValue instanceof LongRange)
+      return Collections.singletonList(operandValue);
 
-        case NOT_EQUAL_TO:
-          return !checkEquality(lhsValue, rhsValue, valueInterpreter);
+    return operandValue;
+  }
 
-        case RANGE: {
-          long lowerBound = valueInterpreter.asLong(lhsValue);
-          long upperBound = valueInterpreter.asLong(rhsValue);
-          List<Long> result = new ArrayList<>();
+  private static Number pickMinOrMax(@Nullable Number result, Number number, boolean isMin) {
+    if (result == null || ((compareNumbers(number, result) > 0) ^ isMin))
+      return number;
 
-          if (upperBound >= lowerBound) {
-            for (long index = lowerBound; index <= upperBound; ++index)
-              result.add(index);
-          }
+    return result;
+  }
 
-          return result;
-        }
+  static @Nullable Object applyInfixOperator(
+    InfixOperationNode node,
+    @Nullable Object lhsValue,
+    @Nullable Object rhsValue,
+    InterpretationEnvironment environment,
+    InterpreterLogger logger
+  ) {
+    ValueInterpreter valueInterpreter = environment.getValueInterpreter();
+    InfixOperator infixOperator = node.operatorToken.operator;
+    ArithmeticOperator arithmeticOperator = ArithmeticOperator.fromInfix(infixOperator);
 
-        case CONJUNCTION:
-          return valueInterpreter.asBoolean(lhsValue) && valueInterpreter.asBoolean(rhsValue);
+    if (arithmeticOperator != null)
+      return performArithmetic(infixOperator, arithmeticOperator, lhsValue, rhsValue, valueInterpreter);
 
-        case DISJUNCTION:
-          return valueInterpreter.asBoolean(lhsValue) || valueInterpreter.asBoolean(rhsValue);
+    switch (infixOperator) {
+      case CONCATENATION:
+        return valueInterpreter.asString(lhsValue) + valueInterpreter.asString(rhsValue);
 
-        case FALLBACK:
-          return lhsValue != null ? lhsValue : rhsValue;
+      case REGEX_SPLIT:
+      case SPLIT:
+        return performSplit(node, lhsValue, rhsValue, environment, logger);
 
-        case SUBSCRIPTING:
-          return performSubscripting(node.operatorToken, lhsValue, rhsValue, false, environment, logger);
+      case REPEAT:
+        return performRepeat(node, lhsValue, rhsValue, environment, logger);
 
-        case IN:
-          return checkContains(rhsValue, lhsValue, valueInterpreter);
+      case GREATER_THAN_OR_EQUAL:
+      case LESS_THAN_OR_EQUAL:
+      case GREATER_THAN:
+      case LESS_THAN:
+        return performComparison(infixOperator, lhsValue, rhsValue, valueInterpreter);
 
-        case MATCHES_REGEX: {
-          String input = valueInterpreter.asString(lhsValue);
-          String patternString = rhsValue == null ? "" : valueInterpreter.asString(rhsValue);
+      case EQUAL_TO:
+        return checkEquality(lhsValue, rhsValue, valueInterpreter);
 
-          TriState result = environment.interpretationPlatform.matchesPattern(input, patternString);
+      case NOT_EQUAL_TO:
+        return !checkEquality(lhsValue, rhsValue, valueInterpreter);
 
-          if (result == TriState.NULL) {
-            logger.logErrorScreen(node.rhs.getFirstMemberPositionProvider(), "Encountered malformed pattern: \"" + patternString + "\"");
-            return false;
-          }
+      case RANGE: {
+        LongRange range = performRange(lhsValue, rhsValue, valueInterpreter);
+        long maxRangeLength = environment.getRenderBudget().maxRangeLength;
 
-          return result == TriState.TRUE;
+        if (range.getMemberCount() > maxRangeLength) {
+          logger.logErrorScreen(node.operatorToken.raw, "The range's length of " + range.getMemberCount() + " exceeds the render-budget's maximum of " + maxRangeLength);
+          return new LongRange(0, -1);
         }
 
-        default:
-          GlobalLogger.log(Level.WARNING, "Unimplemented infix-operator: " + infixOperator);
-          return null;
+        return range;
       }
+
+      case CONJUNCTION:
+        return valueInterpreter.asBoolean(lhsValue) && valueInterpreter.asBoolean(rhsValue);
+
+      case DISJUNCTION:
+        return valueInterpreter.asBoolean(lhsValue) || valueInterpreter.asBoolean(rhsValue);
+
+      case FALLBACK:
+        return lhsValue != null ? lhsValue : rhsValue;
+
+      case SUBSCRIPTING:
+        return performSubscripting(node.operatorToken, lhsValue, rhsValue, false, environment, logger);
+
+      case IN:
+        return checkContains(rhsValue, lhsValue, valueInterpreter);
+
+      case MATCHES_REGEX:
+        return performRegexMatch(node, lhsValue, rhsValue, environment, logger);
+
+      default:
+        GlobalLogger.log(Level.WARNING, "Unimplemented infix-operator: " + infixOperator);
+        return null;
     }
+  }
 
-    if (expression instanceof BranchingNode) {
-      BranchingNode node = (BranchingNode) expression;
+  static Object performArithmetic(
+    InfixOperator infixOperator,
+    ArithmeticOperator arithmeticOperator,
+    @Nullable Object lhsValue,
+    @Nullable Object rhsValue,
+    ValueInterpreter valueInterpreter
+  ) {
+    if (lhsValue instanceof Collection<?> && rhsValue instanceof Collection<?>) {
+      if (infixOperator == InfixOperator.SUBTRACTION)
+        return CollectionOperations.subtract((Collection<?>) lhsValue, (Collection<?>) rhsValue);
 
-      if (valueInterpreter.asBoolean(interpret(node.condition, environment, logger)))
-        return interpret(node.branchTrue, environment, logger);
+      if (infixOperator == InfixOperator.ADDITION)
+        return CollectionOperations.add((Collection<?>) lhsValue, (Collection<?>) rhsValue);
+    }
 
-      return interpret(node.branchFalse, environment, logger);
+    Number lhs = valueInterpreter.asLongOrDouble(lhsValue);
+    Number rhs = valueInterpreter.asLongOrDouble(rhsValue);
+
+    if ((lhs instanceof Double || lhs instanceof Float) || (rhs instanceof Double || rhs instanceof Float))
+      return arithmeticOperator.doubleOperation(lhs.doubleValue(), rhs.doubleValue());
+
+    return arithmeticOperator.longOperation(lhs.longValue(), rhs.longValue());
+  }
+
+  static List<String> performSplit(
+    InfixOperationNode node,
+    @Nullable Object lhsValue,
+    @Nullable Object rhsValue,
+    InterpretationEnvironment environment,
+    InterpreterLogger logger
+  ) {
+    ValueInterpreter valueInterpreter = environment.getValueInterpreter();
+
+    String input = valueInterpreter.asString(lhsValue);
+    String delimiter = rhsValue == null ? "" : valueInterpreter.asString(rhsValue);
+
+    String[] result = environment.interpretationPlatform.split(input, delimiter, node.operatorToken.operator == InfixOperator.REGEX_SPLIT);
+
+    if (result == null) {
+      logger.logErrorScreen(node.rhs.getFirstMemberPositionProvider(), "Encountered malformed pattern: \"" + delimiter + "\"");
+      return Collections.emptyList();
     }
 
-    if (expression instanceof SubstringNode) {
-      SubstringNode node = (SubstringNode) expression;
+    return Arrays.asList(result);
+  }
 
-      return performSubstring(
-        valueInterpreter.asString(interpret(node.operand, environment, logger)),
-        node, environment, logger
-      );
+  static String performRepeat(
+    InfixOperationNode node,
+    @Nullable Object lhsValue,
+    @Nullable Object rhsValue,
+    InterpretationEnvironment environment,
+    InterpreterLogger logger
+  ) {
+    ValueInterpreter valueInterpreter = environment.getValueInterpreter();
+
+    String input = valueInterpreter.asString(lhsValue);
+    long count = Math.max(0, valueInterpreter.asLong(rhsValue));
+
+    long resultLength = input.length() * count;
+    long maxRepeatLength = Math.min(Integer.MAX_VALUE, environment.getRenderBudget().maxRepeatLength);
+
+    if (resultLength > maxRepeatLength || (count != 0 && resultLength / count != input.length())) {
+      logger.logErrorScreen(node.operatorToken.raw, "The repetition's length of " + input.length() + " * " + count + " exceeds the render-budget's maximum of " + maxRepeatLength);
+      return "";
     }
 
-    if (expression instanceof ArrayNode) {
-      ArrayNode node = (ArrayNode) expression;
+    StringBuilder result = new StringBuilder((int) resultLength);
 
-      List<Object> result = new ArrayList<>();
+    for (long i = 0; i < count; ++i)
+      result.append(input);
 
-      for (ExpressionNode item : node.items)
-        result.add(interpret(item, environment, logger));
+    return result.toString();
+  }
 
-      return result;
+  static boolean performComparison(
+    InfixOperator infixOperator,
+    @Nullable Object lhsValue,
+    @Nullable Object rhsValue,
+    ValueInterpreter valueInterpreter
+  ) {
+    if (infixOperator == InfixOperator.GREATER_THAN_OR_EQUAL || infixOperator == InfixOperator.LESS_THAN_OR_EQUAL) {
+      if (checkEquality(lhsValue, rhsValue, valueInterpreter))
+        return true;
     }
 
-    if (expression instanceof MapNode) {
-      MapNode node = (MapNode) expression;
+    int comparisonResult = compareNumbers(
+      valueInterpreter.asLongOrDouble(lhsValue),
+      valueInterpreter.asLongOrDouble(rhsValue)
+    );
 
-      Map<String, Object> result = new LinkedHashMap<>();
+    return (
+      infixOperator == InfixOperator.GREATER_THAN || infixOperator == InfixOperator.GREATER_THAN_OR_EQUAL
+        ? comparisonResult > 0
+        : comparisonResult < 0
+    );
+  }
 
-      for (Map.Entry<String, ExpressionNode> item : node.items.entrySet())
-        result.put(item.getKey(), interpret(item.getValue(), environment, logger));
+  static LongRange performRange(@Nullable Object lhsValue, @Nullable Object rhsValue, ValueInterpreter valueInterpreter) {
+    return new LongRange(valueInterpreter.asLong(lhsValue), valueInterpreter.asLong(rhsValue));
+  }
 
-      return result;
+  static boolean performRegexMatch(
+    InfixOperationNode node,
+    @Nullable Object lhsValue,
+    @Nullable Object rhsValue,
+    InterpretationEnvironment environment,
+    InterpreterLogger logger
+  ) {
+    ValueInterpreter valueInterpreter = environment.getValueInterpreter();
+
+    String input = valueInterpreter.asString(lhsValue);
+    String patternString = rhsValue == null ? "" : valueInterpreter.asString(rhsValue);
+
+    TriState result = environment.interpretationPlatform.matchesPattern(input, patternString);
+
+    if (result == TriState.NULL) {
+      logger.logErrorScreen(node.rhs.getFirstMemberPositionProvider(), "Encountered malformed pattern: \"" + patternString + "\"");
+      return false;
     }
 
-    GlobalLogger.log(Level.WARNING, "Unimplemented node: " + expression.getClass());
-    return null;
+    return result == TriState.TRUE;
   }
 
   public static @Nullable Object accessVariableOrLog(
@@ -413,8 +543,15 @@ public class ExpressionInterpreter {
     InputView positionProvider,
     InterpreterLogger logger
   ) {
-    String sanitizedName = sanitizeVariableName(variableName);
+    return accessSanitizedVariableOrLog(environment, sanitizeVariableName(variableName), positionProvider, logger);
+  }
 
+  static @Nullable Object accessSanitizedVariableOrLog(
+    InterpretationEnvironment environment,
+    String sanitizedName,
+    InputView positionProvider,
+    InterpreterLogger logger
+  ) {
     if (!environment.doesVariableExist(sanitizedName)) {
       StringBuilder knownNames = new StringBuilder();
 
@@ -432,7 +569,7 @@ public class ExpressionInterpreter {
     return environment.getVariableValue(sanitizedName);
   }
 
-  private static String sanitizeVariableName(String input) {
+  public static String sanitizeVariableName(String input) {
     StringBuilder result = new StringBuilder(input.length());
 
     for (int charIndex = 0; charIndex < input.length(); ++charIndex) {
@@ -466,7 +603,7 @@ public class ExpressionInterpreter {
     return Long.compare(a.longValue(), b.longValue());
   }
 
-  private static @Nullable Object performSubscripting(
+  static @Nullable Object performSubscripting(
     InfixOperatorToken operatorToken,
     @Nullable Object source,
     @Nullable Object key,
@@ -580,11 +717,28 @@ public class ExpressionInterpreter {
       return null;
     }
 
-    GlobalLogger.log(Level.WARNING, "Don't know how to access field " + stringKey + " of " + source.getClass());
+    if (environment.getMemberAccessPolicy().isAllowed(source.getClass())) {
+      Object accessResult = ReflectiveMemberAccess.accessMember(source, stringKey, DirectFieldAccess.UNKNOWN_FIELD_SENTINEL);
+
+      if (accessResult != DirectFieldAccess.UNKNOWN_FIELD_SENTINEL)
+        return accessResult;
+
+      List<String> availableMembers = ReflectiveMemberAccess.getAvailableMembers(source.getClass());
+
+      String choicesString = "";
+
+      if (!availableMembers.isEmpty())
+        choicesString = "; choose one of: " + String.join(", ", availableMembers);
+
+      logger.logErrorScreen(operatorToken.raw, "Could not locate member \"" + stringKey + "\"" + choicesString);
+      return null;
+    }
+
+    GlobalLogger.log(Level.WARNING, "Don't know how to access field " + stringKey + " of " + source.getClass() + "; consider allowing it by a MemberAccessPolicy", false);
     return null;
   }
 
-  private static @Nullable String extractStringTerminal(@Nullable ExpressionNode node) {
+  static @Nullable String extractStringTerminal(@Nullable ExpressionNode node) {
     if (node instanceof TerminalNode) {
       TerminalNode terminal = (TerminalNode) node;
 
@@ -607,38 +761,49 @@ public class ExpressionInterpreter {
 
     String delimiter = extractStringTerminal(node);
 
-    if (delimiter != null) {
-      int index;
+    if (delimiter != null)
+      return locateSubstringDelimiter(input, delimiter, firstIndex);
 
-      if (firstIndex) {
-        index = input.indexOf(delimiter);
+    return environment.getValueInterpreter().asLong(interpret(node, environment, logger));
+  }
 
-        if (index < 0)
-          index = 0;
-      }
+  static long locateSubstringDelimiter(String input, String delimiter, boolean firstIndex) {
+    int index;
 
-      else {
-        index = input.lastIndexOf(delimiter);
+    if (firstIndex) {
+      index = input.indexOf(delimiter);
 
-        if (index < 0)
-          index = input.length() - 1;
-      }
+      if (index < 0)
+        index = 0;
+    }
 
-      return (long) index;
+    else {
+      index = input.lastIndexOf(delimiter);
+
+      if (index < 0)
+        index = input.length() - 1;
     }
 
-    return environment.getValueInterpreter().asLong(interpret(node, environment, logger));
+    return index;
   }
 
   private static String performSubstring(String input, SubstringNode node, InterpretationEnvironment environment, InterpreterLogger logger) {
+    if (input.isEmpty())
+      return "";
+
+    return performSubstring(
+      input,
+      decideSubstringIndex(input, environment, logger, node.lowerBound, true),
+      decideSubstringIndex(input, environment, logger, node.upperBound, false)
+    );
+  }
+
+  static String performSubstring(String input, @Nullable Long lowerBound, @Nullable Long upperBound) {
     int len = input.length();
 
     if (len == 0)
       return "";
 
-    @Nullable Long lowerBound = decideSubstringIndex(input, environment, logger, node.lowerBound, true);
-    @Nullable Long upperBound = decideSubstringIndex(input, environment, logger, node.upperBound, false);
-
     long beginIndex = (lowerBound == null) ? 0 : (lowerBound < 0 ? len + lowerBound : lowerBound);
     long endIndex = (upperBound == null) ? len - 1 : (upperBound < 0 ? len + upperBound : upperBound);
     boolean wereNegative = beginIndex < 0 && endIndex < 0;
@@ -656,17 +821,23 @@ public class ExpressionInterpreter {
     return Math.max(0, Math.min(max, value));
   }
 
-  private static boolean checkContains(@Nullable Object lhsValue, @Nullable Object rhsValue, ValueInterpreter valueInterpreter) {
+  static boolean checkContains(@Nullable Object lhsValue, @Nullable Object rhsValue, ValueInterpreter valueInterpreter) {
     if (lhsValue == null && rhsValue == null)
       return true;
 
-    if (lhsValue == null || rhsValue == null)
+    if (lhsValue == null)
+      return false;
+
+    if (lhsValue instanceof Collection<?>)
+      return CollectionOperations.contains((Collection<?>) lhsValue, rhsValue, valueInterpreter);
+
+    if (rhsValue == null)
       return false;
 
     return valueInterpreter.asString(lhsValue).contains(valueInterpreter.asString(rhsValue));
   }
 
-  private static boolean checkEquality(@Nullable Object lhsValue, @Nullable Object rhsValue, ValueInterpreter valueInterpreter) {
+  static boolean checkEquality(@Nullable Object lhsValue, @Nullable Object rhsValue, ValueInterpreter valueInterpreter) {
     if (lhsValue == null && rhsValue == null)
       return true;
 
@@ -10,6 +10,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public class InterpretationEnvironment {
 
@@ -17,6 +18,10 @@ public class InterpretationEnvironment {
 
   protected final Map<String, Object> variables;
   protected ValueInterpreter valueInterpreter;
+  protected RenderBudget renderBudget;
+  protected MemberAccessPolicy memberAccessPolicy;
+  protected boolean optimizeComponentTree;
+  protected boolean compileExpressions;
 
   public final InterpretationPlatform interpretationPlatform;
   public final Object context;
@@ -37,6 +42,8 @@ public class InterpretationEnvironment {
   ) {
     this.variables = variables;
     this.valueInterpreter = valueInterpreter;
+    this.renderBudget = RenderBudget.UNLIMITED;
+    this.memberAccessPolicy = MemberAccessPolicy.NONE;
     this.interpretationPlatform = interpretationPlatform;
     this.context = context;
   }
@@ -45,7 +52,22 @@ public class InterpretationEnvironment {
     return variables.isEmpty();
   }
 
+  /**
+   * Lazy variables are resolved on every call, while renders memoize their values.
+   */
   public @Nullable Object getVariableValue(String name) {
+    Object value = getUnresolvedVariableValue(name);
+
+    if (value instanceof LazyVariable)
+      return ((LazyVariable) value).resolve();
+
+    return value;
+  }
+
+  /**
+   * @return The value as stored, which may be a {@link LazyVariable} yet to be resolved
+   */
+  public @Nullable Object getUnresolvedVariableValue(String name) {
     return variables.get(name);
   }
 
@@ -57,22 +79,84 @@ public class InterpretationEnvironment {
     variables.keySet().forEach(handler);
   }
 
+  public void forEachLazyVariable(Consumer<LazyVariable> handler) {
+    forEachKnownName(name -> {
+      Object value = getUnresolvedVariableValue(name);
+
+      if (value instanceof LazyVariable)
+        handler.accept((LazyVariable) value);
+    });
+  }
+
   public ValueInterpreter getValueInterpreter() {
     return valueInterpreter;
   }
 
+  public RenderBudget getRenderBudget() {
+    return renderBudget;
+  }
+
+  public MemberAccessPolicy getMemberAccessPolicy() {
+    return memberAccessPolicy;
+  }
+
+  public boolean isComponentTreeOptimizationEnabled() {
+    return optimizeComponentTree;
+  }
+
+  public boolean isExpressionCompilationEnabled() {
+    return compileExpressions;
+  }
+
   public InterpretationEnvironment withVariable(String name, Object value) {
     this.variables.put(name, value);
     return this;
   }
 
+  public InterpretationEnvironment withLazyVariable(String name, Supplier<?> supplier) {
+    return withVariable(name, new LazyVariable(name, supplier));
+  }
+
   public InterpretationEnvironment withValueInterpreter(ValueInterpreter valueInterpreter) {
     this.valueInterpreter = valueInterpreter;
     return this;
   }
 
+  public InterpretationEnvironment withRenderBudget(RenderBudget renderBudget) {
+    this.renderBudget = renderBudget;
+    return this;
+  }
+
+  public InterpretationEnvironment withMemberAccessPolicy(MemberAccessPolicy memberAccessPolicy) {
+    this.memberAccessPolicy = memberAccessPolicy;
+    return this;
+  }
+
+  /**
+   * Whether to simplify the resulting tree of components before finalizing it, which renders identically
+   * but yields a differently structured, smaller output, which is why it is off by default.
+   */
+  public InterpretationEnvironment withComponentTreeOptimization(boolean optimizeComponentTree) {
+    this.optimizeComponentTree = optimizeComponentTree;
+    return this;
+  }
+
+  /**
+   * Whether to evaluate expressions by their form as compiled by {@link ExpressionCompiler}, which is built on
+   * first use and kept on the expression from then on; it yields the same results as interpreting them, but
+   * is only worth its cost for trees which are rendered many times, like those of compiled templates.
+   */
+  public InterpretationEnvironment withExpressionCompilation(boolean compileExpressions) {
+    this.compileExpressions = compileExpressions;
+    return this;
+  }
+
   public InterpretationEnvironment copy() {
-    return new InterpretationEnvironment(new HashMap<>(variables), valueInterpreter, interpretationPlatform, context);
+    return new InterpretationEnvironment(new HashMap<>(variables), valueInterpreter, interpretationPlatform, context)
+      .withRenderBudget(renderBudget)
+      .withMemberAccessPolicy(memberAccessPolicy)
+      .withComponentTreeOptimization(optimizeComponentTree)
+      .withExpressionCompilation(compileExpressions);
   }
 
   public InterpretationEnvironment inheritFrom(InterpretationEnvironment other, boolean allowShadowing) {
@@ -80,7 +164,7 @@ public class InterpretationEnvironment {
       if (doesVariableExist(otherName) && !allowShadowing)
         return;
 
-      this.variables.put(otherName, other.getVariableValue(otherName));
+      this.variables.put(otherName, other.getUnresolvedVariableValue(otherName));
     });
 
     return this;
@@ -6,6 +6,7 @@
 package at.blvckbytes.component_markup.expression.interpreter;
 
 import at.blvckbytes.component_markup.util.AsciiCasing;
+import at.blvckbytes.component_markup.util.BoundedCache;
 import at.blvckbytes.component_markup.util.TriState;
 import org.jetbrains.annotations.Nullable;
 
@@ -34,9 +35,13 @@ public class JavaInterpretationPlatform implements InterpretationPlatform {
   private static final DateTimeFormatter DEFAULT_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
   private static final Map<String, Locale> LOCALE_BY_NAME_LOWER;
 
-  private static final Map<String, Pattern> patternCache = new HashMap<>();
-  private static final Map<String, DateTimeFormatter> dateTimeFormatterCache = new HashMap<>();
-  private static final Map<String, DecimalFormat> decimalFormatCache = new HashMap<>();
+  private static final int MAX_CACHE_SIZE = 512;
+
+  // Patterns as well as date-time-formatters are immutable and can thereby be shared, while
+  // decimal-formats are not thread-safe, which is why each thread receives its own instance.
+  private static final BoundedCache<String, Pattern> patternCache = new BoundedCache<>(MAX_CACHE_SIZE);
+  private static final BoundedCache<String, DateTimeFormatter> dateTimeFormatterCache = new BoundedCache<>(MAX_CACHE_SIZE);
+  private static final BoundedCache<String, ThreadLocal<DecimalFormat>> decimalFormatCache = new BoundedCache<>(MAX_CACHE_SIZE);
 
   static {
     LOCALE_BY_NAME_LOWER = new HashMap<>();
@@ -55,6 +60,18 @@ public class JavaInterpretationPlatform implements InterpretationPlatform {
 
   private JavaInterpretationPlatform() {}
 
+  public BoundedCache<String, Pattern> getPatternCache() {
+    return patternCache;
+  }
+
+  public BoundedCache<String, DateTimeFormatter> getDateTimeFormatterCache() {
+    return dateTimeFormatterCache;
+  }
+
+  public BoundedCache<String, ThreadLocal<DecimalFormat>> getDecimalFormatCache() {
+    return decimalFormatCache;
+  }
+
   @Override
   public String[] split(String input, String delimiter, boolean regex) {
     Pattern pattern;
@@ -63,7 +80,7 @@ public class JavaInterpretationPlatform implements InterpretationPlatform {
       if (!regex)
         pattern = Pattern.compile(delimiter, Pattern.LITERAL);
       else
-        pattern = patternCache.computeIfAbsent(delimiter, Pattern::compile);
+        pattern = patternCache.get(delimiter, Pattern::compile);
     } catch (Throwable e) {
       return null;
     }
@@ -74,7 +91,7 @@ public class JavaInterpretationPlatform implements InterpretationPlatform {
   @Override
   public TriState matchesPattern(String input, String pattern) {
     try {
-      return patternCache.computeIfAbsent(pattern, Pattern::compile).matcher(input).find()
+      return patternCache.get(pattern, Pattern::compile).matcher(input).find()
         ? TriState.TRUE
         : TriState.FALSE;
     } catch (Throwable e) {
@@ -148,19 +165,15 @@ public class JavaInterpretationPlatform implements InterpretationPlatform {
     DateTimeFormatter formatter = DEFAULT_FORMATTER;
 
     if (format != null) {
+      Locale finalFormatLocale = formatLocale;
       String formatIdentifier = format + (formatLocale == null ? "" : ("___" + formatLocale));
-      DateTimeFormatter cachedFormatter = dateTimeFormatterCache.get(formatIdentifier);
-
-      if (cachedFormatter != null)
-        formatter = cachedFormatter;
 
-      else {
-        try {
-          formatter = formatLocale == null ? DateTimeFormatter.ofPattern(format) : DateTimeFormatter.ofPattern(format, formatLocale);
-          dateTimeFormatterCache.put(formatIdentifier, formatter);
-        } catch (Throwable e) {
-          warningsOutput.add(FormatDateWarning.INVALID_FORMAT);
-        }
+      try {
+        formatter = dateTimeFormatterCache.get(formatIdentifier, key -> (
+          finalFormatLocale == null ? DateTimeFormatter.ofPattern(format) : DateTimeFormatter.ofPattern(format, finalFormatLocale)
+        ));
+      } catch (Throwable e) {
+        warningsOutput.add(FormatDateWarning.INVALID_FORMAT);
       }
     }
 
@@ -196,32 +209,39 @@ public class JavaInterpretationPlatform implements InterpretationPlatform {
         warningsOutput.add(FormatNumberWarning.INVALID_LOCALE);
     }
 
-    DecimalFormat decimalFormat;
-
-    String formatIdentifier = format + (formatLocale == null ? "" : "___" + locale);
-    DecimalFormat cachedFormat = decimalFormatCache.get(formatIdentifier);
-
-    if (cachedFormat != null)
-      decimalFormat = cachedFormat;
-
-    else {
-      try {
-        decimalFormat = formatLocale == null ? new DecimalFormat(format) : new DecimalFormat(format, new DecimalFormatSymbols(formatLocale));
-        decimalFormatCache.put(formatIdentifier, decimalFormat);
-      } catch (Throwable e) {
-        warningsOutput.add(FormatNumberWarning.INVALID_FORMAT);
-        return String.valueOf(number);
-      }
-    }
+    RoundingMode formatRoundingMode = null;
 
     if (roundingMode != null) {
       try {
-        decimalFormat.setRoundingMode(RoundingMode.valueOf(AsciiCasing.upper(roundingMode)));
+        formatRoundingMode = RoundingMode.valueOf(AsciiCasing.upper(roundingMode));
       } catch (Throwable e) {
         warningsOutput.add(FormatNumberWarning.INVALID_ROUNDING_MODE);
       }
     }
 
+    Locale finalFormatLocale = formatLocale;
+    RoundingMode finalRoundingMode = formatRoundingMode;
+
+    String formatIdentifier = format
+      + (formatLocale == null ? "" : "___" + formatLocale)
+      + (formatRoundingMode == null ? "" : "___" + formatRoundingMode);
+
+    DecimalFormat decimalFormat;
+
+    try {
+      decimalFormat = decimalFormatCache.get(formatIdentifier, key -> {
+        DecimalFormat prototype = finalFormatLocale == null ? new DecimalFormat(format) : new DecimalFormat(format, new DecimalFormatSymbols(finalFormatLocale));
+
+        if (finalRoundingMode != null)
+          prototype.setRoundingMode(finalRoundingMode);
+
+        return ThreadLocal.withInitial(() -> (DecimalFormat) prototype.clone());
+      }).get();
+    } catch (Throwable e) {
+      warningsOutput.add(FormatNumberWarning.INVALID_FORMAT);
+      return String.valueOf(number);
+    }
+
     return decimalFormat.format(bigDecimal);
   }
 
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.expression.interpreter;
+
+import at.blvckbytes.component_markup.util.logging.GlobalLogger;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+/**
+ * Variable whose value is only computed once it is actually read; renders memoize the result, such
+ * that the supplier runs at most once per render. The counters accumulate over all renders, as to
+ * allow for finding expensive suppliers which are resolved often, or unused ones which never are.
+ */
+public class LazyVariable {
+
+  public final String name;
+
+  private final Supplier<?> supplier;
+
+  private final LongAdder resolutionCount;
+  private final LongAdder resolutionNanos;
+
+  public LazyVariable(String name, Supplier<?> supplier) {
+    this.name = name;
+    this.supplier = supplier;
+    this.resolutionCount = new LongAdder();
+    this.resolutionNanos = new LongAdder();
+  }
+
+  /**
+   * Errors thrown by the supplier are logged and result in a null-value.
+   */
+  public @Nullable Object resolve() {
+    long startNanos = System.nanoTime();
+
+    try {
+      return supplier.get();
+    } catch (Throwable thrownError) {
+      GlobalLogger.log(Level.SEVERE, "An error occurred while trying to resolve the lazy variable " + name, thrownError);
+      return null;
+    } finally {
+      resolutionCount.increment();
+      resolutionNanos.add(System.nanoTime() - startNanos);
+    }
+  }
+
+  public long getResolutionCount() {
+    return resolutionCount.sum();
+  }
+
+  public long getResolutionNanos() {
+    return resolutionNanos.sum();
+  }
+}
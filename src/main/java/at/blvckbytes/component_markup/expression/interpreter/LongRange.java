@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.expression.interpreter;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list of all whole numbers from the lower- up to and including the upper-bound,
+ * which computes its members on access, as to not materialize possibly huge ranges.
+ */
+public class LongRange extends AbstractList<Long> implements RandomAccess {
+
+  public final long lowerBound;
+  public final long upperBound;
+
+  // As a List is only int-indexable, ranges spanning more members are truncated in that view
+  private final int size;
+
+  public LongRange(long lowerBound, long upperBound) {
+    this.lowerBound = lowerBound;
+    this.upperBound = upperBound;
+
+    long memberCount = getMemberCount();
+    this.size = memberCount > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) memberCount;
+  }
+
+  public long getMemberCount() {
+    if (upperBound < lowerBound)
+      return 0;
+
+    long memberCount = upperBound - lowerBound + 1;
+
+    // Overflowed, as the range spans more than Long.MAX_VALUE members
+    if (memberCount <= 0)
+      return Long.MAX_VALUE;
+
+    return memberCount;
+  }
+
+  public boolean containsMember(long value) {
+    return value >= lowerBound && value <= upperBound;
+  }
+
+  /**
+   * @return Sum of all members, with neither overflow nor iteration
+   */
+  public double getSum() {
+    return ((double) lowerBound + (double) upperBound) * getMemberCount() / 2;
+  }
+
+  @Override
+  public Long get(int index) {
+    if (index < 0 || index >= size)
+      throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+
+    return lowerBound + index;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean contains(@Nullable Object value) {
+    return indexOf(value) >= 0;
+  }
+
+  @Override
+  public int indexOf(@Nullable Object value) {
+    // Stay in line with List#contains, which only ever compares by equals
+    if (!(value instanceof Long))
+      return -1;
+
+    long longValue = (Long) value;
+
+    if (!containsMember(longValue) || longValue - lowerBound >= size)
+      return -1;
+
+    return (int) (longValue - lowerBound);
+  }
+
+  @Override
+  public int lastIndexOf(@Nullable Object value) {
+    return indexOf(value);
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.expression.interpreter;
+
+import java.util.*;
+
+/**
+ * Allow-list of types whose members may be read by expressions, be it through getters like getName()
+ * or isOnline(), accessors of records or public fields; as the lookup of members is cached per class,
+ * reading them costs about as much as a plain method-call. Types are allowed either explicitly, which
+ * extends to their subtypes, or by their package. Instances are immutable and may be shared freely.
+ */
+public class MemberAccessPolicy {
+
+  public static final MemberAccessPolicy NONE = new MemberAccessPolicy(Collections.emptySet(), Collections.emptySet());
+
+  private final Set<Class<?>> allowedTypes;
+  private final Set<String> allowedPackages;
+
+  // Decisions are kept alongside their classes, as to not keep class-loaders of unloaded plugins alive
+  private final ClassValue<Boolean> decisionByType;
+
+  private MemberAccessPolicy(Set<Class<?>> allowedTypes, Set<String> allowedPackages) {
+    this.allowedTypes = allowedTypes;
+    this.allowedPackages = allowedPackages;
+    this.decisionByType = new ClassValue<Boolean>() {
+      @Override
+      protected Boolean computeValue(Class<?> type) {
+        return decide(type);
+      }
+    };
+  }
+
+  public MemberAccessPolicy withAllowedType(Class<?> type) {
+    Set<Class<?>> allowedTypes = new HashSet<>(this.allowedTypes);
+    allowedTypes.add(type);
+    return new MemberAccessPolicy(allowedTypes, allowedPackages);
+  }
+
+  /**
+   * @param packageName Name of a package, whose types, including those of sub-packages, are to be allowed
+   */
+  public MemberAccessPolicy withAllowedPackage(String packageName) {
+    Set<String> allowedPackages = new HashSet<>(this.allowedPackages);
+    allowedPackages.add(packageName);
+    return new MemberAccessPolicy(allowedTypes, allowedPackages);
+  }
+
+  public boolean isAllowed(Class<?> type) {
+    if (this == NONE)
+      return false;
+
+    return decisionByType.get(type);
+  }
+
+  private boolean decide(Class<?> type) {
+    for (Class<?> allowedType : allowedTypes) {
+      if (allowedType.isAssignableFrom(type))
+        return true;
+    }
+
+    String typeName = type.getName();
+
+    for (String allowedPackage : allowedPackages) {
+      if (typeName.startsWith(allowedPackage) && typeName.length() > allowedPackage.length() && typeName.charAt(allowedPackage.length()) == '.')
+        return true;
+    }
+
+    return false;
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.expression.interpreter;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Immutable environment, whose modifying methods leave the instance at hand untouched and return
+ * a new one instead, which shares all unaltered variables with its origin; thereby, copying is free,
+ * adding a variable costs O(log n), and layers like global-, world- and player-variables may be built
+ * on top of each other while the shared layers remain safe to be rendered with by many threads at once.
+ */
+public class PersistentInterpretationEnvironment extends InterpretationEnvironment {
+
+  private final PersistentVariableMap persistentVariables;
+
+  public PersistentInterpretationEnvironment() {
+    this(null);
+  }
+
+  public PersistentInterpretationEnvironment(Object context) {
+    this(PersistentVariableMap.EMPTY, DEFAULT_INTERPRETER, RenderBudget.UNLIMITED, MemberAccessPolicy.NONE, false, false, JavaInterpretationPlatform.INSTANCE, context);
+  }
+
+  public PersistentInterpretationEnvironment(
+    Map<String, Object> variables,
+    ValueInterpreter valueInterpreter,
+    InterpretationPlatform interpretationPlatform,
+    Object context
+  ) {
+    this(putAll(PersistentVariableMap.EMPTY, variables), valueInterpreter, RenderBudget.UNLIMITED, MemberAccessPolicy.NONE, false, false, interpretationPlatform, context);
+  }
+
+  private PersistentInterpretationEnvironment(
+    PersistentVariableMap persistentVariables,
+    ValueInterpreter valueInterpreter,
+    RenderBudget renderBudget,
+    MemberAccessPolicy memberAccessPolicy,
+    boolean optimizeComponentTree,
+    boolean compileExpressions,
+    InterpretationPlatform interpretationPlatform,
+    Object context
+  ) {
+    super(Collections.emptyMap(), valueInterpreter, interpretationPlatform, context);
+
+    this.persistentVariables = persistentVariables;
+    this.renderBudget = renderBudget;
+    this.memberAccessPolicy = memberAccessPolicy;
+    this.optimizeComponentTree = optimizeComponentTree;
+    this.compileExpressions = compileExpressions;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return persistentVariables.size == 0;
+  }
+
+  @Override
+  public @Nullable Object getUnresolvedVariableValue(String name) {
+    return persistentVariables.get(name);
+  }
+
+  @Override
+  public boolean doesVariableExist(String name) {
+    return persistentVariables.containsKey(name);
+  }
+
+  @Override
+  public void forEachKnownName(Consumer<String> handler) {
+    persistentVariables.forEach((name, value) -> handler.accept(name));
+  }
+
+  @Override
+  public PersistentInterpretationEnvironment withVariable(String name, Object value) {
+    return withVariables(persistentVariables.put(name, value));
+  }
+
+  @Override
+  public PersistentInterpretationEnvironment withLazyVariable(String name, Supplier<?> supplier) {
+    return withVariable(name, new LazyVariable(name, supplier));
+  }
+
+  public PersistentInterpretationEnvironment withVariables(Map<String, Object> variables) {
+    return withVariables(putAll(persistentVariables, variables));
+  }
+
+  @Override
+  public PersistentInterpretationEnvironment withValueInterpreter(ValueInterpreter valueInterpreter) {
+    return new PersistentInterpretationEnvironment(persistentVariables, valueInterpreter, renderBudget, memberAccessPolicy, optimizeComponentTree, compileExpressions, interpretationPlatform, context);
+  }
+
+  @Override
+  public PersistentInterpretationEnvironment withRenderBudget(RenderBudget renderBudget) {
+    return new PersistentInterpretationEnvironment(persistentVariables, valueInterpreter, renderBudget, memberAccessPolicy, optimizeComponentTree, compileExpressions, interpretationPlatform, context);
+  }
+
+  @Override
+  public PersistentInterpretationEnvironment withMemberAccessPolicy(MemberAccessPolicy memberAccessPolicy) {
+    return new PersistentInterpretationEnvironment(persistentVariables, valueInterpreter, renderBudget, memberAccessPolicy, optimizeComponentTree, compileExpressions, interpretationPlatform, context);
+  }
+
+  @Override
+  public PersistentInterpretationEnvironment withComponentTreeOptimization(boolean optimizeComponentTree) {
+    return new PersistentInterpretationEnvironment(persistentVariables, valueInterpreter, renderBudget, memberAccessPolicy, optimizeComponentTree, compileExpressions, interpretationPlatform, context);
+  }
+
+  @Override
+  public PersistentInterpretationEnvironment withExpressionCompilation(boolean compileExpressions) {
+    return new PersistentInterpretationEnvironment(persistentVariables, valueInterpreter, renderBudget, memberAccessPolicy, optimizeComponentTree, compileExpressions, interpretationPlatform, context);
+  }
+
+  /**
+   * As this instance cannot be altered, it is its own copy.
+   */
+  @Override
+  public PersistentInterpretationEnvironment copy() {
+    return this;
+  }
+
+  /**
+   * Adds the variables of the other environment to a new environment; if the other environment is
+   * persistent as well, the result is built on top of whichever of both holds more variables, such
+   * that layering a few variables onto a large, shared environment only costs as much as those few.
+   */
+  @Override
+  public PersistentInterpretationEnvironment inheritFrom(InterpretationEnvironment other, boolean allowShadowing) {
+    if (!(other instanceof PersistentInterpretationEnvironment))
+      return withVariables(putAll(persistentVariables, other, allowShadowing));
+
+    PersistentVariableMap otherVariables = ((PersistentInterpretationEnvironment) other).persistentVariables;
+
+    if (otherVariables.size <= persistentVariables.size)
+      return withVariables(putAll(persistentVariables, other, allowShadowing));
+
+    // Build onto the other's variables instead, with the precedence of both sides flipped
+    return withVariables(putAll(otherVariables, this, !allowShadowing));
+  }
+
+  private PersistentInterpretationEnvironment withVariables(PersistentVariableMap variables) {
+    if (variables == persistentVariables)
+      return this;
+
+    return new PersistentInterpretationEnvironment(variables, valueInterpreter, renderBudget, memberAccessPolicy, optimizeComponentTree, compileExpressions, interpretationPlatform, context);
+  }
+
+  private static PersistentVariableMap putAll(PersistentVariableMap target, Map<String, Object> variables) {
+    for (Map.Entry<String, Object> variable : variables.entrySet())
+      target = target.put(variable.getKey(), variable.getValue());
+
+    return target;
+  }
+
+  private static PersistentVariableMap putAll(PersistentVariableMap target, InterpretationEnvironment source, boolean allowShadowing) {
+    PersistentVariableMap[] result = { target };
+
+    source.forEachKnownName(name -> {
+      if (!allowShadowing && result[0].containsKey(name))
+        return;
+
+      result[0] = result[0].put(name, source.getUnresolvedVariableValue(name));
+    });
+
+    return result[0];
+  }
+}
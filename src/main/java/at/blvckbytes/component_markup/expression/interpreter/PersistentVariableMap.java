@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.expression.interpreter;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * Immutable hash array mapped trie of variables; insertions copy the path from the root to the
+ * altered entry only, as to share all remaining nodes structurally with the prior version.
+ */
+class PersistentVariableMap {
+
+  static final PersistentVariableMap EMPTY = new PersistentVariableMap(Node.EMPTY, 0);
+
+  private static final Object MISSING = new Object();
+
+  private static final int BITS_PER_LEVEL = 5;
+  private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+
+  // Once all bits of the hash are consumed, keys of equal hashes are kept in a flat list
+  private static final int MAX_SHIFT = 30;
+
+  private final Node root;
+  final int size;
+
+  private PersistentVariableMap(Node root, int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  @Nullable Object get(String name) {
+    Object value = root.find(name, hash(name), 0);
+    return value == MISSING ? null : value;
+  }
+
+  boolean containsKey(String name) {
+    return root.find(name, hash(name), 0) != MISSING;
+  }
+
+  PersistentVariableMap put(String name, @Nullable Object value) {
+    int nameHash = hash(name);
+    Object priorValue = root.find(name, nameHash, 0);
+
+    if (priorValue == value && priorValue != MISSING)
+      return this;
+
+    return new PersistentVariableMap(root.put(name, nameHash, value, 0), priorValue == MISSING ? size + 1 : size);
+  }
+
+  void forEach(BiConsumer<String, Object> handler) {
+    root.forEach(handler);
+  }
+
+  private static int hash(String name) {
+    int hash = name.hashCode();
+    return hash ^ (hash >>> 16);
+  }
+
+  private static class Node {
+
+    static final Node EMPTY = new Node(0, new Object[0]);
+
+    // Each set bit owns two slots: a name and its value, or null and the child-node of the next level
+    private final int bitmap;
+    private final Object[] slots;
+
+    private Node(int bitmap, Object[] slots) {
+      this.bitmap = bitmap;
+      this.slots = slots;
+    }
+
+    Object find(String name, int nameHash, int shift) {
+      if (shift > MAX_SHIFT) {
+        for (int index = 0; index < slots.length; index += 2) {
+          if (name.equals(slots[index]))
+            return slots[index + 1];
+        }
+
+        return MISSING;
+      }
+
+      int bit = 1 << ((nameHash >>> shift) & LEVEL_MASK);
+
+      if ((bitmap & bit) == 0)
+        return MISSING;
+
+      int index = slotIndex(bit);
+      Object slotName = slots[index];
+
+      if (slotName == null)
+        return ((Node) slots[index + 1]).find(name, nameHash, shift + BITS_PER_LEVEL);
+
+      return name.equals(slotName) ? slots[index + 1] : MISSING;
+    }
+
+    Node put(String name, int nameHash, @Nullable Object value, int shift) {
+      if (shift > MAX_SHIFT) {
+        for (int index = 0; index < slots.length; index += 2) {
+          if (name.equals(slots[index]))
+            return withSlot(index + 1, value);
+        }
+
+        Object[] newSlots = Arrays.copyOf(slots, slots.length + 2);
+        newSlots[slots.length] = name;
+        newSlots[slots.length + 1] = value;
+        return new Node(0, newSlots);
+      }
+
+      int bit = 1 << ((nameHash >>> shift) & LEVEL_MASK);
+      int index = slotIndex(bit);
+
+      if ((bitmap & bit) == 0) {
+        Object[] newSlots = new Object[slots.length + 2];
+
+        System.arraycopy(slots, 0, newSlots, 0, index);
+        newSlots[index] = name;
+        newSlots[index + 1] = value;
+        System.arraycopy(slots, index, newSlots, index + 2, slots.length - index);
+
+        return new Node(bitmap | bit, newSlots);
+      }
+
+      Object slotName = slots[index];
+
+      if (slotName == null)
+        return withSlot(index + 1, ((Node) slots[index + 1]).put(name, nameHash, value, shift + BITS_PER_LEVEL));
+
+      if (name.equals(slotName))
+        return withSlot(index + 1, value);
+
+      // Two distinct names share this position, so push both down into a new level
+      String existingName = (String) slotName;
+
+      Node child = EMPTY
+        .put(existingName, hash(existingName), slots[index + 1], shift + BITS_PER_LEVEL)
+        .put(name, nameHash, value, shift + BITS_PER_LEVEL);
+
+      Object[] newSlots = slots.clone();
+      newSlots[index] = null;
+      newSlots[index + 1] = child;
+
+      return new Node(bitmap, newSlots);
+    }
+
+    void forEach(BiConsumer<String, Object> handler) {
+      for (int index = 0; index < slots.length; index += 2) {
+        Object slotName = slots[index];
+
+        if (slotName == null)
+          ((Node) slots[index + 1]).forEach(handler);
+        else
+          handler.accept((String) slotName, slots[index + 1]);
+      }
+    }
+
+    private int slotIndex(int bit) {
+      return 2 * Integer.bitCount(bitmap & (bit - 1));
+    }
+
+    private Node withSlot(int index, @Nullable Object value) {
+      Object[] newSlots = slots.clone();
+      newSlots[index] = value;
+      return new Node(bitmap, newSlots);
+    }
+  }
+}
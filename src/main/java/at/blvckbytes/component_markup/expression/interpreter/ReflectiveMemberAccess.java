@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.expression.interpreter;
+
+import at.blvckbytes.component_markup.util.logging.GlobalLogger;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * Reads members of arbitrary objects by handles which are resolved once per class and member-name;
+ * whether a type may be accessed at all is to be decided beforehand, see {@link MemberAccessPolicy}.
+ */
+class ReflectiveMemberAccess {
+
+  // Sentinel for names which do not correspond to any member, as the map does not support null-values
+  private static final MethodHandle UNKNOWN_MEMBER = MethodHandles.constant(Object.class, null);
+
+  private static final int MAX_ACCESSORS_PER_CLASS = 256;
+
+  private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  private static final ClassValue<ClassMembers> membersByClass = new ClassValue<ClassMembers>() {
+    @Override
+    protected ClassMembers computeValue(Class<?> type) {
+      return new ClassMembers(type);
+    }
+  };
+
+  private ReflectiveMemberAccess() {}
+
+  /**
+   * @return The value of the member or {@code unknownMemberSentinel} if there is no such member
+   */
+  static @Nullable Object accessMember(Object source, String name, Object unknownMemberSentinel) {
+    ClassMembers members = membersByClass.get(source.getClass());
+    MethodHandle accessor = members.getAccessor(name);
+
+    if (accessor == UNKNOWN_MEMBER)
+      return unknownMemberSentinel;
+
+    try {
+      return (Object) accessor.invokeExact(source);
+    } catch (Throwable thrownError) {
+      GlobalLogger.log(Level.SEVERE, "An error occurred while trying to read member " + name + " of " + source.getClass(), thrownError);
+      return null;
+    }
+  }
+
+  static List<String> getAvailableMembers(Class<?> type) {
+    return membersByClass.get(type).availableMembers;
+  }
+
+  private static class ClassMembers {
+
+    final Class<?> type;
+    final boolean isRecord;
+
+    final Map<String, Method> methodByName;
+    final Map<String, Field> fieldByName;
+    final List<String> availableMembers;
+
+    final ConcurrentHashMap<String, MethodHandle> accessorByName;
+
+    ClassMembers(Class<?> type) {
+      this.type = type;
+      this.isRecord = type.getSuperclass() != null && type.getSuperclass().getName().equals("java.lang.Record");
+      this.methodByName = new HashMap<>();
+      this.fieldByName = new HashMap<>();
+      this.accessorByName = new ConcurrentHashMap<>();
+
+      Set<String> availableMembers = new TreeSet<>();
+
+      for (Method method : type.getMethods()) {
+        if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 0 || method.getReturnType() == void.class)
+          continue;
+
+        if (method.getDeclaringClass() == Object.class)
+          continue;
+
+        String memberName = getMemberName(method);
+
+        if (memberName == null)
+          continue;
+
+        methodByName.put(method.getName(), method);
+        availableMembers.add(toSnakeCase(memberName));
+      }
+
+      for (Field field : type.getFields()) {
+        if (Modifier.isStatic(field.getModifiers()))
+          continue;
+
+        fieldByName.put(field.getName(), field);
+        availableMembers.add(toSnakeCase(field.getName()));
+      }
+
+      this.availableMembers = Collections.unmodifiableList(new ArrayList<>(availableMembers));
+    }
+
+    MethodHandle getAccessor(String name) {
+      MethodHandle accessor = accessorByName.get(name);
+
+      if (accessor == null) {
+        accessor = resolveAccessor(name);
+
+        // Names may be computed at runtime, so do not let them grow the cache indefinitely
+        if (accessorByName.size() < MAX_ACCESSORS_PER_CLASS)
+          accessorByName.put(name, accessor);
+      }
+
+      return accessor;
+    }
+
+    private MethodHandle resolveAccessor(String name) {
+      MethodHandle accessor = resolveCandidate(name);
+
+      if (accessor != null)
+        return accessor;
+
+      // Expressions tend to be written in snake-case, like player.display_name
+      String camelCaseName = toCamelCase(name);
+
+      if (!camelCaseName.equals(name) && (accessor = resolveCandidate(camelCaseName)) != null)
+        return accessor;
+
+      return UNKNOWN_MEMBER;
+    }
+
+    private @Nullable MethodHandle resolveCandidate(String name) {
+      if (name.isEmpty())
+        return null;
+
+      String capitalizedName = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+
+      Method method = methodByName.get("get" + capitalizedName);
+
+      if (method == null) {
+        method = methodByName.get("is" + capitalizedName);
+
+        if (method != null && method.getReturnType() != boolean.class && method.getReturnType() != Boolean.class)
+          method = null;
+      }
+
+      if (method == null && isRecord)
+        method = methodByName.get(name);
+
+      if (method != null)
+        return unreflect(method);
+
+      Field field = fieldByName.get(name);
+
+      if (field != null)
+        return unreflect(field);
+
+      return null;
+    }
+
+    private @Nullable String getMemberName(Method method) {
+      String methodName = method.getName();
+
+      if (methodName.startsWith("get") && methodName.length() > 3)
+        return decapitalize(methodName.substring(3));
+
+      if (methodName.startsWith("is") && methodName.length() > 2 && (method.getReturnType() == boolean.class || method.getReturnType() == Boolean.class))
+        return decapitalize(methodName.substring(2));
+
+      if (isRecord)
+        return methodName;
+
+      return null;
+    }
+
+    private @Nullable MethodHandle unreflect(Method method) {
+      try {
+        // Public methods of non-public classes can only be accessed via a public type declaring them
+        Method accessibleMethod = findPubliclyDeclared(type, method.getName());
+
+        if (accessibleMethod != null) {
+          try {
+            return MethodHandles.publicLookup().unreflect(accessibleMethod).asType(ACCESSOR_TYPE);
+          } catch (IllegalAccessException ignored) {}
+        }
+
+        method.setAccessible(true);
+        return MethodHandles.lookup().unreflect(method).asType(ACCESSOR_TYPE);
+      } catch (Exception e) {
+        GlobalLogger.log(Level.WARNING, "Could not access method " + method.getName() + " of " + type, e);
+        return null;
+      }
+    }
+
+    private @Nullable MethodHandle unreflect(Field field) {
+      try {
+        if (!Modifier.isPublic(field.getDeclaringClass().getModifiers()))
+          field.setAccessible(true);
+
+        return MethodHandles.lookup().unreflectGetter(field).asType(ACCESSOR_TYPE);
+      } catch (Exception e) {
+        GlobalLogger.log(Level.WARNING, "Could not access field " + field.getName() + " of " + type, e);
+        return null;
+      }
+    }
+
+    private static @Nullable Method findPubliclyDeclared(@Nullable Class<?> type, String methodName) {
+      if (type == null)
+        return null;
+
+      if (Modifier.isPublic(type.getModifiers())) {
+        try {
+          return type.getMethod(methodName);
+        } catch (NoSuchMethodException ignored) {
+          return null;
+        }
+      }
+
+      for (Class<?> interfaceType : type.getInterfaces()) {
+        Method method = findPubliclyDeclared(interfaceType, methodName);
+
+        if (method != null)
+          return method;
+      }
+
+      return findPubliclyDeclared(type.getSuperclass(), methodName);
+    }
+
+    private static String decapitalize(String name) {
+      return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String toSnakeCase(String name) {
+      StringBuilder result = new StringBuilder(name.length() + 4);
+
+      for (int index = 0; index < name.length(); ++index) {
+        char currentChar = name.charAt(index);
+
+        if (Character.isUpperCase(currentChar)) {
+          if (result.length() > 0)
+            result.append('_');
+
+          currentChar = Character.toLowerCase(currentChar);
+        }
+
+        result.append(currentChar);
+      }
+
+      return result.toString();
+    }
+
+    private static String toCamelCase(String name) {
+      StringBuilder result = new StringBuilder(name.length());
+      boolean capitalizeNext = false;
+
+      for (int index = 0; index < name.length(); ++index) {
+        char currentChar = name.charAt(index);
+
+        if (currentChar == '_' || currentChar == '-') {
+          capitalizeNext = result.length() > 0;
+          continue;
+        }
+
+        result.append(capitalizeNext ? Character.toUpperCase(currentChar) : currentChar);
+        capitalizeNext = false;
+      }
+
+      return result.toString();
+    }
+  }
+}
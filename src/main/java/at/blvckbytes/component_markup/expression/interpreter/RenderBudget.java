@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.expression.interpreter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Upper bounds on the resources a single render may consume, as to protect against templates written
+ * by untrusted authors; expressions exceeding a limit yield empty results, while exceeding a limit of the
+ * render itself aborts it as a whole - both cases are reported through the interpreter-logger. Instances
+ * are immutable and may thereby be shared freely among environments and threads.
+ */
+public class RenderBudget {
+
+  public static final long UNLIMITED_VALUE = Long.MAX_VALUE;
+
+  public static final RenderBudget UNLIMITED = new RenderBudget(
+    UNLIMITED_VALUE, UNLIMITED_VALUE, UNLIMITED_VALUE, UNLIMITED_VALUE,
+    UNLIMITED_VALUE, UNLIMITED_VALUE, UNLIMITED_VALUE
+  );
+
+  public final long maxLoopIterations;
+  public final long maxTextLength;
+  public final long maxUnitCount;
+  public final long maxInterpretationDepth;
+  public final long maxRepeatLength;
+  public final long maxRangeLength;
+  public final long maxRenderNanos;
+
+  private RenderBudget(
+    long maxLoopIterations,
+    long maxTextLength,
+    long maxUnitCount,
+    long maxInterpretationDepth,
+    long maxRepeatLength,
+    long maxRangeLength,
+    long maxRenderNanos
+  ) {
+    this.maxLoopIterations = maxLoopIterations;
+    this.maxTextLength = maxTextLength;
+    this.maxUnitCount = maxUnitCount;
+    this.maxInterpretationDepth = maxInterpretationDepth;
+    this.maxRepeatLength = maxRepeatLength;
+    this.maxRangeLength = maxRangeLength;
+    this.maxRenderNanos = maxRenderNanos;
+  }
+
+  /**
+   * @param maxLoopIterations Total count of iterations across all loops of a render
+   */
+  public RenderBudget withMaxLoopIterations(long maxLoopIterations) {
+    return new RenderBudget(
+      requirePositive(maxLoopIterations), maxTextLength, maxUnitCount, maxInterpretationDepth,
+      maxRepeatLength, maxRangeLength, maxRenderNanos
+    );
+  }
+
+  /**
+   * @param maxTextLength Total count of characters of text emitted by a render
+   */
+  public RenderBudget withMaxTextLength(long maxTextLength) {
+    return new RenderBudget(
+      maxLoopIterations, requirePositive(maxTextLength), maxUnitCount, maxInterpretationDepth,
+      maxRepeatLength, maxRangeLength, maxRenderNanos
+    );
+  }
+
+  /**
+   * @param maxUnitCount Total count of non-text units, like keybinds or translations, emitted by a render
+   */
+  public RenderBudget withMaxUnitCount(long maxUnitCount) {
+    return new RenderBudget(
+      maxLoopIterations, maxTextLength, requirePositive(maxUnitCount), maxInterpretationDepth,
+      maxRepeatLength, maxRangeLength, maxRenderNanos
+    );
+  }
+
+  /**
+   * @param maxInterpretationDepth Count of nodes which may be nested into each other while rendering
+   */
+  public RenderBudget withMaxInterpretationDepth(long maxInterpretationDepth) {
+    return new RenderBudget(
+      maxLoopIterations, maxTextLength, maxUnitCount, requirePositive(maxInterpretationDepth),
+      maxRepeatLength, maxRangeLength, maxRenderNanos
+    );
+  }
+
+  /**
+   * @param maxRepeatLength Length of the resulting string of a single repeat-operation
+   */
+  public RenderBudget withMaxRepeatLength(long maxRepeatLength) {
+    return new RenderBudget(
+      maxLoopIterations, maxTextLength, maxUnitCount, maxInterpretationDepth,
+      requirePositive(maxRepeatLength), maxRangeLength, maxRenderNanos
+    );
+  }
+
+  /**
+   * @param maxRangeLength Count of members of the resulting list of a single range-operation
+   */
+  public RenderBudget withMaxRangeLength(long maxRangeLength) {
+    return new RenderBudget(
+      maxLoopIterations, maxTextLength, maxUnitCount, maxInterpretationDepth,
+      maxRepeatLength, requirePositive(maxRangeLength), maxRenderNanos
+    );
+  }
+
+  public RenderBudget withMaxRenderTime(long duration, TimeUnit unit) {
+    return new RenderBudget(
+      maxLoopIterations, maxTextLength, maxUnitCount, maxInterpretationDepth,
+      maxRepeatLength, maxRangeLength, requirePositive(unit.toNanos(duration))
+    );
+  }
+
+  private static long requirePositive(long value) {
+    if (value <= 0)
+      throw new IllegalArgumentException("Limits have to be positive, but got " + value);
+
+    return value;
+  }
+}
@@ -10,6 +10,7 @@ import at.blvckbytes.component_markup.util.InputView;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +32,10 @@ public class WhenMatchingMap {
     return caseByValue.get(value.toLowerCase());
   }
 
+  public Collection<MarkupNode> getCases() {
+    return caseByValue.values();
+  }
+
   public boolean isEmpty() {
     return caseByValue.isEmpty();
   }
@@ -8,9 +8,17 @@ package at.blvckbytes.component_markup.markup.ast.node.style;
 import at.blvckbytes.component_markup.expression.ast.BranchingNode;
 import at.blvckbytes.component_markup.expression.ast.ExpressionNode;
 import at.blvckbytes.component_markup.expression.ast.InfixOperationNode;
+import at.blvckbytes.component_markup.expression.ast.PrefixOperationNode;
+import at.blvckbytes.component_markup.expression.ast.TerminalNode;
 import at.blvckbytes.component_markup.expression.tokenizer.InfixOperator;
+import at.blvckbytes.component_markup.expression.tokenizer.InterpolationMember;
+import at.blvckbytes.component_markup.expression.tokenizer.PrefixOperator;
+import at.blvckbytes.component_markup.expression.tokenizer.token.IdentifierToken;
 import at.blvckbytes.component_markup.expression.tokenizer.token.InfixOperatorToken;
+import at.blvckbytes.component_markup.expression.tokenizer.token.TemplateLiteralToken;
+import at.blvckbytes.component_markup.markup.interpreter.ComputedStyle;
 import at.blvckbytes.component_markup.util.InputView;
+import at.blvckbytes.component_markup.util.JsonifyIgnore;
 import org.jetbrains.annotations.Nullable;
 
 public class NodeStyle {
@@ -23,6 +31,18 @@ public class NodeStyle {
   public @Nullable ExpressionNode font;
   public @Nullable ExpressionNode reset;
 
+  // Evaluation-result of a style consisting of constants only, as memoized by the interpreter
+  @JsonifyIgnore
+  private volatile @Nullable ComputedStyle.EvaluationMemo evaluationMemo;
+
+  public @Nullable ComputedStyle.EvaluationMemo getEvaluationMemo() {
+    return evaluationMemo;
+  }
+
+  public void setEvaluationMemo(@Nullable ComputedStyle.EvaluationMemo evaluationMemo) {
+    this.evaluationMemo = evaluationMemo;
+  }
+
   public void inheritFrom(NodeStyle other) {
     if (other.color != null)
       this.color = makeFallbackExpression(this.color, other.color);
@@ -80,6 +100,77 @@ public class NodeStyle {
     return false;
   }
 
+  /**
+   * @return Whether all properties are constant, such that they evaluate equally on every render,
+   * no matter the variables and limits of the environment
+   */
+  public boolean isConstant() {
+    if (!isConstant(color) || !isConstant(shadowColor) || !isConstant(shadowColorOpacity) || !isConstant(font) || !isConstant(reset))
+      return false;
+
+    if (formatStates != null) {
+      for (ExpressionNode formatState : formatStates) {
+        if (!isConstant(formatState))
+          return false;
+      }
+    }
+
+    return true;
+  }
+
+  public static boolean isConstant(@Nullable ExpressionNode expression) {
+    if (expression == null)
+      return true;
+
+    if (expression instanceof TerminalNode) {
+      Object token = ((TerminalNode) expression).token;
+
+      if (token instanceof IdentifierToken)
+        return false;
+
+      if (token instanceof TemplateLiteralToken) {
+        for (InterpolationMember member : ((TemplateLiteralToken) token).members) {
+          if (!(member instanceof InputView))
+            return false;
+        }
+      }
+
+      return true;
+    }
+
+    if (expression instanceof PrefixOperationNode) {
+      PrefixOperationNode prefixOperation = (PrefixOperationNode) expression;
+
+      // Look up variables by name, even though their operand may be a literal
+      if (prefixOperation.operatorToken.operator == PrefixOperator.ENV || prefixOperation.operatorToken.operator == PrefixOperator.HAS)
+        return false;
+
+      return isConstant(prefixOperation.operand);
+    }
+
+    if (expression instanceof InfixOperationNode) {
+      InfixOperationNode infixOperation = (InfixOperationNode) expression;
+
+      switch (infixOperation.operatorToken.operator) {
+        // Depend on the render-budget or the member-access-policy of the environment
+        case RANGE:
+        case REPEAT:
+        case MEMBER:
+        case SUBSCRIPTING:
+          return false;
+      }
+
+      return isConstant(infixOperation.lhs) && isConstant(infixOperation.rhs);
+    }
+
+    if (expression instanceof BranchingNode) {
+      BranchingNode branching = (BranchingNode) expression;
+      return isConstant(branching.condition) && isConstant(branching.branchTrue) && isConstant(branching.branchFalse);
+    }
+
+    return false;
+  }
+
   public void bakeUseCondition(ExpressionNode condition) {
     if (condition == null)
       throw new IllegalStateException("Cannot bake a null-condition");
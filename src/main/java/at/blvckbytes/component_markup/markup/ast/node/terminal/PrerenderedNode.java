@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.markup.ast.node.terminal;
+
+import at.blvckbytes.component_markup.constructor.ComponentConstructor;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationPlatform;
+import at.blvckbytes.component_markup.expression.interpreter.ValueInterpreter;
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.markup.interpreter.RawValueTransformer;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Stands in for a subtree which does not depend on any variables and can thereby be rendered
+ * once per constructor, break-character and way of interpreting values, after which the resulting
+ * components are spliced into the output of every subsequent render as-is.
+ */
+public class PrerenderedNode extends TerminalNode {
+
+  private static class CacheKey {
+
+    private final ComponentConstructor<?, ?> componentConstructor;
+    private final char breakChar;
+    private final ValueInterpreter valueInterpreter;
+    private final InterpretationPlatform interpretationPlatform;
+    private final @Nullable RawValueTransformer rawValueTransformer;
+    private final boolean optimizeComponentTree;
+
+    private CacheKey(
+      ComponentConstructor<?, ?> componentConstructor,
+      char breakChar,
+      InterpretationEnvironment environment,
+      @Nullable RawValueTransformer rawValueTransformer
+    ) {
+      this.componentConstructor = componentConstructor;
+      this.breakChar = breakChar;
+      this.valueInterpreter = environment.getValueInterpreter();
+      this.interpretationPlatform = environment.interpretationPlatform;
+      this.rawValueTransformer = rawValueTransformer;
+      this.optimizeComponentTree = environment.isComponentTreeOptimizationEnabled();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (!(other instanceof CacheKey))
+        return false;
+
+      CacheKey otherKey = (CacheKey) other;
+
+      return (
+        componentConstructor == otherKey.componentConstructor
+          && breakChar == otherKey.breakChar
+          && valueInterpreter == otherKey.valueInterpreter
+          && interpretationPlatform == otherKey.interpretationPlatform
+          && rawValueTransformer == otherKey.rawValueTransformer
+          && optimizeComponentTree == otherKey.optimizeComponentTree
+      );
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = System.identityHashCode(componentConstructor);
+      hashCode = 31 * hashCode + breakChar;
+      hashCode = 31 * hashCode + System.identityHashCode(valueInterpreter);
+      return 31 * hashCode + System.identityHashCode(rawValueTransformer);
+    }
+  }
+
+  public final MarkupNode subtree;
+
+  private final Map<CacheKey, List<?>> renderedComponents;
+
+  public PrerenderedNode(MarkupNode subtree) {
+    super(subtree.positionProvider, null);
+
+    this.subtree = subtree;
+    this.renderedComponents = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * The returned components are shared by all renders and must thereby never be altered.
+   */
+  public <C> List<C> getOrRender(
+    ComponentConstructor<?, C> componentConstructor,
+    char breakChar,
+    InterpretationEnvironment environment,
+    @Nullable RawValueTransformer rawValueTransformer,
+    Supplier<List<C>> renderer
+  ) {
+    CacheKey key = new CacheKey(componentConstructor, breakChar, environment, rawValueTransformer);
+
+    List<?> result = renderedComponents.get(key);
+
+    // Concurrent first renders may each render the subtree, but only one of them wins; this is
+    // preferable to blocking within computeIfAbsent while a whole interpreter is running.
+    if (result == null) {
+      result = renderer.get();
+
+      List<?> priorResult = renderedComponents.putIfAbsent(key, result);
+
+      if (priorResult != null)
+        result = priorResult;
+    }
+
+    //noinspection unchecked
+    return (List<C>) result;
+  }
+
+  public int getRenderedVariantCount() {
+    return renderedComponents.size();
+  }
+}
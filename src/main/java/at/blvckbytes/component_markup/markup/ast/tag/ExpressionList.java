@@ -34,6 +34,14 @@ public class ExpressionList {
     this.attributes.add(attribute);
   }
 
+  /**
+   * Adds the unevaluated expressions of all attributes, spread ones included.
+   */
+  public void collectExpressions(Collection<ExpressionNode> output) {
+    for (ExpressionAttribute attribute : attributes)
+      output.add(attribute.value);
+  }
+
   public List<ExpressionNode> get(Interpreter<?, ?> interpreter) {
     List<ExpressionNode> result = new ArrayList<>(attributes.size());
 
@@ -29,6 +29,10 @@ public class MarkupList {
     this.attributes = attributes;
   }
 
+  public List<? extends Attribute> getAttributes() {
+    return attributes;
+  }
+
   public boolean isEmpty() {
     return attributes.isEmpty();
   }
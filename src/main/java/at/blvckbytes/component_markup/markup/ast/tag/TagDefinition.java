@@ -26,7 +26,38 @@ public abstract class TagDefinition {
     this.tagPriority = tagPriority;
   }
 
-  public abstract boolean matchName(InputView tagName);
+  /**
+   * Names which this tag is to be matched by exactly, ignoring casing; declaring them allows the
+   * registry to locate this tag via its index, instead of having to invoke {@link #matchName}.
+   */
+  public Collection<String> getStaticNames() {
+    return Collections.emptyList();
+  }
+
+  /**
+   * Prefixes which, if a name starts with them (ignoring casing), cause this tag to be matched.
+   */
+  public Collection<String> getStaticPrefixes() {
+    return Collections.emptyList();
+  }
+
+  /**
+   * Only to be overridden by tags whose names cannot be enumerated statically, seeing how such
+   * definitions need to be consulted on each and every lookup.
+   */
+  public boolean matchName(InputView tagName) {
+    for (String staticName : getStaticNames()) {
+      if (tagName.contentEquals(staticName, true))
+        return true;
+    }
+
+    for (String staticPrefix : getStaticPrefixes()) {
+      if (tagName.startsWith(staticPrefix, true))
+        return true;
+    }
+
+    return false;
+  }
 
   public abstract @NotNull MarkupNode createNode(
     @Nullable TokenEmitter tokenEmitter,
@@ -5,6 +5,7 @@
 
 package at.blvckbytes.component_markup.markup.ast.tag;
 
+import at.blvckbytes.component_markup.util.AsciiCasing;
 import at.blvckbytes.component_markup.util.InputView;
 import at.blvckbytes.component_markup.util.logging.GlobalLogger;
 import org.jetbrains.annotations.Nullable;
@@ -14,41 +15,151 @@ import java.util.logging.Level;
 
 public abstract class TagRegistry {
 
+  private static class NameIndexNode {
+
+    private char[] keys = new char[0];
+    private NameIndexNode[] children = new NameIndexNode[0];
+
+    @Nullable RankedDefinition exactMatch;
+    @Nullable RankedDefinition prefixMatch;
+
+    @Nullable NameIndexNode getChild(char key) {
+      for (int index = 0; index < keys.length; ++index) {
+        if (keys[index] == key)
+          return children[index];
+      }
+
+      return null;
+    }
+
+    NameIndexNode getOrCreateChild(char key) {
+      NameIndexNode child = getChild(key);
+
+      if (child != null)
+        return child;
+
+      child = new NameIndexNode();
+
+      keys = Arrays.copyOf(keys, keys.length + 1);
+      children = Arrays.copyOf(children, children.length + 1);
+
+      keys[keys.length - 1] = key;
+      children[children.length - 1] = child;
+
+      return child;
+    }
+  }
+
+  private static class RankedDefinition {
+
+    final TagDefinition definition;
+
+    // Lower ranks win; ties in priority are resolved by order of registration
+    final long rank;
+
+    RankedDefinition(TagDefinition definition, int registrationIndex) {
+      this.definition = definition;
+      this.rank = ((long) definition.tagPriority.ordinal() << 32) | registrationIndex;
+    }
+
+    static @Nullable RankedDefinition pickBetter(@Nullable RankedDefinition current, @Nullable RankedDefinition candidate) {
+      if (candidate == null)
+        return current;
+
+      if (current == null || candidate.rank < current.rank)
+        return candidate;
+
+      return current;
+    }
+  }
+
   protected final Set<Class<?>> registeredClasses;
   protected final List<TagDefinition> tagDefinitions;
 
+  private final NameIndexNode nameIndexRoot;
+  private final List<RankedDefinition> dynamicDefinitions;
+
   public TagRegistry() {
     this.tagDefinitions = new ArrayList<>();
     this.registeredClasses = new HashSet<>();
+    this.nameIndexRoot = new NameIndexNode();
+    this.dynamicDefinitions = new ArrayList<>();
   }
 
   public @Nullable TagDefinition locateTag(InputView name) {
-    List<TagDefinition> candidates = new ArrayList<>();
+    RankedDefinition result = null;
+
+    // Tag-names never contain escape-sequences, so the raw characters are walked, ignoring casing
+    NameIndexNode currentNode = nameIndexRoot;
+    int nameLength = name.length();
+
+    for (int index = 0; index < nameLength; ++index) {
+      currentNode = currentNode.getChild(AsciiCasing.lower(name.nthChar(index)));
+
+      if (currentNode == null)
+        break;
+
+      result = RankedDefinition.pickBetter(result, currentNode.prefixMatch);
+
+      if (index == nameLength - 1)
+        result = RankedDefinition.pickBetter(result, currentNode.exactMatch);
+    }
+
+    for (RankedDefinition dynamicDefinition : dynamicDefinitions) {
+      // Cannot possibly win out over the current match anymore, so let's spare the call
+      if (result != null && result.rank < dynamicDefinition.rank)
+        continue;
 
-    for (TagDefinition definition : tagDefinitions) {
       try {
-        if (definition.matchName(name))
-          candidates.add(definition);
+        if (dynamicDefinition.definition.matchName(name))
+          result = RankedDefinition.pickBetter(result, dynamicDefinition);
       } catch (Throwable thrownError) {
-        GlobalLogger.log(Level.SEVERE, "An error occurred while trying to match via " + definition.getClass() + "#matchName", thrownError);
+        GlobalLogger.log(Level.SEVERE, "An error occurred while trying to match via " + dynamicDefinition.definition.getClass() + "#matchName", thrownError);
       }
     }
 
-    int candidateCount = candidates.size();
-
-    if (candidateCount == 0)
-      return null;
-
-    if (candidateCount != 1)
-      candidates.sort(Comparator.comparingInt(item -> item.tagPriority.ordinal()));
-
-    return candidates.get(0);
+    return result == null ? null : result.definition;
   }
 
   protected void register(TagDefinition tag) {
     if (!registeredClasses.add(tag.getClass()))
       throw new IllegalStateException("Duplicate tag-registration for " + tag.getClass());
 
+    RankedDefinition rankedDefinition = new RankedDefinition(tag, tagDefinitions.size());
+
     tagDefinitions.add(tag);
+
+    for (String staticName : tag.getStaticNames()) {
+      NameIndexNode node = getOrCreateIndexNode(staticName);
+      node.exactMatch = RankedDefinition.pickBetter(node.exactMatch, rankedDefinition);
+    }
+
+    for (String staticPrefix : tag.getStaticPrefixes()) {
+      NameIndexNode node = getOrCreateIndexNode(staticPrefix);
+      node.prefixMatch = RankedDefinition.pickBetter(node.prefixMatch, rankedDefinition);
+    }
+
+    if (overridesMatchName(tag))
+      dynamicDefinitions.add(rankedDefinition);
+  }
+
+  private NameIndexNode getOrCreateIndexNode(String value) {
+    if (value.isEmpty())
+      throw new IllegalStateException("Static tag-names and -prefixes must not be empty");
+
+    NameIndexNode node = nameIndexRoot;
+
+    for (int index = 0; index < value.length(); ++index)
+      node = node.getOrCreateChild(AsciiCasing.lower(value.charAt(index)));
+
+    return node;
+  }
+
+  private static boolean overridesMatchName(TagDefinition tag) {
+    try {
+      return tag.getClass().getMethod("matchName", InputView.class).getDeclaringClass() != TagDefinition.class;
+    } catch (NoSuchMethodException e) {
+      return true;
+    }
   }
 }
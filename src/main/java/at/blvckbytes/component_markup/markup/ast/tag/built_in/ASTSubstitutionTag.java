@@ -21,6 +21,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 
@@ -31,8 +33,8 @@ public class ASTSubstitutionTag extends TagDefinition {
   }
 
   @Override
-  public boolean matchName(InputView tagName) {
-    return tagName.startsWith("$", true);
+  public Collection<String> getStaticPrefixes() {
+    return Collections.singletonList("$");
   }
 
   @Override
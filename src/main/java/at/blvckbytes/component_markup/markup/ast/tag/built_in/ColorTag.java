@@ -12,6 +12,8 @@ import at.blvckbytes.component_markup.util.color.PackedColor;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 
@@ -22,8 +24,8 @@ public class ColorTag extends TagDefinition {
   }
 
   @Override
-  public boolean matchName(InputView tagName) {
-    return tagName.contentEquals("color", true);
+  public Collection<String> getStaticNames() {
+    return Collections.singletonList("color");
   }
 
   @Override
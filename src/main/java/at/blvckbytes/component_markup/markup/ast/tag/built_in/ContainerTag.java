@@ -16,6 +16,8 @@ import at.blvckbytes.component_markup.util.InputView;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 
@@ -26,8 +28,8 @@ public class ContainerTag extends TagDefinition {
   }
 
   @Override
-  public boolean matchName(InputView tagName) {
-    return tagName.contentEquals("container", true);
+  public Collection<String> getStaticNames() {
+    return Collections.singletonList("container");
   }
 
   @Override
@@ -13,6 +13,8 @@ import at.blvckbytes.component_markup.util.InputView;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 
@@ -23,8 +25,8 @@ public class ContentTag extends TagDefinition {
   }
 
   @Override
-  public boolean matchName(InputView tagName) {
-    return tagName.contentEquals("content", true);
+  public Collection<String> getStaticNames() {
+    return Collections.singletonList("content");
   }
 
   @Override
@@ -15,6 +15,8 @@ import at.blvckbytes.component_markup.util.InputView;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -28,8 +30,8 @@ public class DateTag extends TagDefinition {
   }
 
   @Override
-  public boolean matchName(InputView tagName) {
-    return tagName.contentEquals("date", true);
+  public Collection<String> getStaticNames() {
+    return Collections.singletonList("date");
   }
 
   @Override
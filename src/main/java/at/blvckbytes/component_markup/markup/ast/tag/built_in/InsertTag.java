@@ -14,6 +14,8 @@ import at.blvckbytes.component_markup.util.InputView;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 
@@ -24,8 +26,8 @@ public class InsertTag extends TagDefinition {
   }
 
   @Override
-  public boolean matchName(InputView tagName) {
-    return tagName.contentEquals("insert", true);
+  public Collection<String> getStaticNames() {
+    return Collections.singletonList("insert");
   }
 
   @Override
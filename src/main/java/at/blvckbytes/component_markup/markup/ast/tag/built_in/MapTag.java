@@ -21,6 +21,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 
@@ -31,8 +33,13 @@ public class MapTag extends TagDefinition {
   }
 
   @Override
-  public boolean matchName(InputView tagName) {
-    return tagName.contentEquals("map", true) || tagName.startsWith("map-", true);
+  public Collection<String> getStaticNames() {
+    return Collections.singletonList("map");
+  }
+
+  @Override
+  public Collection<String> getStaticPrefixes() {
+    return Collections.singletonList("map-");
   }
 
   @Override
@@ -24,8 +24,8 @@ public class NumberTag extends TagDefinition {
   }
 
   @Override
-  public boolean matchName(InputView tagName) {
-    return tagName.contentEquals("number", true);
+  public Collection<String> getStaticNames() {
+    return Collections.singletonList("number");
   }
 
   @Override
@@ -14,6 +14,8 @@ import at.blvckbytes.component_markup.util.InputView;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
 
@@ -24,8 +26,8 @@ public class ResetTag extends TagDefinition {
   }
 
   @Override
-  public boolean matchName(InputView tagName) {
-    return tagName.contentEquals("r", true) || tagName.contentEquals("reset", true);
+  public Collection<String> getStaticNames() {
+    return Arrays.asList("r", "reset");
   }
 
   @Override
@@ -14,6 +14,8 @@ import at.blvckbytes.component_markup.util.InputView;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
 
@@ -24,8 +26,8 @@ public class TranslateTag extends TagDefinition {
   }
 
   @Override
-  public boolean matchName(InputView tagName) {
-    return tagName.contentEquals("translate", true) || tagName.contentEquals("tr", true);
+  public Collection<String> getStaticNames() {
+    return Arrays.asList("translate", "tr");
   }
 
   @Override
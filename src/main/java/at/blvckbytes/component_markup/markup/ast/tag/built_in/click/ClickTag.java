@@ -14,6 +14,8 @@ import at.blvckbytes.component_markup.util.InputView;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 
@@ -30,8 +32,8 @@ public abstract class ClickTag extends TagDefinition {
   }
 
   @Override
-  public boolean matchName(InputView tagName) {
-    return tagName.contentEquals(this.tagName, true);
+  public Collection<String> getStaticNames() {
+    return Collections.singletonList(this.tagName);
   }
 
   @Override
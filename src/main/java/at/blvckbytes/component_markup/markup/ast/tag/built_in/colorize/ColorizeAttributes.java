@@ -10,6 +10,7 @@ import at.blvckbytes.component_markup.markup.interpreter.Interpreter;
 import at.blvckbytes.component_markup.util.TriState;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.EnumSet;
 
 public class ColorizeAttributes {
@@ -20,6 +21,8 @@ public class ColorizeAttributes {
   private final @Nullable ExpressionNode skipWhitespace;
   private final @Nullable ExpressionNode skipNonText;
   private final @Nullable ExpressionNode mergeInner;
+  private final @Nullable ExpressionNode mergeDistance;
+  private final @Nullable ExpressionNode maxSegments;
 
   public ColorizeAttributes(
     @Nullable ExpressionNode phase,
@@ -27,7 +30,9 @@ public class ColorizeAttributes {
     @Nullable ExpressionNode overrideColors,
     @Nullable ExpressionNode skipWhitespace,
     @Nullable ExpressionNode skipNonText,
-    @Nullable ExpressionNode mergeInner
+    @Nullable ExpressionNode mergeInner,
+    @Nullable ExpressionNode mergeDistance,
+    @Nullable ExpressionNode maxSegments
   ) {
     this.phase = phase;
     this.deep = deep;
@@ -35,12 +40,31 @@ public class ColorizeAttributes {
     this.skipWhitespace = skipWhitespace;
     this.skipNonText = skipNonText;
     this.mergeInner = mergeInner;
+    this.mergeDistance = mergeDistance;
+    this.maxSegments = maxSegments;
+  }
+
+  public void collectExpressions(Collection<ExpressionNode> output) {
+    for (ExpressionNode expression : new ExpressionNode[] { phase, deep, overrideColors, skipWhitespace, skipNonText, mergeInner, mergeDistance, maxSegments }) {
+      if (expression != null)
+        output.add(expression);
+    }
   }
 
   public double getPhase(Interpreter<?, ?> interpreter) {
     return this.phase == null ? 0 : interpreter.evaluateAsDouble(this.phase);
   }
 
+  public RunMerging getRunMerging(Interpreter<?, ?> interpreter) {
+    if (this.mergeDistance == null && this.maxSegments == null)
+      return RunMerging.NONE;
+
+    return new RunMerging(
+      this.mergeDistance == null ? 0 : interpreter.evaluateAsDouble(this.mergeDistance),
+      this.maxSegments == null ? 0 : (int) interpreter.evaluateAsLong(this.maxSegments)
+    );
+  }
+
   public EnumSet<ColorizeFlag> getFlags(Interpreter<?, ?> interpreter) {
     EnumSet<ColorizeFlag> result = EnumSet.noneOf(ColorizeFlag.class);
 
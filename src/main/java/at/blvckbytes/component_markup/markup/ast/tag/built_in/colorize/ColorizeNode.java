@@ -5,6 +5,7 @@
 
 package at.blvckbytes.component_markup.markup.ast.tag.built_in.colorize;
 
+import at.blvckbytes.component_markup.expression.ast.ExpressionNode;
 import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
 import at.blvckbytes.component_markup.markup.ast.node.StyledNode;
 import at.blvckbytes.component_markup.markup.ast.node.terminal.TerminalNode;
@@ -23,17 +24,29 @@ import java.util.function.Function;
 
 public abstract class ColorizeNode extends MarkupNode implements InterpreterInterceptor {
 
-  @JsonifyIgnore
-  private final ThreadLocal<@Nullable ColorizeNodeState> threadLocalState = ThreadLocal.withInitial(() -> null);
-
   @JsonifyIgnore
   private final Function<Interpreter<?, ?>, ColorizeNodeState> stateCreator;
 
   public final InputView tagName;
 
+  // All expressions evaluated by the state-creator, as to allow for static analysis; null if unknown
+  @JsonifyIgnore
+  public final @Nullable List<ExpressionNode> attributeExpressions;
+
+  public ColorizeNode(
+    InputView tagName,
+    Function<Interpreter<?, ?>, ColorizeNodeState> stateCreator,
+    InputView positionProvider,
+    @Nullable List<MarkupNode> children,
+    @Nullable LinkedHashSet<LetBinding> letBindings
+  ) {
+    this(tagName, stateCreator, null, positionProvider, children, letBindings);
+  }
+
   public ColorizeNode(
     InputView tagName,
     Function<Interpreter<?, ?>, ColorizeNodeState> stateCreator,
+    @Nullable List<ExpressionNode> attributeExpressions,
     InputView positionProvider,
     @Nullable List<MarkupNode> children,
     @Nullable LinkedHashSet<LetBinding> letBindings
@@ -42,17 +55,18 @@ public abstract class ColorizeNode extends MarkupNode implements InterpreterInte
 
     this.tagName = tagName;
     this.stateCreator = stateCreator;
+    this.attributeExpressions = attributeExpressions;
   }
 
   private ColorizeNodeState getState(Interpreter<?, ?> interpreter) {
-    ColorizeNodeState state;
+    Object nodeState = interpreter.getNodeState(this);
 
-    if ((state = threadLocalState.get()) != null)
-      return state;
+    if (nodeState instanceof ColorizeNodeState)
+      return (ColorizeNodeState) nodeState;
 
-    state = stateCreator.apply(interpreter);
+    ColorizeNodeState state = stateCreator.apply(interpreter);
 
-    threadLocalState.set(state);
+    interpreter.setNodeState(this, state);
     return state;
   }
 
@@ -60,6 +74,12 @@ public abstract class ColorizeNode extends MarkupNode implements InterpreterInte
 
   protected abstract void onUnitEncounter(UnitNode node, ColorizeNodeState state, Interpreter<?, ?> interpreter);
 
+  @Override
+  public int getInterests() {
+    // Other kinds of nodes are neither colored nor do they affect the state
+    return INTEREST_TEXT | INTEREST_UNIT | INTEREST_INTERCEPTOR;
+  }
+
   @Override
   public InterceptionResult interceptInterpretation(MarkupNode node, Interpreter<?, ?> interpreter) {
     ColorizeNodeState state = getState(interpreter);
@@ -107,7 +127,7 @@ public abstract class ColorizeNode extends MarkupNode implements InterpreterInte
       return;
 
     if (state.endAndGetIfStackIsEmpty(interpreter))
-      threadLocalState.remove();
+      interpreter.setNodeState(this, null);
   }
 
   @Override
@@ -33,20 +33,22 @@ public abstract class ColorizeNodeState {
   public final InputView tagName;
   public final double phase;
   public final EnumSet<ColorizeFlag> flags;
+  public final RunMerging runMerging;
   public final int initialSubtreeDepth;
 
   private final Stack<List<Candidate<?, ?>>> candidateStack;
 
-  public ColorizeNodeState(InputView tagName, int initialSubtreeDepth, double phase, EnumSet<ColorizeFlag> flags) {
+  public ColorizeNodeState(InputView tagName, int initialSubtreeDepth, double phase, EnumSet<ColorizeFlag> flags, RunMerging runMerging) {
     this.tagName = tagName;
     this.initialSubtreeDepth = initialSubtreeDepth;
     this.phase = phase;
     this.flags = flags;
+    this.runMerging = runMerging;
 
     this.candidateStack = new Stack<>();
   }
 
-  protected long getPackedColor(int index, int length) {
+  protected double getProgressionPercentage(int index, int length) {
     double progressionPercentage = (index / (double) length) * 100;
 
     if (progressionPercentage > 100)
@@ -57,10 +59,27 @@ public abstract class ColorizeNodeState {
     while (progressionPercentage > 100)
       progressionPercentage -= 100;
 
-    return getPackedColor(progressionPercentage);
+    return progressionPercentage;
   }
 
-  protected abstract long getPackedColor(double progressionPercentage);
+  /**
+   * Computes the colors of all indices up to and including the length in one batch, where the
+   * latter is only ever made use of by trailing whitespace which is not to be colored.
+   */
+  protected long[] getPackedColors(int length) {
+    double[] progressionPercentages = new double[length + 1];
+
+    for (int index = 0; index <= length; ++index)
+      progressionPercentages[index] = getProgressionPercentage(index, length);
+
+    long[] result = new long[progressionPercentages.length];
+
+    fillPackedColors(progressionPercentages, result);
+
+    return result;
+  }
+
+  protected abstract void fillPackedColors(double[] progressionPercentages, long[] result);
 
   public boolean doesTargetNode(ColorizeNode node) {
     return node.tagName.contentEquals(this.tagName.buildString(), true);
@@ -123,18 +142,23 @@ public abstract class ColorizeNodeState {
       }
     }
 
+    long[] packedColors = getPackedColors(requiredColorCount);
+
+    if (runMerging.isEnabled())
+      runMerging.apply(packedColors, requiredColorCount);
+
     int nextColorIndex = 0;
 
     for (Candidate<B, C> target : targets) {
       if (target.text == null) {
-        long color = getPackedColor(nextColorIndex++, requiredColorCount);
+        long color = packedColors[nextColorIndex++];
         target.extendedBuilder.getOrInstantiateStyle().setPackedColor(color, false);
         continue;
       }
 
       if (target.text.length() == 1) {
         if (!flags.contains(ColorizeFlag.SKIP_WHITESPACE) || !Character.isWhitespace(target.text.charAt(0))) {
-          long color = getPackedColor(nextColorIndex++, requiredColorCount);
+          long color = packedColors[nextColorIndex++];
           target.extendedBuilder.getOrInstantiateStyle().setPackedColor(color, false);
         }
 
@@ -150,7 +174,7 @@ public abstract class ColorizeNodeState {
 
         text.append(currentChar);
 
-        long color = getPackedColor(nextColorIndex, requiredColorCount);
+        long color = packedColors[nextColorIndex];
 
         if (!flags.contains(ColorizeFlag.SKIP_WHITESPACE) || !Character.isWhitespace(currentChar))
           ++nextColorIndex;
@@ -169,7 +193,7 @@ public abstract class ColorizeNodeState {
             continue;
           }
 
-          if (getPackedColor(nextColorIndex, requiredColorCount) == color) {
+          if (packedColors[nextColorIndex] == color) {
             ++nextColorIndex;
             text.append(nextChar);
             ++charIndex;
@@ -20,7 +20,9 @@ public abstract class ColorizeTag extends TagDefinition {
       attributes.getOptionalExpressionNode("override-colors"),
       attributes.getOptionalExpressionNode("skip-whitespace"),
       attributes.getOptionalExpressionNode("skip-non-text"),
-      attributes.getOptionalExpressionNode("merge-inner")
+      attributes.getOptionalExpressionNode("merge-inner"),
+      attributes.getOptionalExpressionNode("merge-distance"),
+      attributes.getOptionalExpressionNode("max-segments")
     );
   }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.markup.ast.tag.built_in.colorize;
+
+import at.blvckbytes.component_markup.util.color.CIELabColorSpace;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Trades color fidelity for fewer components, as every change of color between neighbouring characters
+ * costs another one: the colors may be limited to a maximum number of equally long segments, and runs of
+ * colors which stay within a maximum perceptual distance (CIE76 delta-E) of their first one may be merged.
+ * Each merged run takes on the color at its middle. Zero disables either of both. The components saved
+ * thereby are tallied across all applications, as to judge the effect of the chosen limits at runtime.
+ */
+public class RunMerging {
+
+  public static final RunMerging NONE = new RunMerging(0, 0);
+
+  private static final LongAdder colorChangeCount = new LongAdder();
+  private static final LongAdder mergedColorChangeCount = new LongAdder();
+
+  public final double maxDistance;
+  public final int maxSegments;
+
+  public RunMerging(double maxDistance, int maxSegments) {
+    this.maxDistance = Math.max(0, maxDistance);
+    this.maxSegments = Math.max(0, maxSegments);
+  }
+
+  public boolean isEnabled() {
+    return maxDistance > 0 || maxSegments > 0;
+  }
+
+  /**
+   * @return Number of changes of color between neighbouring characters which have been merged away,
+   *         each of which would have required another component
+   */
+  public int apply(long[] packedColors, int length) {
+    int initialChanges = countColorChanges(packedColors, length);
+
+    merge(packedColors, length);
+
+    int mergedChanges = initialChanges - countColorChanges(packedColors, length);
+
+    colorChangeCount.add(initialChanges);
+    mergedColorChangeCount.add(mergedChanges);
+
+    return mergedChanges;
+  }
+
+  /**
+   * @return Number of changes of color between neighbouring characters encountered by all applications
+   */
+  public static long getColorChangeCount() {
+    return colorChangeCount.sum();
+  }
+
+  /**
+   * @return Number of changes of color between neighbouring characters merged away by all applications
+   */
+  public static long getMergedColorChangeCount() {
+    return mergedColorChangeCount.sum();
+  }
+
+  private void merge(long[] packedColors, int length) {
+    if (maxSegments > 0 && length > maxSegments) {
+      for (int segmentIndex = 0; segmentIndex < maxSegments; ++segmentIndex) {
+        int startIndex = (int) ((long) segmentIndex * length / maxSegments);
+        int endIndex = (int) ((long) (segmentIndex + 1) * length / maxSegments);
+
+        fillWithMiddleColor(packedColors, startIndex, endIndex);
+      }
+    }
+
+    if (maxDistance <= 0 || length == 0)
+      return;
+
+    CIELabColorSpace colorSpace = CIELabColorSpace.getInstance();
+
+    int runStartIndex = 0;
+    float[] runStartLab = colorSpace.fromPackedColor(packedColors[0]);
+
+    long previousColor = packedColors[0];
+    float[] previousLab = runStartLab;
+
+    for (int index = 1; index < length; ++index) {
+      long currentColor = packedColors[index];
+
+      // Segments and plain gradients alike tend to repeat colors, which need not be converted again
+      if (currentColor != previousColor) {
+        previousColor = currentColor;
+        previousLab = colorSpace.fromPackedColor(currentColor);
+      }
+
+      if (CIELabColorSpace.getDeltaE(runStartLab, previousLab) <= maxDistance)
+        continue;
+
+      fillWithMiddleColor(packedColors, runStartIndex, index);
+
+      runStartIndex = index;
+      runStartLab = previousLab;
+    }
+
+    fillWithMiddleColor(packedColors, runStartIndex, length);
+  }
+
+  private static int countColorChanges(long[] packedColors, int length) {
+    int changeCount = 0;
+
+    for (int index = 1; index < length; ++index) {
+      if (packedColors[index] != packedColors[index - 1])
+        ++changeCount;
+    }
+
+    return changeCount;
+  }
+
+  private static void fillWithMiddleColor(long[] packedColors, int startIndex, int endIndex) {
+    if (endIndex - startIndex < 2)
+      return;
+
+    long middleColor = packedColors[(startIndex + endIndex - 1) / 2];
+
+    for (int index = startIndex; index < endIndex; ++index)
+      packedColors[index] = middleColor;
+  }
+}
@@ -12,14 +12,69 @@ import java.util.Arrays;
 
 public class GradientGenerator {
 
+  private static class Segment {
+    final long constantColor;
+    final double startOffset, span;
+    final double startRed, startGreen, startBlue;
+    final double deltaRed, deltaGreen, deltaBlue;
+
+    Segment(long constantColor) {
+      this.constantColor = constantColor;
+      this.startOffset = 0;
+      this.span = 0;
+      this.startRed = this.startGreen = this.startBlue = 0;
+      this.deltaRed = this.deltaGreen = this.deltaBlue = 0;
+    }
+
+    Segment(long startColor, double startOffset, long endColor, double endOffset) {
+      this.constantColor = startColor;
+      this.startOffset = startOffset;
+      this.span = endOffset - startOffset;
+
+      this.startRed   = PackedColor.getR(startColor);
+      this.startGreen = PackedColor.getG(startColor);
+      this.startBlue  = PackedColor.getB(startColor);
+
+      this.deltaRed   = PackedColor.getR(endColor) - startRed;
+      this.deltaGreen = PackedColor.getG(endColor) - startGreen;
+      this.deltaBlue  = PackedColor.getB(endColor) - startBlue;
+    }
+
+    long getPackedColor(double progressionPercentage) {
+      if (span == 0)
+        return constantColor;
+
+      // Relativize the percentage to that smaller gradient section
+      // How far into the sub-gradient is that point, from 0 to 1,
+      // which is the ratio from the length travelled on the whole gradient
+      // to get from A to percentage, divided by the span of A and B.
+      progressionPercentage = (progressionPercentage - startOffset) / span;
+      progressionPercentage = Math.max(0, Math.min(1, progressionPercentage));
+
+      return PackedColor.of(
+        (int) Math.floor(startRed + progressionPercentage * deltaRed),
+        (int) Math.floor(startGreen + progressionPercentage * deltaGreen),
+        (int) Math.floor(startBlue + progressionPercentage * deltaBlue),
+        255
+      );
+    }
+  }
+
   public final long[] packedColors;
   public final double[] offsets;
   public final long[] zIndices;
 
+  // Which stops enclose a progression only depends on how it relates to the offsets of inner stops,
+  // thus, the segments below, above, between and right on these boundaries are all resolved up-front
+  private final double[] boundaries;
+  private final Segment[] segments;
+
   public GradientGenerator(long[] packedColors, double[] offsets, long[] zIndices) {
     this.packedColors = packedColors;
     this.zIndices = zIndices;
     this.offsets = clampAndPossiblyExtendOffsets(packedColors.length, offsets);
+    this.boundaries = collectBoundaries();
+    this.segments = makeSegments();
   }
 
   private double[] clampAndPossiblyExtendOffsets(int colorCount, double[] offsets) {
@@ -84,15 +139,126 @@ public class GradientGenerator {
   }
 
   public long getPackedColor(double progressionPercentage) {
+    if (Double.isNaN(progressionPercentage))
+      return makeSegment(progressionPercentage).getPackedColor(progressionPercentage);
+
+    return segments[getSegmentIndex(progressionPercentage)].getPackedColor(progressionPercentage);
+  }
+
+  /**
+   * Computes the colors of many progressions at once; while they keep on ascending, as they do
+   * for the characters of a text, the segment at hand is advanced instead of being searched for.
+   */
+  public void fillPackedColors(double[] progressionPercentages, long[] result) {
+    int segmentIndex = 0;
+    double previousProgression = Double.NaN;
+
+    for (int index = 0; index < progressionPercentages.length; ++index) {
+      double progressionPercentage = progressionPercentages[index];
+
+      if (Double.isNaN(progressionPercentage)) {
+        result[index] = getPackedColor(progressionPercentage);
+        continue;
+      }
+
+      if (!(progressionPercentage >= previousProgression))
+        segmentIndex = getSegmentIndex(progressionPercentage);
+
+      else {
+        while (!isWithinSegment(segmentIndex, progressionPercentage))
+          ++segmentIndex;
+      }
+
+      previousProgression = progressionPercentage;
+      result[index] = segments[segmentIndex].getPackedColor(progressionPercentage);
+    }
+  }
+
+  // Even indices lie below their boundary of half the index, odd indices right on it
+  private int getSegmentIndex(double progressionPercentage) {
+    int lowerBound = 0;
+    int upperBound = boundaries.length;
+
+    while (lowerBound < upperBound) {
+      int middle = (lowerBound + upperBound) >>> 1;
+
+      if (boundaries[middle] < progressionPercentage)
+        lowerBound = middle + 1;
+      else
+        upperBound = middle;
+    }
+
+    if (lowerBound < boundaries.length && boundaries[lowerBound] == progressionPercentage)
+      return lowerBound * 2 + 1;
+
+    return lowerBound * 2;
+  }
+
+  private boolean isWithinSegment(int segmentIndex, double progressionPercentage) {
+    int boundaryIndex = segmentIndex / 2;
+
+    if (segmentIndex % 2 == 1)
+      return boundaries[boundaryIndex] == progressionPercentage;
+
+    if (boundaryIndex > 0 && progressionPercentage <= boundaries[boundaryIndex - 1])
+      return false;
+
+    return boundaryIndex == boundaries.length || progressionPercentage < boundaries[boundaryIndex];
+  }
+
+  private double[] collectBoundaries() {
+    int colorCount = packedColors.length;
+
+    if (colorCount <= 2)
+      return new double[0];
+
+    double[] innerOffsets = Arrays.copyOfRange(offsets, 1, colorCount - 1);
+    Arrays.sort(innerOffsets);
+
+    int distinctCount = 0;
+
+    for (double innerOffset : innerOffsets) {
+      if (distinctCount == 0 || innerOffsets[distinctCount - 1] != innerOffset)
+        innerOffsets[distinctCount++] = innerOffset;
+    }
+
+    return Arrays.copyOf(innerOffsets, distinctCount);
+  }
+
+  private Segment[] makeSegments() {
+    Segment[] result = new Segment[boundaries.length * 2 + 1];
+
+    for (int segmentIndex = 0; segmentIndex < result.length; ++segmentIndex) {
+      int boundaryIndex = segmentIndex / 2;
+      double representative;
+
+      if (boundaries.length == 0)
+        representative = 0;
+      else if (segmentIndex % 2 == 1)
+        representative = boundaries[boundaryIndex];
+      else if (boundaryIndex == 0)
+        representative = boundaries[0] - 1;
+      else if (boundaryIndex == boundaries.length)
+        representative = boundaries[boundaryIndex - 1] + 1;
+      else
+        representative = (boundaries[boundaryIndex - 1] + boundaries[boundaryIndex]) / 2;
+
+      result[segmentIndex] = makeSegment(representative);
+    }
+
+    return result;
+  }
+
+  private Segment makeSegment(double progressionPercentage) {
     int colorCount = packedColors.length;
 
     if (colorCount == 0)
-      return AnsiStyleColor.WHITE.packedColor;
+      return new Segment(AnsiStyleColor.WHITE.packedColor);
 
     long firstColor = packedColors[0];
 
     if (colorCount == 1)
-      return firstColor;
+      return new Segment(firstColor);
 
     double firstOffset = offsets[0];
 
@@ -130,28 +296,8 @@ public class GradientGenerator {
     }
 
     if (bOffset == aOffset)
-      return bZIndex > aZIndex ? bColor : aColor;
-
-    // Relativize the percentage to that smaller gradient section
-    // How far into the sub-gradient is that point, from 0 to 1,
-    // which is the ratio from the length travelled on the whole gradient
-    // to get from A to percentage, divided by the span of A and B.
-    progressionPercentage = (progressionPercentage - aOffset) / (bOffset - aOffset);
-    progressionPercentage = Math.max(0, Math.min(1, progressionPercentage));
-
-    double resultRed   = PackedColor.getR(aColor);
-    double resultGreen = PackedColor.getG(aColor);
-    double resultBlue  = PackedColor.getB(aColor);
-
-    resultRed   += progressionPercentage * (PackedColor.getR(bColor) - resultRed);
-    resultGreen += progressionPercentage * (PackedColor.getG(bColor) - resultGreen);
-    resultBlue  += progressionPercentage * (PackedColor.getB(bColor) - resultBlue);
-
-    return PackedColor.of(
-      (int) Math.floor(resultRed),
-      (int) Math.floor(resultGreen),
-      (int) Math.floor(resultBlue),
-      255
-    );
+      return new Segment(bZIndex > aZIndex ? bColor : aColor);
+
+    return new Segment(aColor, aOffset, bColor, bOffset);
   }
 }
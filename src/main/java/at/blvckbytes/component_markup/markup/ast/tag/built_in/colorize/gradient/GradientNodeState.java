@@ -5,17 +5,13 @@
 
 package at.blvckbytes.component_markup.markup.ast.tag.built_in.colorize.gradient;
 
-import at.blvckbytes.component_markup.expression.ast.ExpressionNode;
-import at.blvckbytes.component_markup.markup.ast.tag.ExpressionList;
 import at.blvckbytes.component_markup.markup.ast.tag.built_in.colorize.ColorizeFlag;
 import at.blvckbytes.component_markup.markup.ast.tag.built_in.colorize.ColorizeNodeState;
-import at.blvckbytes.component_markup.util.color.AnsiStyleColor;
+import at.blvckbytes.component_markup.markup.ast.tag.built_in.colorize.RunMerging;
 import at.blvckbytes.component_markup.markup.interpreter.Interpreter;
-import at.blvckbytes.component_markup.util.color.PackedColor;
 import at.blvckbytes.component_markup.util.InputView;
 
 import java.util.EnumSet;
-import java.util.List;
 
 public class GradientNodeState extends ColorizeNodeState {
 
@@ -24,67 +20,19 @@ public class GradientNodeState extends ColorizeNodeState {
   public GradientNodeState(
     InputView tagName,
     int initialSubtreeDepth,
-    ExpressionList colors,
-    ExpressionList offsets,
-    ExpressionList zIndices,
+    GradientStops stops,
     double phase,
     EnumSet<ColorizeFlag> flags,
+    RunMerging runMerging,
     Interpreter<?, ?> interpreter
   ) {
-    super(tagName, initialSubtreeDepth, phase, flags);
+    super(tagName, initialSubtreeDepth, phase, flags, runMerging);
 
-    this.gradientGenerator = new GradientGenerator(
-      evaluatePackedColors(colors, interpreter),
-      evaluateOffsets(offsets, interpreter),
-      evaluateZIndices(zIndices, interpreter)
-    );
-  }
-
-  private long[] evaluateZIndices(ExpressionList zIndices, Interpreter<?, ?> interpreter) {
-    List<ExpressionNode> offsetList = zIndices.get(interpreter);
-
-    long[] result = new long[offsetList.size()];
-
-    for (int index = 0; index < result.length; ++index)
-      result[index] = interpreter.evaluateAsLong(offsetList.get(index));
-
-    return result;
-  }
-
-  private double[] evaluateOffsets(ExpressionList offsets, Interpreter<?, ?> interpreter) {
-    List<ExpressionNode> offsetList = offsets.get(interpreter);
-
-    double[] result = new double[offsetList.size()];
-
-    for (int index = 0; index < result.length; ++index)
-      result[index] = interpreter.evaluateAsDouble(offsetList.get(index));
-
-    return result;
-  }
-
-  private long[] evaluatePackedColors(ExpressionList colors, Interpreter<?, ?> interpreter) {
-    List<ExpressionNode> colorList = colors.get(interpreter);
-    long[] result = new long[colorList.size()];
-
-    for (int i = 0; i < result.length; ++i) {
-      String colorString = interpreter.evaluateAsStringOrNull(colorList.get(i));
-
-      if (colorString == null)
-        continue;
-
-      long componentColor = PackedColor.tryParse(colorString);
-
-      if (componentColor == PackedColor.NULL_SENTINEL)
-        componentColor = AnsiStyleColor.WHITE.packedColor;
-
-      result[i] = componentColor;
-    }
-
-    return result;
+    this.gradientGenerator = stops.getGenerator(interpreter);
   }
 
   @Override
-  protected long getPackedColor(double progressionPercentage) {
-    return gradientGenerator.getPackedColor(progressionPercentage);
+  protected void fillPackedColors(double[] progressionPercentages, long[] result) {
+    gradientGenerator.fillPackedColors(progressionPercentages, result);
   }
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.markup.ast.tag.built_in.colorize.gradient;
+
+import at.blvckbytes.component_markup.expression.ast.ExpressionNode;
+import at.blvckbytes.component_markup.expression.interpreter.ValueInterpreter;
+import at.blvckbytes.component_markup.markup.ast.node.style.NodeStyle;
+import at.blvckbytes.component_markup.markup.ast.tag.ExpressionList;
+import at.blvckbytes.component_markup.markup.interpreter.Interpreter;
+import at.blvckbytes.component_markup.util.color.AnsiStyleColor;
+import at.blvckbytes.component_markup.util.color.PackedColor;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Colors, offsets and z-indices of a gradient; if none of them read the environment, the generator
+ * built from them, segments included, is kept and shared by all renders instead of being rebuilt.
+ */
+public class GradientStops {
+
+  private static class GeneratorMemo {
+    final ValueInterpreter valueInterpreter;
+    final GradientGenerator generator;
+
+    GeneratorMemo(ValueInterpreter valueInterpreter, GradientGenerator generator) {
+      this.valueInterpreter = valueInterpreter;
+      this.generator = generator;
+    }
+  }
+
+  public final ExpressionList colors;
+  public final ExpressionList offsets;
+  public final ExpressionList zIndices;
+
+  private final boolean isConstant;
+  private volatile @Nullable GeneratorMemo generatorMemo;
+
+  public GradientStops(ExpressionList colors, ExpressionList offsets, ExpressionList zIndices) {
+    this.colors = colors;
+    this.offsets = offsets;
+    this.zIndices = zIndices;
+
+    List<ExpressionNode> expressions = new ArrayList<>();
+
+    colors.collectExpressions(expressions);
+    offsets.collectExpressions(expressions);
+    zIndices.collectExpressions(expressions);
+
+    this.isConstant = expressions.stream().allMatch(NodeStyle::isConstant);
+  }
+
+  public GradientGenerator getGenerator(Interpreter<?, ?> interpreter) {
+    if (!isConstant)
+      return makeGenerator(interpreter);
+
+    ValueInterpreter valueInterpreter = interpreter.getEnvironment().getValueInterpreter();
+    GeneratorMemo memo = generatorMemo;
+
+    if (memo != null && memo.valueInterpreter == valueInterpreter)
+      return memo.generator;
+
+    GradientGenerator generator = makeGenerator(interpreter);
+
+    generatorMemo = new GeneratorMemo(valueInterpreter, generator);
+
+    return generator;
+  }
+
+  private GradientGenerator makeGenerator(Interpreter<?, ?> interpreter) {
+    return new GradientGenerator(
+      evaluatePackedColors(interpreter),
+      evaluateOffsets(interpreter),
+      evaluateZIndices(interpreter)
+    );
+  }
+
+  private long[] evaluateZIndices(Interpreter<?, ?> interpreter) {
+    List<ExpressionNode> offsetList = zIndices.get(interpreter);
+
+    long[] result = new long[offsetList.size()];
+
+    for (int index = 0; index < result.length; ++index)
+      result[index] = interpreter.evaluateAsLong(offsetList.get(index));
+
+    return result;
+  }
+
+  private double[] evaluateOffsets(Interpreter<?, ?> interpreter) {
+    List<ExpressionNode> offsetList = offsets.get(interpreter);
+
+    double[] result = new double[offsetList.size()];
+
+    for (int index = 0; index < result.length; ++index)
+      result[index] = interpreter.evaluateAsDouble(offsetList.get(index));
+
+    return result;
+  }
+
+  private long[] evaluatePackedColors(Interpreter<?, ?> interpreter) {
+    List<ExpressionNode> colorList = colors.get(interpreter);
+    long[] result = new long[colorList.size()];
+
+    for (int i = 0; i < result.length; ++i) {
+      String colorString = interpreter.evaluateAsStringOrNull(colorList.get(i));
+
+      if (colorString == null)
+        continue;
+
+      long componentColor = PackedColor.tryParse(colorString);
+
+      if (componentColor == PackedColor.NULL_SENTINEL)
+        componentColor = AnsiStyleColor.WHITE.packedColor;
+
+      result[i] = componentColor;
+    }
+
+    return result;
+  }
+}
@@ -5,6 +5,7 @@
 
 package at.blvckbytes.component_markup.markup.ast.tag.built_in.colorize.gradient;
 
+import at.blvckbytes.component_markup.expression.ast.ExpressionNode;
 import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
 import at.blvckbytes.component_markup.markup.ast.tag.*;
 import at.blvckbytes.component_markup.markup.ast.tag.built_in.colorize.ColorizeAttributes;
@@ -15,6 +16,9 @@ import at.blvckbytes.component_markup.util.InputView;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 
@@ -25,8 +29,8 @@ public class GradientTag extends ColorizeTag {
   }
 
   @Override
-  public boolean matchName(InputView tagName) {
-    return tagName.contentEquals("gradient", true);
+  public Collection<String> getStaticNames() {
+    return Collections.singletonList("gradient");
   }
 
   @Override
@@ -43,21 +47,28 @@ public class GradientTag extends ColorizeTag {
     ExpressionList zIndices = attributes.getOptionalExpressionList("z-index", "z");
     ColorizeAttributes baseAttributes = getBaseAttributes(attributes);
 
+    List<ExpressionNode> attributeExpressions = new ArrayList<>();
+    baseAttributes.collectExpressions(attributeExpressions);
+    colors.collectExpressions(attributeExpressions);
+    offsets.collectExpressions(attributeExpressions);
+    zIndices.collectExpressions(attributeExpressions);
+
+    GradientStops stops = new GradientStops(colors, offsets, zIndices);
+
     return new ColorizeCharsNode(
       tagName,
       interpreter -> (
         new GradientNodeState(
           tagName,
           interpreter.getCurrentSubtreeDepth(),
-          colors,
-          offsets,
-          zIndices,
+          stops,
           baseAttributes.getPhase(interpreter),
           baseAttributes.getFlags(interpreter),
+          baseAttributes.getRunMerging(interpreter),
           interpreter
         )
       ),
-      tagName, children, letBindings
+      attributeExpressions, tagName, children, letBindings
     );
   }
 }
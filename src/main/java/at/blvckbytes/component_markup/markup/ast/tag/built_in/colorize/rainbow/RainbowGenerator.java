@@ -34,4 +34,9 @@ public class RainbowGenerator {
 
     return PackedColor.of(1, 0, q);
   }
+
+  public void fillPackedColors(double[] progressionPercentages, long[] result) {
+    for (int index = 0; index < progressionPercentages.length; ++index)
+      result[index] = getPackedColor(progressionPercentages[index]);
+  }
 }
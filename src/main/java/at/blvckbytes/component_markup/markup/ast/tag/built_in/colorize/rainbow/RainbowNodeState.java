@@ -7,6 +7,7 @@ package at.blvckbytes.component_markup.markup.ast.tag.built_in.colorize.rainbow;
 
 import at.blvckbytes.component_markup.markup.ast.tag.built_in.colorize.ColorizeFlag;
 import at.blvckbytes.component_markup.markup.ast.tag.built_in.colorize.ColorizeNodeState;
+import at.blvckbytes.component_markup.markup.ast.tag.built_in.colorize.RunMerging;
 import at.blvckbytes.component_markup.util.InputView;
 
 import java.util.EnumSet;
@@ -15,12 +16,12 @@ public class RainbowNodeState extends ColorizeNodeState {
 
   private static final RainbowGenerator rainbowGenerator = new RainbowGenerator();
 
-  public RainbowNodeState(InputView tagName, int initialSubtreeDepth, double phase, EnumSet<ColorizeFlag> flags) {
-    super(tagName, initialSubtreeDepth, phase, flags);
+  public RainbowNodeState(InputView tagName, int initialSubtreeDepth, double phase, EnumSet<ColorizeFlag> flags, RunMerging runMerging) {
+    super(tagName, initialSubtreeDepth, phase, flags, runMerging);
   }
 
   @Override
-  protected long getPackedColor(double progressionPercentage) {
-    return rainbowGenerator.getPackedColor(progressionPercentage);
+  protected void fillPackedColors(double[] progressionPercentages, long[] result) {
+    rainbowGenerator.fillPackedColors(progressionPercentages, result);
   }
 }
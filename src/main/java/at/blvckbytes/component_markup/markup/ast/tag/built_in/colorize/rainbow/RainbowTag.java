@@ -5,6 +5,7 @@
 
 package at.blvckbytes.component_markup.markup.ast.tag.built_in.colorize.rainbow;
 
+import at.blvckbytes.component_markup.expression.ast.ExpressionNode;
 import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
 import at.blvckbytes.component_markup.markup.ast.tag.*;
 import at.blvckbytes.component_markup.markup.ast.tag.built_in.colorize.ColorizeAttributes;
@@ -15,6 +16,9 @@ import at.blvckbytes.component_markup.util.InputView;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 
@@ -25,8 +29,8 @@ public class RainbowTag extends ColorizeTag {
   }
 
   @Override
-  public boolean matchName(InputView tagName) {
-    return tagName.contentEquals("rainbow", true);
+  public Collection<String> getStaticNames() {
+    return Collections.singletonList("rainbow");
   }
 
   @Override
@@ -40,6 +44,9 @@ public class RainbowTag extends ColorizeTag {
   ) {
     ColorizeAttributes baseAttributes = getBaseAttributes(attributes);
 
+    List<ExpressionNode> attributeExpressions = new ArrayList<>();
+    baseAttributes.collectExpressions(attributeExpressions);
+
     return new ColorizeCharsNode(
       tagName,
       interpreter -> (
@@ -47,10 +54,11 @@ public class RainbowTag extends ColorizeTag {
           tagName,
           interpreter.getCurrentSubtreeDepth(),
           baseAttributes.getPhase(interpreter),
-          baseAttributes.getFlags(interpreter)
+          baseAttributes.getFlags(interpreter),
+          baseAttributes.getRunMerging(interpreter)
         )
       ),
-      tagName, children, letBindings
+      attributeExpressions, tagName, children, letBindings
     );
   }
 }
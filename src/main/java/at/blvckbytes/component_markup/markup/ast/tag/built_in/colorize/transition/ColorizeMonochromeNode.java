@@ -5,6 +5,7 @@
 
 package at.blvckbytes.component_markup.markup.ast.tag.built_in.colorize.transition;
 
+import at.blvckbytes.component_markup.expression.ast.ExpressionNode;
 import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
 import at.blvckbytes.component_markup.markup.ast.node.terminal.TextNode;
 import at.blvckbytes.component_markup.markup.ast.node.terminal.UnitNode;
@@ -31,6 +32,17 @@ public class ColorizeMonochromeNode extends ColorizeNode {
     super(tagName, stateCreator, positionProvider, children, letBindings);
   }
 
+  public ColorizeMonochromeNode(
+    InputView tagName,
+    Function<Interpreter<?, ?>, ColorizeNodeState> stateCreator,
+    @Nullable List<ExpressionNode> attributeExpressions,
+    InputView positionProvider,
+    @Nullable List<MarkupNode> children,
+    @Nullable LinkedHashSet<LetBinding> letBindings
+  ) {
+    super(tagName, stateCreator, attributeExpressions, positionProvider, children, letBindings);
+  }
+
   @Override
   protected void onTextEncounter(TextNode node, ColorizeNodeState state, Interpreter<?, ?> interpreter) {
     interpreter.getCurrentBuilder().onText(node, extendedBuilder -> state.addCandidate(extendedBuilder, node), false);
@@ -5,9 +5,10 @@
 
 package at.blvckbytes.component_markup.markup.ast.tag.built_in.colorize.transition;
 
-import at.blvckbytes.component_markup.markup.ast.tag.ExpressionList;
 import at.blvckbytes.component_markup.markup.ast.tag.built_in.colorize.ColorizeFlag;
+import at.blvckbytes.component_markup.markup.ast.tag.built_in.colorize.RunMerging;
 import at.blvckbytes.component_markup.markup.ast.tag.built_in.colorize.gradient.GradientNodeState;
+import at.blvckbytes.component_markup.markup.ast.tag.built_in.colorize.gradient.GradientStops;
 import at.blvckbytes.component_markup.markup.interpreter.Interpreter;
 import at.blvckbytes.component_markup.util.InputView;
 
@@ -18,18 +19,17 @@ public class TransitionNodeState extends GradientNodeState {
   public TransitionNodeState(
     InputView tagName,
     int initialSubtreeDepth,
-    ExpressionList colors,
-    ExpressionList offsets,
-    ExpressionList zIndices,
+    GradientStops stops,
     double phase,
     EnumSet<ColorizeFlag> flags,
+    RunMerging runMerging,
     Interpreter<?, ?> interpreter
   ) {
-    super(tagName, initialSubtreeDepth, colors, offsets, zIndices, phase, flags, interpreter);
+    super(tagName, initialSubtreeDepth, stops, phase, flags, runMerging, interpreter);
   }
 
   @Override
-  protected long getPackedColor(int index, int length) {
-    return super.getPackedColor(0, 1);
+  protected double getProgressionPercentage(int index, int length) {
+    return super.getProgressionPercentage(0, 1);
   }
 }
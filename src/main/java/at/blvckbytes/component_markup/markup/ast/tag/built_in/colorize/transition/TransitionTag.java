@@ -5,15 +5,20 @@
 
 package at.blvckbytes.component_markup.markup.ast.tag.built_in.colorize.transition;
 
+import at.blvckbytes.component_markup.expression.ast.ExpressionNode;
 import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
 import at.blvckbytes.component_markup.markup.ast.tag.*;
 import at.blvckbytes.component_markup.markup.ast.tag.built_in.colorize.ColorizeAttributes;
 import at.blvckbytes.component_markup.markup.ast.tag.built_in.colorize.ColorizeTag;
+import at.blvckbytes.component_markup.markup.ast.tag.built_in.colorize.gradient.GradientStops;
 import at.blvckbytes.component_markup.markup.parser.token.TokenEmitter;
 import at.blvckbytes.component_markup.util.InputView;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 
@@ -24,8 +29,8 @@ public class TransitionTag extends ColorizeTag {
   }
 
   @Override
-  public boolean matchName(InputView tagName) {
-    return tagName.contentEquals("transition", true);
+  public Collection<String> getStaticNames() {
+    return Collections.singletonList("transition");
   }
 
   @Override
@@ -42,21 +47,28 @@ public class TransitionTag extends ColorizeTag {
     ExpressionList zIndices = attributes.getOptionalExpressionList("z-index", "z");
     ColorizeAttributes baseAttributes = getBaseAttributes(attributes);
 
+    List<ExpressionNode> attributeExpressions = new ArrayList<>();
+    baseAttributes.collectExpressions(attributeExpressions);
+    colors.collectExpressions(attributeExpressions);
+    offsets.collectExpressions(attributeExpressions);
+    zIndices.collectExpressions(attributeExpressions);
+
+    GradientStops stops = new GradientStops(colors, offsets, zIndices);
+
     return new ColorizeMonochromeNode(
       tagName,
       interpreter -> (
         new TransitionNodeState(
           tagName,
           interpreter.getCurrentSubtreeDepth(),
-          colors,
-          offsets,
-          zIndices,
+          stops,
           baseAttributes.getPhase(interpreter),
           baseAttributes.getFlags(interpreter),
+          baseAttributes.getRunMerging(interpreter),
           interpreter
         )
       ),
-      tagName, children, letBindings
+      attributeExpressions, tagName, children, letBindings
     );
   }
 }
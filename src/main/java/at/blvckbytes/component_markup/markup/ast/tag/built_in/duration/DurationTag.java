@@ -6,6 +6,9 @@
 package at.blvckbytes.component_markup.markup.ast.tag.built_in.duration;
 
 import at.blvckbytes.component_markup.expression.ast.ExpressionNode;
+import at.blvckbytes.component_markup.expression.ast.TerminalNode;
+import at.blvckbytes.component_markup.expression.tokenizer.token.StringToken;
+import at.blvckbytes.component_markup.expression.tokenizer.token.TerminalToken;
 import at.blvckbytes.component_markup.markup.ast.node.FunctionDrivenNode;
 import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
 import at.blvckbytes.component_markup.markup.ast.node.terminal.TextNode;
@@ -26,8 +29,8 @@ public class DurationTag extends TagDefinition {
   }
 
   @Override
-  public boolean matchName(InputView tagName) {
-    return tagName.contentEquals("duration", true);
+  public Collection<String> getStaticNames() {
+    return Collections.singletonList("duration");
   }
 
   @Override
@@ -47,22 +50,27 @@ public class DurationTag extends TagDefinition {
     ExpressionNode flagValue = attributes.getOptionalBoundFlagExpressionNode();
     ExpressionNode value = flagValue == null ? attributes.getMandatoryExpressionNode("value") : flagValue;
 
+    // Literal units are known ahead of time, and thereby don't need to be parsed and sorted on each render
+    DurationUnitPlan literalPlan = tryMakeLiteralPlan(units, zeroes);
+
     return new FunctionDrivenNode(tagName, letBindings, interpreter -> {
       TemporaryMemberEnvironment environment = interpreter.getEnvironment();
 
       double duration = interpreter.evaluateAsDouble(value);
-      List<DurationUnit> requestedUnits = parseUnitsString(interpreter, units);
-      List<DurationUnit> keptZeroUnits = zeroes == null ? null : parseUnitsString(interpreter, zeroes);
 
-      requestedUnits.sort((a, b) -> Long.compare(b.milliseconds, a.milliseconds));
+      DurationUnitPlan plan = literalPlan;
+
+      if (plan == null)
+        plan = new DurationUnitPlan(parseUnitsString(interpreter, units), zeroes == null ? null : parseUnitsString(interpreter, zeroes));
 
-      double[] unitValues = new double[requestedUnits.size()];
+      int unitCount = plan.getUnitCount();
+      double[] unitValues = new double[unitCount];
       double remaining = duration;
 
-      for (int requestedUnitIndex = 0; requestedUnitIndex < requestedUnits.size(); ++requestedUnitIndex) {
-        DurationUnit requestedUnit = requestedUnits.get(requestedUnitIndex);
+      for (int requestedUnitIndex = 0; requestedUnitIndex < unitCount; ++requestedUnitIndex) {
+        DurationUnit requestedUnit = plan.getUnit(requestedUnitIndex);
         double unitValue = remaining / requestedUnit.milliseconds;
-        boolean isLastUnit = requestedUnitIndex == requestedUnits.size() - 1;
+        boolean isLastUnit = requestedUnitIndex == unitCount - 1;
 
         if (!isLastUnit)
           unitValue = Math.floor(unitValue);
@@ -79,19 +87,20 @@ public class DurationTag extends TagDefinition {
             unitValue = Math.floor(unitValue);
         }
 
-        while (remaining >= requestedUnit.milliseconds)
-          remaining -= requestedUnit.milliseconds;
+        // Negative durations are not decomposed, but rendered as their last unit only
+        if (remaining >= requestedUnit.milliseconds)
+          remaining %= requestedUnit.milliseconds;
 
         unitValues[requestedUnitIndex] = unitValue;
       }
 
       boolean didEmit = false;
 
-      for (int requestedUnitIndex = 0; requestedUnitIndex < requestedUnits.size(); ++requestedUnitIndex) {
-        DurationUnit requestedUnit = requestedUnits.get(requestedUnitIndex);
+      for (int requestedUnitIndex = 0; requestedUnitIndex < unitCount; ++requestedUnitIndex) {
+        DurationUnit requestedUnit = plan.getUnit(requestedUnitIndex);
         double unitValue = unitValues[requestedUnitIndex];
 
-        if (unitValue == 0 && (keptZeroUnits == null || !keptZeroUnits.contains(requestedUnit)))
+        if (unitValue == 0 && !plan.isKeptIfZero(requestedUnit))
           continue;
 
         if (didEmit)
@@ -100,7 +109,7 @@ public class DurationTag extends TagDefinition {
         didEmit = true;
 
         if (unitRenderer == null) {
-          interpreter.interpret(new TextNode(InputView.EMPTY, String.valueOf((int) unitValue) + requestedUnit.character), null);
+          interpreter.interpret(new TextNode(InputView.EMPTY, String.valueOf((long) unitValue) + requestedUnit.character), null);
           continue;
         }
 
@@ -112,8 +121,13 @@ public class DurationTag extends TagDefinition {
           environment.setScopeVariable("is_fractional", isFractional);
 
           // Prefer integers if there's no fractional part, as they stringify more desirable by default.
+          // Large amounts of small units, like milliseconds over the span of years, exceed integers, though.
           if (!isFractional) {
-            environment.setScopeVariable("value", (int) unitValue);
+            if (Math.abs(unitValue) <= Integer.MAX_VALUE)
+              environment.setScopeVariable("value", (int) unitValue);
+            else
+              environment.setScopeVariable("value", (long) unitValue);
+
             return;
           }
 
@@ -125,32 +139,71 @@ public class DurationTag extends TagDefinition {
     });
   }
 
-  private List<DurationUnit> parseUnitsString(Interpreter<?, ?> interpreter, ExpressionNode units) {
-    List<DurationUnit> result = new ArrayList<>();
+  private static @Nullable DurationUnitPlan tryMakeLiteralPlan(ExpressionNode units, @Nullable ExpressionNode zeroes) {
+    String unitsLiteral = extractStringLiteral(units);
+
+    if (unitsLiteral == null)
+      return null;
+
+    List<DurationUnit> requestedUnits = DurationUnitPlan.tryParseUnits(unitsLiteral);
+
+    // Unknown units are left to be reported at render-time, where there's a logger
+    if (requestedUnits == null)
+      return null;
+
+    if (zeroes == null)
+      return new DurationUnitPlan(requestedUnits, null);
+
+    String zeroesLiteral = extractStringLiteral(zeroes);
+
+    if (zeroesLiteral == null)
+      return null;
+
+    List<DurationUnit> keptZeroUnits = DurationUnitPlan.tryParseUnits(zeroesLiteral);
+
+    if (keptZeroUnits == null)
+      return null;
+
+    return new DurationUnitPlan(requestedUnits, keptZeroUnits);
+  }
 
+  private static @Nullable String extractStringLiteral(ExpressionNode expression) {
+    if (!(expression instanceof TerminalNode))
+      return null;
+
+    TerminalToken token = ((TerminalNode) expression).token;
+
+    if (!(token instanceof StringToken))
+      return null;
+
+    return ((StringToken) token).value.buildString();
+  }
+
+  private List<DurationUnit> parseUnitsString(Interpreter<?, ?> interpreter, ExpressionNode units) {
     Object rawValue = interpreter.evaluateAsPlainObject(units);
 
     if (rawValue == null)
       return Collections.emptyList();
 
     String unitsString = interpreter.getEnvironment().getValueInterpreter().asString(rawValue);
+    List<DurationUnit> result = DurationUnitPlan.tryParseUnits(unitsString);
 
-    for (int charIndex = 0; charIndex < unitsString.length(); ++charIndex) {
-      char c = unitsString.charAt(charIndex);
-
-      if (Character.isWhitespace(c))
-        continue;
+    if (result == null) {
+      interpreter.getLogger().logErrorScreen(units.getFirstMemberPositionProvider(), "Could not parse this units-string (unknown unit \"" + findUnknownUnit(unitsString) + "\"); falling back to \"s\"");
+      return Collections.singletonList(DurationUnit.SECONDS);
+    }
 
-      DurationUnit unit = DurationUnit.fromChar(c);
+    return result;
+  }
 
-      if (unit == null) {
-        interpreter.getLogger().logErrorScreen(units.getFirstMemberPositionProvider(), "Could not parse this units-string (unknown unit \"" + c + "\"); falling back to \"s\"");
-        return Collections.singletonList(DurationUnit.SECONDS);
-      }
+  private static char findUnknownUnit(String unitsString) {
+    for (int charIndex = 0; charIndex < unitsString.length(); ++charIndex) {
+      char c = unitsString.charAt(charIndex);
 
-      result.add(unit);
+      if (!Character.isWhitespace(c) && DurationUnit.fromChar(c) == null)
+        return c;
     }
 
-    return result;
+    return 0;
   }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.markup.ast.tag.built_in.duration;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The requested units in descending order of magnitude, along with which of them are to be
+ * rendered even if their value is zero; immutable, such that it may be shared by all renders.
+ */
+public class DurationUnitPlan {
+
+  private final DurationUnit[] units;
+  private final int keptZeroUnitBits;
+
+  public DurationUnitPlan(List<DurationUnit> units, @Nullable List<DurationUnit> keptZeroUnits) {
+    this.units = units.toArray(new DurationUnit[0]);
+
+    // Stable, as to keep the order of duplicate units as they were requested
+    Arrays.sort(this.units, (a, b) -> Long.compare(b.milliseconds, a.milliseconds));
+
+    int keptZeroUnitBits = 0;
+
+    if (keptZeroUnits != null) {
+      for (DurationUnit keptZeroUnit : keptZeroUnits)
+        keptZeroUnitBits |= 1 << keptZeroUnit.ordinal();
+    }
+
+    this.keptZeroUnitBits = keptZeroUnitBits;
+  }
+
+  public int getUnitCount() {
+    return units.length;
+  }
+
+  public DurationUnit getUnit(int index) {
+    return units[index];
+  }
+
+  public boolean isKeptIfZero(DurationUnit unit) {
+    return (keptZeroUnitBits & (1 << unit.ordinal())) != 0;
+  }
+
+  /**
+   * @return Units in the order of the input, or null if an unknown unit has been encountered
+   */
+  public static @Nullable List<DurationUnit> tryParseUnits(String unitsString) {
+    DurationUnit[] result = new DurationUnit[unitsString.length()];
+    int nextResultIndex = 0;
+
+    for (int charIndex = 0; charIndex < unitsString.length(); ++charIndex) {
+      char c = unitsString.charAt(charIndex);
+
+      if (Character.isWhitespace(c))
+        continue;
+
+      DurationUnit unit = DurationUnit.fromChar(c);
+
+      if (unit == null)
+        return null;
+
+      result[nextResultIndex++] = unit;
+    }
+
+    return Arrays.asList(Arrays.copyOf(result, nextResultIndex));
+  }
+}
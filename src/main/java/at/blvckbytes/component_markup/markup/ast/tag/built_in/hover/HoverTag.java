@@ -8,7 +8,9 @@ package at.blvckbytes.component_markup.markup.ast.tag.built_in.hover;
 import at.blvckbytes.component_markup.markup.ast.tag.TagClosing;
 import at.blvckbytes.component_markup.markup.ast.tag.TagDefinition;
 import at.blvckbytes.component_markup.markup.ast.tag.TagPriority;
-import at.blvckbytes.component_markup.util.InputView;
+
+import java.util.Collection;
+import java.util.Collections;
 
 public abstract class HoverTag extends TagDefinition {
 
@@ -21,7 +23,7 @@ public abstract class HoverTag extends TagDefinition {
   }
 
   @Override
-  public boolean matchName(InputView tagName) {
-    return tagName.contentEquals(this.tagName, true);
+  public Collection<String> getStaticNames() {
+    return Collections.singletonList(this.tagName);
   }
 }
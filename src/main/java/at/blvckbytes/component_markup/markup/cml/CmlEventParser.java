@@ -20,6 +20,7 @@ import at.blvckbytes.component_markup.util.*;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.EnumSet;
+import java.util.function.IntConsumer;
 
 public class CmlEventParser {
 
@@ -27,20 +28,39 @@ public class CmlEventParser {
   private final TokenEmitter tokenEmitter;
   private final InputView input;
   private final ExpressionTokenizer expressionTokenizer;
-
-  private CmlEventParser(InputView input, CmlEventConsumer consumer, @Nullable TokenEmitter tokenEmitter) {
+  private final boolean isLastSegment;
+  private final @Nullable IntConsumer boundaryHandler;
+
+  private CmlEventParser(
+    InputView input,
+    CmlEventConsumer consumer,
+    @Nullable TokenEmitter tokenEmitter,
+    boolean isLastSegment,
+    @Nullable IntConsumer boundaryHandler
+  ) {
     this.consumer = consumer;
     this.tokenEmitter = tokenEmitter;
     this.input = input;
     this.expressionTokenizer = new ExpressionTokenizer(input, tokenEmitter);
+    this.isLastSegment = isLastSegment;
+    this.boundaryHandler = boundaryHandler;
   }
 
   public static void parse(InputView input, CmlEventConsumer consumer) {
-    new CmlEventParser(input, consumer, null).parseInput(false);
+    new CmlEventParser(input, consumer, null, true, null).parseInput(false);
   }
 
   public static void parse(InputView input, CmlEventConsumer consumer, @Nullable TokenEmitter tokenEmitter) {
-    new CmlEventParser(input, consumer, tokenEmitter).parseInput(false);
+    new CmlEventParser(input, consumer, tokenEmitter, true, null).parseInput(false);
+  }
+
+  /**
+   * Parses a segment of a larger document, which is required to either be the last segment or
+   * to end right before a top-level tag. The boundary-handler receives the position of every
+   * top-level pointy-bracket, as these are the only places at which a document may be split up.
+   */
+  static void parseSegment(InputView segment, CmlEventConsumer consumer, boolean isLastSegment, @Nullable IntConsumer boundaryHandler) {
+    new CmlEventParser(segment, consumer, null, isLastSegment, boundaryHandler).parseInput(false);
   }
 
   private void parseInput(boolean isWithinCurlyBrackets) {
@@ -117,6 +137,9 @@ public class CmlEventParser {
           textStartInclusive = -1;
         }
 
+        if (boundaryHandler != null && !isWithinCurlyBrackets)
+          boundaryHandler.accept(input.getPosition() + 1);
+
         parseOpeningOrClosingTag();
         wasPriorTagOrInterpolation = true;
         continue;
@@ -151,15 +174,18 @@ public class CmlEventParser {
     }
 
     if (textStartInclusive != -1) {
+      // Trailing text of a segment which is not the last is followed by a tag within the next segment
+      boolean isTrailingText = isWithinCurlyBrackets || isLastSegment;
+
       emitText(
         input.buildSubViewAbsolute(textStartInclusive, input.getPosition() + 1),
         wasPriorTagOrInterpolation
-          ? SubstringFlag.LAST_TEXT
-          : SubstringFlag.ONLY_TEXT
+          ? (isTrailingText ? SubstringFlag.LAST_TEXT : SubstringFlag.INNER_TEXT)
+          : (isTrailingText ? SubstringFlag.ONLY_TEXT : SubstringFlag.FIRST_TEXT)
       );
     }
 
-    if (!isWithinCurlyBrackets)
+    if (!isWithinCurlyBrackets && isLastSegment)
       consumer.onInputEnd();
   }
 
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.markup.cml;
+
+import at.blvckbytes.component_markup.expression.ast.ExpressionNode;
+import at.blvckbytes.component_markup.expression.ast.TerminalNode;
+import at.blvckbytes.component_markup.util.InputView;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.Consumer;
+
+/**
+ * Feeds a document to the {@link CmlEventParser} in segments, which are split off of a bounded window
+ * of input right before top-level tags, such that only the segment currently being parsed (as well as
+ * the construct spanning past its end) has to be held in memory, no matter the size of the whole document.
+ * Every segment is handed out as a root-view of its own, carrying the line-number it begins at, which is
+ * to be used when rendering error-screens, as all positions of events and errors are relative to it.
+ */
+public class CmlStreamParser {
+
+  public static final int DEFAULT_WINDOW_SIZE = 8192;
+
+  private static final CmlEventConsumer NO_OP_CONSUMER = new CmlEventConsumer() {
+    @Override public void onTagOpenBegin(InputView tagName) {}
+    @Override public void onStringAttribute(InputView name, InputView value) {}
+    @Override public void onTemplateLiteralAttribute(InputView name, TerminalNode value) {}
+    @Override public void onLongAttribute(InputView name, InputView raw, long value) {}
+    @Override public void onDoubleAttribute(InputView name, InputView raw, double value) {}
+    @Override public void onBooleanAttribute(InputView name, InputView raw, boolean value) {}
+    @Override public void onNullAttribute(InputView name, InputView raw) {}
+    @Override public void onTagAttributeBegin(InputView name, int valueBeginPosition) {}
+    @Override public void onTagAttributeEnd(InputView name) {}
+    @Override public void onFlagAttribute(InputView name) {}
+    @Override public void onTagOpenEnd(InputView tagName, boolean wasSelfClosing) {}
+    @Override public void onText(InputView text) {}
+    @Override public void onInterpolation(ExpressionNode expression, InputView raw) {}
+    @Override public void onTagClose(@Nullable InputView tagName, int pointyPosition) {}
+    @Override public void onInputEnd() {}
+  };
+
+  private final Reader reader;
+  private final CmlEventConsumer consumer;
+  private final @Nullable Consumer<InputView> segmentHandler;
+  private final int windowSize;
+
+  private final char[] readBuffer;
+  private final StringBuilder window;
+
+  private int windowLineNumber;
+  private int nextSplitAttemptLength;
+
+  private CmlStreamParser(Reader reader, CmlEventConsumer consumer, int windowSize, @Nullable Consumer<InputView> segmentHandler) {
+    if (windowSize <= 0)
+      throw new IllegalArgumentException("The window-size has to be positive");
+
+    this.reader = reader;
+    this.consumer = consumer;
+    this.segmentHandler = segmentHandler;
+    this.windowSize = windowSize;
+    this.readBuffer = new char[Math.min(windowSize, 4096)];
+    this.window = new StringBuilder();
+    this.windowLineNumber = 1;
+    this.nextSplitAttemptLength = windowSize;
+  }
+
+  public static void parse(Reader reader, CmlEventConsumer consumer) throws IOException {
+    parse(reader, consumer, DEFAULT_WINDOW_SIZE, null);
+  }
+
+  /**
+   * @param segmentHandler Called with each segment right before it is being parsed
+   */
+  public static void parse(Reader reader, CmlEventConsumer consumer, int windowSize, @Nullable Consumer<InputView> segmentHandler) throws IOException {
+    new CmlStreamParser(reader, consumer, windowSize, segmentHandler).parseAll();
+  }
+
+  public static void parse(CharSequence input, CmlEventConsumer consumer, int windowSize, @Nullable Consumer<InputView> segmentHandler) {
+    try {
+      parse(new CharSequenceReader(input), consumer, windowSize, segmentHandler);
+    } catch (IOException e) {
+      throw new IllegalStateException("Reading from a char-sequence should never fail", e);
+    }
+  }
+
+  private void parseAll() throws IOException {
+    int readCount;
+
+    while ((readCount = reader.read(readBuffer)) >= 0) {
+      window.append(readBuffer, 0, readCount);
+
+      if (window.length() >= nextSplitAttemptLength)
+        trySplitOffSegment();
+    }
+
+    parseSegment(window.toString(), true);
+    window.setLength(0);
+  }
+
+  private void trySplitOffSegment() {
+    String windowContents = window.toString();
+    int boundary = locateLastBoundary(windowContents);
+
+    // A single construct spans the whole window; wait for considerably more input before trying again,
+    // as to not re-scan the same characters over and over while reading in a huge tag or text.
+    if (boundary <= 0) {
+      nextSplitAttemptLength = window.length() * 2;
+      return;
+    }
+
+    String segment = windowContents.substring(0, boundary);
+
+    parseSegment(segment, false);
+
+    for (int index = 0; index < segment.length(); ++index) {
+      if (segment.charAt(index) == '\n')
+        ++windowLineNumber;
+    }
+
+    window.delete(0, boundary);
+    nextSplitAttemptLength = Math.max(windowSize, window.length() * 2);
+  }
+
+  private void parseSegment(String contents, boolean isLastSegment) {
+    InputView segment = InputView.of(contents, windowLineNumber);
+
+    if (segmentHandler != null)
+      segmentHandler.accept(segment);
+
+    CmlEventParser.parseSegment(segment, consumer, isLastSegment, null);
+  }
+
+  private static int locateLastBoundary(String windowContents) {
+    int[] lastBoundary = { 0 };
+
+    try {
+      CmlEventParser.parseSegment(InputView.of(windowContents), NO_OP_CONSUMER, false, position -> lastBoundary[0] = position);
+    } catch (RuntimeException ignored) {
+      // The window ends within a construct which has yet to be read in full; every boundary up until
+      // this point is followed by complete constructs only, and is thereby safe to split at. Actual errors
+      // are only ever thrown while parsing for real, as they cannot be distinguished from missing input here.
+    }
+
+    return lastBoundary[0];
+  }
+
+  private static class CharSequenceReader extends Reader {
+
+    private final CharSequence input;
+    private int nextIndex;
+
+    private CharSequenceReader(CharSequence input) {
+      this.input = input;
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) {
+      int remainingLength = input.length() - nextIndex;
+
+      if (remainingLength <= 0)
+        return -1;
+
+      int readLength = Math.min(length, remainingLength);
+
+      for (int index = 0; index < readLength; ++index)
+        buffer[offset + index] = input.charAt(nextIndex++);
+
+      return readLength;
+    }
+
+    @Override
+    public void close() {}
+  }
+}
@@ -11,8 +11,7 @@ import at.blvckbytes.component_markup.markup.ast.tag.CaptureLetBinding;
 import at.blvckbytes.component_markup.markup.ast.tag.LetBinding;
 import at.blvckbytes.component_markup.util.InputView;
 
-import java.util.Collections;
-import java.util.LinkedHashSet;
+import java.util.*;
 
 public class CaptureNode extends MarkupNode {
 
@@ -24,17 +23,46 @@ public class CaptureNode extends MarkupNode {
     MarkupNode node,
     InterpretationEnvironment environment
   ) {
+    Set<String> referencedNames = FreeVariableAnalyzer.getReferencedNames(node);
+
+    if (referencedNames == null)
+      return captureAllVariables(node, environment);
+
     LinkedHashSet<LetBinding> capturedBindings = new LinkedHashSet<>();
+    Set<String> visitedNames = new HashSet<>();
+    ArrayDeque<String> pendingNames = new ArrayDeque<>(referencedNames);
+
+    String name;
+
+    while ((name = pendingNames.poll()) != null) {
+      if (!visitedNames.add(name) || !environment.doesVariableExist(name))
+        continue;
 
-    environment.forEachKnownName(name -> {
       Object variableValue = environment.getVariableValue(name);
 
-      if (variableValue instanceof InternalCopyable)
-        variableValue = ((InternalCopyable) variableValue).copy();
+      // Markup held by a captured variable will be rendered later on, so its variables are to be captured too
+      if (!FreeVariableAnalyzer.collectFromValue(variableValue, pendingNames))
+        return captureAllVariables(node, environment);
 
-      capturedBindings.add(new CaptureLetBinding(InputView.of(name), variableValue));
-    });
+      capturedBindings.add(makeBinding(name, variableValue));
+    }
 
     return new CaptureNode(node, capturedBindings);
   }
+
+  private static MarkupNode captureAllVariables(MarkupNode node, InterpretationEnvironment environment) {
+    LinkedHashSet<LetBinding> capturedBindings = new LinkedHashSet<>();
+
+    // Lazy variables are captured as such, as to not resolve all of them just because they're in scope
+    environment.forEachKnownName(name -> capturedBindings.add(makeBinding(name, environment.getUnresolvedVariableValue(name))));
+
+    return new CaptureNode(node, capturedBindings);
+  }
+
+  private static LetBinding makeBinding(String name, Object variableValue) {
+    if (variableValue instanceof InternalCopyable)
+      variableValue = ((InternalCopyable) variableValue).copy();
+
+    return new CaptureLetBinding(InputView.of(name), variableValue);
+  }
 }
@@ -117,9 +117,7 @@ public class ComponentSequence<B, C> {
     ComputedStyle nodeStyle = ComputedStyle.computeFor(node, interpreter);
 
     if (doNotBuffer) {
-      B result = componentConstructor.createTextComponent(node.textValue);
-
-      ExtendedBuilder<B, C> extendedBuilder = ExtendedBuilder.wrapPlatformBuilder(result, nodeStyle);
+      ExtendedBuilder<B, C> extendedBuilder = ExtendedBuilder.makeText(node.textValue, nodeStyle);
 
       addMember(extendedBuilder);
 
@@ -165,10 +163,10 @@ public class ComponentSequence<B, C> {
   private void addBufferedText(String text, @Nullable ComputedStyle style, @Nullable CreationHandler<B, C> creationHandler) {
     if (style != null) {
       // If the member resets, append all necessary properties to go back to the resetContext
-      appendResetPropertiesIfApplicable(style, selfAndParentStyle);
+      style = appendResetPropertiesIfApplicable(style, selfAndParentStyle);
 
       // Don't apply styles which are already effective in this component
-      style.subtractStylesOnEquality(selfAndParentStyle, true);
+      style = ComputedStyle.subtractEqualStyles(style, selfAndParentStyle);
     }
 
     if (!areStylesEffectivelyEqual(style, bufferedTextsStyle))
@@ -209,10 +207,10 @@ public class ComponentSequence<B, C> {
 
     int bufferSize = bufferedTexts.size();
 
-    B result;
+    String result;
 
     if (bufferSize == 1)
-      result = componentConstructor.createTextComponent(bufferedTexts.get(0));
+      result = bufferedTexts.get(0);
 
     else {
       StringBuilder accumulator = new StringBuilder();
@@ -220,10 +218,10 @@ public class ComponentSequence<B, C> {
       for (String unstyledText : bufferedTexts)
         accumulator.append(unstyledText);
 
-      result = componentConstructor.createTextComponent(accumulator.toString());
+      result = accumulator.toString();
     }
 
-    ExtendedBuilder<B, C> extendedBuilder = ExtendedBuilder.wrapPlatformBuilder(result, bufferedTextsStyle);
+    ExtendedBuilder<B, C> extendedBuilder = ExtendedBuilder.makeText(result, bufferedTextsStyle);
 
     if (textCreationHandler != null) {
       textCreationHandler.handle(extendedBuilder);
@@ -257,10 +255,10 @@ public class ComponentSequence<B, C> {
         member.explicitColor = member.style.getPackedColor();
 
       // If the member resets, append all necessary properties to go back to the resetContext
-      appendResetPropertiesIfApplicable(member.style, selfAndParentStyle);
+      member.style = appendResetPropertiesIfApplicable(member.style, selfAndParentStyle);
 
       // Don't apply styles which are already effective in this component
-      member.style.subtractStylesOnEquality(selfAndParentStyle, true);
+      member.style = ComputedStyle.subtractEqualStyles(member.style, selfAndParentStyle);
     }
 
     if (this.membersEqualStyle == null) {
@@ -286,7 +284,7 @@ public class ComponentSequence<B, C> {
         && !isInitial
         && this.nonTerminal == null
         && (this.membersEqualStyle == null || this.membersEqualStyle.hasNoEffect())
-        && (this.computedStyle == null || !this.computedStyle.reset)
+        && (this.computedStyle == null || !this.computedStyle.isReset())
         && (textCreationHandler == null)
     ) {
       if (members != null) {
@@ -333,8 +331,7 @@ public class ComponentSequence<B, C> {
       List<ExtendedBuilder<B, C>> children = new ArrayList<>();
 
       for (ExtendedBuilder<B, C> member : members) {
-        if (member.style != null)
-          member.style.subtractStylesOnEquality(membersEqualStyle, true);
+        member.style = ComputedStyle.subtractEqualStyles(member.style, membersEqualStyle);
 
         children.add(member);
       }
@@ -564,19 +561,23 @@ public class ComponentSequence<B, C> {
     this.isInitial = isInitial;
 
     // The style is also captured at this very moment
-    this.computedStyle = ComputedStyle.computeFor(nonTerminal, interpreter);
+    ComputedStyle computedStyle = appendResetPropertiesIfApplicable(ComputedStyle.computeFor(nonTerminal, interpreter), parentStyle);
 
-    appendResetPropertiesIfApplicable(this.computedStyle, parentStyle);
+    this.selfAndParentStyle = ComputedStyle.addMissing(computedStyle, this.parentStyle);
 
-    this.selfAndParentStyle = ComputedStyle.addMissing(this.computedStyle, this.parentStyle);
+    // The own style is extended by the parent's, which may have required a copy of it
+    this.computedStyle = computedStyle == null ? null : this.selfAndParentStyle;
   }
 
-  private void appendResetPropertiesIfApplicable(@Nullable ComputedStyle style, @Nullable ComputedStyle parentStyle) {
+  private @Nullable ComputedStyle appendResetPropertiesIfApplicable(@Nullable ComputedStyle style, @Nullable ComputedStyle parentStyle) {
     // Add explicit properties to invert unwanted inherited style
-    if (parentStyle != null && style != null && style.reset) {
+    if (parentStyle != null && style != null && style.isReset()) {
+      style = style.toMutable();
       style.addMissingDefaults(parentStyle, resetContext);
-      style.reset = false;
+      style.setReset(false);
     }
+
+    return style;
   }
 
   private boolean doesNonTerminalHaveEffect(MarkupNode nonTerminal) {
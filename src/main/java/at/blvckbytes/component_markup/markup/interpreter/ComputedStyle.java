@@ -6,6 +6,9 @@
 package at.blvckbytes.component_markup.markup.interpreter;
 
 import at.blvckbytes.component_markup.expression.ast.ExpressionNode;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationPlatform;
+import at.blvckbytes.component_markup.expression.interpreter.ValueInterpreter;
 import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
 import at.blvckbytes.component_markup.markup.ast.node.StyledNode;
 import at.blvckbytes.component_markup.markup.ast.node.style.Format;
@@ -24,14 +27,69 @@ import java.util.logging.Level;
 
 public class ComputedStyle {
 
+  /**
+   * Outcome of evaluating a {@link NodeStyle}, as memoized on the style itself; evaluations of constant
+   * styles only depend on how values are interpreted and which features are supported.
+   */
+  public static final class EvaluationMemo {
+
+    // Marks styles which are not constant, as to not analyze them again
+    private static final EvaluationMemo NON_CONSTANT = new EvaluationMemo(null, null, null, null);
+
+    private final @Nullable ValueInterpreter valueInterpreter;
+    private final @Nullable InterpretationPlatform interpretationPlatform;
+    private final @Nullable ComponentConstructor<?, ?> componentConstructor;
+    private final @Nullable ComputedStyle style;
+
+    private EvaluationMemo(
+      @Nullable ValueInterpreter valueInterpreter,
+      @Nullable InterpretationPlatform interpretationPlatform,
+      @Nullable ComponentConstructor<?, ?> componentConstructor,
+      @Nullable ComputedStyle style
+    ) {
+      this.valueInterpreter = valueInterpreter;
+      this.interpretationPlatform = interpretationPlatform;
+      this.componentConstructor = componentConstructor;
+      this.style = style;
+    }
+
+    private boolean matches(InterpretationEnvironment environment, ComponentConstructor<?, ?> componentConstructor) {
+      return (
+        this.valueInterpreter == environment.getValueInterpreter()
+          && this.interpretationPlatform == environment.interpretationPlatform
+          && this.componentConstructor == componentConstructor
+      );
+    }
+  }
+
   private long packedColor = PackedColor.NULL_SENTINEL;
   private boolean packedColorFromSlotContext;
-  public long packedShadowColor = PackedColor.NULL_SENTINEL;
-  public int packedShadowColorOpacity;
-  public @Nullable String font;
-  public @Nullable InputView fontPosition;
-  public int formats;
-  public boolean reset;
+  private long packedShadowColor = PackedColor.NULL_SENTINEL;
+  private int packedShadowColorOpacity;
+  private @Nullable String font;
+  private @Nullable InputView fontPosition;
+  private int formats;
+  private boolean reset;
+
+  // Shared instances are handed out to all evaluations of a constant style and must thereby never be
+  // altered; the mutating operations refuse to do so, while their static counterparts copy on demand.
+  private boolean shared;
+
+  public boolean isShared() {
+    return shared;
+  }
+
+  /**
+   * @return This instance if it may be altered, or an unshared copy of it otherwise
+   */
+  public ComputedStyle toMutable() {
+    return shared ? copy() : this;
+  }
+
+  private void ensureMutable() {
+    if (shared)
+      throw new IllegalStateException("Cannot alter a shared style, as obtained by evaluating a constant style; see toMutable()");
+  }
 
   public boolean isPackedColorFromSlotContext() {
     return packedColorFromSlotContext;
@@ -42,11 +100,61 @@ public class ComputedStyle {
   }
 
   public void setPackedColor(long packedColor, boolean fromSlotContext) {
+    ensureMutable();
     this.packedColor = packedColor;
     this.packedColorFromSlotContext = fromSlotContext;
   }
 
+  public long getPackedShadowColor() {
+    return packedShadowColor;
+  }
+
+  public int getPackedShadowColorOpacity() {
+    return packedShadowColorOpacity;
+  }
+
+  public void setPackedShadowColor(long packedShadowColor, int packedShadowColorOpacity) {
+    ensureMutable();
+    this.packedShadowColor = packedShadowColor;
+    this.packedShadowColorOpacity = packedShadowColorOpacity;
+  }
+
+  public @Nullable String getFont() {
+    return font;
+  }
+
+  public @Nullable InputView getFontPosition() {
+    return fontPosition;
+  }
+
+  public void setFont(@Nullable String font, @Nullable InputView fontPosition) {
+    ensureMutable();
+    this.font = font;
+    this.fontPosition = fontPosition;
+  }
+
+  public int getFormats() {
+    return formats;
+  }
+
+  public void setFormats(int formats) {
+    ensureMutable();
+    this.formats = formats;
+  }
+
+  public boolean isReset() {
+    return reset;
+  }
+
+  public void setReset(boolean reset) {
+    ensureMutable();
+    this.reset = reset;
+  }
+
   public boolean doStylesEqual(@Nullable ComputedStyle other) {
+    if (other == this)
+      return true;
+
     if (other == null)
       return hasNoEffect();
 
@@ -69,11 +177,80 @@ public class ComputedStyle {
     if (styleToExtend == null)
       return addition.copy();
 
+    if (styleToExtend.shared) {
+      if (!styleToExtend.isMissingAnyOf(addition))
+        return styleToExtend;
+
+      styleToExtend = styleToExtend.copy();
+    }
+
     styleToExtend.addMissing(addition);
 
     return styleToExtend;
   }
 
+  /**
+   * Subtracts all properties from the given style which are equal to those of the other, by altering
+   * it in place, unless it is shared, in which case a copy is only made if there's anything to subtract.
+   * @return The style to use in place of the provided one
+   */
+  public static @Nullable ComputedStyle subtractEqualStyles(@Nullable ComputedStyle style, @Nullable ComputedStyle other) {
+    if (style == null || other == null)
+      return style;
+
+    if (style.shared) {
+      if (!style.sharesAnyStyleWith(other))
+        return style;
+
+      style = style.copy();
+    }
+
+    style.subtractStylesOnEquality(other, true);
+
+    return style;
+  }
+
+  private boolean isMissingAnyOf(@Nullable ComputedStyle other) {
+    if (other == null)
+      return false;
+
+    if (this.packedColor == PackedColor.NULL_SENTINEL && other.packedColor != PackedColor.NULL_SENTINEL)
+      return true;
+
+    if (this.packedShadowColor == PackedColor.NULL_SENTINEL && other.packedShadowColor != PackedColor.NULL_SENTINEL)
+      return true;
+
+    if (this.font == null && other.font != null)
+      return true;
+
+    for (int index = 0; index < Format.COUNT; ++index) {
+      if (TriStateBitFlags.read(this.formats, index) == TriState.NULL && TriStateBitFlags.read(other.formats, index) != TriState.NULL)
+        return true;
+    }
+
+    return false;
+  }
+
+  private boolean sharesAnyStyleWith(ComputedStyle other) {
+    if (this.font != null && this.font.equals(other.font))
+      return true;
+
+    if (this.packedColor != PackedColor.NULL_SENTINEL && this.packedColor == other.packedColor)
+      return true;
+
+    if (this.packedShadowColor != PackedColor.NULL_SENTINEL && this.packedShadowColor == other.packedShadowColor)
+      return true;
+
+    for (int index = 0; index < Format.COUNT; ++index) {
+      TriState thisFormat = TriStateBitFlags.read(this.formats, index);
+
+      if (thisFormat != TriState.NULL && thisFormat == TriStateBitFlags.read(other.formats, index))
+        return true;
+    }
+
+    return false;
+  }
+
   public boolean hasNoEffect() {
     if (this.packedColor != PackedColor.NULL_SENTINEL)
       return false;
@@ -91,6 +268,8 @@ public class ComputedStyle {
   }
 
   public void addMissing(@Nullable ComputedStyle other) {
+    ensureMutable();
+
     if (other == null)
       return;
 
@@ -124,6 +303,8 @@ public class ComputedStyle {
   }
 
   public void subtractStylesOnEquality(@Nullable ComputedStyle other, boolean equal) {
+    ensureMutable();
+
     if (other == null) {
       if (!equal)
         clearStylesButReset();
@@ -157,6 +338,8 @@ public class ComputedStyle {
   }
 
   public void subtractStylesOnCommonality(@Nullable ComputedStyle other, boolean common) {
+    ensureMutable();
+
     if (other == null) {
       if (!common)
         clearStylesButReset();
@@ -193,6 +376,8 @@ public class ComputedStyle {
   }
 
   public void addMissingDefaults(@Nullable ComputedStyle mask, SlotContext slotContext) {
+    ensureMutable();
+
     if (mask == null)
       return;
 
@@ -260,6 +445,44 @@ public class ComputedStyle {
     if (style == null)
       return null;
 
+    EvaluationMemo memo = style.getEvaluationMemo();
+
+    if (memo == EvaluationMemo.NON_CONSTANT)
+      return evaluate(style, interpreter);
+
+    InterpretationEnvironment environment = interpreter.getEnvironment();
+    ComponentConstructor<?, ?> componentConstructor = interpreter.getComponentConstructor();
+
+    if (memo != null) {
+      // The shared instance is handed out as is, and only copied by whoever needs to alter it
+      if (memo.matches(environment, componentConstructor))
+        return memo.style;
+    }
+
+    else if (!style.isConstant()) {
+      style.setEvaluationMemo(EvaluationMemo.NON_CONSTANT);
+      return evaluate(style, interpreter);
+    }
+
+    ComputedStyle result = evaluate(style, interpreter);
+
+    // Styles which log errors on evaluation are not memoized, as to keep reporting them on every render
+    boolean isSupported = (
+      (style.font == null || componentConstructor.doesSupport(ConstructorFeature.FONT))
+        && (style.shadowColor == null && style.shadowColorOpacity == null || componentConstructor.doesSupport(ConstructorFeature.SHADOW_COLOR))
+    );
+
+    if (isSupported) {
+      if (result != null)
+        result.shared = true;
+
+      style.setEvaluationMemo(new EvaluationMemo(environment.getValueInterpreter(), environment.interpretationPlatform, componentConstructor, result));
+    }
+
+    return result;
+  }
+
+  private static @Nullable ComputedStyle evaluate(NodeStyle style, Interpreter<?, ?> interpreter) {
     ComponentConstructor<?, ?> componentConstructor = interpreter.getComponentConstructor();
 
     ComputedStyle result = null;
@@ -466,6 +689,7 @@ public class ComputedStyle {
   }
 
   private void clearStylesButReset() {
+    ensureMutable();
     this.packedColor = PackedColor.NULL_SENTINEL;
     this.packedColorFromSlotContext = false;
     this.packedShadowColor = PackedColor.NULL_SENTINEL;
@@ -16,6 +16,8 @@ public class ExtendedBuilder<B, C> {
   private @Nullable B builder;
   private @Nullable C wrappedComponent;
 
+  // Text-components are only instantiated when finalizing, as to allow for joining them beforehand
+  private @Nullable String text;
   private @Nullable String textOverride;
 
   private @Nullable List<ExtendedBuilder<B, C>> children;
@@ -45,6 +47,15 @@ public class ExtendedBuilder<B, C> {
     return result;
   }
 
+  public static <B, C> ExtendedBuilder<B, C> makeText(@NotNull String text, @Nullable ComputedStyle style) {
+    ExtendedBuilder<B, C> result = new ExtendedBuilder<>();
+
+    result.text = text;
+    result.style = style;
+
+    return result;
+  }
+
   public static <B, C> ExtendedBuilder<B, C> makeContainer(@NotNull List<ExtendedBuilder<B, C>> children, @Nullable ComputedStyle style) {
     ExtendedBuilder<B, C> result = new ExtendedBuilder<>();
 
@@ -70,6 +81,9 @@ public class ExtendedBuilder<B, C> {
     if (this.style == null)
       this.style = new ComputedStyle();
 
+    else
+      this.style = this.style.toMutable();
+
     return style;
   }
 
@@ -84,6 +98,143 @@ public class ExtendedBuilder<B, C> {
     this.nonTerminalApplyingClosures.add(nonTerminalApplyingClosure);
   }
 
+  /**
+   * Simplifies the tree of builders without altering how it renders, in that it concatenates neighbouring
+   * texts of equal style, drops empty members, hoists styles shared by all children onto their container,
+   * flattens containers which take no effect on their own or have only a single child, and lets empty
+   * containers adopt the text of their leading child.
+   * @return The builder to finalize in place of this instance, which may be this instance itself
+   */
+  public ExtendedBuilder<B, C> optimize() {
+    if (children == null)
+      return this;
+
+    List<ExtendedBuilder<B, C>> optimizedChildren = new ArrayList<>(children.size());
+
+    for (ExtendedBuilder<B, C> child : children) {
+      ExtendedBuilder<B, C> optimizedChild = child.optimize();
+
+      if (!optimizedChild.isWithoutOwnEffect()) {
+        appendOptimizedChild(optimizedChildren, optimizedChild);
+        continue;
+      }
+
+      if (optimizedChild.children != null) {
+        for (ExtendedBuilder<B, C> liftedChild : optimizedChild.children)
+          appendOptimizedChild(optimizedChildren, liftedChild);
+      }
+    }
+
+    children = optimizedChildren.isEmpty() ? null : optimizedChildren;
+
+    if (children == null || hasOwnContent())
+      return this;
+
+    if (children.size() == 1) {
+      ExtendedBuilder<B, C> onlyChild = children.get(0);
+
+      // The child's own properties prevail over the inherited ones, just as its closures do
+      onlyChild.style = ComputedStyle.addMissing(onlyChild.style, style);
+
+      if (nonTerminalApplyingClosures != null) {
+        for (Consumer<B> closure : nonTerminalApplyingClosures)
+          onlyChild.addNonTerminalApplyingClosure(closure);
+      }
+
+      return onlyChild;
+    }
+
+    hoistSharedChildStyle();
+    adoptLeadingText();
+    return this;
+  }
+
+  // The text of a component precedes its children and carries its style, so an unstyled
+  // leading text may as well become the own text of an otherwise empty container
+  private void adoptLeadingText() {
+    if (children == null || children.size() < 2)
+      return;
+
+    ExtendedBuilder<B, C> firstChild = children.get(0);
+
+    if (!firstChild.isPlainText() || (firstChild.style != null && !firstChild.style.hasNoEffect()))
+      return;
+
+    text = firstChild.getEffectiveText();
+    textOverride = null;
+    children.remove(0);
+  }
+
+  private static <B, C> void appendOptimizedChild(List<ExtendedBuilder<B, C>> optimizedChildren, ExtendedBuilder<B, C> child) {
+    int lastIndex = optimizedChildren.size() - 1;
+
+    if (lastIndex >= 0 && optimizedChildren.get(lastIndex).tryAppendText(child))
+      return;
+
+    optimizedChildren.add(child);
+  }
+
+  private void hoistSharedChildStyle() {
+    if (children == null)
+      return;
+
+    ComputedStyle sharedStyle = children.get(0).style;
+
+    if (sharedStyle == null || sharedStyle.hasNoEffect())
+      return;
+
+    for (int index = 1; index < children.size(); ++index) {
+      if (!sharedStyle.doStylesEqual(children.get(index).style))
+        return;
+    }
+
+    ComputedStyle hoistedStyle = sharedStyle.copy();
+    hoistedStyle.addMissing(style);
+    style = hoistedStyle;
+
+    for (ExtendedBuilder<B, C> child : children)
+      child.style = null;
+  }
+
+  private boolean tryAppendText(ExtendedBuilder<B, C> next) {
+    if (!isPlainText() || !next.isPlainText())
+      return false;
+
+    boolean stylesEqual = style == null ? (next.style == null || next.style.hasNoEffect()) : style.doStylesEqual(next.style);
+
+    if (!stylesEqual)
+      return false;
+
+    text = getEffectiveText() + next.getEffectiveText();
+    textOverride = null;
+    return true;
+  }
+
+  private boolean isPlainText() {
+    return text != null && builder == null && wrappedComponent == null && children == null && nonTerminalApplyingClosures == null;
+  }
+
+  private boolean hasOwnContent() {
+    if (builder != null || wrappedComponent != null)
+      return true;
+
+    String effectiveText = getEffectiveText();
+
+    return effectiveText != null && !effectiveText.isEmpty();
+  }
+
+  // Members without content, closures or style only pass on their children, if any
+  private boolean isWithoutOwnEffect() {
+    if (hasOwnContent() || nonTerminalApplyingClosures != null)
+      return false;
+
+    return children == null || style == null || style.hasNoEffect();
+  }
+
+  private @Nullable String getEffectiveText() {
+    return textOverride != null ? textOverride : text;
+  }
+
   public C toFinalizedComponent(ComponentConstructor<B, C> componentConstructor, InterpreterLogger logger) {
     if (wrappedComponent != null) {
       if (builder != null)
@@ -100,7 +251,7 @@ public class ExtendedBuilder<B, C> {
     }
 
     else if (builder == null)
-      builder = componentConstructor.createTextComponent("");
+      builder = componentConstructor.createTextComponent(text == null ? "" : text);
 
     if (textOverride != null)
       componentConstructor.setText(builder, textOverride);
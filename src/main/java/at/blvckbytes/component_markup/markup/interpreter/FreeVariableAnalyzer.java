@@ -0,0 +1,505 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.markup.interpreter;
+
+import at.blvckbytes.component_markup.expression.ast.ArrayNode;
+import at.blvckbytes.component_markup.expression.ast.BranchingNode;
+import at.blvckbytes.component_markup.expression.ast.ExpressionNode;
+import at.blvckbytes.component_markup.expression.ast.InfixOperationNode;
+import at.blvckbytes.component_markup.expression.ast.MapNode;
+import at.blvckbytes.component_markup.expression.ast.PrefixOperationNode;
+import at.blvckbytes.component_markup.expression.ast.SubstringNode;
+import at.blvckbytes.component_markup.expression.ast.TerminalNode;
+import at.blvckbytes.component_markup.expression.interpreter.ExpressionInterpreter;
+import at.blvckbytes.component_markup.expression.interpreter.LongRange;
+import at.blvckbytes.component_markup.expression.tokenizer.InfixOperator;
+import at.blvckbytes.component_markup.expression.tokenizer.InterpolationMember;
+import at.blvckbytes.component_markup.expression.tokenizer.PrefixOperator;
+import at.blvckbytes.component_markup.expression.tokenizer.token.IdentifierToken;
+import at.blvckbytes.component_markup.expression.tokenizer.token.StringToken;
+import at.blvckbytes.component_markup.expression.tokenizer.token.TemplateLiteralToken;
+import at.blvckbytes.component_markup.markup.ast.node.ExpressionDrivenNode;
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.markup.ast.node.StyledNode;
+import at.blvckbytes.component_markup.markup.ast.node.click.ClickNode;
+import at.blvckbytes.component_markup.markup.ast.node.click.InsertNode;
+import at.blvckbytes.component_markup.markup.ast.node.control.*;
+import at.blvckbytes.component_markup.markup.ast.node.hover.EntityHoverNode;
+import at.blvckbytes.component_markup.markup.ast.node.hover.ItemHoverNode;
+import at.blvckbytes.component_markup.markup.ast.node.hover.TextHoverNode;
+import at.blvckbytes.component_markup.markup.ast.node.style.Format;
+import at.blvckbytes.component_markup.markup.ast.node.style.NodeStyle;
+import at.blvckbytes.component_markup.markup.ast.node.terminal.KeyNode;
+import at.blvckbytes.component_markup.markup.ast.node.terminal.PrerenderedNode;
+import at.blvckbytes.component_markup.markup.ast.node.terminal.RawNode;
+import at.blvckbytes.component_markup.markup.ast.node.terminal.TextNode;
+import at.blvckbytes.component_markup.markup.ast.node.terminal.TranslateNode;
+import at.blvckbytes.component_markup.markup.ast.tag.ExpressionLetBinding;
+import at.blvckbytes.component_markup.markup.ast.tag.LetBinding;
+import at.blvckbytes.component_markup.markup.ast.tag.MarkupLetBinding;
+import at.blvckbytes.component_markup.markup.ast.tag.attribute.Attribute;
+import at.blvckbytes.component_markup.markup.ast.tag.attribute.ExpressionAttribute;
+import at.blvckbytes.component_markup.markup.ast.tag.attribute.MarkupAttribute;
+import at.blvckbytes.component_markup.markup.ast.tag.built_in.colorize.ColorizeNode;
+import at.blvckbytes.component_markup.util.BoundedCache;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Statically determines the names of all variables which a subtree may read while being rendered, as
+ * well as the member-paths by which it reads them. The result over-approximates, in that it may also contain names which are bound within the subtree
+ * or which are never read at all; subtrees which access variables in ways that cannot be determined
+ * ahead of time, like function-driven nodes or env() on computed names, yield no result at all.
+ */
+class FreeVariableAnalyzer {
+
+  private static final int MAX_CACHE_SIZE = 1024;
+
+  // Collections nested deeper than this are not searched for markup, but rather treated as undeterminable
+  private static final int MAX_VALUE_DEPTH = 8;
+
+  // Sentinel for undeterminable subtrees, as the cache does not support null-values
+  private static final VariableDependencies UNDETERMINABLE = new VariableDependencies(Collections.emptySet(), Collections.emptyMap());
+
+  private static final BoundedCache<MarkupNode, VariableDependencies> dependenciesByNode = new BoundedCache<>(MAX_CACHE_SIZE);
+
+  private FreeVariableAnalyzer() {}
+
+  /**
+   * @return Sanitized names of all variables the subtree may read, or null if undeterminable
+   */
+  static @Nullable Set<String> getReferencedNames(MarkupNode node) {
+    VariableDependencies dependencies = getDependencies(node);
+    return dependencies == null ? null : dependencies.variableNames;
+  }
+
+  static @Nullable VariableDependencies getDependencies(MarkupNode node) {
+    // Captures are created on every render and add no dependencies of their own, while their bindings may
+    // hold on to large values; thereby analyze the node they wrap, such that only parse-trees are cached
+    if (node instanceof CaptureNode)
+      return getDependencies(node.children.get(0));
+
+    VariableDependencies dependencies;
+
+    // Leaves are cheap to analyze, while often being created on the fly, so keep them out of the cache
+    if (node.children == null || node.children.isEmpty())
+      dependencies = analyze(node);
+    else
+      dependencies = dependenciesByNode.get(node, FreeVariableAnalyzer::analyze);
+
+    return dependencies == UNDETERMINABLE ? null : dependencies;
+  }
+
+  static int getCacheSize() {
+    return dependenciesByNode.size();
+  }
+
+  /**
+   * Adds the referenced names of all markup contained within the value, as markup held by
+   * variables is rendered in terms of the variables present at the site of its use.
+   * @return False if the names of any contained markup are undeterminable
+   */
+  static boolean collectFromValue(@Nullable Object value, Collection<String> output) {
+    return collectFromValue(value, output, 0);
+  }
+
+  private static boolean collectFromValue(@Nullable Object value, Collection<String> output, int depth) {
+    if (value instanceof MarkupNode) {
+      Set<String> names = getReferencedNames((MarkupNode) value);
+
+      if (names == null)
+        return false;
+
+      output.addAll(names);
+      return true;
+    }
+
+    if (value instanceof Map)
+      value = ((Map<?, ?>) value).values();
+
+    // Ranges only ever hold numbers, while possibly being huge
+    if (!(value instanceof Collection) || value instanceof LongRange)
+      return true;
+
+    if (depth == MAX_VALUE_DEPTH)
+      return false;
+
+    for (Object item : (Collection<?>) value) {
+      if (!collectFromValue(item, output, depth + 1))
+        return false;
+    }
+
+    return true;
+  }
+
+  private static VariableDependencies analyze(MarkupNode node) {
+    Collector collector = new Collector();
+
+    if (!collectFromMarkup(node, collector))
+      return UNDETERMINABLE;
+
+    return new VariableDependencies(collector.names, collector.accessByPath);
+  }
+
+  private static boolean collectFromMarkup(@Nullable MarkupNode node, Collector output) {
+    if (node == null)
+      return true;
+
+    if (!collectFromExpression(node.getIfCondition(), output) || !collectFromExpression(node.getUseCondition(), output))
+      return false;
+
+    if (!collectFromLetBindings(node.letBindings, output))
+      return false;
+
+    if (node instanceof StyledNode && !collectFromStyle(((StyledNode) node).getStyle(), output))
+      return false;
+
+    if (!collectFromMembers(node, output))
+      return false;
+
+    if (node.children != null) {
+      for (MarkupNode child : node.children) {
+        if (!collectFromMarkup(child, output))
+          return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static boolean collectFromMembers(MarkupNode node, Collector output) {
+    if (node instanceof InterpolationNode)
+      return collectFromExpression(((InterpolationNode) node).contents, output);
+
+    if (node instanceof ExpressionDrivenNode)
+      return collectFromExpression(((ExpressionDrivenNode) node).expression, output);
+
+    if (node instanceof ForLoopNode) {
+      ForLoopNode forLoop = (ForLoopNode) node;
+
+      return collectFromLetBindings(forLoop.letBindingsBeforeForAttribute, output)
+        && collectFromLetBindings(forLoop.letBindingsAfterForAttribute, output)
+        && collectFromExpression(forLoop.iterable, output)
+        && collectFromExpression(forLoop.reversed, output)
+        && collectFromMarkup(forLoop.body, output)
+        && collectFromMarkup(forLoop.separator, output)
+        && collectFromMarkup(forLoop.empty, output);
+    }
+
+    if (node instanceof IfElseIfElseNode) {
+      IfElseIfElseNode ifElseIfElse = (IfElseIfElseNode) node;
+
+      for (MarkupNode condition : ifElseIfElse.conditions) {
+        if (!collectFromMarkup(condition, output))
+          return false;
+      }
+
+      return collectFromMarkup(ifElseIfElse.fallback, output);
+    }
+
+    if (node instanceof WhenMatchingNode) {
+      WhenMatchingNode whenMatching = (WhenMatchingNode) node;
+
+      if (!collectFromExpression(whenMatching.input, output))
+        return false;
+
+      for (MarkupNode matchingCase : whenMatching.matchingMap.getCases()) {
+        if (!collectFromMarkup(matchingCase, output))
+          return false;
+      }
+
+      return collectFromMarkup(whenMatching.other, output);
+    }
+
+    if (node instanceof ASTSubstitutionNode)
+      return collectFromExpression(((ASTSubstitutionNode) node).substitutionExpression, output);
+
+    if (node instanceof ClickNode)
+      return collectFromExpression(((ClickNode) node).value, output);
+
+    if (node instanceof InsertNode)
+      return collectFromExpression(((InsertNode) node).value, output);
+
+    if (node instanceof TextHoverNode)
+      return collectFromMarkup(((TextHoverNode) node).value, output);
+
+    if (node instanceof EntityHoverNode) {
+      EntityHoverNode entityHover = (EntityHoverNode) node;
+
+      return collectFromExpression(entityHover.type, output)
+        && collectFromExpression(entityHover.id, output)
+        && collectFromMarkup(entityHover.name, output);
+    }
+
+    if (node instanceof ItemHoverNode) {
+      ItemHoverNode itemHover = (ItemHoverNode) node;
+
+      return collectFromExpression(itemHover.material, output)
+        && collectFromExpression(itemHover.amount, output)
+        && collectFromExpression(itemHover.hideProperties, output)
+        && collectFromMarkup(itemHover.name, output)
+        && collectFromMarkup(itemHover.lore, output);
+    }
+
+    if (node instanceof KeyNode)
+      return collectFromExpression(((KeyNode) node).key, output);
+
+    if (node instanceof TranslateNode) {
+      TranslateNode translate = (TranslateNode) node;
+
+      if (!collectFromExpression(translate.key, output) || !collectFromExpression(translate.fallback, output))
+        return false;
+
+      for (Attribute attribute : translate.with.getAttributes()) {
+        if (attribute instanceof MarkupAttribute) {
+          if (!collectFromMarkup(((MarkupAttribute) attribute).value, output))
+            return false;
+
+          continue;
+        }
+
+        if (!(attribute instanceof ExpressionAttribute) || !collectFromExpression(((ExpressionAttribute) attribute).value, output))
+          return false;
+      }
+
+      return true;
+    }
+
+    if (node instanceof ColorizeNode) {
+      List<ExpressionNode> attributeExpressions = ((ColorizeNode) node).attributeExpressions;
+
+      if (attributeExpressions == null)
+        return false;
+
+      for (ExpressionNode attributeExpression : attributeExpressions) {
+        if (!collectFromExpression(attributeExpression, output))
+          return false;
+      }
+
+      return true;
+    }
+
+    // Content-nodes render markup of the substitution-site, while function-driven nodes and
+    // interceptors evaluate their attributes within opaque functions.
+    return node instanceof TextNode
+      || node instanceof BreakNode
+      || node instanceof ContainerNode
+      || node instanceof RawNode
+      || node instanceof PrerenderedNode
+      || node instanceof CaptureNode;
+  }
+
+  private static boolean collectFromLetBindings(@Nullable Collection<LetBinding> letBindings, Collector output) {
+    if (letBindings == null)
+      return true;
+
+    for (LetBinding letBinding : letBindings) {
+      if (letBinding instanceof ExpressionLetBinding) {
+        if (!collectFromExpression(((ExpressionLetBinding) letBinding).expression, output))
+          return false;
+
+        continue;
+      }
+
+      if (letBinding instanceof MarkupLetBinding) {
+        if (!collectFromMarkup(((MarkupLetBinding) letBinding).markup, output))
+          return false;
+      }
+
+      // Captured bindings hold values which have been determined already
+    }
+
+    return true;
+  }
+
+  private static boolean collectFromStyle(@Nullable NodeStyle style, Collector output) {
+    if (style == null)
+      return true;
+
+    if (
+      !collectFromExpression(style.color, output) || !collectFromExpression(style.shadowColor, output)
+        || !collectFromExpression(style.shadowColorOpacity, output) || !collectFromExpression(style.font, output)
+        || !collectFromExpression(style.reset, output)
+    )
+      return false;
+
+    for (Format format : Format.VALUES) {
+      if (!collectFromExpression(style.getFormat(format), output))
+        return false;
+    }
+
+    return true;
+  }
+
+  private static boolean collectFromExpression(@Nullable ExpressionNode expression, Collector output) {
+    if (expression == null || expression instanceof at.blvckbytes.component_markup.expression.ast.RawNode)
+      return true;
+
+    if (expression instanceof TerminalNode) {
+      Object token = ((TerminalNode) expression).token;
+
+      if (token instanceof IdentifierToken) {
+        String name = ExpressionInterpreter.sanitizeVariableName(((IdentifierToken) token).identifier);
+        output.addName(name);
+        output.accessByPath.putIfAbsent(name, expression);
+        return true;
+      }
+
+      if (token instanceof TemplateLiteralToken) {
+        for (InterpolationMember member : ((TemplateLiteralToken) token).members) {
+          if (member instanceof ExpressionNode && !collectFromExpression((ExpressionNode) member, output))
+            return false;
+        }
+      }
+
+      return true;
+    }
+
+    if (expression instanceof PrefixOperationNode) {
+      PrefixOperationNode prefixOperation = (PrefixOperationNode) expression;
+      PrefixOperator operator = prefixOperation.operatorToken.operator;
+
+      if (operator == PrefixOperator.ENV || operator == PrefixOperator.HAS)
+        return collectFromNameAccess(operator, prefixOperation.operand, output);
+
+      return collectFromExpression(prefixOperation.operand, output);
+    }
+
+    if (expression instanceof InfixOperationNode) {
+      InfixOperationNode infixOperation = (InfixOperationNode) expression;
+
+      if (infixOperation.operatorToken.operator == InfixOperator.MEMBER) {
+        String accessPath = makeAccessPath(infixOperation);
+
+        // Only the outermost chain of member-accesses is of interest, as it implies all of its prefixes
+        if (accessPath != null) {
+          output.addName(accessPath.substring(0, accessPath.indexOf('.')));
+          output.accessByPath.putIfAbsent(accessPath, expression);
+          return true;
+        }
+      }
+
+      if (!collectFromExpression(infixOperation.lhs, output))
+        return false;
+
+      // Members are accessed by their plain identifier, which does not denote a variable
+      if (infixOperation.operatorToken.operator == InfixOperator.MEMBER && isIdentifier(infixOperation.rhs))
+        return true;
+
+      return collectFromExpression(infixOperation.rhs, output);
+    }
+
+    if (expression instanceof BranchingNode) {
+      BranchingNode branching = (BranchingNode) expression;
+
+      return collectFromExpression(branching.condition, output)
+        && collectFromExpression(branching.branchTrue, output)
+        && collectFromExpression(branching.branchFalse, output);
+    }
+
+    if (expression instanceof SubstringNode) {
+      SubstringNode substring = (SubstringNode) expression;
+
+      return collectFromExpression(substring.operand, output)
+        && collectFromExpression(substring.lowerBound, output)
+        && collectFromExpression(substring.upperBound, output);
+    }
+
+    if (expression instanceof ArrayNode) {
+      for (ExpressionNode item : ((ArrayNode) expression).items) {
+        if (!collectFromExpression(item, output))
+          return false;
+      }
+
+      return true;
+    }
+
+    if (expression instanceof MapNode) {
+      for (Map.Entry<String, ExpressionNode> item : ((MapNode) expression).items.entrySet()) {
+        if (!collectFromExpression(item.getValue(), output))
+          return false;
+      }
+
+      return true;
+    }
+
+    // Function-driven nodes and transformers may evaluate arbitrary expressions of their own
+    return false;
+  }
+
+  private static boolean collectFromNameAccess(PrefixOperator operator, ExpressionNode operand, Collector output) {
+    if (operand instanceof TerminalNode) {
+      Object token = ((TerminalNode) operand).token;
+
+      // has(name) queries the plain identifier, while env(name) accesses the name held by that variable
+      if (token instanceof IdentifierToken && operator == PrefixOperator.HAS) {
+        String identifier = ((IdentifierToken) token).identifier;
+
+        output.addNameAccess(identifier);
+        output.addNameAccess(ExpressionInterpreter.sanitizeVariableName(identifier));
+        return true;
+      }
+
+      if (token instanceof StringToken) {
+        output.addNameAccess(ExpressionInterpreter.sanitizeVariableName((String) ((StringToken) token).getPlainValue()));
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * @return Dotted path, like player.name, if the expression solely consists of identifiers, or null otherwise
+   */
+  private static @Nullable String makeAccessPath(ExpressionNode expression) {
+    if (expression instanceof TerminalNode) {
+      Object token = ((TerminalNode) expression).token;
+
+      if (token instanceof IdentifierToken)
+        return ExpressionInterpreter.sanitizeVariableName(((IdentifierToken) token).identifier);
+
+      return null;
+    }
+
+    if (!(expression instanceof InfixOperationNode))
+      return null;
+
+    InfixOperationNode infixOperation = (InfixOperationNode) expression;
+
+    if (infixOperation.operatorToken.operator != InfixOperator.MEMBER || !isIdentifier(infixOperation.rhs))
+      return null;
+
+    String lhsPath = makeAccessPath(infixOperation.lhs);
+
+    if (lhsPath == null)
+      return null;
+
+    return lhsPath + "." + ((IdentifierToken) ((TerminalNode) infixOperation.rhs).token).identifier;
+  }
+
+  private static boolean isIdentifier(ExpressionNode expression) {
+    return expression instanceof TerminalNode && ((TerminalNode) expression).token instanceof IdentifierToken;
+  }
+
+  private static class Collector {
+
+    final Set<String> names = new HashSet<>();
+
+    // Paths which are read by name only, like has(name), map to null
+    final Map<String, ExpressionNode> accessByPath = new LinkedHashMap<>();
+
+    void addName(String name) {
+      names.add(name);
+    }
+
+    void addNameAccess(String name) {
+      names.add(name);
+      accessByPath.putIfAbsent(name, null);
+    }
+  }
+}
@@ -6,29 +6,63 @@
 package at.blvckbytes.component_markup.markup.interpreter;
 
 import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.markup.ast.node.terminal.TerminalNode;
+import at.blvckbytes.component_markup.markup.ast.node.terminal.TextNode;
+import at.blvckbytes.component_markup.markup.ast.node.terminal.UnitNode;
 import at.blvckbytes.component_markup.util.logging.GlobalLogger;
 
-import java.util.*;
+import java.util.Arrays;
 import java.util.logging.Level;
 
+/**
+ * Active interceptors are only called for nodes of kinds they declared interest in; each of them keeps
+ * a stack of results, with one entry per node it has been called for and which has not yet been left,
+ * stored as ordinals in a plain array, while its bottom-most entry belongs to the interceptor's own node.
+ */
 public class InterceptorStack<B> {
 
-  private static class InterceptorEntry {
-    InterpreterInterceptor interceptor;
-    Stack<InterceptionResult> resultStack;
-
-    InterceptorEntry(InterpreterInterceptor interceptor) {
-      this.interceptor = interceptor;
-      this.resultStack = new Stack<>();
-    }
-  }
+  private static final InterceptionResult[] RESULTS = InterceptionResult.values();
+  private static final int[] EMPTY_CHECKPOINT = new int[0];
 
   private final Interpreter<B, ?> interpreter;
-  private final Stack<InterceptorEntry> interceptorStack;
+
+  private InterpreterInterceptor[] interceptors;
+  private int[] interests;
+  private byte[][] resultStacks;
+  private int[] resultStackSizes;
+  private int size;
+
+  // Union of all active interests, as to quickly pass by nodes which nobody cares about
+  private int combinedInterests;
 
   public InterceptorStack(Interpreter<B, ?> interpreter) {
     this.interpreter = interpreter;
-    this.interceptorStack = new Stack<>();
+    this.interceptors = new InterpreterInterceptor[4];
+    this.interests = new int[4];
+    this.resultStacks = new byte[4][];
+    this.resultStackSizes = new int[4];
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * @return The state of all active interceptors, as to be restored by {@link #restore} if the
+   *         interpretation of nodes is aborted midway, which leaves their "after" calls outstanding
+   */
+  public int[] checkpoint() {
+    if (size == 0)
+      return EMPTY_CHECKPOINT;
+
+    return Arrays.copyOf(resultStackSizes, size);
+  }
+
+  public void restore(int[] checkpoint) {
+    while (size > checkpoint.length)
+      removeTopInterceptor();
+
+    System.arraycopy(checkpoint, 0, resultStackSizes, 0, checkpoint.length);
   }
 
   private InterceptionResult callInterceptor(InterpreterInterceptor interceptor, MarkupNode node) {
@@ -43,15 +77,24 @@ public class InterceptorStack<B> {
 
   public boolean handleBeforeAndGetIfSkip(MarkupNode node) {
     InterceptionResult result;
+    int nodeKinds = getNodeKinds(node);
 
     // Call interceptors of parent-nodes first, as they take precedence
-    for (InterceptorEntry entry : interceptorStack) {
-      result = callInterceptor(entry.interceptor, node);
+    if ((combinedInterests & nodeKinds) != 0) {
+      for (int index = 0; index < size; ++index) {
+        if ((interests[index] & nodeKinds) == 0)
+          continue;
+
+        result = callInterceptor(interceptors[index], node);
 
-      if (result == InterceptionResult.DO_NOT_PROCESS)
-        return true;
+        if (result == InterceptionResult.DO_NOT_PROCESS) {
+          // As there's no "after", parents which have already been called need to drop their result again
+          notifySkipped(node, nodeKinds, index);
+          return true;
+        }
 
-      entry.resultStack.push(result);
+        pushResult(index, result);
+      }
     }
 
     // The current node does not partake in intercepting and thus has no say on skipping
@@ -66,38 +109,116 @@ public class InterceptorStack<B> {
     if (result == InterceptionResult.DO_NOT_PROCESS) {
 
       // Notify parents with their prior result, such that they can manage their internal state-stack
-      for (InterceptorEntry entry : interceptorStack) {
-        InterceptionResult priorResult = entry.resultStack.pop();
-        entry.interceptor.onSkippedByChild(node, interpreter, priorResult);
-      }
-
+      notifySkipped(node, nodeKinds, size);
       return true;
     }
 
-    InterceptorEntry entry = new InterceptorEntry(interceptor);
-
-    entry.resultStack.push(result);
-    interceptorStack.add(entry);
+    addInterceptor(interceptor);
+    pushResult(size - 1, result);
 
     return false;
   }
 
   public void handleAfter(MarkupNode node) {
-    for (Iterator<InterceptorEntry> iterator = interceptorStack.iterator(); iterator.hasNext();) {
-      InterceptorEntry entry = iterator.next();
-      InterceptionResult result = entry.resultStack.pop();
+    int nodeKinds = getNodeKinds(node);
+
+    // Interceptors added for their own node are always on top, as all of their descendants have been left
+    int ownIndex = node instanceof InterpreterInterceptor ? size - 1 : -1;
+
+    if (ownIndex < 0 && (combinedInterests & nodeKinds) == 0)
+      return;
+
+    for (int index = 0; index < size; ++index) {
+      if (index != ownIndex && (interests[index] & nodeKinds) == 0)
+        continue;
+
+      InterceptionResult result = popResult(index);
 
       if (result == InterceptionResult.DO_PROCESS_AND_CALL_AFTER) {
         try {
-          entry.interceptor.afterInterpretation(node, interpreter);
+          interceptors[index].afterInterpretation(node, interpreter);
         } catch (Throwable thrownError) {
-          String className = entry.interceptor.getClass().getName();
+          String className = interceptors[index].getClass().getName();
           GlobalLogger.log(Level.SEVERE, "An error occurred while trying to call " + className + "#afterInterpretation", thrownError);
         }
       }
+    }
 
-      if (entry.resultStack.isEmpty())
-        iterator.remove();
+    if (ownIndex >= 0 && resultStackSizes[ownIndex] == 0)
+      removeTopInterceptor();
+  }
+
+  private void notifySkipped(MarkupNode node, int nodeKinds, int endIndex) {
+    for (int index = 0; index < endIndex; ++index) {
+      if ((interests[index] & nodeKinds) == 0)
+        continue;
+
+      InterceptionResult priorResult = popResult(index);
+      interceptors[index].onSkippedByChild(node, interpreter, priorResult);
+    }
+  }
+
+  private void addInterceptor(InterpreterInterceptor interceptor) {
+    if (size == interceptors.length) {
+      int newLength = size * 2;
+
+      interceptors = Arrays.copyOf(interceptors, newLength);
+      interests = Arrays.copyOf(interests, newLength);
+      resultStacks = Arrays.copyOf(resultStacks, newLength);
+      resultStackSizes = Arrays.copyOf(resultStackSizes, newLength);
     }
+
+    int interceptorInterests = interceptor.getInterests();
+
+    interceptors[size] = interceptor;
+    interests[size] = interceptorInterests;
+    resultStackSizes[size] = 0;
+
+    if (resultStacks[size] == null)
+      resultStacks[size] = new byte[8];
+
+    combinedInterests |= interceptorInterests;
+    ++size;
+  }
+
+  private void removeTopInterceptor() {
+    interceptors[--size] = null;
+    combinedInterests = 0;
+
+    for (int index = 0; index < size; ++index)
+      combinedInterests |= interests[index];
+  }
+
+  private void pushResult(int index, InterceptionResult result) {
+    byte[] resultStack = resultStacks[index];
+    int stackSize = resultStackSizes[index];
+
+    if (stackSize == resultStack.length)
+      resultStacks[index] = resultStack = Arrays.copyOf(resultStack, stackSize * 2);
+
+    resultStack[stackSize] = (byte) result.ordinal();
+    resultStackSizes[index] = stackSize + 1;
+  }
+
+  private InterceptionResult popResult(int index) {
+    return RESULTS[resultStacks[index][--resultStackSizes[index]]];
+  }
+
+  private static int getNodeKinds(MarkupNode node) {
+    int kinds;
+
+    if (node instanceof TextNode)
+      kinds = InterpreterInterceptor.INTEREST_TEXT;
+    else if (node instanceof UnitNode)
+      kinds = InterpreterInterceptor.INTEREST_UNIT;
+    else if (node instanceof TerminalNode)
+      kinds = InterpreterInterceptor.INTEREST_OTHER_TERMINAL;
+    else
+      kinds = InterpreterInterceptor.INTEREST_NON_TERMINAL;
+
+    if (node instanceof InterpreterInterceptor)
+      kinds |= InterpreterInterceptor.INTEREST_INTERCEPTOR;
+
+    return kinds;
   }
 }
@@ -55,4 +55,12 @@ public interface Interpreter<B, C> {
 
   InterpreterLogger getLogger();
 
+  /**
+   * Nodes are shared between renders and thus must not carry any state of their own; whatever
+   * a node needs to remember during the course of a single render is to be kept here instead.
+   */
+  @Nullable Object getNodeState(MarkupNode node);
+
+  void setNodeState(MarkupNode node, @Nullable Object state);
+
 }
@@ -9,10 +9,28 @@ import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
 
 public interface InterpreterInterceptor {
 
+  int INTEREST_TEXT           = 1;
+  int INTEREST_UNIT           = 1 << 1;
+  int INTEREST_OTHER_TERMINAL = 1 << 2;
+  int INTEREST_NON_TERMINAL   = 1 << 3;
+
+  // Nodes which are interceptors themselves, on top of their kind above
+  int INTEREST_INTERCEPTOR    = 1 << 4;
+
+  int INTEREST_TERMINAL       = INTEREST_TEXT | INTEREST_UNIT | INTEREST_OTHER_TERMINAL;
+  int INTEREST_ALL            = INTEREST_TERMINAL | INTEREST_NON_TERMINAL | INTEREST_INTERCEPTOR;
+
   InterceptionResult interceptInterpretation(MarkupNode node, Interpreter<?, ?> interpreter);
 
   void afterInterpretation(MarkupNode node, Interpreter<?, ?> interpreter);
 
   void onSkippedByChild(MarkupNode node, Interpreter<?, ?> interpreter, InterceptionResult priorResult);
 
+  /**
+   * Bit-mask of INTEREST_* constants; descendants of other kinds are processed as if DO_PROCESS had been
+   * returned, without calling into the interceptor at all. The interceptor's own node is always passed.
+   */
+  default int getInterests() {
+    return INTEREST_ALL;
+  }
 }
@@ -11,6 +11,7 @@ import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
 import at.blvckbytes.component_markup.markup.ast.node.StyledNode;
 import at.blvckbytes.component_markup.markup.ast.node.control.*;
 import at.blvckbytes.component_markup.markup.ast.node.style.NodeStyle;
+import at.blvckbytes.component_markup.markup.ast.node.terminal.PrerenderedNode;
 import at.blvckbytes.component_markup.markup.ast.node.terminal.RawNode;
 import at.blvckbytes.component_markup.markup.ast.node.terminal.TerminalNode;
 import at.blvckbytes.component_markup.markup.ast.node.terminal.TextNode;
@@ -19,6 +20,7 @@ import at.blvckbytes.component_markup.markup.ast.tag.CaptureLetBinding;
 import at.blvckbytes.component_markup.markup.ast.tag.ExpressionLetBinding;
 import at.blvckbytes.component_markup.markup.ast.tag.LetBinding;
 import at.blvckbytes.component_markup.expression.ast.ExpressionNode;
+import at.blvckbytes.component_markup.expression.interpreter.ExpressionCompiler;
 import at.blvckbytes.component_markup.expression.interpreter.ExpressionInterpreter;
 import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
 import at.blvckbytes.component_markup.markup.ast.tag.MarkupLetBinding;
@@ -30,19 +32,27 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 
 public class MarkupInterpreter<B, C> implements Interpreter<B, C> {
 
   private final ComponentConstructor<B, C> componentConstructor;
-  private final TemporaryMemberEnvironment environment;
+  private TemporaryMemberEnvironment environment;
   private final @Nullable RawValueTransformer rawValueTransformer;
   private final InterpreterLogger logger;
 
   private final InterceptorStack<B> interceptors;
   private final Stack<OutputBuilder<B, C>> builderStack;
   private final SlotContext resetContext;
+  private final Map<MarkupNode, Object> nodeStates;
+
+  // Only present while rendering, as nested subtrees are accounted for by the outermost render
+  private @Nullable RenderBudgetTracker budgetTracker;
 
   private MarkupInterpreter(
     ComponentConstructor<B, C> componentConstructor,
@@ -58,6 +68,7 @@ public class MarkupInterpreter<B, C> implements Interpreter<B, C> {
     this.interceptors = new InterceptorStack<>(this);
     this.builderStack = new Stack<>();
     this.resetContext = componentConstructor.getSlotContext(SlotType.CHAT);
+    this.nodeStates = new IdentityHashMap<>();
   }
 
   public static <B, C> List<C> interpret(
@@ -83,6 +94,90 @@ public class MarkupInterpreter<B, C> implements Interpreter<B, C> {
       .interpretSubtree(node, slotType);
   }
 
+  /**
+   * Renders the node once per environment, fanning out contiguous chunks of environments onto the
+   * executor, where each chunk reuses a single interpreter; results are returned in input-order.
+   */
+  public static <B, C> List<List<C>> interpretAll(
+    MarkupNode node,
+    SlotType slotType,
+    List<? extends InterpretationEnvironment> baseEnvironments,
+    ComponentConstructor<B, C> componentConstructor,
+    @Nullable RawValueTransformer rawValueTransformer,
+    InterpreterLogger logger,
+    Executor executor
+  ) {
+    int environmentCount = baseEnvironments.size();
+
+    if (environmentCount == 0)
+      return Collections.emptyList();
+
+    List<C>[] results = makeResultArray(environmentCount);
+
+    // A few chunks per core, such that an uneven distribution of cost is evened out
+    int chunkCount = Math.min(environmentCount, Runtime.getRuntime().availableProcessors() * 4);
+    int chunkSize = (environmentCount + chunkCount - 1) / chunkCount;
+
+    List<CompletableFuture<Void>> futures = new ArrayList<>(chunkCount);
+
+    for (int chunkStart = 0; chunkStart < environmentCount; chunkStart += chunkSize) {
+      int startInclusive = chunkStart;
+      int endExclusive = Math.min(environmentCount, chunkStart + chunkSize);
+
+      futures.add(CompletableFuture.runAsync(() -> {
+        MarkupInterpreter<B, C> interpreter = null;
+
+        for (int index = startInclusive; index < endExclusive; ++index) {
+          InterpretationEnvironment baseEnvironment = baseEnvironments.get(index);
+
+          if (interpreter == null || !interpreter.tryRebind(baseEnvironment))
+            interpreter = new MarkupInterpreter<>(componentConstructor, baseEnvironment, rawValueTransformer, logger);
+
+          results[index] = interpreter.interpretSubtree(node, slotType);
+        }
+      }, executor));
+    }
+
+    try {
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    } catch (CompletionException completionException) {
+      Throwable cause = completionException.getCause();
+
+      if (cause instanceof RuntimeException)
+        throw (RuntimeException) cause;
+
+      if (cause instanceof Error)
+        throw (Error) cause;
+
+      throw completionException;
+    }
+
+    return Arrays.asList(results);
+  }
+
+  public static <B, C> List<List<C>> interpretAll(
+    MarkupNode node,
+    SlotType slotType,
+    List<? extends InterpretationEnvironment> baseEnvironments,
+    ComponentConstructor<B, C> componentConstructor,
+    InterpreterLogger logger
+  ) {
+    return interpretAll(node, slotType, baseEnvironments, componentConstructor, null, logger, ForkJoinPool.commonPool());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <C> List<C>[] makeResultArray(int length) {
+    return (List<C>[]) new List[length];
+  }
+
+  private boolean tryRebind(InterpretationEnvironment baseEnvironment) {
+    if (!builderStack.isEmpty() || !interceptors.isEmpty() || !environment.tryRebind(baseEnvironment))
+      return false;
+
+    nodeStates.clear();
+    return true;
+  }
+
   @Override
   public TemporaryMemberEnvironment getEnvironment() {
     return environment;
@@ -104,7 +199,7 @@ public class MarkupInterpreter<B, C> implements Interpreter<B, C> {
       return null;
 
     try {
-      Object result = ExpressionInterpreter.interpret(expression, environment, logger);
+      Object result = evaluate(expression);
 
       if (result == null)
         return null;
@@ -132,7 +227,7 @@ public class MarkupInterpreter<B, C> implements Interpreter<B, C> {
       return null;
 
     try {
-      Object result = ExpressionInterpreter.interpret(expression, environment, logger);
+      Object result = evaluate(expression);
 
       if (result == null)
         return null;
@@ -160,7 +255,7 @@ public class MarkupInterpreter<B, C> implements Interpreter<B, C> {
       return null;
 
     try {
-      Object result = ExpressionInterpreter.interpret(expression, environment, logger);
+      Object result = evaluate(expression);
 
       if (result == null)
         return null;
@@ -188,7 +283,7 @@ public class MarkupInterpreter<B, C> implements Interpreter<B, C> {
       return null;
 
     try {
-      Object result = ExpressionInterpreter.interpret(expression, environment, logger);
+      Object result = evaluate(expression);
 
       if (result == null)
         return null;
@@ -216,7 +311,7 @@ public class MarkupInterpreter<B, C> implements Interpreter<B, C> {
       return TriState.NULL;
 
     try {
-      Object result = ExpressionInterpreter.interpret(expression, environment, logger);
+      Object result = evaluate(expression);
 
       if (result == null)
         return TriState.NULL;
@@ -234,19 +329,62 @@ public class MarkupInterpreter<B, C> implements Interpreter<B, C> {
       return null;
 
     try {
-      return ExpressionInterpreter.interpret(expression, environment, logger);
+      return evaluate(expression);
     } catch (Throwable e) {
       logger.logErrorScreen(expression.getFirstMemberPositionProvider(), "An error occurred while trying to interpret an expression as a plain object", e);
       return null;
     }
   }
 
+  private @Nullable Object evaluate(ExpressionNode expression) {
+    if (environment.isExpressionCompilationEnabled())
+      return ExpressionCompiler.getOrCompile(expression).evaluate(environment, logger);
+
+    return ExpressionInterpreter.interpret(expression, environment, logger);
+  }
+
   public List<C> interpretSubtree(MarkupNode node, SlotType slotType) {
-    builderStack.push(new OutputBuilder<>(this, componentConstructor.getSlotContext(slotType), resetContext));
+    return interpretSubtree(node, componentConstructor.getSlotContext(slotType));
+  }
+
+  private List<C> interpretSubtree(MarkupNode node, SlotContext slotContext) {
+    if (budgetTracker != null)
+      return buildSubtree(node, slotContext);
+
+    budgetTracker = new RenderBudgetTracker(environment.getRenderBudget());
+
+    int builderStackSize = builderStack.size();
+    int scopeDepth = environment.getScopeDepth();
+    int[] interceptorCheckpoint = interceptors.checkpoint();
+
+    try {
+      return buildSubtree(node, slotContext);
+    } catch (RenderBudgetExceededException e) {
+      logger.logErrorScreen(e.positionProvider, e.getMessage());
+
+      builderStack.setSize(builderStackSize);
+      interceptors.restore(interceptorCheckpoint);
+
+      while (environment.getScopeDepth() > scopeDepth)
+        environment.endScope();
+
+      // Rather emit nothing at all than partial output, which may very well be misleading
+      return new OutputBuilder<>(this, slotContext, resetContext).build();
+    } finally {
+      budgetTracker = null;
+    }
+  }
+
+  private List<C> buildSubtree(MarkupNode node, SlotContext slotContext) {
+    builderStack.push(new OutputBuilder<>(this, slotContext, resetContext));
     interpret(node);
     return builderStack.pop().build();
   }
 
+  @Nullable RenderBudgetTracker getBudgetTracker() {
+    return budgetTracker;
+  }
+
   @Override
   public boolean interpretIsolated(MarkupNode node, @Nullable Consumer<OutputBuilder<B, C>> postPopPreAppendHandler) {
     OutputBuilder<B, C> parentBuilder = builderStack.peek();
@@ -288,6 +426,21 @@ public class MarkupInterpreter<B, C> implements Interpreter<B, C> {
     return logger;
   }
 
+  @Override
+  public @Nullable Object getNodeState(MarkupNode node) {
+    return nodeStates.get(node);
+  }
+
+  @Override
+  public void setNodeState(MarkupNode node, @Nullable Object state) {
+    if (state == null) {
+      nodeStates.remove(node);
+      return;
+    }
+
+    nodeStates.put(node, state);
+  }
+
   private void interpretWhenMatching(WhenMatchingNode node) {
     if (node.matchingMap.isEmpty())
       GlobalLogger.log(Level.WARNING, "Encountered empty " + node.getClass().getSimpleName());
@@ -432,6 +585,9 @@ public class MarkupInterpreter<B, C> implements Interpreter<B, C> {
     boolean requiresSeparator = false;
 
     for (int index = (reversed ? size - 1 : 0); (reversed ? index >= 0 : index < size); index += (reversed ? -1 : 1)) {
+      if (budgetTracker != null)
+        budgetTracker.onLoopIteration(node);
+
       Object item = items.get(index);
 
       loopVariable.setIndex(index, items);
@@ -458,11 +614,12 @@ public class MarkupInterpreter<B, C> implements Interpreter<B, C> {
 
     MarkupNode substitutionNode = (MarkupNode) substitutionValue;
 
-    // Let's use thread-local state on the content-node itself to temporarily "bake"
-    // its content-provider, in contrast to cloning subtrees - this avoids having to make
-    // each node-type clonable and reduces allocation; sounds like a good tradeoff.
+    // Let's use per-render state of the content-node to temporarily "bake" its content-provider,
+    // in contrast to cloning subtrees - this avoids having to make each node-type clonable and
+    // reduces allocation; sounds like a good tradeoff. Prior providers are restored afterward, as
+    // to support substitutions which recursively render the same nodes again.
 
-    List<ContentNode> modifiedNodes = new ArrayList<>();
+    Map<ContentNode, Object> priorProviders = new IdentityHashMap<>();
 
     substitutionNode.forEachChildRecursively(child -> {
       // Do not dive into the children of substitutions, as their content-nodes
@@ -475,15 +632,47 @@ public class MarkupInterpreter<B, C> implements Interpreter<B, C> {
 
       ContentNode contentNode = (ContentNode) child;
 
-      contentNode.contentProvider.set(node);
-      modifiedNodes.add(contentNode);
+      if (!priorProviders.containsKey(contentNode)) {
+        priorProviders.put(contentNode, getNodeState(contentNode));
+        setNodeState(contentNode, node);
+      }
+
       return true;
     });
 
     interpret(substitutionNode);
 
-    for (ContentNode modifiedNode : modifiedNodes)
-      modifiedNode.contentProvider.remove();
+    for (Map.Entry<ContentNode, Object> priorEntry : priorProviders.entrySet())
+      setNodeState(priorEntry.getKey(), priorEntry.getValue());
+  }
+
+  private void interpretPrerendered(PrerenderedNode node, OutputBuilder<B, C> builder) {
+    char breakChar = builder.getSlotContext().breakChar;
+
+    List<C> components = node.getOrRender(componentConstructor, breakChar, environment, rawValueTransformer, () -> {
+      // Render against a neutral default-style, as to not have styles which happen to equal the slot's
+      // defaults be subtracted; these may very well be necessary when nested into a differently styled parent.
+      SlotContext neutralContext = new SlotContext(breakChar, new ComputedStyle());
+
+      // Static subtrees read no variables, but their constants are to be interpreted just as the caller's are
+      InterpretationEnvironment staticEnvironment = new InterpretationEnvironment(
+        new HashMap<>(), environment.getValueInterpreter(), environment.interpretationPlatform, null
+      )
+        .withComponentTreeOptimization(environment.isComponentTreeOptimizationEnabled())
+        .withExpressionCompilation(environment.isExpressionCompilationEnabled());
+
+      return Collections.unmodifiableList(
+        new MarkupInterpreter<>(componentConstructor, staticEnvironment, rawValueTransformer, logger)
+          .interpretSubtree(node.subtree, neutralContext)
+      );
+    });
+
+    for (int index = 0; index < components.size(); ++index) {
+      if (index > 0)
+        builder.onBreak();
+
+      builder.onComponent(components.get(index), node);
+    }
   }
 
   @Override
@@ -493,6 +682,17 @@ public class MarkupInterpreter<B, C> implements Interpreter<B, C> {
 
   @Override
   public boolean interpret(MarkupNode node, @Nullable Runnable afterScopeBegin) {
+    if (budgetTracker == null)
+      return interpretWithinBudget(node, afterScopeBegin);
+
+    budgetTracker.onNodeBegin(node);
+    boolean hasBeenRendered = interpretWithinBudget(node, afterScopeBegin);
+    budgetTracker.onNodeEnd();
+
+    return hasBeenRendered;
+  }
+
+  private boolean interpretWithinBudget(MarkupNode node, @Nullable Runnable afterScopeBegin) {
     boolean doNotUse = false;
 
     environment.beginScope();
@@ -585,7 +785,7 @@ public class MarkupInterpreter<B, C> implements Interpreter<B, C> {
     }
 
     if (node instanceof ContentNode) {
-      ((ContentNode) node).forEachContentNode(this::interpret);
+      ((ContentNode) node).forEachContentNode(this, this::interpret);
       return;
     }
 
@@ -627,7 +827,10 @@ public class MarkupInterpreter<B, C> implements Interpreter<B, C> {
     // Terminal nodes always render, because since they do not bear any child-nodes,
     // the only sensible way to "toggle" them is via an if-condition
     if (node instanceof TerminalNode) {
-      if (node instanceof UnitNode)
+      if (node instanceof PrerenderedNode)
+        interpretPrerendered((PrerenderedNode) node, builder);
+
+      else if (node instanceof UnitNode)
         builder.onUnit((UnitNode) node, null);
 
       else if (node instanceof TextNode)
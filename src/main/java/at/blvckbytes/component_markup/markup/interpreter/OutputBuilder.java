@@ -90,20 +90,44 @@ public class OutputBuilder<B, C> {
   }
 
   public void onText(TextNode node, @Nullable CreationHandler<B, C> creationHandler, boolean doNotBuffer) {
+    RenderBudgetTracker budgetTracker = interpreter.getBudgetTracker();
+
+    if (budgetTracker != null)
+      budgetTracker.onText(node.textValue.length());
+
     totalTextLength += node.textValue.length();
     sequencesStack.peek().onText(node, creationHandler, doNotBuffer);
     hasTrailingComponentBreak = false;
   }
 
   public void onUnit(UnitNode node, @Nullable CreationHandler<B, C> creationHandler) {
+    RenderBudgetTracker budgetTracker = interpreter.getBudgetTracker();
+
+    if (budgetTracker != null)
+      budgetTracker.onUnit();
+
     ++totalUnitCount;
     sequencesStack.peek().onUnit(node, creationHandler);
     hasTrailingComponentBreak = false;
   }
 
   public void onComponent(C component, StyledNode containingNode) {
-    componentConstructor.forEachTextOf(component, text -> totalTextLength += text.length());
-    componentConstructor.forEachNonTextUnitOf(component, unit -> ++totalUnitCount);
+    RenderBudgetTracker budgetTracker = interpreter.getBudgetTracker();
+
+    componentConstructor.forEachTextOf(component, text -> {
+      if (budgetTracker != null)
+        budgetTracker.onText(text.length());
+
+      totalTextLength += text.length();
+    });
+
+    componentConstructor.forEachNonTextUnitOf(component, unit -> {
+      if (budgetTracker != null)
+        budgetTracker.onUnit();
+
+      ++totalUnitCount;
+    });
+
     sequencesStack.peek().onComponent(component, containingNode);
     hasTrailingComponentBreak = false;
   }
@@ -165,9 +189,14 @@ public class OutputBuilder<B, C> {
     }
 
     List<C> finalizedResult = new ArrayList<>();
+    boolean optimize = interpreter.getEnvironment().isComponentTreeOptimizationEnabled();
+
+    for (ExtendedBuilder<B, C> extendedBuilder : result) {
+      if (optimize)
+        extendedBuilder = extendedBuilder.optimize();
 
-    for (ExtendedBuilder<B, C> extendedBuilder : result)
       finalizedResult.add(extendedBuilder.toFinalizedComponent(componentConstructor, interpreter.getLogger()));
+    }
 
     return finalizedResult;
   }
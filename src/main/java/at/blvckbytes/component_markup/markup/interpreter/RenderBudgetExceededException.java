@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.markup.interpreter;
+
+import at.blvckbytes.component_markup.util.InputView;
+
+/**
+ * Unwinds a render which exceeded its budget up until the outermost subtree, where it is reported.
+ */
+class RenderBudgetExceededException extends RuntimeException {
+
+  final InputView positionProvider;
+
+  RenderBudgetExceededException(InputView positionProvider, String message) {
+    // Purely used for control-flow, thus there's no need for a stack-trace
+    super(message, null, false, false);
+
+    this.positionProvider = positionProvider;
+  }
+}
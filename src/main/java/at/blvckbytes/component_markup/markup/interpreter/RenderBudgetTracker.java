@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.markup.interpreter;
+
+import at.blvckbytes.component_markup.expression.interpreter.RenderBudget;
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.util.InputView;
+
+/**
+ * Keeps track of the resources consumed by a single render, aborting it as soon as its budget
+ * has been exceeded; errors are positioned at the node which was being interpreted at the time.
+ */
+class RenderBudgetTracker {
+
+  // Reading the clock is not free, so the deadline is only checked every so often
+  private static final int DEADLINE_CHECK_INTERVAL = 64;
+
+  private final RenderBudget budget;
+  private final boolean hasDeadline;
+  private final long startNanos;
+
+  private InputView currentPosition;
+  private long loopIterations;
+  private long textLength;
+  private long unitCount;
+  private long depth;
+  private int checksUntilDeadlineCheck;
+
+  RenderBudgetTracker(RenderBudget budget) {
+    this.budget = budget;
+    this.hasDeadline = budget.maxRenderNanos != RenderBudget.UNLIMITED_VALUE;
+    this.startNanos = hasDeadline ? System.nanoTime() : 0;
+    this.currentPosition = InputView.EMPTY;
+    this.checksUntilDeadlineCheck = DEADLINE_CHECK_INTERVAL;
+  }
+
+  void onNodeBegin(MarkupNode node) {
+    // Synthetic nodes, like those wrapping interpolated values, point at the nearest actual node instead
+    if (node.positionProvider != InputView.EMPTY)
+      currentPosition = node.positionProvider;
+
+    if (++depth > budget.maxInterpretationDepth)
+      throw new RenderBudgetExceededException(currentPosition, "Exceeded the render-budget's maximum interpretation-depth of " + budget.maxInterpretationDepth);
+
+    checkDeadline();
+  }
+
+  void onNodeEnd() {
+    --depth;
+  }
+
+  void onLoopIteration(MarkupNode loopNode) {
+    if (++loopIterations > budget.maxLoopIterations)
+      throw new RenderBudgetExceededException(loopNode.positionProvider, "Exceeded the render-budget's maximum of " + budget.maxLoopIterations + " loop-iterations");
+
+    checkDeadline();
+  }
+
+  void onText(int length) {
+    if ((textLength += length) > budget.maxTextLength)
+      throw new RenderBudgetExceededException(currentPosition, "Exceeded the render-budget's maximum text-length of " + budget.maxTextLength);
+  }
+
+  void onUnit() {
+    if (++unitCount > budget.maxUnitCount)
+      throw new RenderBudgetExceededException(currentPosition, "Exceeded the render-budget's maximum of " + budget.maxUnitCount + " units");
+  }
+
+  private void checkDeadline() {
+    if (!hasDeadline || --checksUntilDeadlineCheck > 0)
+      return;
+
+    checksUntilDeadlineCheck = DEADLINE_CHECK_INTERVAL;
+
+    if (System.nanoTime() - startNanos > budget.maxRenderNanos)
+      throw new RenderBudgetExceededException(currentPosition, "Exceeded the render-budget's maximum render-time of " + (budget.maxRenderNanos / 1_000_000) + "ms");
+  }
+}
@@ -6,6 +6,9 @@
 package at.blvckbytes.component_markup.markup.interpreter;
 
 import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.expression.interpreter.LazyVariable;
+import at.blvckbytes.component_markup.expression.interpreter.MemberAccessPolicy;
+import at.blvckbytes.component_markup.expression.interpreter.RenderBudget;
 import at.blvckbytes.component_markup.expression.interpreter.ValueInterpreter;
 import at.blvckbytes.component_markup.util.logging.GlobalLogger;
 import org.jetbrains.annotations.Nullable;
@@ -14,45 +17,124 @@ import java.util.*;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 
+/**
+ * Scope-variables are kept on a single flat frame, which is reused for the whole render: beginning
+ * and ending a scope without any variables merely pushes and pops an offset, while each name maps
+ * to the slot of its innermost declaration, which in turn remembers the slot it shadows, if any.
+ */
 public class TemporaryMemberEnvironment extends InterpretationEnvironment {
 
-  private static final Object NULL_SENTINEL = new Object();
+  private static final int NO_SLOT = -1;
+  private static final int INITIAL_CAPACITY = 16;
+
+  private InterpretationEnvironment baseEnvironment;
+
+  private final Map<String, Integer> slotByName;
+
+  private String[] slotNames;
+  private Object[] slotValues;
+  private int[] shadowedSlots;
+  private int slotCount;
 
-  private final InterpretationEnvironment baseEnvironment;
-  private final Stack<Map<String, Object>> scopeStack;
+  private int[] scopeStartSlots;
+  private int scopeDepth;
+
+  // Lazy variables are resolved at most once per render, no matter the scope they're read from
+  private final Map<LazyVariable, Object> resolvedLazyValues;
 
   public TemporaryMemberEnvironment(InterpretationEnvironment baseEnvironment) {
     super(new HashMap<>(), baseEnvironment.getValueInterpreter(), baseEnvironment.interpretationPlatform, baseEnvironment.context);
 
     this.baseEnvironment = baseEnvironment;
-    this.scopeStack = new Stack<>();
+    this.slotByName = new HashMap<>();
+
+    this.slotNames = new String[INITIAL_CAPACITY];
+    this.slotValues = new Object[INITIAL_CAPACITY];
+    this.shadowedSlots = new int[INITIAL_CAPACITY];
+    this.scopeStartSlots = new int[INITIAL_CAPACITY];
+    this.resolvedLazyValues = new HashMap<>();
+  }
+
+  /**
+   * Swaps out the base-environment in order to reuse this frame for another render, which is only
+   * possible in between renders and if both share their platform and context, as these are fixed.
+   */
+  public boolean tryRebind(InterpretationEnvironment baseEnvironment) {
+    if (scopeDepth != 0 || slotCount != 0)
+      return false;
+
+    if (baseEnvironment.interpretationPlatform != interpretationPlatform || baseEnvironment.context != context)
+      return false;
+
+    this.baseEnvironment = baseEnvironment;
+    this.resolvedLazyValues.clear();
+    return true;
   }
 
   public void beginScope() {
-    scopeStack.push(new HashMap<>());
+    if (scopeDepth == scopeStartSlots.length)
+      scopeStartSlots = Arrays.copyOf(scopeStartSlots, scopeDepth * 2);
+
+    scopeStartSlots[scopeDepth++] = slotCount;
   }
 
   public void endScope() {
-    if (scopeStack.empty()) {
+    if (scopeDepth == 0) {
       GlobalLogger.log(Level.WARNING, "Tried to end a scope on an empty scope-stack");
       return;
     }
 
-    scopeStack.pop();
+    int scopeStartSlot = scopeStartSlots[--scopeDepth];
+
+    while (slotCount > scopeStartSlot) {
+      int slot = --slotCount;
+      int shadowedSlot = shadowedSlots[slot];
+
+      if (shadowedSlot == NO_SLOT)
+        slotByName.remove(slotNames[slot]);
+      else
+        slotByName.put(slotNames[slot], shadowedSlot);
+
+      slotNames[slot] = null;
+      slotValues[slot] = null;
+    }
+  }
+
+  public int getScopeDepth() {
+    return scopeDepth;
   }
 
   public void setScopeVariable(String name, Object value) {
-    if (scopeStack.empty()) {
+    if (scopeDepth == 0) {
       GlobalLogger.log(Level.WARNING, "Tried to set a scope-variable outside of having begun a scope");
       return;
     }
 
-    scopeStack.peek().put(name, value);
+    Integer existingSlot = slotByName.get(name);
+
+    if (existingSlot != null && existingSlot >= scopeStartSlots[scopeDepth - 1]) {
+      slotValues[existingSlot] = value;
+      return;
+    }
+
+    if (slotCount == slotNames.length) {
+      slotNames = Arrays.copyOf(slotNames, slotCount * 2);
+      slotValues = Arrays.copyOf(slotValues, slotCount * 2);
+      shadowedSlots = Arrays.copyOf(shadowedSlots, slotCount * 2);
+    }
+
+    int slot = slotCount++;
+
+    slotNames[slot] = name;
+    slotValues[slot] = value;
+    shadowedSlots[slot] = existingSlot == null ? NO_SLOT : existingSlot;
+
+    slotByName.put(name, slot);
   }
 
   @Override
   public boolean isEmpty() {
-    if (!scopeStack.isEmpty())
+    if (scopeDepth != 0)
       return false;
 
     return super.isEmpty();
@@ -62,11 +144,9 @@ public class TemporaryMemberEnvironment extends InterpretationEnvironment {
   public void forEachKnownName(Consumer<String> handler) {
     Set<String> encounteredNames = new HashSet<>();
 
-    for (int scopeIndex = scopeStack.size() - 1; scopeIndex >= 0; --scopeIndex) {
-      for (String scopeVariableName : scopeStack.get(scopeIndex).keySet()) {
-        if (encounteredNames.add(scopeVariableName))
-          handler.accept(scopeVariableName);
-      }
+    for (int slot = slotCount - 1; slot >= 0; --slot) {
+      if (encounteredNames.add(slotNames[slot]))
+        handler.accept(slotNames[slot]);
     }
 
     baseEnvironment.forEachKnownName(baseName -> {
@@ -77,27 +157,36 @@ public class TemporaryMemberEnvironment extends InterpretationEnvironment {
 
   @Override
   public @Nullable Object getVariableValue(String name) {
-    for (int scopeIndex = scopeStack.size() - 1; scopeIndex >= 0; --scopeIndex) {
-      Map<String, Object> scopeVariables = scopeStack.get(scopeIndex);
-      Object value = scopeVariables.getOrDefault(name, NULL_SENTINEL);
-
-      if (value == NULL_SENTINEL)
-        continue;
+    Object value = getUnresolvedVariableValue(name);
 
+    if (!(value instanceof LazyVariable))
       return value;
+
+    LazyVariable lazyVariable = (LazyVariable) value;
+    Object resolvedValue = resolvedLazyValues.get(lazyVariable);
+
+    if (resolvedValue == null && !resolvedLazyValues.containsKey(lazyVariable)) {
+      resolvedValue = lazyVariable.resolve();
+      resolvedLazyValues.put(lazyVariable, resolvedValue);
     }
 
-    return baseEnvironment.getVariableValue(name);
+    return resolvedValue;
   }
 
   @Override
-  public boolean doesVariableExist(String name) {
-    for (int scopeIndex = scopeStack.size() - 1; scopeIndex >= 0; --scopeIndex) {
-      Map<String, Object> scopeVariables = scopeStack.get(scopeIndex);
+  public @Nullable Object getUnresolvedVariableValue(String name) {
+    Integer slot = slotByName.get(name);
 
-      if (scopeVariables.containsKey(name))
-        return true;
-    }
+    if (slot != null)
+      return slotValues[slot];
+
+    return baseEnvironment.getUnresolvedVariableValue(name);
+  }
+
+  @Override
+  public boolean doesVariableExist(String name) {
+    if (slotByName.containsKey(name))
+      return true;
 
     return baseEnvironment.doesVariableExist(name);
   }
@@ -106,4 +195,24 @@ public class TemporaryMemberEnvironment extends InterpretationEnvironment {
   public ValueInterpreter getValueInterpreter() {
     return baseEnvironment.getValueInterpreter();
   }
+
+  @Override
+  public RenderBudget getRenderBudget() {
+    return baseEnvironment.getRenderBudget();
+  }
+
+  @Override
+  public MemberAccessPolicy getMemberAccessPolicy() {
+    return baseEnvironment.getMemberAccessPolicy();
+  }
+
+  @Override
+  public boolean isComponentTreeOptimizationEnabled() {
+    return baseEnvironment.isComponentTreeOptimizationEnabled();
+  }
+
+  @Override
+  public boolean isExpressionCompilationEnabled() {
+    return baseEnvironment.isExpressionCompilationEnabled();
+  }
 }
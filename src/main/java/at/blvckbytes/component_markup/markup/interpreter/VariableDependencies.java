@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.markup.interpreter;
+
+import at.blvckbytes.component_markup.expression.ast.ExpressionNode;
+import at.blvckbytes.component_markup.expression.interpreter.ExpressionInterpreter;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.util.logging.InterpreterLogger;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Report of all variables which a subtree may read while being rendered, be it by interpolations,
+ * styles, let-bindings or tag-attributes, together with the paths by which they are accessed, like
+ * player.name; paths only consisting of a name denote reading the variable as a whole.
+ */
+public class VariableDependencies {
+
+  // Marks variables which do not exist, as opposed to ones which hold null
+  private static final Object MISSING_VALUE = new Object();
+
+  private static final InterpreterLogger SILENT_LOGGER = (view, position, message, e) -> {};
+
+  public final Set<String> variableNames;
+  public final Set<String> accessPaths;
+
+  private final String[] pathRoots;
+  private final @Nullable ExpressionNode[] pathExpressions;
+
+  VariableDependencies(Set<String> variableNames, Map<String, ExpressionNode> accessByPath) {
+    this.variableNames = Collections.unmodifiableSet(variableNames);
+    this.accessPaths = Collections.unmodifiableSet(accessByPath.keySet());
+    this.pathRoots = new String[accessByPath.size()];
+    this.pathExpressions = new ExpressionNode[accessByPath.size()];
+
+    int index = 0;
+
+    for (Map.Entry<String, ExpressionNode> entry : accessByPath.entrySet()) {
+      String path = entry.getKey();
+      int separatorIndex = path.indexOf('.');
+
+      pathRoots[index] = separatorIndex < 0 ? path : path.substring(0, separatorIndex);
+      pathExpressions[index] = entry.getValue();
+      ++index;
+    }
+  }
+
+  /**
+   * @return Dependencies of the subtree, or null if they cannot be determined ahead of time,
+   *         like for function-driven nodes or env() on computed names
+   */
+  public static @Nullable VariableDependencies of(MarkupNode node) {
+    return FreeVariableAnalyzer.getDependencies(node);
+  }
+
+  /**
+   * Reads the current value of each access-path, followed by the names and values of all variables which
+   * are referenced by markup held within those values, as such markup is rendered in terms of the variables
+   * present at the site of its use. Renders of the subtree within environments which yield equal values
+   * are thereby equal as well, given that the values implement equality by their contents.
+   * @return Values in a stable order, or null if the variables referenced by held markup are undeterminable
+   */
+  public @Nullable Object[] readValues(InterpretationEnvironment environment) {
+    List<Object> values = new ArrayList<>(pathRoots.length);
+    Set<String> pendingNames = new LinkedHashSet<>();
+
+    for (int index = 0; index < pathRoots.length; ++index) {
+      Object value;
+
+      if (!environment.doesVariableExist(pathRoots[index]))
+        value = MISSING_VALUE;
+      else if (pathExpressions[index] == null)
+        value = environment.getVariableValue(pathRoots[index]);
+      else
+        value = ExpressionInterpreter.interpret(pathExpressions[index], environment, SILENT_LOGGER);
+
+      if (!FreeVariableAnalyzer.collectFromValue(value, pendingNames))
+        return null;
+
+      values.add(value);
+    }
+
+    Set<String> visitedNames = new HashSet<>(variableNames);
+    Deque<String> remainingNames = new ArrayDeque<>(pendingNames);
+
+    while (!remainingNames.isEmpty()) {
+      String name = remainingNames.poll();
+
+      if (!visitedNames.add(name))
+        continue;
+
+      if (!environment.doesVariableExist(name)) {
+        values.add(name);
+        values.add(MISSING_VALUE);
+        continue;
+      }
+
+      Object value = environment.getVariableValue(name);
+      List<String> heldNames = new ArrayList<>();
+
+      if (!FreeVariableAnalyzer.collectFromValue(value, heldNames))
+        return null;
+
+      values.add(name);
+      values.add(value);
+      remainingNames.addAll(heldNames);
+    }
+
+    return values.toArray();
+  }
+}
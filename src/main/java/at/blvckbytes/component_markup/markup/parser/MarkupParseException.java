@@ -17,12 +17,16 @@ public class MarkupParseException extends RuntimeException implements ErrorProvi
 
   private @Nullable InputView rootView;
 
+  @Nullable InputView positionView;
+
   public final int position;
   public final MarkupParseError error;
   public final String[] messagePlaceholders;
 
   public MarkupParseException(InputView positionProvider, MarkupParseError error, String... messagePlaceholders) {
     this(positionProvider.startInclusive, error, messagePlaceholders);
+
+    this.positionView = positionProvider;
   }
 
   public MarkupParseException(int position, MarkupParseError error, String... messagePlaceholders) {
@@ -33,9 +33,12 @@ import at.blvckbytes.component_markup.markup.parser.token.TokenType;
 import at.blvckbytes.component_markup.markup.cml.CmlEventConsumer;
 import at.blvckbytes.component_markup.markup.cml.CmlEventParser;
 import at.blvckbytes.component_markup.markup.cml.CmlParseException;
+import at.blvckbytes.component_markup.markup.cml.CmlStreamParser;
 import at.blvckbytes.component_markup.util.InputView;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.Stack;
@@ -53,7 +56,8 @@ public class MarkupParser implements CmlEventConsumer {
     RESERVED_OPERATOR_NAMES.add("null");
   }
 
-  private final InputView rootView;
+  // Advances segment by segment when parsing a stream, as positions are relative to the current segment
+  private InputView rootView;
   private final @Nullable TokenOutput tokenOutput;
   private final TagRegistry tagRegistry;
   private final Stack<TagAndBuffers> tagStack;
@@ -536,6 +540,36 @@ public class MarkupParser implements CmlEventConsumer {
     return parser.result;
   }
 
+  /**
+   * Parses the document in segments of roughly the given window-size, as to not require
+   * holding all of it in memory at once; the resulting tree is equal to that of a parse
+   * over the whole document, with position-providers being relative to their segments.
+   */
+  public static MarkupNode parse(Reader reader, TagRegistry tagRegistry, int windowSize) throws IOException {
+    MarkupParser parser = new MarkupParser(InputView.EMPTY, null, tagRegistry, 0, false);
+
+    try {
+      CmlStreamParser.parse(reader, parser, windowSize, segment -> parser.rootView = segment);
+    } catch (CmlParseException cmlException) {
+      throw new MarkupParseException(cmlException).setRootView(parser.rootView);
+    } catch (MarkupParseException markupParseException) {
+      InputView positionView = markupParseException.positionView;
+
+      // Errors may also point at tags which have been opened within prior segments
+      if (positionView == null || positionView.contents.isEmpty())
+        positionView = parser.rootView;
+
+      markupParseException.setRootView(positionView);
+      throw markupParseException;
+    }
+
+    return parser.result;
+  }
+
+  public static MarkupNode parse(Reader reader, TagRegistry tagRegistry) throws IOException {
+    return parse(reader, tagRegistry, CmlStreamParser.DEFAULT_WINDOW_SIZE);
+  }
+
   // ================================================================================
   // Utilities
   // ================================================================================
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.markup.template;
+
+import at.blvckbytes.component_markup.constructor.ComponentConstructor;
+import at.blvckbytes.component_markup.constructor.SlotType;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.markup.ast.tag.TagRegistry;
+import at.blvckbytes.component_markup.markup.interpreter.MarkupInterpreter;
+import at.blvckbytes.component_markup.markup.interpreter.RawValueTransformer;
+import at.blvckbytes.component_markup.markup.interpreter.VariableDependencies;
+import at.blvckbytes.component_markup.markup.parser.MarkupParser;
+import at.blvckbytes.component_markup.util.InputView;
+import at.blvckbytes.component_markup.util.logging.InterpreterLogger;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A template which has been parsed exactly once and may from then on be rendered concurrently
+ * by any number of threads, each with their own environment, seeing how all state which is
+ * specific to a single render is kept by the interpreter and never on the shared tree.
+ */
+public class CompiledTemplate {
+
+  public final String source;
+  public final TagRegistry tagRegistry;
+
+  private final MarkupNode rootNode;
+
+  private @Nullable VariableDependencies variableDependencies;
+  private volatile boolean dependenciesAnalyzed;
+
+  private CompiledTemplate(String source, TagRegistry tagRegistry, MarkupNode rootNode) {
+    this.source = source;
+    this.tagRegistry = tagRegistry;
+    this.rootNode = rootNode;
+  }
+
+  public static CompiledTemplate compile(String source, TagRegistry tagRegistry) {
+    return compile(source, tagRegistry, false);
+  }
+
+  /**
+   * @param prerenderStaticSubtrees Whether to render subtrees which do not depend on any variables only once,
+   *                                see {@link StaticSubtreeFolder}; the output remains visually equivalent, but
+   *                                its component-structure may differ slightly from that of a plain render.
+   */
+  public static CompiledTemplate compile(String source, TagRegistry tagRegistry, boolean prerenderStaticSubtrees) {
+    MarkupNode rootNode = MarkupParser.parse(InputView.of(source), tagRegistry);
+
+    if (prerenderStaticSubtrees)
+      rootNode = StaticSubtreeFolder.fold(rootNode);
+
+    return new CompiledTemplate(source, tagRegistry, rootNode);
+  }
+
+  /**
+   * The returned tree is shared by all renders and must thereby never be altered.
+   */
+  public MarkupNode getRootNode() {
+    return rootNode;
+  }
+
+  /**
+   * Analyzed on first access; see {@link VariableDependencies#of}.
+   */
+  public @Nullable VariableDependencies getVariableDependencies() {
+    // Racing threads analyze redundantly, but always arrive at the same result
+    if (!dependenciesAnalyzed) {
+      variableDependencies = VariableDependencies.of(rootNode);
+      dependenciesAnalyzed = true;
+    }
+
+    return variableDependencies;
+  }
+
+  public <B, C> List<C> render(
+    SlotType slotType,
+    InterpretationEnvironment environment,
+    ComponentConstructor<B, C> componentConstructor,
+    InterpreterLogger logger
+  ) {
+    return MarkupInterpreter.interpret(rootNode, slotType, environment, componentConstructor, logger);
+  }
+
+  public <B, C> List<C> render(
+    SlotType slotType,
+    InterpretationEnvironment environment,
+    ComponentConstructor<B, C> componentConstructor,
+    @Nullable RawValueTransformer rawValueTransformer,
+    InterpreterLogger logger
+  ) {
+    return MarkupInterpreter.interpret(rootNode, slotType, environment, componentConstructor, rawValueTransformer, logger);
+  }
+
+  /**
+   * Renders this template once per environment in parallel on the common pool; see
+   * {@link MarkupInterpreter#interpretAll} - results are returned in input-order.
+   */
+  public <B, C> List<List<C>> renderAll(
+    SlotType slotType,
+    List<? extends InterpretationEnvironment> environments,
+    ComponentConstructor<B, C> componentConstructor,
+    InterpreterLogger logger
+  ) {
+    return MarkupInterpreter.interpretAll(rootNode, slotType, environments, componentConstructor, logger);
+  }
+
+  public <B, C> List<List<C>> renderAll(
+    SlotType slotType,
+    List<? extends InterpretationEnvironment> environments,
+    ComponentConstructor<B, C> componentConstructor,
+    @Nullable RawValueTransformer rawValueTransformer,
+    InterpreterLogger logger,
+    Executor executor
+  ) {
+    return MarkupInterpreter.interpretAll(rootNode, slotType, environments, componentConstructor, rawValueTransformer, logger, executor);
+  }
+
+  public <B, C> List<List<C>> renderAll(
+    SlotType slotType,
+    Stream<? extends InterpretationEnvironment> environments,
+    ComponentConstructor<B, C> componentConstructor,
+    @Nullable RawValueTransformer rawValueTransformer,
+    InterpreterLogger logger,
+    Executor executor
+  ) {
+    return renderAll(slotType, environments.collect(Collectors.toList()), componentConstructor, rawValueTransformer, logger, executor);
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.markup.template;
+
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.expression.interpreter.LazyVariable;
+import at.blvckbytes.component_markup.expression.interpreter.MemberAccessPolicy;
+import at.blvckbytes.component_markup.expression.interpreter.RenderBudget;
+import at.blvckbytes.component_markup.expression.interpreter.ValueInterpreter;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * View onto an environment which resolves each of its lazy variables at most once, and from then on exposes
+ * the resolved value in place of the lazy variable, such that a render based upon this view reuses all values
+ * which have been resolved beforehand, like while reading the dependencies of a template.
+ */
+class LazyResolvingEnvironment extends InterpretationEnvironment {
+
+  private final InterpretationEnvironment baseEnvironment;
+  private final Map<String, Object> resolvedValues;
+
+  LazyResolvingEnvironment(InterpretationEnvironment baseEnvironment) {
+    super(new HashMap<>(), baseEnvironment.getValueInterpreter(), baseEnvironment.interpretationPlatform, baseEnvironment.context);
+
+    this.baseEnvironment = baseEnvironment;
+    this.resolvedValues = new HashMap<>();
+  }
+
+  @Override
+  public @Nullable Object getVariableValue(String name) {
+    Object value = baseEnvironment.getUnresolvedVariableValue(name);
+
+    if (!(value instanceof LazyVariable))
+      return value;
+
+    Object resolvedValue = resolvedValues.get(name);
+
+    if (resolvedValue == null && !resolvedValues.containsKey(name)) {
+      resolvedValue = ((LazyVariable) value).resolve();
+      resolvedValues.put(name, resolvedValue);
+    }
+
+    return resolvedValue;
+  }
+
+  @Override
+  public @Nullable Object getUnresolvedVariableValue(String name) {
+    Object resolvedValue = resolvedValues.get(name);
+
+    if (resolvedValue != null || resolvedValues.containsKey(name))
+      return resolvedValue;
+
+    return baseEnvironment.getUnresolvedVariableValue(name);
+  }
+
+  @Override
+  public boolean doesVariableExist(String name) {
+    return baseEnvironment.doesVariableExist(name);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return baseEnvironment.isEmpty();
+  }
+
+  @Override
+  public void forEachKnownName(Consumer<String> handler) {
+    baseEnvironment.forEachKnownName(handler);
+  }
+
+  @Override
+  public ValueInterpreter getValueInterpreter() {
+    return baseEnvironment.getValueInterpreter();
+  }
+
+  @Override
+  public RenderBudget getRenderBudget() {
+    return baseEnvironment.getRenderBudget();
+  }
+
+  @Override
+  public MemberAccessPolicy getMemberAccessPolicy() {
+    return baseEnvironment.getMemberAccessPolicy();
+  }
+
+  @Override
+  public boolean isComponentTreeOptimizationEnabled() {
+    return baseEnvironment.isComponentTreeOptimizationEnabled();
+  }
+
+  @Override
+  public boolean isExpressionCompilationEnabled() {
+    return baseEnvironment.isExpressionCompilationEnabled();
+  }
+}
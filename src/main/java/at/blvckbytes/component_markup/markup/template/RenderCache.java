@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.markup.template;
+
+import at.blvckbytes.component_markup.constructor.ComponentConstructor;
+import at.blvckbytes.component_markup.constructor.SlotType;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationPlatform;
+import at.blvckbytes.component_markup.expression.interpreter.MemberAccessPolicy;
+import at.blvckbytes.component_markup.expression.interpreter.RenderBudget;
+import at.blvckbytes.component_markup.expression.interpreter.ValueInterpreter;
+import at.blvckbytes.component_markup.markup.interpreter.RawValueTransformer;
+import at.blvckbytes.component_markup.markup.interpreter.VariableDependencies;
+import at.blvckbytes.component_markup.util.BoundedCache;
+import at.blvckbytes.component_markup.util.logging.InterpreterLogger;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in cache of render-results, keyed by the template and by the values of exactly those variables
+ * it depends on, see {@link VariableDependencies}; hits return the previous result without interpreting
+ * at all. Values are compared by equality, such that ones which are mutated in place while their equality
+ * remains unchanged lead to stale results. Results are shared among all hits and must thereby never be
+ * altered; also, as hits skip the interpreter, errors of the first render are not logged again.
+ */
+public class RenderCache {
+
+  private static class RenderKey {
+
+    final CompiledTemplate template;
+    final SlotType slotType;
+    final ComponentConstructor<?, ?> componentConstructor;
+    final @Nullable RawValueTransformer rawValueTransformer;
+    final ValueInterpreter valueInterpreter;
+    final RenderBudget renderBudget;
+    final MemberAccessPolicy memberAccessPolicy;
+    final boolean optimizeComponentTree;
+    final InterpretationPlatform interpretationPlatform;
+    final Object context;
+    final Object[] dependencyValues;
+    final int hashCode;
+
+    RenderKey(
+      CompiledTemplate template,
+      SlotType slotType,
+      ComponentConstructor<?, ?> componentConstructor,
+      @Nullable RawValueTransformer rawValueTransformer,
+      InterpretationEnvironment environment,
+      Object[] dependencyValues
+    ) {
+      this.template = template;
+      this.slotType = slotType;
+      this.componentConstructor = componentConstructor;
+      this.rawValueTransformer = rawValueTransformer;
+      this.valueInterpreter = environment.getValueInterpreter();
+      this.renderBudget = environment.getRenderBudget();
+      this.memberAccessPolicy = environment.getMemberAccessPolicy();
+      this.optimizeComponentTree = environment.isComponentTreeOptimizationEnabled();
+      this.interpretationPlatform = environment.interpretationPlatform;
+      this.context = environment.context;
+      this.dependencyValues = dependencyValues;
+
+      int hashCode = System.identityHashCode(template);
+      hashCode = 31 * hashCode + slotType.hashCode();
+      hashCode = 31 * hashCode + System.identityHashCode(componentConstructor);
+      this.hashCode = 31 * hashCode + Arrays.deepHashCode(dependencyValues);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (!(other instanceof RenderKey))
+        return false;
+
+      RenderKey otherKey = (RenderKey) other;
+
+      return template == otherKey.template
+        && slotType == otherKey.slotType
+        && componentConstructor == otherKey.componentConstructor
+        && rawValueTransformer == otherKey.rawValueTransformer
+        && valueInterpreter == otherKey.valueInterpreter
+        && renderBudget == otherKey.renderBudget
+        && memberAccessPolicy == otherKey.memberAccessPolicy
+        && optimizeComponentTree == otherKey.optimizeComponentTree
+        && interpretationPlatform == otherKey.interpretationPlatform
+        && context == otherKey.context
+        && hashCode == otherKey.hashCode
+        && Arrays.deepEquals(dependencyValues, otherKey.dependencyValues);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  private final BoundedCache<RenderKey, List<?>> entries;
+  private final LongAdder bypassCount;
+
+  public RenderCache(int maxEntries) {
+    this.entries = new BoundedCache<>(maxEntries);
+    this.bypassCount = new LongAdder();
+  }
+
+  public <B, C> List<C> render(
+    CompiledTemplate template,
+    SlotType slotType,
+    InterpretationEnvironment environment,
+    ComponentConstructor<B, C> componentConstructor,
+    InterpreterLogger logger
+  ) {
+    return render(template, slotType, environment, componentConstructor, null, logger);
+  }
+
+  /**
+   * Renders without caching if the dependencies of the template are undeterminable, or if the render is limited
+   * in time, as the result of an aborted render would then depend on more than the template and its variables.
+   */
+  @SuppressWarnings("unchecked")
+  public <B, C> List<C> render(
+    CompiledTemplate template,
+    SlotType slotType,
+    InterpretationEnvironment environment,
+    ComponentConstructor<B, C> componentConstructor,
+    @Nullable RawValueTransformer rawValueTransformer,
+    InterpreterLogger logger
+  ) {
+    VariableDependencies dependencies = template.getVariableDependencies();
+
+    if (dependencies == null || environment.getRenderBudget().maxRenderNanos != RenderBudget.UNLIMITED_VALUE) {
+      bypassCount.increment();
+      return template.render(slotType, environment, componentConstructor, rawValueTransformer, logger);
+    }
+
+    // Lazy variables are resolved once for building the key, and a render on miss reuses their values
+    InterpretationEnvironment resolvingEnvironment = new LazyResolvingEnvironment(environment);
+    Object[] dependencyValues = dependencies.readValues(resolvingEnvironment);
+
+    if (dependencyValues == null) {
+      bypassCount.increment();
+      return template.render(slotType, resolvingEnvironment, componentConstructor, rawValueTransformer, logger);
+    }
+
+    RenderKey key = new RenderKey(template, slotType, componentConstructor, rawValueTransformer, environment, dependencyValues);
+
+    return (List<C>) entries.get(key, k -> Collections.unmodifiableList(
+      template.render(slotType, resolvingEnvironment, componentConstructor, rawValueTransformer, logger)
+    ));
+  }
+
+  public void clear() {
+    entries.clear();
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  public long getHitCount() {
+    return entries.getHitCount();
+  }
+
+  public long getMissCount() {
+    return entries.getMissCount();
+  }
+
+  public long getEvictionCount() {
+    return entries.getEvictionCount();
+  }
+
+  /**
+   * @return Count of renders which could not be cached at all
+   */
+  public long getBypassCount() {
+    return bypassCount.sum();
+  }
+
+  /**
+   * @return Ratio of hits to all cacheable renders, or zero if there were none yet
+   */
+  public double getHitRate() {
+    long hitCount = entries.getHitCount();
+    long totalCount = hitCount + entries.getMissCount();
+
+    return totalCount == 0 ? 0 : (double) hitCount / totalCount;
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.markup.template;
+
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.markup.ast.node.StyledNode;
+import at.blvckbytes.component_markup.markup.ast.node.click.ClickNode;
+import at.blvckbytes.component_markup.markup.ast.node.click.InsertNode;
+import at.blvckbytes.component_markup.markup.ast.node.control.BreakNode;
+import at.blvckbytes.component_markup.markup.ast.node.control.ContainerNode;
+import at.blvckbytes.component_markup.markup.ast.node.hover.HoverNode;
+import at.blvckbytes.component_markup.markup.ast.node.style.NodeStyle;
+import at.blvckbytes.component_markup.markup.ast.node.terminal.PrerenderedNode;
+import at.blvckbytes.component_markup.markup.ast.node.terminal.TextNode;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces maximal subtrees which do not depend on any variables by {@link PrerenderedNode}s,
+ * such that the cost of a render scales with the dynamic parts of a template only.
+ */
+public class StaticSubtreeFolder {
+
+  private StaticSubtreeFolder() {}
+
+  /**
+   * Folds the tree in place and returns the node to use as its new root; the input is to be
+   * a freshly parsed tree which is not yet shared with any other party.
+   */
+  public static MarkupNode fold(MarkupNode root) {
+    if (isWorthPrerendering(root) && isStatic(root))
+      return new PrerenderedNode(root);
+
+    foldChildren(root);
+    return root;
+  }
+
+  private static void foldChildren(MarkupNode node) {
+    if (!canDescendInto(node) || node.children == null)
+      return;
+
+    List<MarkupNode> foldedChildren = new ArrayList<>(node.children.size());
+    List<MarkupNode> staticRun = new ArrayList<>();
+    boolean didFold = false;
+
+    for (MarkupNode child : node.children) {
+      if (isStatic(child)) {
+        staticRun.add(child);
+        continue;
+      }
+
+      didFold |= flushStaticRun(staticRun, foldedChildren);
+
+      foldChildren(child);
+      foldedChildren.add(child);
+    }
+
+    didFold |= flushStaticRun(staticRun, foldedChildren);
+
+    // The parser may hand out immutable lists, so always swap in a copy instead of altering in place
+    if (didFold)
+      node.children = foldedChildren;
+  }
+
+  private static boolean flushStaticRun(List<MarkupNode> staticRun, List<MarkupNode> output) {
+    if (staticRun.isEmpty())
+      return false;
+
+    boolean didFold = true;
+
+    // Consecutive static siblings are rendered as a whole, as to also save on the per-node overhead of
+    // plain texts in between styled nodes; a lone text is cheaper to buffer than to splice in, though.
+    if (staticRun.size() > 1)
+      output.add(new PrerenderedNode(new ContainerNode(staticRun.get(0).positionProvider, new ArrayList<>(staticRun), null)));
+
+    else if (isWorthPrerendering(staticRun.get(0)))
+      output.add(new PrerenderedNode(staticRun.get(0)));
+
+    else {
+      output.add(staticRun.get(0));
+      didFold = false;
+    }
+
+    staticRun.clear();
+    return didFold;
+  }
+
+  private static boolean canDescendInto(MarkupNode node) {
+    // Only descend into nodes whose children are rendered in place by the interpreter. Interceptors
+    // (colorizers) alter all text of descendants, while substitutions render their children wherever
+    // the substituted markup places its content-tags - possibly within such an interceptor.
+    return node instanceof ContainerNode
+      || node instanceof ClickNode
+      || node instanceof InsertNode
+      || node instanceof HoverNode;
+  }
+
+  private static boolean isWorthPrerendering(MarkupNode node) {
+    return node instanceof ContainerNode && node.children != null && !node.children.isEmpty();
+  }
+
+  private static boolean isStatic(MarkupNode node) {
+    if (node.getIfCondition() != null || node.getUseCondition() != null)
+      return false;
+
+    if (node.letBindings != null && !node.letBindings.isEmpty())
+      return false;
+
+    Class<?> nodeType = node.getClass();
+
+    if (nodeType != ContainerNode.class && nodeType != TextNode.class && nodeType != BreakNode.class)
+      return false;
+
+    if (node instanceof StyledNode && !isStaticStyle(((StyledNode) node).getStyle()))
+      return false;
+
+    if (node.children != null) {
+      for (MarkupNode child : node.children) {
+        if (!isStatic(child))
+          return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static boolean isStaticStyle(@Nullable NodeStyle style) {
+    if (style == null)
+      return true;
+
+    // Resets depend on the styles of ancestors, which are not known while rendering in isolation
+    if (style.reset != null)
+      return false;
+
+    return style.isConstant();
+  }
+}
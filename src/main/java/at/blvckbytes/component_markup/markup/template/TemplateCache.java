@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.markup.template;
+
+import at.blvckbytes.component_markup.markup.ast.tag.TagRegistry;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least-recently-used cache of compiled templates, bounded by both the number of entries
+ * as well as by the total length of all cached sources, whichever is hit first.
+ */
+public class TemplateCache {
+
+  private static class CacheKey {
+
+    final String source;
+    final TagRegistry tagRegistry;
+
+    CacheKey(String source, TagRegistry tagRegistry) {
+      this.source = source;
+      this.tagRegistry = tagRegistry;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (!(other instanceof CacheKey))
+        return false;
+
+      CacheKey otherKey = (CacheKey) other;
+
+      return tagRegistry == otherKey.tagRegistry && source.equals(otherKey.source);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * source.hashCode() + System.identityHashCode(tagRegistry);
+    }
+  }
+
+  private final int maxEntries;
+  private final long maxTotalSourceLength;
+
+  private final LinkedHashMap<CacheKey, CompiledTemplate> entries;
+  private long totalSourceLength;
+
+  public TemplateCache(int maxEntries, long maxTotalSourceLength) {
+    if (maxEntries <= 0)
+      throw new IllegalArgumentException("The max-entries need to be greater than zero");
+
+    if (maxTotalSourceLength <= 0)
+      throw new IllegalArgumentException("The max-total-source-length needs to be greater than zero");
+
+    this.maxEntries = maxEntries;
+    this.maxTotalSourceLength = maxTotalSourceLength;
+    this.entries = new LinkedHashMap<>(16, .75F, true);
+  }
+
+  /**
+   * Retrieves the compiled template corresponding to the provided source and registry or compiles
+   * it if absent; parse-errors are not cached and thereby rethrown on each call.
+   */
+  public CompiledTemplate get(String source, TagRegistry tagRegistry) {
+    CacheKey key = new CacheKey(source, tagRegistry);
+    CompiledTemplate template;
+
+    synchronized (entries) {
+      if ((template = entries.get(key)) != null)
+        return template;
+    }
+
+    // Compile outside the lock, as to not block other lookups; in the rare case of two threads
+    // racing for the same source, the first one to insert wins and the other result is dropped.
+    template = CompiledTemplate.compile(source, tagRegistry);
+
+    if (source.length() > maxTotalSourceLength)
+      return template;
+
+    synchronized (entries) {
+      CompiledTemplate existingTemplate = entries.get(key);
+
+      if (existingTemplate != null)
+        return existingTemplate;
+
+      entries.put(key, template);
+      totalSourceLength += source.length();
+
+      Iterator<Map.Entry<CacheKey, CompiledTemplate>> iterator = entries.entrySet().iterator();
+
+      while (entries.size() > maxEntries || totalSourceLength > maxTotalSourceLength) {
+        CacheKey eldestKey = iterator.next().getKey();
+        iterator.remove();
+        totalSourceLength -= eldestKey.source.length();
+      }
+    }
+
+    return template;
+  }
+
+  public void invalidate(String source, TagRegistry tagRegistry) {
+    synchronized (entries) {
+      if (entries.remove(new CacheKey(source, tagRegistry)) != null)
+        totalSourceLength -= source.length();
+    }
+  }
+
+  public void invalidateAll() {
+    synchronized (entries) {
+      entries.clear();
+      totalSourceLength = 0;
+    }
+  }
+
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  public long getTotalSourceLength() {
+    synchronized (entries) {
+      return totalSourceLength;
+    }
+  }
+}
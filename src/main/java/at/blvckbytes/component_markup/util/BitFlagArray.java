@@ -16,6 +16,9 @@ public class BitFlagArray {
   @JsonifyIgnore
   private final int size;
 
+  @JsonifyIgnore
+  private int setCount;
+
   public BitFlagArray(int size) {
     int requiredLongs = (size + (Long.SIZE - 1)) / Long.SIZE;
     this.longs = new long[requiredLongs];
@@ -33,12 +36,36 @@ public class BitFlagArray {
       throw new IllegalStateException("Bit at index " + index + " was already set");
 
     longs[index / Long.SIZE] = targetLong | targetBit;
+    ++setCount;
   }
 
   public boolean get(int index) {
     return (longs[index / Long.SIZE] & (1L << (index % Long.SIZE))) != 0;
   }
 
+  /**
+   * Returns the index of the first set bit within [fromInclusive;toExclusive), or -1 if there's none;
+   * scans whole words at a time, as set bits are expected to be few and far between.
+   */
+  public int nextSetIndex(int fromInclusive, int toExclusive) {
+    if (setCount == 0 || fromInclusive >= toExclusive)
+      return -1;
+
+    int longIndex = fromInclusive / Long.SIZE;
+    long currentLong = longs[longIndex] & (-1L << (fromInclusive % Long.SIZE));
+
+    while (currentLong == 0) {
+      if (++longIndex * Long.SIZE >= toExclusive)
+        return -1;
+
+      currentLong = longs[longIndex];
+    }
+
+    int index = longIndex * Long.SIZE + Long.numberOfTrailingZeros(currentLong);
+
+    return index < toExclusive ? index : -1;
+  }
+
   public void clearRange(int startInclusive, int endInclusive) {
     if (startInclusive < 0 || startInclusive >= size)
       throw new IllegalStateException("Start " + startInclusive + " out of range [0;" + size + "]");
@@ -56,7 +83,10 @@ public class BitFlagArray {
       int remainingBits = Long.SIZE - bitStart;
       int clearCount = Math.min(remainingBits, endInclusive - nextStart + 1);
 
-      longs[nextStart / Long.SIZE] &= ~setBitsInRange(bitStart, bitStart + clearCount - 1);
+      long clearMask = setBitsInRange(bitStart, bitStart + clearCount - 1);
+
+      setCount -= Long.bitCount(longs[nextStart / Long.SIZE] & clearMask);
+      longs[nextStart / Long.SIZE] &= ~clearMask;
 
       nextStart += clearCount;
     }
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.util;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Lock-free cache which may be shared among threads and which is bounded by its entry-count;
+ * once exceeded, arbitrary entries are evicted, as to keep bookkeeping off of the hot path.
+ */
+public class BoundedCache<K, V> {
+
+  private final ConcurrentHashMap<K, V> entries;
+  private final int maxSize;
+
+  private final LongAdder hitCount;
+  private final LongAdder missCount;
+  private final LongAdder evictionCount;
+
+  public BoundedCache(int maxSize) {
+    if (maxSize <= 0)
+      throw new IllegalArgumentException("The max-size needs to be greater than zero");
+
+    this.entries = new ConcurrentHashMap<>();
+    this.maxSize = maxSize;
+    this.hitCount = new LongAdder();
+    this.missCount = new LongAdder();
+    this.evictionCount = new LongAdder();
+  }
+
+  /**
+   * Errors thrown by the creator are passed on to the caller and nothing will be cached.
+   */
+  public V get(K key, Function<K, V> creator) {
+    V value = entries.get(key);
+
+    if (value != null) {
+      hitCount.increment();
+      return value;
+    }
+
+    missCount.increment();
+
+    value = creator.apply(key);
+
+    V existingValue = entries.putIfAbsent(key, value);
+
+    if (existingValue != null)
+      return existingValue;
+
+    if (entries.size() > maxSize) {
+      Iterator<K> keyIterator = entries.keySet().iterator();
+
+      while (entries.size() > maxSize && keyIterator.hasNext()) {
+        K evictionCandidate = keyIterator.next();
+
+        if (evictionCandidate.equals(key))
+          continue;
+
+        if (entries.remove(evictionCandidate) != null)
+          evictionCount.increment();
+      }
+    }
+
+    return value;
+  }
+
+  public void clear() {
+    entries.clear();
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  public long getEvictionCount() {
+    return evictionCount.sum();
+  }
+}
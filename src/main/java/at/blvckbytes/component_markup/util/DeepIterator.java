@@ -5,6 +5,8 @@
 
 package at.blvckbytes.component_markup.util;
 
+import org.jetbrains.annotations.Nullable;
+
 import java.util.Iterator;
 import java.util.Stack;
 import java.util.function.Function;
@@ -14,6 +16,9 @@ public class DeepIterator<T> implements Iterator<T> {
   private final Stack<Iterator<?>> iteratorStack;
   private final Function<Object, T> mapper;
 
+  private @Nullable Object pendingValue;
+  private boolean hasPendingValue;
+
   public DeepIterator(Iterable<?> iterable, Function<Object, T> mapper) {
     this.mapper = mapper;
     this.iteratorStack = new Stack<>();
@@ -22,30 +27,43 @@ public class DeepIterator<T> implements Iterator<T> {
 
   @Override
   public boolean hasNext() {
-    while (!iteratorStack.empty() && !iteratorStack.peek().hasNext())
-      iteratorStack.pop();
+    if (hasPendingValue)
+      return true;
+
+    // Descend into nested iterables up front, as these might turn out to be empty
+    while (!iteratorStack.empty()) {
+      Iterator<?> topIterator = iteratorStack.peek();
+
+      if (!topIterator.hasNext()) {
+        iteratorStack.pop();
+        continue;
+      }
 
-    if (iteratorStack.empty())
-      return false;
+      Object value = topIterator.next();
 
-    return iteratorStack.peek().hasNext();
+      if (value instanceof Iterable<?>) {
+        iteratorStack.push(((Iterable<?>) value).iterator());
+        continue;
+      }
+
+      pendingValue = value;
+      hasPendingValue = true;
+      return true;
+    }
+
+    return false;
   }
 
   @Override
   public T next() {
-    while (!iteratorStack.empty() && !iteratorStack.peek().hasNext())
-      iteratorStack.pop();
-
-    if (iteratorStack.empty())
+    if (!hasNext())
       return null;
 
-    Object value = iteratorStack.peek().next();
-
-    if (!(value instanceof Iterable<?>))
-      return mapper.apply(value);
+    Object value = pendingValue;
 
-    iteratorStack.push(((Iterable<?>) value).iterator());
+    pendingValue = null;
+    hasPendingValue = false;
 
-    return next();
+    return mapper.apply(value);
   }
 }
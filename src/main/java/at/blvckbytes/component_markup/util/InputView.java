@@ -174,14 +174,26 @@ public class InputView implements InterpolationMember {
     if (buildStringCache != null)
       return buildStringCache;
 
+    int nextRemovedIndex = removeIndices.nextSetIndex(startInclusive, endExclusive);
+
+    // Most views neither contain escape-sequences nor are subject to any transformation
+    if (!lowercase && !isAffectedByBuildFlags(nextRemovedIndex)) {
+      if (nextRemovedIndex < 0)
+        return buildStringCache = contents.substring(startInclusive, endExclusive);
+
+      return buildStringCache = buildStringWithoutRemovedIndices(nextRemovedIndex);
+    }
+
     char[] result = new char[length()];
     int nextResultIndex = 0;
 
     boolean doIgnoreWhitespace = false;
 
     for (int inputIndex = startInclusive; inputIndex < endExclusive; ++inputIndex) {
-      if (removeIndices.get(inputIndex))
+      if (inputIndex == nextRemovedIndex) {
+        nextRemovedIndex = removeIndices.nextSetIndex(inputIndex + 1, endExclusive);
         continue;
+      }
 
       char currentChar = contents.charAt(inputIndex);
 
@@ -219,6 +231,53 @@ public class InputView implements InterpolationMember {
     return buildStringCache = new String(result, 0, nextResultIndex);
   }
 
+  private String buildStringWithoutRemovedIndices(int firstRemovedIndex) {
+    char[] result = new char[length()];
+    int nextResultIndex = 0;
+
+    int runStart = startInclusive;
+    int removedIndex = firstRemovedIndex;
+
+    // Copy the runs in between removed indices in bulk
+    while (removedIndex >= 0) {
+      contents.getChars(runStart, removedIndex, result, nextResultIndex);
+      nextResultIndex += removedIndex - runStart;
+
+      runStart = removedIndex + 1;
+      removedIndex = removeIndices.nextSetIndex(runStart, endExclusive);
+    }
+
+    contents.getChars(runStart, endExclusive, result, nextResultIndex);
+    nextResultIndex += endExclusive - runStart;
+
+    return new String(result, 0, nextResultIndex);
+  }
+
+  private boolean isAffectedByBuildFlags(int firstRemovedIndex) {
+    if (buildFlags == null || startInclusive == endExclusive)
+      return false;
+
+    // Without newlines and removals at the edges, the leading and trailing characters are those of the result
+    if (firstRemovedIndex == startInclusive || (firstRemovedIndex >= 0 && removeIndices.get(endExclusive - 1)))
+      return true;
+
+    if (buildFlags.contains(SubstringFlag.REMOVE_LEADING_SPACE) && contents.charAt(startInclusive) == ' ')
+      return true;
+
+    if (buildFlags.contains(SubstringFlag.REMOVE_TRAILING_SPACE) && contents.charAt(endExclusive - 1) == ' ')
+      return true;
+
+    if (!buildFlags.contains(SubstringFlag.REMOVE_NEWLINES_INDENT))
+      return false;
+
+    for (int index = startInclusive; index < endExclusive; ++index) {
+      if (contents.charAt(index) == '\n')
+        return true;
+    }
+
+    return false;
+  }
+
   public void consumeWhitespace(@Nullable TokenEmitter tokenEmitter) {
     while (Character.isWhitespace(peekChar(0))) {
       nextChar();
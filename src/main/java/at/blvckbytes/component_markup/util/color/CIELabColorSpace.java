@@ -30,6 +30,23 @@ public class CIELabColorSpace {
     return fromCIEXYZ(SRGBColorSpace.getInstance().toCIEXYZ(rgbValue));
   }
 
+  public float[] fromPackedColor(long packedColor) {
+    return fromRGB(new float[] {
+      PackedColor.getR(packedColor), PackedColor.getG(packedColor), PackedColor.getB(packedColor)
+    });
+  }
+
+  /**
+   * Perceptual distance of two colors as per CIE76, where about 2.3 is just noticeable.
+   */
+  public static double getDeltaE(float[] labA, float[] labB) {
+    double deltaL = labA[0] - labB[0];
+    double deltaA = labA[1] - labB[1];
+    double deltaB = labA[2] - labB[2];
+
+    return Math.sqrt(deltaL * deltaL + deltaA * deltaA + deltaB * deltaB);
+  }
+
   private float fFrom(float t) {
     float delta = 24.0f / 116.0f;
     if (t > (float) Math.pow(delta, 3)) {
@@ -14,8 +14,10 @@ import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 public class ExpressionInterpreterTests {
@@ -499,6 +501,151 @@ public class ExpressionInterpreterTests {
     makeCase("(1..15) - (5..10)", null, Arrays.asList(1, 2, 3, 4, 11, 12, 13, 14, 15));
   }
 
+  @Test
+  public void shouldOperateOnLargeCollections() {
+    List<String> members = new ArrayList<>();
+    List<String> online = new ArrayList<>();
+
+    for (int index = 0; index < 100; ++index) {
+      members.add("member-" + index);
+
+      if (index % 3 == 0)
+        online.add("member-" + index);
+    }
+
+    List<String> offline = new ArrayList<>(members);
+    offline.removeAll(online);
+
+    List<String> chained = new ArrayList<>(members);
+    chained.addAll(online);
+    chained.addAll(members);
+
+    InterpretationEnvironment environment = new InterpretationEnvironment()
+      .withVariable("members", members)
+      .withVariable("online", online)
+      .withVariable("online_set", new HashSet<>(online));
+
+    makeCase("members - online", environment, offline);
+    makeCase("members - online_set", environment, offline);
+    makeCase("members + online + members", environment, chained);
+    makeCase("(members + online + members)[150]", environment, chained.get(150));
+    makeCase("len(members + online)", environment, members.size() + online.size());
+    makeCase("members + online - members", environment, Collections.emptyList());
+  }
+
+  @Test
+  public void shouldCheckForMembershipInCollections() {
+    InterpretationEnvironment environment = new InterpretationEnvironment()
+      .withVariable("names", Arrays.asList("abc", "def", null))
+      .withVariable("name_set", new HashSet<>(Arrays.asList("abc", "def")));
+
+    makeCase("'abc' in names", environment, true);
+    makeCase("'ab' in names", environment, false);
+    makeCase("'xyz' in names", environment, false);
+    makeCase("null in names", environment, true);
+    makeCase("'def' in name_set", environment, true);
+    makeCase("'de' in name_set", environment, false);
+    makeCase("3 in 1..5", null, true);
+    makeCase("'3' in 1..5", null, true);
+    makeCase("6 in 1..5", null, false);
+    makeCase("1 in (1..5) - (1..2)", null, false);
+  }
+
+  @Test
+  public void shouldCheckForNumericMembershipEquallyInSetsAndLists() {
+    List<Integer> ids = Arrays.asList(3, 5, 8);
+
+    InterpretationEnvironment environment = new InterpretationEnvironment()
+      .withVariable("id_list", ids)
+      .withVariable("id_set", new HashSet<>(ids))
+      .withVariable("id_array", new int[] { 3, 5, 8 })
+      .withVariable("double_set", new HashSet<>(Arrays.asList(2.5, 4.0)));
+
+    for (String collection : new String[] { "id_list", "id_set", "id_array" }) {
+      makeCase("5 in " + collection, environment, true);
+      makeCase("6 in " + collection, environment, false);
+      makeCase("null in " + collection, environment, false);
+    }
+
+    makeCase("5.0 in id_list", environment, true);
+    makeCase("5.0 in id_set", environment, true);
+
+    makeCase("4 in double_set", environment, true);
+    makeCase("2.5 in double_set", environment, true);
+    makeCase("3 in double_set", environment, false);
+
+    for (String collection : new String[] { "id_list", "id_set" }) {
+      makeCase("'5' in " + collection, environment, true);
+      makeCase("'6' in " + collection, environment, false);
+    }
+  }
+
+  @Test
+  public void shouldNotAliasOperandsWhenAddingCollections() {
+    List<Object> lhs = new ArrayList<>(Arrays.asList(1, 2));
+    List<Object> rhs = new ArrayList<>();
+
+    InterpretationEnvironment environment = new InterpretationEnvironment()
+      .withVariable("lhs", lhs)
+      .withVariable("rhs", rhs);
+
+    for (String expression : new String[] { "lhs + rhs", "rhs + lhs", "lhs + lhs" }) {
+      ExpressionNode node = ExpressionParser.parse(InputView.of(expression), null);
+
+      Object interpreted = ExpressionInterpreter.interpret(node, environment, NullInterpreterLogger.INSTANCE);
+      Object compiled = ExpressionCompiler.compile(node).evaluate(environment, NullInterpreterLogger.INSTANCE);
+
+      String interpretedJson = Jsonifier.jsonify(interpreted);
+      String compiledJson = Jsonifier.jsonify(compiled);
+
+      Assertions.assertNotSame(lhs, interpreted, expression);
+      Assertions.assertNotSame(lhs, compiled, expression);
+
+      lhs.add(3);
+      rhs.add(4);
+
+      Assertions.assertEquals(interpretedJson, Jsonifier.jsonify(interpreted), expression);
+      Assertions.assertEquals(compiledJson, Jsonifier.jsonify(compiled), expression);
+
+      lhs.remove(2);
+      rhs.clear();
+    }
+  }
+
+  @Test
+  public void shouldAggregateRangesEquallyToMaterializedLists() {
+    long[][] bounds = { { 1, 1 }, { 1, 5 }, { -7, 3 }, { 5, 1 }, { 0, 100000 } };
+
+    for (long[] bound : bounds) {
+      List<Long> materialized = new ArrayList<>();
+
+      for (long value = bound[0]; value <= bound[1]; ++value)
+        materialized.add(value);
+
+      InterpretationEnvironment environment = new InterpretationEnvironment()
+        .withVariable("range", ExpressionInterpreter.performRange(bound[0], bound[1], new DefaultValueInterpreter()))
+        .withVariable("list", materialized);
+
+      for (String operator : new String[] { "len", "sum", "avg", "min", "max" }) {
+        ExpressionNode listNode = ExpressionParser.parse(InputView.of(operator + "(list)"), null);
+        makeCase(operator + "(range)", environment, ExpressionInterpreter.interpret(listNode, environment, NullInterpreterLogger.INSTANCE));
+      }
+    }
+  }
+
+  @Test
+  public void shouldNotMaterializeHugeRanges() {
+    makeCase("len(1..10000000000)", null, 10000000000L);
+    makeCase("(1..10000000000)[99999]", null, 100000);
+    makeCase("(1..10000000000)[-1]", null, 2147483647);
+    makeCase("max(1..10000000000)", null, 10000000000L);
+    makeCase("sum(1..100000)", null, 5000050000.0);
+    makeCase("9999999999 in 1..10000000000", null, true);
+    makeCase("5.0005 in 1..10", null, true);
+    makeCase("5.5 in 1..10", null, false);
+    makeCase("11 in 1..10", null, false);
+  }
+
   @Test
   public void shouldAccessInterpretationEnvironmentMembers() {
     makeCase(
@@ -515,6 +662,36 @@ public class ExpressionInterpreterTests {
     );
   }
 
+  @Test
+  public void shouldShortCircuitConjunctionDisjunctionAndFallback() {
+    int[] accessCount = { 0 };
+
+    InterpretationEnvironment environment = new InterpretationEnvironment() {
+      @Override
+      public @Nullable Object getVariableValue(String name) {
+        if (name.equals("expensive"))
+          ++accessCount[0];
+
+        return super.getVariableValue(name);
+      }
+    }
+      .withVariable("expensive", true)
+      .withVariable("present", "value");
+
+    makeCase("false and expensive", environment, false);
+    makeCase("true or expensive", environment, true);
+    makeCase("present ?? expensive", environment, "value");
+
+    Assertions.assertEquals(0, accessCount[0]);
+
+    makeCase("true and expensive", environment, true);
+    makeCase("false or expensive", environment, true);
+    makeCase("null ?? expensive", environment, true);
+
+    // Once per engine and expression
+    Assertions.assertEquals(6, accessCount[0]);
+  }
+
   private void makeCase(String expression, Object expectedResult) {
     makeCase(expression, new InterpretationEnvironment(), expectedResult);
   }
@@ -525,5 +702,9 @@ public class ExpressionInterpreterTests {
 
     ExpressionNode node = ExpressionParser.parse(InputView.of(expression), null);
     Assertions.assertEquals(Jsonifier.jsonify(expectedResult), Jsonifier.jsonify(ExpressionInterpreter.interpret(node, environment, NullInterpreterLogger.INSTANCE)));
+
+    // Both engines are required to yield identical results
+    CompiledExpression compiledExpression = ExpressionCompiler.compile(node);
+    Assertions.assertEquals(Jsonifier.jsonify(expectedResult), Jsonifier.jsonify(compiledExpression.evaluate(environment, NullInterpreterLogger.INSTANCE)));
   }
 }
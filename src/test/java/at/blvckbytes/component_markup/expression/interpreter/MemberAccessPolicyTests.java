@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.expression.interpreter;
+
+import at.blvckbytes.component_markup.expression.ast.ExpressionNode;
+import at.blvckbytes.component_markup.expression.parser.ExpressionParser;
+import at.blvckbytes.component_markup.util.InputView;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class MemberAccessPolicyTests {
+
+  public static class Player {
+
+    public final int level;
+
+    private final String name;
+    private final boolean online;
+    private final Player friend;
+
+    public Player(String name, int level, boolean online, @Nullable Player friend) {
+      this.name = name;
+      this.level = level;
+      this.online = online;
+      this.friend = friend;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public String getDisplayName() {
+      return "[" + name + "]";
+    }
+
+    public boolean isOnline() {
+      return online;
+    }
+
+    public @Nullable Player getFriend() {
+      return friend;
+    }
+
+    public void kick() {
+      throw new IllegalStateException("Must never be called by an expression");
+    }
+
+    public String getFailing() {
+      throw new IllegalStateException("Intentionally thrown");
+    }
+  }
+
+  public interface Named {
+    String getName();
+  }
+
+  private static class HiddenNamed implements Named {
+    @Override
+    public String getName() {
+      return "hidden";
+    }
+  }
+
+  private static final Player STEVE = new Player("Steve", 7, true, new Player("Alex", 3, false, null));
+
+  @Test
+  public void shouldNotAccessMembersUnlessAllowed() {
+    Assertions.assertNull(evaluate("player.name", MemberAccessPolicy.NONE));
+  }
+
+  @Test
+  public void shouldAccessGettersAndFields() {
+    MemberAccessPolicy policy = MemberAccessPolicy.NONE.withAllowedType(Player.class);
+
+    Assertions.assertEquals("Steve", evaluate("player.name", policy));
+    Assertions.assertEquals("[Steve]", evaluate("player.display_name", policy));
+    Assertions.assertEquals(true, evaluate("player.online", policy));
+    Assertions.assertEquals(7, evaluate("player.level", policy));
+    Assertions.assertEquals("Alex", evaluate("player.friend.name", policy));
+    Assertions.assertEquals(false, evaluate("player['friend'].online", policy));
+    Assertions.assertNull(evaluate("player.friend.friend.name", policy));
+  }
+
+  @Test
+  public void shouldOnlyAccessGetters() {
+    MemberAccessPolicy policy = MemberAccessPolicy.NONE.withAllowedType(Player.class);
+    List<String> messages = new ArrayList<>();
+
+    Assertions.assertNull(evaluate("player.kick", policy, messages));
+    Assertions.assertEquals(1, messages.size());
+    Assertions.assertTrue(messages.get(0).contains("display_name, failing, friend, level, name, online"));
+
+    Assertions.assertNull(evaluate("player.failing", policy));
+  }
+
+  @Test
+  public void shouldAllowByPackageAndSupertype() {
+    Assertions.assertEquals("Steve", evaluate("player.name", MemberAccessPolicy.NONE.withAllowedPackage("at.blvckbytes.component_markup")));
+    Assertions.assertNull(evaluate("player.name", MemberAccessPolicy.NONE.withAllowedPackage("at.blvckbytes.component")));
+
+    InterpretationEnvironment environment = new InterpretationEnvironment()
+      .withVariable("named", new HiddenNamed())
+      .withMemberAccessPolicy(MemberAccessPolicy.NONE.withAllowedType(Named.class));
+
+    // Public members of non-public classes are accessed by the public type declaring them
+    Assertions.assertEquals("hidden", evaluate("named.name", environment, new ArrayList<>()));
+  }
+
+  @Test
+  public void shouldCarryPolicyAcrossCopies() {
+    MemberAccessPolicy policy = MemberAccessPolicy.NONE.withAllowedType(Player.class);
+
+    Assertions.assertSame(policy, new InterpretationEnvironment().withMemberAccessPolicy(policy).copy().getMemberAccessPolicy());
+    Assertions.assertSame(policy, new PersistentInterpretationEnvironment().withMemberAccessPolicy(policy).withVariable("a", 1).getMemberAccessPolicy());
+  }
+
+  private static @Nullable Object evaluate(String expression, MemberAccessPolicy policy) {
+    return evaluate(expression, policy, new ArrayList<>());
+  }
+
+  private static @Nullable Object evaluate(String expression, MemberAccessPolicy policy, List<String> messages) {
+    InterpretationEnvironment environment = new InterpretationEnvironment()
+      .withVariable("player", STEVE)
+      .withMemberAccessPolicy(policy);
+
+    return evaluate(expression, environment, messages);
+  }
+
+  private static @Nullable Object evaluate(String expression, InterpretationEnvironment environment, List<String> messages) {
+    ExpressionNode node = ExpressionParser.parse(InputView.of(expression), null);
+    return ExpressionInterpreter.interpret(node, environment, (view, position, message, e) -> messages.add(message));
+  }
+}
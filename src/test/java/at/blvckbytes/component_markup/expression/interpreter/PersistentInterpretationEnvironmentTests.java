@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.expression.interpreter;
+
+import at.blvckbytes.component_markup.constructor.PlainTextComponentConstructor;
+import at.blvckbytes.component_markup.constructor.SlotType;
+import at.blvckbytes.component_markup.markup.ast.tag.built_in.BuiltInTagRegistry;
+import at.blvckbytes.component_markup.markup.interpreter.MarkupInterpreter;
+import at.blvckbytes.component_markup.markup.parser.MarkupParser;
+import at.blvckbytes.component_markup.test_utils.NullInterpreterLogger;
+import at.blvckbytes.component_markup.util.InputView;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+public class PersistentInterpretationEnvironmentTests {
+
+  @Test
+  public void shouldLeaveOriginsUntouched() {
+    PersistentInterpretationEnvironment empty = new PersistentInterpretationEnvironment();
+    PersistentInterpretationEnvironment first = empty.withVariable("a", 1);
+    PersistentInterpretationEnvironment second = first.withVariable("a", 2).withVariable("b", 3);
+
+    Assertions.assertTrue(empty.isEmpty());
+    Assertions.assertFalse(empty.doesVariableExist("a"));
+
+    Assertions.assertEquals(1, first.getVariableValue("a"));
+    Assertions.assertFalse(first.doesVariableExist("b"));
+
+    Assertions.assertEquals(2, second.getVariableValue("a"));
+    Assertions.assertEquals(3, second.getVariableValue("b"));
+
+    Assertions.assertSame(second, second.copy());
+    Assertions.assertSame(RenderBudget.UNLIMITED, second.getRenderBudget());
+
+    RenderBudget budget = RenderBudget.UNLIMITED.withMaxLoopIterations(5);
+    PersistentInterpretationEnvironment budgeted = second.withRenderBudget(budget);
+
+    Assertions.assertSame(RenderBudget.UNLIMITED, second.getRenderBudget());
+    Assertions.assertSame(budget, budgeted.getRenderBudget());
+    Assertions.assertEquals(3, budgeted.getVariableValue("b"));
+  }
+
+  @Test
+  public void shouldHoldManyVariables() {
+    PersistentInterpretationEnvironment environment = new PersistentInterpretationEnvironment();
+    Map<String, Object> expected = new HashMap<>();
+
+    for (int index = 0; index < 10_000; ++index) {
+      environment = environment.withVariable("variable_" + index, index);
+      expected.put("variable_" + index, index);
+    }
+
+    // Overwrite every third variable, as to also alter existing entries deep down the trie
+    for (int index = 0; index < 10_000; index += 3) {
+      environment = environment.withVariable("variable_" + index, -index);
+      expected.put("variable_" + index, -index);
+    }
+
+    assertContents(expected, environment);
+  }
+
+  @Test
+  public void shouldHoldVariablesOfEqualHashes() {
+    // "Aa" and "BB" share their hash-code, and so do all concatenations of them
+    List<String> names = Arrays.asList("AaAa", "AaBB", "BBAa", "BBBB", "Aa", "BB");
+    Assertions.assertEquals("AaAa".hashCode(), "BBBB".hashCode());
+
+    PersistentInterpretationEnvironment environment = new PersistentInterpretationEnvironment();
+    Map<String, Object> expected = new HashMap<>();
+
+    for (String name : names) {
+      environment = environment.withVariable(name, name.toLowerCase());
+      expected.put(name, name.toLowerCase());
+    }
+
+    environment = environment.withVariable("BBAa", null);
+    expected.put("BBAa", null);
+
+    assertContents(expected, environment);
+    Assertions.assertFalse(environment.doesVariableExist("AaAaAa"));
+  }
+
+  @Test
+  public void shouldInheritWithEqualPrecedenceRegardlessOfSizes() {
+    Map<String, Object> large = new HashMap<>();
+
+    for (int index = 0; index < 100; ++index)
+      large.put("variable_" + index, "large");
+
+    Map<String, Object> small = new HashMap<>();
+    small.put("variable_0", "small");
+    small.put("only_small", "small");
+
+    for (boolean allowShadowing : new boolean[] { false, true }) {
+      for (boolean smallInheritsLarge : new boolean[] { false, true }) {
+        Map<String, Object> thisVariables = smallInheritsLarge ? small : large;
+        Map<String, Object> otherVariables = smallInheritsLarge ? large : small;
+
+        InterpretationEnvironment mutableResult = new InterpretationEnvironment()
+          .inheritFrom(makeMutable(thisVariables), false)
+          .inheritFrom(makeMutable(otherVariables), allowShadowing);
+
+        PersistentInterpretationEnvironment persistentResult = makePersistent(thisVariables)
+          .inheritFrom(makePersistent(otherVariables), allowShadowing);
+
+        PersistentInterpretationEnvironment mixedResult = makePersistent(thisVariables)
+          .inheritFrom(makeMutable(otherVariables), allowShadowing);
+
+        Map<String, Object> expected = new HashMap<>();
+        mutableResult.forEachKnownName(name -> expected.put(name, mutableResult.getVariableValue(name)));
+
+        Assertions.assertEquals(101, expected.size());
+        assertContents(expected, persistentResult);
+        assertContents(expected, mixedResult);
+      }
+    }
+  }
+
+  @Test
+  public void shouldRenderOnSharedLayers() {
+    PersistentInterpretationEnvironment global = new PersistentInterpretationEnvironment()
+      .withVariable("server", "Lobby")
+      .withVariable("greeting", "Hello");
+
+    PersistentInterpretationEnvironment first = global.withVariable("player", "Alice");
+    PersistentInterpretationEnvironment second = global.withVariable("player", "Bob").withVariable("greeting", "Hi");
+
+    Assertions.assertEquals("Hello Alice on Lobby", render("{greeting} {player} on {server}", first));
+    Assertions.assertEquals("Hi Bob on Lobby", render("{greeting} {player} on {server}", second));
+    Assertions.assertEquals("Hello on Lobby", render("{greeting}{player} on {server}", global));
+  }
+
+  private static String render(String markup, InterpretationEnvironment environment) {
+    return String.join("\n", MarkupInterpreter.interpret(
+      MarkupParser.parse(InputView.of(markup), BuiltInTagRegistry.INSTANCE),
+      SlotType.CHAT, environment, PlainTextComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE
+    ));
+  }
+
+  private static void assertContents(Map<String, Object> expected, InterpretationEnvironment environment) {
+    Map<String, Object> actual = new HashMap<>();
+
+    environment.forEachKnownName(name -> {
+      Assertions.assertFalse(actual.containsKey(name), "Encountered " + name + " twice");
+      Assertions.assertTrue(environment.doesVariableExist(name));
+      actual.put(name, environment.getVariableValue(name));
+    });
+
+    Assertions.assertEquals(expected, actual);
+    Assertions.assertEquals(expected.isEmpty(), environment.isEmpty());
+  }
+
+  private static InterpretationEnvironment makeMutable(Map<String, Object> variables) {
+    InterpretationEnvironment environment = new InterpretationEnvironment();
+    variables.forEach(environment::withVariable);
+    return environment;
+  }
+
+  private static PersistentInterpretationEnvironment makePersistent(Map<String, Object> variables) {
+    return new PersistentInterpretationEnvironment().withVariables(variables);
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.markup.ast.tag;
+
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.markup.ast.tag.built_in.*;
+import at.blvckbytes.component_markup.markup.ast.tag.built_in.colorize.gradient.GradientTag;
+import at.blvckbytes.component_markup.markup.parser.token.TokenEmitter;
+import at.blvckbytes.component_markup.util.InputView;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+public class TagRegistryTests {
+
+  private static abstract class StubTag extends TagDefinition {
+
+    protected StubTag(TagPriority tagPriority) {
+      super(TagClosing.OPEN_CLOSE, tagPriority);
+    }
+
+    @Override
+    public @NotNull MarkupNode createNode(
+      @Nullable TokenEmitter tokenEmitter,
+      @NotNull InputView tagName,
+      boolean selfClosing,
+      @NotNull AttributeMap attributes,
+      @Nullable LinkedHashSet<LetBinding> letBindings,
+      @Nullable List<MarkupNode> children
+    ) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  private static class NormalPrefixTag extends StubTag {
+
+    NormalPrefixTag() {
+      super(TagPriority.NORMAL);
+    }
+
+    @Override
+    public Collection<String> getStaticPrefixes() {
+      return Collections.singletonList("my-");
+    }
+  }
+
+  private static class HighNameTag extends StubTag {
+
+    HighNameTag() {
+      super(TagPriority.HIGH);
+    }
+
+    @Override
+    public Collection<String> getStaticNames() {
+      return Collections.singletonList("my-tag");
+    }
+  }
+
+  private static class LowDynamicTag extends StubTag {
+
+    LowDynamicTag() {
+      super(TagPriority.LOW);
+    }
+
+    @Override
+    public boolean matchName(InputView tagName) {
+      return tagName.buildString().endsWith("-tag");
+    }
+  }
+
+  private static class CustomRegistry extends TagRegistry {
+
+    CustomRegistry() {
+      register(new LowDynamicTag());
+      register(new NormalPrefixTag());
+      register(new HighNameTag());
+    }
+  }
+
+  @Test
+  public void shouldLocateBuiltInTags() {
+    makeCase(BuiltInTagRegistry.INSTANCE, "container", ContainerTag.class);
+    makeCase(BuiltInTagRegistry.INSTANCE, "GrAdIeNt", GradientTag.class);
+    makeCase(BuiltInTagRegistry.INSTANCE, "r", ResetTag.class);
+    makeCase(BuiltInTagRegistry.INSTANCE, "reset", ResetTag.class);
+    makeCase(BuiltInTagRegistry.INSTANCE, "map", MapTag.class);
+    makeCase(BuiltInTagRegistry.INSTANCE, "map-items", MapTag.class);
+    makeCase(BuiltInTagRegistry.INSTANCE, "$my_tag", ASTSubstitutionTag.class);
+    makeCase(BuiltInTagRegistry.INSTANCE, "red", ImmediateColorTag.class);
+    makeCase(BuiltInTagRegistry.INSTANCE, "#ff0000", ImmediateColorTag.class);
+    makeCase(BuiltInTagRegistry.INSTANCE, "!b", ImmediateFormatTag.class);
+    makeCase(BuiltInTagRegistry.INSTANCE, "containers", null);
+    makeCase(BuiltInTagRegistry.INSTANCE, "mapping", null);
+    makeCase(BuiltInTagRegistry.INSTANCE, "unknown", null);
+  }
+
+  @Test
+  public void shouldPreferHigherPriorities() {
+    TagRegistry registry = new CustomRegistry();
+
+    makeCase(registry, "my-tag", HighNameTag.class);
+    makeCase(registry, "MY-TAG", HighNameTag.class);
+    makeCase(registry, "my-other-tag", NormalPrefixTag.class);
+    makeCase(registry, "other-tag", LowDynamicTag.class);
+    makeCase(registry, "my", null);
+  }
+
+  private void makeCase(TagRegistry registry, String name, @Nullable Class<? extends TagDefinition> expectedType) {
+    TagDefinition definition = registry.locateTag(InputView.of(name));
+    Assertions.assertEquals(expectedType, definition == null ? null : definition.getClass(), "Tag-name: " + name);
+  }
+}
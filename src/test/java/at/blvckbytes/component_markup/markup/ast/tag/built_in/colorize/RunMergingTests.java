@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.markup.ast.tag.built_in.colorize;
+
+import at.blvckbytes.component_markup.constructor.SlotType;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.markup.ast.tag.built_in.BuiltInTagRegistry;
+import at.blvckbytes.component_markup.markup.interpreter.JsonComponentConstructor;
+import at.blvckbytes.component_markup.markup.interpreter.MarkupInterpreter;
+import at.blvckbytes.component_markup.markup.parser.MarkupParser;
+import at.blvckbytes.component_markup.test_utils.NullInterpreterLogger;
+import at.blvckbytes.component_markup.util.InputView;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class RunMergingTests {
+
+  private static final String TEXT = "The quick brown fox jumps over the lazy dog, once more with feeling";
+
+  @Test
+  public void shouldLeaveColorsUntouchedWhenDisabled() {
+    Assertions.assertEquals(
+      render("<gradient c=\"red\" c=\"blue\">" + TEXT),
+      render("<gradient c=\"red\" c=\"blue\" merge-distance=0 max-segments=0>" + TEXT)
+    );
+  }
+
+  @Test
+  public void shouldMergeColorsWithinTheDistance() {
+    int exactCount = countComponents(render("<gradient c=\"red\" c=\"blue\">" + TEXT));
+    int slightCount = countComponents(render("<gradient c=\"red\" c=\"blue\" merge-distance=2.3>" + TEXT));
+    int coarseCount = countComponents(render("<gradient c=\"red\" c=\"blue\" merge-distance=15>" + TEXT));
+
+    Assertions.assertTrue(slightCount < exactCount, slightCount + " < " + exactCount);
+    Assertions.assertTrue(coarseCount < slightCount, coarseCount + " < " + slightCount);
+
+    // Red and blue are way further apart than that
+    Assertions.assertTrue(coarseCount > 1);
+  }
+
+  @Test
+  public void shouldCapTheNumberOfSegments() {
+    // One component for the first segment, and one child per remaining segment
+    Assertions.assertEquals(8, countComponents(render("<rainbow max-segments=8>" + TEXT)));
+    Assertions.assertEquals(1, countComponents(render("<rainbow max-segments=1>" + TEXT)));
+  }
+
+  @Test
+  public void shouldTakeOnTheMiddleColorOfEachRun() {
+    long[] colors = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 };
+
+    // Eight changes of color within the first nine entries are reduced to two
+    Assertions.assertEquals(6, new RunMerging(0, 3).apply(colors, 9));
+
+    Assertions.assertArrayEquals(new long[] { 2, 2, 2, 5, 5, 5, 8, 8, 8, 10 }, colors);
+  }
+
+  @Test
+  public void shouldTallyMergedColorChanges() {
+    long colorChanges = RunMerging.getColorChangeCount();
+    long mergedColorChanges = RunMerging.getMergedColorChangeCount();
+
+    render("<rainbow max-segments=8>" + TEXT);
+
+    Assertions.assertTrue(RunMerging.getColorChangeCount() > colorChanges);
+    Assertions.assertTrue(RunMerging.getMergedColorChangeCount() > mergedColorChanges);
+    Assertions.assertTrue(RunMerging.getMergedColorChangeCount() - mergedColorChanges <= RunMerging.getColorChangeCount() - colorChanges);
+  }
+
+  private static List<JsonObject> render(String markup) {
+    MarkupNode node = MarkupParser.parse(InputView.of(markup), BuiltInTagRegistry.INSTANCE);
+    return MarkupInterpreter.interpret(node, SlotType.CHAT, new InterpretationEnvironment(), JsonComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE);
+  }
+
+  private static int countComponents(List<JsonObject> components) {
+    int count = 0;
+
+    for (JsonObject component : components)
+      count += countComponents(component);
+
+    return count;
+  }
+
+  private static int countComponents(JsonObject component) {
+    int count = 1;
+
+    if (component.has("extra")) {
+      for (JsonElement child : component.getAsJsonArray("extra"))
+        count += countComponents(child.getAsJsonObject());
+    }
+
+    return count;
+  }
+}
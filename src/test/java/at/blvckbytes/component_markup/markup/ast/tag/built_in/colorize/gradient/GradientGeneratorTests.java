@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.markup.ast.tag.built_in.colorize.gradient;
+
+import at.blvckbytes.component_markup.util.color.AnsiStyleColor;
+import at.blvckbytes.component_markup.util.color.PackedColor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+public class GradientGeneratorTests {
+
+  @Test
+  public void shouldMatchAPerStopScanForAllProgressions() {
+    Random random = new Random(1);
+
+    for (int gradientIndex = 0; gradientIndex < 500; ++gradientIndex) {
+      GradientGenerator generator = makeRandomGenerator(random);
+
+      for (int step = 0; step <= 400; ++step) {
+        double progression = step / 4.0;
+        Assertions.assertEquals(scanPackedColor(generator, progression), generator.getPackedColor(progression));
+      }
+
+      for (double offset : generator.offsets) {
+        Assertions.assertEquals(scanPackedColor(generator, offset), generator.getPackedColor(offset));
+        Assertions.assertEquals(scanPackedColor(generator, Math.nextUp(offset)), generator.getPackedColor(Math.nextUp(offset)));
+        Assertions.assertEquals(scanPackedColor(generator, Math.nextDown(offset)), generator.getPackedColor(Math.nextDown(offset)));
+      }
+
+      Assertions.assertEquals(scanPackedColor(generator, Double.NaN), generator.getPackedColor(Double.NaN));
+    }
+  }
+
+  @Test
+  public void shouldFillTheSameColorsAsSingleLookups() {
+    Random random = new Random(2);
+
+    for (int gradientIndex = 0; gradientIndex < 500; ++gradientIndex) {
+      GradientGenerator generator = makeRandomGenerator(random);
+
+      // Ascending with a phase, which wraps around once, just like characters of a text
+      int length = 1 + random.nextInt(100);
+      double phase = random.nextInt(100);
+      double[] progressions = new double[length + 1];
+
+      for (int index = 0; index <= length; ++index) {
+        double progression = (index / (double) length) * 100 + phase;
+
+        while (progression > 100)
+          progression -= 100;
+
+        progressions[index] = progression;
+      }
+
+      long[] colors = new long[progressions.length];
+      generator.fillPackedColors(progressions, colors);
+
+      for (int index = 0; index < progressions.length; ++index)
+        Assertions.assertEquals(generator.getPackedColor(progressions[index]), colors[index]);
+    }
+  }
+
+  private static GradientGenerator makeRandomGenerator(Random random) {
+    int colorCount = random.nextInt(7);
+    long[] colors = new long[colorCount];
+
+    for (int index = 0; index < colorCount; ++index)
+      colors[index] = PackedColor.of(random.nextInt(256), random.nextInt(256), random.nextInt(256), 255);
+
+    double[] offsets = new double[random.nextInt(colorCount + 2)];
+
+    // Also make sure to hit offsets which coincide, both with each other and with the progressions
+    for (int index = 0; index < offsets.length; ++index)
+      offsets[index] = random.nextBoolean() ? random.nextInt(5) * 25 : random.nextDouble() * 120 - 10;
+
+    long[] zIndices = new long[random.nextInt(colorCount + 1)];
+
+    for (int index = 0; index < zIndices.length; ++index)
+      zIndices[index] = random.nextInt(3);
+
+    return new GradientGenerator(colors, offsets, zIndices);
+  }
+
+  // The straightforward lookup, which scans all stops for every single progression
+  private static long scanPackedColor(GradientGenerator generator, double progressionPercentage) {
+    long[] packedColors = generator.packedColors;
+    double[] offsets = generator.offsets;
+    long[] zIndices = generator.zIndices;
+
+    int colorCount = packedColors.length;
+
+    if (colorCount == 0)
+      return AnsiStyleColor.WHITE.packedColor;
+
+    if (colorCount == 1)
+      return packedColors[0];
+
+    int lastIndex = colorCount - 1;
+
+    long aColor = packedColors[0], bColor = packedColors[lastIndex];
+    double aOffset = offsets[0], bOffset = offsets[lastIndex];
+    long aZIndex = zIndices.length == 0 ? 0 : zIndices[0];
+    long bZIndex = lastIndex >= zIndices.length ? 0 : zIndices[lastIndex];
+
+    for (int i = 1; i < colorCount - 1; i++) {
+      long currentZIndex = i >= zIndices.length ? 0 : zIndices[i];
+
+      if (offsets[i] < progressionPercentage && offsets[i] >= aOffset && currentZIndex >= aZIndex) {
+        aColor = packedColors[i];
+        aOffset = offsets[i];
+        aZIndex = currentZIndex;
+      }
+
+      if (offsets[i] >= progressionPercentage && offsets[i] <= bOffset && currentZIndex >= bZIndex) {
+        bColor = packedColors[i];
+        bOffset = offsets[i];
+        bZIndex = currentZIndex;
+      }
+    }
+
+    if (bOffset == aOffset)
+      return bZIndex > aZIndex ? bColor : aColor;
+
+    double ratio = Math.max(0, Math.min(1, (progressionPercentage - aOffset) / (bOffset - aOffset)));
+
+    return PackedColor.of(
+      (int) Math.floor(PackedColor.getR(aColor) + ratio * (PackedColor.getR(bColor) - PackedColor.getR(aColor))),
+      (int) Math.floor(PackedColor.getG(aColor) + ratio * (PackedColor.getG(bColor) - PackedColor.getG(aColor))),
+      (int) Math.floor(PackedColor.getB(aColor) + ratio * (PackedColor.getB(bColor) - PackedColor.getB(aColor))),
+      255
+    );
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.markup.ast.tag.built_in.colorize.gradient;
+
+import at.blvckbytes.component_markup.constructor.SlotType;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.markup.interpreter.InterpreterTestsBase;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class GradientStopsTests extends InterpreterTestsBase {
+
+  @Test
+  public void shouldRenderConstantStopsEquallyAcrossRenders() {
+    MarkupNode node = parseMarkup("<gradient c=\"red\" c=\"blue\">AB");
+
+    Assertions.assertEquals(render(node, new InterpretationEnvironment()), render(node, new InterpretationEnvironment()));
+  }
+
+  @Test
+  public void shouldReevaluateStopsWhichReadTheEnvironment() {
+    String[] markups = {
+      "<gradient [c]=\"env('c1')\" c=\"blue\">AB",
+      "<gradient [c]=\"c1\" c=\"blue\">AB",
+      "<gradient c=\"red\" c=\"blue\" [o]=\"has('c1') then 50 else 0\" o=\"100\">AB",
+    };
+
+    for (String markup : markups) {
+      MarkupNode node = parseMarkup(markup);
+
+      String redResult = render(node, new InterpretationEnvironment().withVariable("c1", "red"));
+      String greenResult = render(node, new InterpretationEnvironment().withVariable("c1", "green"));
+      String emptyResult = render(node, new InterpretationEnvironment());
+
+      Assertions.assertNotEquals(redResult, markup.contains("has(") ? emptyResult : greenResult, markup);
+      Assertions.assertEquals(redResult, render(node, new InterpretationEnvironment().withVariable("c1", "red")), markup);
+    }
+  }
+
+  private String render(MarkupNode node, InterpretationEnvironment environment) {
+    return interpretNode(node, environment, SlotType.CHAT).toString();
+  }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.markup.cml;
+
+import at.blvckbytes.component_markup.constructor.PlainTextComponentConstructor;
+import at.blvckbytes.component_markup.constructor.SlotType;
+import at.blvckbytes.component_markup.expression.ast.ExpressionNode;
+import at.blvckbytes.component_markup.expression.ast.TerminalNode;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.markup.ast.tag.built_in.BuiltInTagRegistry;
+import at.blvckbytes.component_markup.markup.interpreter.MarkupInterpreter;
+import at.blvckbytes.component_markup.markup.parser.MarkupParseException;
+import at.blvckbytes.component_markup.markup.parser.MarkupParser;
+import at.blvckbytes.component_markup.test_utils.NullInterpreterLogger;
+import at.blvckbytes.component_markup.util.InputView;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class CmlStreamParserTests {
+
+  private static final int[] WINDOW_SIZES = { 1, 3, 16, 64, CmlStreamParser.DEFAULT_WINDOW_SIZE };
+
+  private static final String[] DOCUMENTS = {
+    "",
+    "just some text",
+    "  leading and trailing whitespace  ",
+    String.join("\n",
+      "<red>Hello, <b>world</b>!",
+      "  {user.name} has <&a>{a < b and c >= 2}</> points",
+      "  escaped \\<tags\\> and \\{curlies\\}",
+      "</red>"
+    ),
+    String.join("\n",
+      "<hover-text value={",
+      "  <&7>Rank: <&e>{upper(sender.rank)}<br/>",
+      "  <&a>Click to reply",
+      "}>",
+      "  <suggest-command [value]=\"'/msg ' & sender.name & ' '\">",
+      "    <&8>[<gradient color=\"aqua\" color=\"blue\"><b>{sender.rank}</b></>]",
+      "  </>",
+      "</>",
+      "<&8>: <&7>{message} trailing text"
+    ),
+    String.join("\n",
+      "<container",
+      "  *for-player=\"players\"",
+      "  *for-separator={<br/>}",
+      "  *let-rank=\"loop.index + 1\"",
+      ">",
+      "  <&8>#{rank} <&7>- <&a>{player.score} <&7>points",
+      "</>"
+    )
+  };
+
+  // Valid in terms of CML, while not being supported by any tag
+  private static final String ATTRIBUTES_DOCUMENT = String.join("\n",
+    "<a width=35 ratio=-.5 flag nothing=null enabled=false/>",
+    "<b",
+    "  literal=`x{y}z`",
+    "  subtree={<c value={<d/>}/>}",
+    ">text</b>"
+  );
+
+  @Test
+  public void shouldEmitEqualEventsForAllWindowSizes() {
+    for (String document : DOCUMENTS)
+      makeEventsCase(document);
+
+    makeEventsCase(ATTRIBUTES_DOCUMENT);
+  }
+
+  @Test
+  public void shouldSplitIntoBoundedSegments() {
+    StringBuilder document = new StringBuilder();
+
+    for (int index = 0; index < 500; ++index)
+      document.append("<red>Line ").append(index).append(" of <b>many</b></red><br/>\n");
+
+    int[] maxSegmentLength = { 0 };
+    int[] segmentCount = { 0 };
+
+    CmlStreamParser.parse(document, new RecordingConsumer(new ArrayList<>()), 256, segment -> {
+      maxSegmentLength[0] = Math.max(maxSegmentLength[0], segment.length());
+      ++segmentCount[0];
+    });
+
+    Assertions.assertTrue(segmentCount[0] > 50, "Expected many segments, got " + segmentCount[0]);
+    Assertions.assertTrue(maxSegmentLength[0] <= 2 * 256, "Expected bounded segments, got " + maxSegmentLength[0]);
+  }
+
+  @Test
+  public void shouldRenderStreamedTreesEqually() throws IOException {
+    for (String document : DOCUMENTS) {
+      MarkupNode expectedNode = MarkupParser.parse(InputView.of(document), BuiltInTagRegistry.INSTANCE);
+
+      for (int windowSize : WINDOW_SIZES) {
+        MarkupNode actualNode = MarkupParser.parse(new StringReader(document), BuiltInTagRegistry.INSTANCE, windowSize);
+        Assertions.assertEquals(render(expectedNode), render(actualNode), "window-size " + windowSize + " of document: " + document);
+      }
+    }
+  }
+
+  @Test
+  public void shouldReportErrorsAtTheirActualLines() {
+    List<String> lines = new ArrayList<>();
+
+    for (int index = 0; index < 30; ++index)
+      lines.add("<red>Line " + (index + 1) + "</red>");
+
+    lines.set(24, "<red>Line 25 {a +}</red>");
+
+    assertErrorScreenContains(String.join("\n", lines), "25: <red>Line 25 {a +}</red>");
+
+    lines.set(24, "<red>Line 25 <b 5=3></b></red>");
+
+    assertErrorScreenContains(String.join("\n", lines), "25: <red>Line 25 <b 5=3></b></red>");
+  }
+
+  private void makeEventsCase(String document) {
+    List<String> expectedEvents = new ArrayList<>();
+    CmlEventParser.parse(InputView.of(document), new RecordingConsumer(expectedEvents));
+
+    for (int windowSize : WINDOW_SIZES) {
+      List<String> actualEvents = new ArrayList<>();
+      CmlStreamParser.parse(document, new RecordingConsumer(actualEvents), windowSize, null);
+
+      Assertions.assertEquals(expectedEvents, actualEvents, "window-size " + windowSize + " of document: " + document);
+    }
+  }
+
+  private void assertErrorScreenContains(String document, String expectedLine) {
+    List<String> expectedScreen = Assertions.assertThrows(
+      MarkupParseException.class,
+      () -> MarkupParser.parse(InputView.of(document), BuiltInTagRegistry.INSTANCE)
+    ).makeErrorScreen();
+
+    Assertions.assertTrue(expectedScreen.contains(expectedLine), "Expected " + expectedLine + " in " + expectedScreen);
+
+    List<String> actualScreen = Assertions.assertThrows(
+      MarkupParseException.class,
+      () -> MarkupParser.parse(new StringReader(document), BuiltInTagRegistry.INSTANCE, 32)
+    ).makeErrorScreen();
+
+    String errorMessage = expectedScreen.get(expectedScreen.indexOf(expectedLine) + 2);
+    int messageIndex = actualScreen.indexOf(errorMessage);
+
+    // Segments may begin in the middle of a line, so only the line-number itself can be compared
+    Assertions.assertTrue(messageIndex >= 2, "Expected " + errorMessage + " in " + actualScreen);
+    Assertions.assertTrue(actualScreen.get(messageIndex - 2).startsWith(expectedLine.substring(0, expectedLine.indexOf(':') + 1)));
+  }
+
+  private String render(MarkupNode node) {
+    InterpretationEnvironment environment = new InterpretationEnvironment()
+      .withVariable("players", Arrays.asList("a", "b"))
+      .withVariable("message", "hi");
+
+    return String.join("\n", MarkupInterpreter.interpret(
+      node, SlotType.CHAT, environment, PlainTextComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE
+    ));
+  }
+
+  private static class RecordingConsumer implements CmlEventConsumer {
+
+    private final List<String> events;
+
+    private RecordingConsumer(List<String> events) {
+      this.events = events;
+    }
+
+    @Override
+    public void onTagOpenBegin(InputView tagName) {
+      events.add("open-begin " + tagName.buildString());
+    }
+
+    @Override
+    public void onStringAttribute(InputView name, InputView value) {
+      events.add("string " + name.buildString() + "=" + value.buildString());
+    }
+
+    @Override
+    public void onTemplateLiteralAttribute(InputView name, TerminalNode value) {
+      events.add("template-literal " + name.buildString() + "=" + value.token.raw.buildString());
+    }
+
+    @Override
+    public void onLongAttribute(InputView name, InputView raw, long value) {
+      events.add("long " + name.buildString() + "=" + value);
+    }
+
+    @Override
+    public void onDoubleAttribute(InputView name, InputView raw, double value) {
+      events.add("double " + name.buildString() + "=" + value);
+    }
+
+    @Override
+    public void onBooleanAttribute(InputView name, InputView raw, boolean value) {
+      events.add("boolean " + name.buildString() + "=" + value);
+    }
+
+    @Override
+    public void onNullAttribute(InputView name, InputView raw) {
+      events.add("null " + name.buildString());
+    }
+
+    @Override
+    public void onTagAttributeBegin(InputView name, int valueBeginPosition) {
+      events.add("attribute-begin " + name.buildString());
+    }
+
+    @Override
+    public void onTagAttributeEnd(InputView name) {
+      events.add("attribute-end " + name.buildString());
+    }
+
+    @Override
+    public void onFlagAttribute(InputView name) {
+      events.add("flag " + name.buildString());
+    }
+
+    @Override
+    public void onTagOpenEnd(InputView tagName, boolean wasSelfClosing) {
+      events.add("open-end " + tagName.buildString() + " " + wasSelfClosing);
+    }
+
+    @Override
+    public void onText(InputView text) {
+      events.add("text '" + text.buildString() + "'");
+    }
+
+    @Override
+    public void onInterpolation(ExpressionNode expression, InputView raw) {
+      events.add("interpolation " + raw.buildString());
+    }
+
+    @Override
+    public void onTagClose(@Nullable InputView tagName, int pointyPosition) {
+      events.add("close " + (tagName == null ? null : tagName.buildString()));
+    }
+
+    @Override
+    public void onInputEnd() {
+      events.add("input-end");
+    }
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.markup.interpreter;
+
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.markup.ast.tag.LetBinding;
+import at.blvckbytes.component_markup.test_utils.NullInterpreterLogger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+public class CaptureNodeTests extends InterpreterTestsBase {
+
+  @Test
+  public void shouldOnlyCaptureReferencedVariables() {
+    InterpretationEnvironment environment = makeEnvironment(100)
+      .withVariable("a", "value of a")
+      .withVariable("b", Collections.singletonMap("c", "value of c"))
+      .withVariable("c", "unused")
+      .withVariable("d", "value of d");
+
+    makeCaptureCase("{a} and {b.c}", environment, "a", "b");
+    makeCaptureCase("<red *if=\"has(d) and has(e)\">{a ?? 'none'}", environment, "a", "d");
+    makeCaptureCase("<container *for-item=\"b\" *let-x=\"item\">{x}{env('d')}", environment, "b", "d");
+    makeCaptureCase("plain text", environment);
+  }
+
+  @Test
+  public void shouldCaptureVariablesOfMarkupHeldByCapturedVariables() {
+    InterpretationEnvironment environment = makeEnvironment(100)
+      .withVariable("template", parseMarkup("<red>{x}"))
+      .withVariable("templates", Arrays.asList(parseMarkup("{y}"), Collections.singletonMap("key", parseMarkup("{z}"))))
+      .withVariable("x", 1)
+      .withVariable("y", 2)
+      .withVariable("z", 3);
+
+    makeCaptureCase("{template}", environment, "template", "x");
+    makeCaptureCase("<container *for-t=\"templates\">{t}", environment, "templates", "y", "z");
+  }
+
+  @Test
+  public void shouldCaptureAllVariablesIfReferencesAreUndeterminable() {
+    InterpretationEnvironment environment = makeEnvironment(3).withVariable("name", "variable_1");
+
+    makeCaptureCase("{env(name)}", environment, "name", "variable_0", "variable_1", "variable_2");
+    makeCaptureCase("<container><content/>", environment, "name", "variable_0", "variable_1", "variable_2");
+  }
+
+  @Test
+  public void shouldRenderCapturesOfLoopsEqually() {
+    MarkupNode node = parseMarkup(
+      "<container *for-i=\"1..3\" *let-(line)={{i}/{prefix}{variable_5}}><container *let-prefix=\"'shadowed'\">{line};"
+    );
+
+    InterpretationEnvironment environment = makeEnvironment(50).withVariable("prefix", "p");
+
+    Assertions.assertEquals("1/p5;2/p5;3/p5;", node.asPlainText(environment, NullInterpreterLogger.INSTANCE));
+  }
+
+  @Test
+  public void shouldNotCacheTheDependenciesOfCaptures() {
+    MarkupNode node = parseMarkup(
+      "<container *for-i=\"1..3\" *let-(line)={{i}/{prefix}}><container *let-(held)={<red>{line}}>{held};"
+    );
+
+    InterpretationEnvironment environment = makeEnvironment(3).withVariable("prefix", "p");
+
+    Assertions.assertEquals("1/p;2/p;3/p;", node.asPlainText(environment, NullInterpreterLogger.INSTANCE));
+
+    int cacheSize = FreeVariableAnalyzer.getCacheSize();
+
+    // Every render captures the line anew, which is then analyzed while capturing the held markup
+    for (int index = 0; index < 50; ++index)
+      Assertions.assertEquals("1/p;2/p;3/p;", node.asPlainText(environment, NullInterpreterLogger.INSTANCE));
+
+    Assertions.assertEquals(cacheSize, FreeVariableAnalyzer.getCacheSize());
+  }
+
+  private void makeCaptureCase(String markup, InterpretationEnvironment environment, String... expectedNames) {
+    MarkupNode capture = CaptureNode.createVariableCapture(parseMarkup(markup), environment);
+    Set<String> capturedNames = new HashSet<>();
+
+    Assertions.assertNotNull(capture.letBindings);
+
+    for (LetBinding binding : capture.letBindings)
+      capturedNames.add(binding.bindingName);
+
+    Assertions.assertEquals(new HashSet<>(Arrays.asList(expectedNames)), capturedNames);
+  }
+
+  private static InterpretationEnvironment makeEnvironment(int variableCount) {
+    InterpretationEnvironment environment = new InterpretationEnvironment();
+
+    for (int index = 0; index < variableCount; ++index)
+      environment.withVariable("variable_" + index, index);
+
+    return environment;
+  }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.markup.interpreter;
+
+import at.blvckbytes.component_markup.constructor.SlotType;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.expression.interpreter.PersistentInterpretationEnvironment;
+import at.blvckbytes.component_markup.expression.interpreter.RenderBudget;
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.markup.ast.tag.built_in.BuiltInTagRegistry;
+import at.blvckbytes.component_markup.markup.parser.MarkupParser;
+import at.blvckbytes.component_markup.test_utils.NullInterpreterLogger;
+import at.blvckbytes.component_markup.test_utils.renderer.ChatRenderer;
+import at.blvckbytes.component_markup.util.InputView;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.util.*;
+
+public class ComponentTreeOptimizationTests {
+
+  private static final List<String> INHERITED_KEYS = Arrays.asList(
+    "color", "shadow_color", "font", "bold", "italic", "underlined", "strikethrough", "obfuscated",
+    "insertion", "clickEvent", "hoverEvent"
+  );
+
+  private static final String[] CORPUS = {
+    "Hello, world!",
+    "<red>Hello, <b>world</b>!",
+    "<red><b>Hello</b><b>, </b><b>world</b></red><blue>!",
+    "<red>A<container>B<container>C<container><i>D</i></container></container></container>E",
+    "<green><b>first</b> <b>second</b> <b>third</b>",
+    "<container *for=\"1..3\" *for-separator={<space/>} *let-number=\"loop.index + 1\">{number}",
+    "<container *for='1..3' *for-separator={<br/>}><&7 *for='1..3' *for-separator={<&7>,<space/>}>Item #{1}.{2}</></container>",
+    "<run-command value=\"/help\"><red>Click</red> <red>me</red></run-command><gray> or don't",
+    "<hover-text value={<&c>Hovered <&c>text}><yellow>Hover</yellow><yellow> me",
+    "<gold>Press <key key=\"key.jump\"/> to <b>jump</b>",
+    "<aqua>Hello <translate key=\"chat.type.text\"/> <translate key=\"chat.type.text\"/>",
+    "<red>Hello, <style [color]=\"null\">world</style> and <reset>everyone</reset>!",
+    "<red>first line<br/><green>second <u>line</u><br/><blue>third line",
+    "<gradient c=\"red\" c=\"blue\">Hello, <b>colorful</b> world</gradient> and <rainbow>more</rainbow>",
+    "<rainbow> I am the <b>coolest <i>rainbow</i></b> on earth </>",
+    "<transition c=\"gold\" c=\"aqua\"><b>Hello</b> <b>world</b></transition>",
+    "<red><container></container><b></b>text<i></i></red>",
+    "<b><i>nested</i></b><b><i> styles</i></b><u>!</u>",
+  };
+
+  @Test
+  public void shouldRenderIdenticallyWhenOptimized() throws Exception {
+    for (String markup : CORPUS) {
+      List<JsonObject> regular = render(markup, false);
+      List<JsonObject> optimized = render(markup, true);
+
+      Assertions.assertEquals(describeRuns(regular), describeRuns(optimized), markup);
+
+      BufferedImage regularImage = ChatRenderer.render(regular, JsonComponentConstructor.INSTANCE.getSlotContext(SlotType.CHAT));
+      BufferedImage optimizedImage = ChatRenderer.render(optimized, JsonComponentConstructor.INSTANCE.getSlotContext(SlotType.CHAT));
+
+      assertImagesEqual(regularImage, optimizedImage, markup);
+      Assertions.assertTrue(countComponents(optimized) <= countComponents(regular), markup);
+    }
+  }
+
+  @Test
+  public void shouldReduceTheNumberOfComponents() {
+    String[] markups = {
+      "<red>Hello, <b>world</b>!",
+      "<red>A<container>B<container>C<container><i>D</i></container></container></container>E",
+      "<red>x</red><hover-text value={<&c>Hovered}>a<b>b</b></hover-text>",
+    };
+
+    for (String markup : markups)
+      Assertions.assertTrue(countComponents(render(markup, true)) < countComponents(render(markup, false)), markup);
+  }
+
+  @Test
+  public void shouldJoinNeighbouringTextsOfEqualStyle() {
+    List<JsonObject> result = render("<red>A<container>B<container>C</container></container>D", true);
+
+    Assertions.assertEquals(1, countComponents(result));
+    Assertions.assertEquals("ABCD", result.get(0).get("text").getAsString());
+  }
+
+  @Test
+  public void shouldBeDisabledByDefaultAndCarriedAlongByEnvironments() {
+    Assertions.assertFalse(new InterpretationEnvironment().isComponentTreeOptimizationEnabled());
+    Assertions.assertFalse(new PersistentInterpretationEnvironment().isComponentTreeOptimizationEnabled());
+
+    Assertions.assertTrue(new InterpretationEnvironment().withComponentTreeOptimization(true).copy().isComponentTreeOptimizationEnabled());
+    Assertions.assertTrue(
+      new PersistentInterpretationEnvironment()
+        .withComponentTreeOptimization(true)
+        .withVariable("a", 1)
+        .withRenderBudget(RenderBudget.UNLIMITED)
+        .isComponentTreeOptimizationEnabled()
+    );
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<JsonObject> render(String markup, boolean optimize) {
+    MarkupNode node = MarkupParser.parse(InputView.of(markup), BuiltInTagRegistry.INSTANCE);
+    InterpretationEnvironment environment = new InterpretationEnvironment().withComponentTreeOptimization(optimize);
+    return (List<JsonObject>) (List<?>) MarkupInterpreter.interpret(node, SlotType.CHAT, environment, JsonComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE);
+  }
+
+  private static void assertImagesEqual(BufferedImage expected, BufferedImage actual, String markup) {
+    Assertions.assertEquals(expected.getWidth(), actual.getWidth(), markup);
+    Assertions.assertEquals(expected.getHeight(), actual.getHeight(), markup);
+
+    for (int y = 0; y < expected.getHeight(); ++y) {
+      for (int x = 0; x < expected.getWidth(); ++x) {
+        if (expected.getRGB(x, y) != actual.getRGB(x, y))
+          Assertions.fail("Pixel at " + x + ", " + y + " differs for " + markup);
+      }
+    }
+  }
+
+  private static int countComponents(List<JsonObject> components) {
+    int count = 0;
+
+    for (JsonObject component : components)
+      count += countComponents(component);
+
+    return count;
+  }
+
+  private static int countComponents(JsonObject component) {
+    int count = 1;
+
+    if (component.has("extra")) {
+      for (JsonElement child : component.getAsJsonArray("extra"))
+        count += countComponents(child.getAsJsonObject());
+    }
+
+    return count;
+  }
+
+  // Also covers properties the renderer does not draw, like events, by comparing each line
+  // as a sequence of contents, each with the properties it effectively inherited
+  private static List<String> describeRuns(List<JsonObject> components) {
+    List<String> result = new ArrayList<>();
+
+    for (JsonObject component : components) {
+      List<String[]> runs = new ArrayList<>();
+      collectRuns(component, new TreeMap<>(), runs);
+
+      StringBuilder description = new StringBuilder();
+
+      for (String[] run : runs)
+        description.append(run[0]).append(' ').append(run[1]).append('\n');
+
+      result.add(description.toString());
+    }
+
+    return result;
+  }
+
+  private static void collectRuns(JsonObject component, Map<String, String> inherited, List<String[]> runs) {
+    Map<String, String> properties = new TreeMap<>(inherited);
+    JsonObject content = new JsonObject();
+
+    for (Map.Entry<String, JsonElement> entry : component.entrySet()) {
+      String key = entry.getKey();
+
+      if (key.equals("extra"))
+        continue;
+
+      if (INHERITED_KEYS.contains(key)) {
+        properties.put(key, describeProperty(key, entry.getValue()));
+        continue;
+      }
+
+      content.add(key, entry.getValue());
+    }
+
+    if (content.size() == 1 && content.has("text")) {
+      String text = content.get("text").getAsString();
+      String describedProperties = properties.toString();
+      int lastIndex = runs.size() - 1;
+
+      if (lastIndex >= 0 && runs.get(lastIndex)[0].startsWith("text:") && runs.get(lastIndex)[1].equals(describedProperties))
+        runs.get(lastIndex)[0] += text;
+
+      else if (!text.isEmpty())
+        runs.add(new String[] { "text:" + text, describedProperties });
+    }
+
+    else if (content.size() != 0)
+      runs.add(new String[] { content.toString(), properties.toString() });
+
+    if (component.has("extra")) {
+      for (JsonElement child : component.getAsJsonArray("extra"))
+        collectRuns(child.getAsJsonObject(), properties, runs);
+    }
+  }
+
+  private static String describeProperty(String key, JsonElement value) {
+    if (!key.equals("hoverEvent"))
+      return value.toString();
+
+    JsonObject event = value.getAsJsonObject();
+
+    if (!event.get("action").getAsString().equals("show_text"))
+      return value.toString();
+
+    // Hovered texts are built by the interpreter as well, and thereby optimized too
+    JsonElement contents = event.get("contents");
+    List<JsonObject> contentComponents = new ArrayList<>();
+
+    if (contents.isJsonArray()) {
+      for (JsonElement item : contents.getAsJsonArray())
+        contentComponents.add(item.getAsJsonObject());
+    }
+
+    else
+      contentComponents.add(contents.getAsJsonObject());
+
+    return "show_text" + describeRuns(contentComponents);
+  }
+}
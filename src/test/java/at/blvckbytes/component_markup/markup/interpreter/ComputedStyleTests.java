@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.markup.interpreter;
+
+import at.blvckbytes.component_markup.constructor.SlotType;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.markup.ast.node.StyledNode;
+import at.blvckbytes.component_markup.markup.ast.node.style.NodeStyle;
+import com.google.gson.JsonObject;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class ComputedStyleTests extends InterpreterTestsBase {
+
+  @Test
+  public void shouldMemoizeConstantStyles() {
+    MarkupNode node = parseMarkup("<red>A<b>B</b><green>C");
+    List<JsonObject> firstResult = render(node, new InterpretationEnvironment());
+
+    NodeStyle style = findStyle(node);
+    Assertions.assertNotNull(style);
+    Assertions.assertNotNull(style.getEvaluationMemo());
+
+    // Later renders are based on the memoized style and must not have altered it
+    Assertions.assertEquals(firstResult, render(node, new InterpretationEnvironment()));
+    Assertions.assertEquals(firstResult, render(node, new InterpretationEnvironment()));
+  }
+
+  @Test
+  public void shouldEvaluateVariableStylesOnEveryRender() {
+    MarkupNode node = parseMarkup("<style [color]=\"accent\">A<b>B");
+
+    List<JsonObject> redResult = render(node, new InterpretationEnvironment().withVariable("accent", "red"));
+    List<JsonObject> blueResult = render(node, new InterpretationEnvironment().withVariable("accent", "blue"));
+
+    Assertions.assertNotEquals(redResult, blueResult);
+    Assertions.assertEquals(redResult, render(node, new InterpretationEnvironment().withVariable("accent", "red")));
+    Assertions.assertEquals(blueResult, render(node, new InterpretationEnvironment().withVariable("accent", "blue")));
+  }
+
+  @Test
+  public void shouldEvaluateStylesWhichReadTheEnvironmentOnEveryRender() {
+    String[] markups = {
+      "<style [color]=\"env('accent')\">A<b>B",
+      "<style [color]=\"has('accent') then 'red' else 'blue'\">A<b>B",
+    };
+
+    for (String markup : markups) {
+      MarkupNode node = parseMarkup(markup);
+
+      List<JsonObject> redResult = render(node, new InterpretationEnvironment().withVariable("accent", "red"));
+      List<JsonObject> blueResult = render(node, new InterpretationEnvironment().withVariable("accent", "blue"));
+      List<JsonObject> emptyResult = render(node, new InterpretationEnvironment());
+
+      Assertions.assertTrue(redResult.toString().contains("\"color\":\"red\""), markup);
+      Assertions.assertNotEquals(redResult, markup.contains("has(") ? emptyResult : blueResult, markup);
+      Assertions.assertEquals(redResult, render(node, new InterpretationEnvironment().withVariable("accent", "red")), markup);
+    }
+  }
+
+  @Test
+  public void shouldNotAlterSharedStylesAcrossRenders() {
+    // Memoized styles are shared with every render and refuse alterations, so these would throw if
+    // any of the places which subtract, extend, reset or colorize them forgot to copy them first
+    String[] markups = {
+      "<red>A<red>B</red><b>C<red>D</red></b>",
+      "<red><b>first</b> <b>second</b></red><b>third",
+      "<red>Hello, <reset>world</reset><b> and <reset>everyone",
+      "<gradient c=\"red\" c=\"blue\"><b>Hello</b> <red>world</red></gradient>",
+      "<rainbow><i>A</i><i>B</i></rainbow><i>C",
+      "<hover-text value={<red>A<red>B}><red>C</red><red>D",
+      "<red *for=\"1..3\" *for-separator={<red>, }>{loop.index}",
+    };
+
+    for (String markup : markups) {
+      MarkupNode node = parseMarkup(markup);
+
+      List<JsonObject> firstResult = render(node, new InterpretationEnvironment());
+
+      Assertions.assertEquals(firstResult, render(node, new InterpretationEnvironment()), markup);
+
+      // Also passes the shared styles through the component tree optimizer
+      render(node, new InterpretationEnvironment().withComponentTreeOptimization(true));
+
+      Assertions.assertEquals(firstResult, render(node, new InterpretationEnvironment()), markup);
+    }
+  }
+
+  private static @Nullable NodeStyle findStyle(MarkupNode node) {
+    if (node instanceof StyledNode && ((StyledNode) node).getStyle() != null)
+      return ((StyledNode) node).getStyle();
+
+    if (node.children == null)
+      return null;
+
+    for (MarkupNode child : node.children) {
+      NodeStyle style = findStyle(child);
+
+      if (style != null)
+        return style;
+    }
+
+    return null;
+  }
+
+  private List<JsonObject> render(MarkupNode node, InterpretationEnvironment environment) {
+    return interpretNode(node, environment, SlotType.CHAT);
+  }
+}
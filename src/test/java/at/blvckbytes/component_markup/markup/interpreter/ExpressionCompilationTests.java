@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.markup.interpreter;
+
+import at.blvckbytes.component_markup.constructor.SlotType;
+import at.blvckbytes.component_markup.expression.ast.ExpressionNode;
+import at.blvckbytes.component_markup.expression.interpreter.CompiledExpression;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.expression.interpreter.PersistentInterpretationEnvironment;
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.markup.ast.node.control.InterpolationNode;
+import com.google.gson.JsonObject;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ExpressionCompilationTests extends InterpreterTestsBase {
+
+  private static final String[] CORPUS = {
+    "Hello, {name}!",
+    "<red>{upper(name)} {name[0]} {name[1:]} {reverse(name)} {name ** 2}",
+    "<style [color]=\"accent\" [b]=\"level > 3\">{level * 2 + 1} {level / 3} {level % 2 eq 0 then 'even' else 'odd'}",
+    "<container *for-item=\"items\" *for-separator={<gray>, }>{loop.index + 1}: {item}",
+    "<container *for=\"1..level\" *let-square=\"loop.index * loop.index\">{square};",
+    "<container *if=\"5 in ids\">contained</container><container *else>missing</container> {6 in ids}",
+    "{player.name ?? 'unknown'} {missing ?? 'fallback'} {env('name')} {has('missing')}",
+    "<gradient [c]=\"accent\" c=\"blue\">{'level ' & level} {'a,b' split ','} {2 ^ 10}",
+    "<hover-text value={<red>{name}}>{level >= 5 and name neq 'Alex'}",
+  };
+
+  @Test
+  public void shouldRenderIdenticallyWhenCompilingExpressions() {
+    for (String markup : CORPUS) {
+      MarkupNode node = parseMarkup(markup);
+
+      List<JsonObject> interpreted = render(node, makeEnvironment());
+      List<JsonObject> compiled = render(node, makeEnvironment().withExpressionCompilation(true));
+
+      Assertions.assertEquals(interpreted, compiled, markup);
+
+      // Later renders are based on the compiled forms kept on the expressions
+      Assertions.assertEquals(compiled, render(node, makeEnvironment().withExpressionCompilation(true)), markup);
+    }
+  }
+
+  @Test
+  public void shouldCompileOnFirstUseAndKeepTheCompiledForm() {
+    MarkupNode node = parseMarkup("Level {level * 2}");
+    ExpressionNode expression = findInterpolation(node);
+
+    Assertions.assertNotNull(expression);
+
+    render(node, makeEnvironment());
+    Assertions.assertNull(expression.getCompiledForm());
+
+    render(node, makeEnvironment().withExpressionCompilation(true));
+    CompiledExpression compiledForm = expression.getCompiledForm();
+    Assertions.assertNotNull(compiledForm);
+
+    render(node, makeEnvironment().withExpressionCompilation(true));
+    Assertions.assertSame(compiledForm, expression.getCompiledForm());
+  }
+
+  @Test
+  public void shouldBeDisabledByDefaultAndCarriedAlongByEnvironments() {
+    Assertions.assertFalse(new InterpretationEnvironment().isExpressionCompilationEnabled());
+    Assertions.assertFalse(new PersistentInterpretationEnvironment().isExpressionCompilationEnabled());
+
+    Assertions.assertTrue(new InterpretationEnvironment().withExpressionCompilation(true).copy().isExpressionCompilationEnabled());
+    Assertions.assertTrue(
+      new PersistentInterpretationEnvironment()
+        .withExpressionCompilation(true)
+        .withVariable("a", 1)
+        .withComponentTreeOptimization(true)
+        .isExpressionCompilationEnabled()
+    );
+  }
+
+  private static InterpretationEnvironment makeEnvironment() {
+    Map<String, Object> player = new HashMap<>();
+    player.put("name", "Steve");
+
+    return new InterpretationEnvironment()
+      .withVariable("name", "Steve")
+      .withVariable("level", 7)
+      .withVariable("accent", "red")
+      .withVariable("items", Arrays.asList("first", "second", "third"))
+      .withVariable("ids", Arrays.asList(3, 5, 7))
+      .withVariable("player", player);
+  }
+
+  private static @Nullable ExpressionNode findInterpolation(MarkupNode node) {
+    if (node instanceof InterpolationNode)
+      return ((InterpolationNode) node).contents;
+
+    if (node.children == null)
+      return null;
+
+    for (MarkupNode child : node.children) {
+      ExpressionNode expression = findInterpolation(child);
+
+      if (expression != null)
+        return expression;
+    }
+
+    return null;
+  }
+
+  private List<JsonObject> render(MarkupNode node, InterpretationEnvironment environment) {
+    return interpretNode(node, environment, SlotType.CHAT);
+  }
+}
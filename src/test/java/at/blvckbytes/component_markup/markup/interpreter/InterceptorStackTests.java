@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.markup.interpreter;
+
+import at.blvckbytes.component_markup.constructor.SlotType;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.markup.ast.node.control.ContainerNode;
+import at.blvckbytes.component_markup.markup.ast.node.terminal.TextNode;
+import at.blvckbytes.component_markup.markup.ast.tag.built_in.BuiltInTagRegistry;
+import at.blvckbytes.component_markup.markup.parser.MarkupParser;
+import at.blvckbytes.component_markup.test_utils.NullInterpreterLogger;
+import at.blvckbytes.component_markup.util.InputView;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+public class InterceptorStackTests {
+
+  private static class RecordingInterceptor extends MarkupNode implements InterpreterInterceptor {
+
+    final List<String> calls = new ArrayList<>();
+    final int interests;
+    final Function<MarkupNode, InterceptionResult> resultFunction;
+
+    RecordingInterceptor(int interests, Function<MarkupNode, InterceptionResult> resultFunction) {
+      super(InputView.EMPTY, null, null);
+
+      this.interests = interests;
+      this.resultFunction = resultFunction;
+    }
+
+    @Override
+    public int getInterests() {
+      return interests;
+    }
+
+    @Override
+    public InterceptionResult interceptInterpretation(MarkupNode node, Interpreter<?, ?> interpreter) {
+      calls.add("intercept " + describe(node));
+      return resultFunction.apply(node);
+    }
+
+    @Override
+    public void afterInterpretation(MarkupNode node, Interpreter<?, ?> interpreter) {
+      calls.add("after " + describe(node));
+    }
+
+    @Override
+    public void onSkippedByChild(MarkupNode node, Interpreter<?, ?> interpreter, InterceptionResult priorResult) {
+      calls.add("skipped " + describe(node) + " " + priorResult);
+    }
+
+    private String describe(MarkupNode node) {
+      if (node == this)
+        return "self";
+
+      if (node instanceof TextNode)
+        return "text";
+
+      if (node instanceof InterpreterInterceptor)
+        return "interceptor";
+
+      return "container";
+    }
+  }
+
+  @Test
+  public void shouldOnlyDispatchToInterestedInterceptors() {
+    InterceptorStack<?> stack = new InterceptorStack<>(null);
+
+    RecordingInterceptor outer = new RecordingInterceptor(InterpreterInterceptor.INTEREST_ALL, node -> InterceptionResult.DO_PROCESS_AND_CALL_AFTER);
+    RecordingInterceptor inner = new RecordingInterceptor(InterpreterInterceptor.INTEREST_TEXT, node -> InterceptionResult.DO_PROCESS_AND_CALL_AFTER);
+    ContainerNode container = new ContainerNode(InputView.EMPTY, null, null);
+    TextNode text = new TextNode(InputView.EMPTY, "text");
+
+    Assertions.assertFalse(stack.handleBeforeAndGetIfSkip(outer));
+    Assertions.assertFalse(stack.handleBeforeAndGetIfSkip(inner));
+    Assertions.assertFalse(stack.handleBeforeAndGetIfSkip(container));
+    Assertions.assertFalse(stack.handleBeforeAndGetIfSkip(text));
+    stack.handleAfter(text);
+    stack.handleAfter(container);
+    stack.handleAfter(inner);
+    stack.handleAfter(outer);
+
+    Assertions.assertEquals(Arrays.asList(
+      "intercept self",
+      "intercept interceptor",
+      "intercept container",
+      "intercept text",
+      "after text",
+      "after container",
+      "after interceptor",
+      "after self"
+    ), outer.calls);
+
+    Assertions.assertEquals(Arrays.asList(
+      "intercept self",
+      "intercept text",
+      "after text",
+      "after self"
+    ), inner.calls);
+  }
+
+  @Test
+  public void shouldUnwindPriorResultsWhenAParentSkipsANode() {
+    InterceptorStack<?> stack = new InterceptorStack<>(null);
+
+    RecordingInterceptor outer = new RecordingInterceptor(InterpreterInterceptor.INTEREST_ALL, node -> InterceptionResult.DO_PROCESS_AND_CALL_AFTER);
+    RecordingInterceptor inner = new RecordingInterceptor(InterpreterInterceptor.INTEREST_TERMINAL, node -> (
+      node instanceof TextNode ? InterceptionResult.DO_NOT_PROCESS : InterceptionResult.DO_PROCESS
+    ));
+
+    Assertions.assertFalse(stack.handleBeforeAndGetIfSkip(outer));
+    Assertions.assertFalse(stack.handleBeforeAndGetIfSkip(inner));
+    Assertions.assertTrue(stack.handleBeforeAndGetIfSkip(new TextNode(InputView.EMPTY, "text")));
+    stack.handleAfter(inner);
+    stack.handleAfter(outer);
+
+    Assertions.assertEquals(Arrays.asList(
+      "intercept self",
+      "intercept interceptor",
+      "intercept text",
+      "skipped text DO_PROCESS_AND_CALL_AFTER",
+      "after interceptor",
+      "after self"
+    ), outer.calls);
+
+    // A balanced stack leaves nothing behind to be called for later nodes
+    Assertions.assertFalse(stack.handleBeforeAndGetIfSkip(new TextNode(InputView.EMPTY, "text")));
+    Assertions.assertEquals(6, outer.calls.size());
+  }
+
+  @Test
+  public void shouldColorizeThroughNestedColorizersAsIfTheyWereContainers() {
+    Assertions.assertEquals(
+      render("<gradient c=\"red\" c=\"blue\">AB<container>CD<container>EF</container><b>G</b></container>HI</gradient>"),
+      render("<gradient c=\"red\" c=\"blue\">AB<rainbow>CD<transition c=\"gold\" c=\"aqua\">EF</transition><b>G</b></rainbow>HI</gradient>")
+    );
+  }
+
+  private static String render(String markup) {
+    MarkupNode node = MarkupParser.parse(InputView.of(markup), BuiltInTagRegistry.INSTANCE);
+    return MarkupInterpreter.interpret(node, SlotType.CHAT, new InterpretationEnvironment(), JsonComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE).toString();
+  }
+}
@@ -281,8 +281,14 @@ public abstract class InterpreterTestsBase {
     InterpretationEnvironment baseEnvironment,
     SlotType slot
   ) {
-    MarkupNode markupNode = parseMarkup(markup);
+    return interpretNode(parseMarkup(markup), baseEnvironment, slot);
+  }
 
+  protected List<JsonObject> interpretNode(
+    MarkupNode markupNode,
+    InterpretationEnvironment baseEnvironment,
+    SlotType slot
+  ) {
     return MarkupInterpreter.interpret(
       markupNode,
       slot,
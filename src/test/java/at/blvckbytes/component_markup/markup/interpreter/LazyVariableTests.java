@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.markup.interpreter;
+
+import at.blvckbytes.component_markup.constructor.PlainTextComponentConstructor;
+import at.blvckbytes.component_markup.constructor.SlotType;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.expression.interpreter.LazyVariable;
+import at.blvckbytes.component_markup.expression.interpreter.PersistentInterpretationEnvironment;
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.test_utils.NullInterpreterLogger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LazyVariableTests extends InterpreterTestsBase {
+
+  @Test
+  public void shouldResolveOnlyReadVariablesOncePerRender() {
+    AtomicInteger balanceCalls = new AtomicInteger();
+    AtomicInteger pingCalls = new AtomicInteger();
+
+    InterpretationEnvironment environment = new InterpretationEnvironment()
+      .withLazyVariable("balance", () -> balanceCalls.incrementAndGet() * 100)
+      .withLazyVariable("ping", pingCalls::incrementAndGet);
+
+    Assertions.assertEquals(
+      "100 100 | 100;100;100;",
+      render("{balance} {balance} | <container *for=\"1..3\" *let-b=\"balance\">{b};", environment)
+    );
+
+    Assertions.assertEquals(1, balanceCalls.get());
+    Assertions.assertEquals(0, pingCalls.get());
+
+    // Every render resolves anew
+    Assertions.assertEquals("200", render("{balance}", environment));
+    Assertions.assertEquals(2, balanceCalls.get());
+  }
+
+  @Test
+  public void shouldResolveOncePerRenderOfABatch() {
+    AtomicInteger calls = new AtomicInteger();
+    PersistentInterpretationEnvironment global = new PersistentInterpretationEnvironment()
+      .withLazyVariable("online", () -> "online-" + calls.incrementAndGet());
+
+    List<InterpretationEnvironment> environments = new ArrayList<>();
+
+    for (int index = 0; index < 5; ++index)
+      environments.add(global.withVariable("player", "player-" + index));
+
+    MarkupNode node = parseMarkup("{player}: {online}, {online}");
+    List<List<String>> results = MarkupInterpreter.interpretAll(node, SlotType.CHAT, environments, PlainTextComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE);
+
+    Set<String> seenValues = new HashSet<>();
+
+    for (int index = 0; index < results.size(); ++index) {
+      String result = results.get(index).get(0);
+      String[] parts = result.split(": ");
+
+      Assertions.assertEquals("player-" + index, parts[0]);
+
+      String[] values = parts[1].split(", ");
+      Assertions.assertEquals(values[0], values[1]);
+      Assertions.assertTrue(seenValues.add(values[0]));
+    }
+
+    Assertions.assertEquals(5, calls.get());
+
+    List<LazyVariable> lazyVariables = new ArrayList<>();
+    global.forEachLazyVariable(lazyVariables::add);
+
+    Assertions.assertEquals(1, lazyVariables.size());
+    Assertions.assertEquals("online", lazyVariables.get(0).name);
+    Assertions.assertEquals(5, lazyVariables.get(0).getResolutionCount());
+  }
+
+  @Test
+  public void shouldNotResolveVariablesWhenCapturingAllOfThem() {
+    AtomicInteger usedCalls = new AtomicInteger();
+    AtomicInteger unusedCalls = new AtomicInteger();
+
+    InterpretationEnvironment environment = new InterpretationEnvironment()
+      .withVariable("name", "used")
+      .withLazyVariable("used", () -> "value-" + usedCalls.incrementAndGet())
+      .withLazyVariable("unused", unusedCalls::incrementAndGet);
+
+    // Reading by a computed name forces the capture to retain all variables
+    Assertions.assertEquals(
+      "value-1 value-1",
+      render("<container *let-(line)={{env(name)}}>{line} {line}", environment)
+    );
+
+    Assertions.assertEquals(1, usedCalls.get());
+    Assertions.assertEquals(0, unusedCalls.get());
+  }
+
+  @Test
+  public void shouldResolveFailingSuppliersToNull() {
+    InterpretationEnvironment environment = new InterpretationEnvironment()
+      .withLazyVariable("failing", () -> {
+        throw new IllegalStateException("Intentionally thrown");
+      });
+
+    Assertions.assertEquals("fallback", render("{failing ?? 'fallback'}", environment));
+  }
+
+  private String render(String markup, InterpretationEnvironment environment) {
+    return parseMarkup(markup).asPlainText(environment, NullInterpreterLogger.INSTANCE);
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.markup.interpreter;
+
+import at.blvckbytes.component_markup.constructor.PlainTextComponentConstructor;
+import at.blvckbytes.component_markup.constructor.SlotType;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.expression.interpreter.RenderBudget;
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.markup.ast.tag.built_in.BuiltInTagRegistry;
+import at.blvckbytes.component_markup.markup.parser.MarkupParser;
+import at.blvckbytes.component_markup.util.InputView;
+import at.blvckbytes.component_markup.util.logging.InterpreterLogger;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class RenderBudgetTests {
+
+  @Test
+  public void shouldAbortOnTooManyLoopIterations() {
+    RenderBudget budget = RenderBudget.UNLIMITED.withMaxLoopIterations(50);
+
+    makeCase("<container *for=\"1..50\">x</>", budget, repeat("x", 50));
+    // Iterations of the outer loop count as well
+    makeCase("<container *for=\"1..5\"><container *for=\"1..9\">x</></>", budget, repeat("x", 45));
+
+    makeAbortedCase("<container *for=\"1..51\">x</>", budget, "loop-iterations", "\"1..51\"");
+    makeAbortedCase("<container *for=\"1..5\"><container *for=\"1..10\">x</></>", budget, "loop-iterations", "\"1..10\"");
+  }
+
+  @Test
+  public void shouldAbortOnTooMuchOutput() {
+    makeCase("abc{'d' ** 7}", RenderBudget.UNLIMITED.withMaxTextLength(10), "abcddddddd");
+    makeAbortedCase("abc{'d' ** 8}", RenderBudget.UNLIMITED.withMaxTextLength(10), "text-length", "{'d' ** 8}");
+    makeAbortedCase("<key key=\"a\"/><key key=\"b\"/>", RenderBudget.UNLIMITED.withMaxUnitCount(1), "units", "<key key=\"b\"/>");
+  }
+
+  @Test
+  public void shouldAbortOnSelfReferencingCaptures() {
+    makeAbortedCase(
+      "<container *let-recursive={<red>a{recursive}</>}>{recursive}</>",
+      RenderBudget.UNLIMITED.withMaxInterpretationDepth(64),
+      "interpretation-depth",
+      null
+    );
+  }
+
+  @Test
+  public void shouldAbortOnExceededRenderTime() {
+    makeAbortedCase(
+      "<container *for=\"1..100000\"><container *for=\"1..100000\">x</></>",
+      RenderBudget.UNLIMITED.withMaxRenderTime(5, TimeUnit.MILLISECONDS),
+      "render-time",
+      null
+    );
+  }
+
+  @Test
+  public void shouldYieldEmptyResultsOnTooLongRepetitionsAndRanges() {
+    List<String> messages = new ArrayList<>();
+
+    makeCase("a{'xy' ** 5}b", RenderBudget.UNLIMITED.withMaxRepeatLength(10), messages, "axyxyxyxyxyb");
+    makeCase("a{'xy' ** 6}b", RenderBudget.UNLIMITED.withMaxRepeatLength(10), messages, "ab");
+    makeCase("a{'xy' ** -1}b", RenderBudget.UNLIMITED, messages, "ab");
+
+    Assertions.assertEquals(1, messages.size());
+    Assertions.assertTrue(messages.get(0).contains("repetition"), messages.get(0));
+
+    messages.clear();
+
+    makeCase("{len(1..100)}", RenderBudget.UNLIMITED.withMaxRangeLength(100), messages, "100");
+    makeCase("{len(1..101)}", RenderBudget.UNLIMITED.withMaxRangeLength(100), messages, "0");
+
+    Assertions.assertEquals(1, messages.size());
+    Assertions.assertTrue(messages.get(0).contains("range"), messages.get(0));
+  }
+
+  @Test
+  public void shouldReuseInterpretersAfterAbortingBatchRenders() {
+    MarkupNode node = MarkupParser.parse(InputView.of("<container *for=\"1..n\">x</>"), BuiltInTagRegistry.INSTANCE);
+    List<InterpretationEnvironment> environments = new ArrayList<>();
+
+    for (int n : new int[] { 100, 10, 100, 10, 10 }) {
+      environments.add(
+        new InterpretationEnvironment()
+          .withVariable("n", n)
+          .withRenderBudget(RenderBudget.UNLIMITED.withMaxLoopIterations(50))
+      );
+    }
+
+    List<List<String>> results = MarkupInterpreter.interpretAll(node, SlotType.CHAT, environments, PlainTextComponentConstructor.INSTANCE, (view, position, message, e) -> {});
+
+    List<String> expected = Arrays.asList("", repeat("x", 10), "", repeat("x", 10), repeat("x", 10));
+    List<String> actual = new ArrayList<>();
+
+    for (List<String> result : results)
+      actual.add(String.join("\n", result));
+
+    Assertions.assertEquals(expected, actual);
+  }
+
+  @Test
+  public void shouldReuseInterpretersAfterAbortingWithinInterceptors() {
+    MarkupNode node = MarkupParser.parse(InputView.of("<rainbow *if=\"n > 20\"><container *for=\"1..n\">x</></>abcdef"), BuiltInTagRegistry.INSTANCE);
+    List<InterpretationEnvironment> environments = new ArrayList<>();
+    List<String> expected = new ArrayList<>();
+
+    // Enough environments for each chunk of the batch to be rendered by a reused interpreter
+    int environmentCount = Runtime.getRuntime().availableProcessors() * 4 * 3;
+
+    for (int index = 0; index < environmentCount; ++index) {
+      boolean exceeds = index % 2 == 0;
+
+      environments.add(
+        new InterpretationEnvironment()
+          .withVariable("n", exceeds ? 100 : 10)
+          .withRenderBudget(RenderBudget.UNLIMITED.withMaxLoopIterations(50))
+      );
+
+      expected.add(exceeds ? "" : "abcdef");
+    }
+
+    List<List<String>> results = MarkupInterpreter.interpretAll(node, SlotType.CHAT, environments, PlainTextComponentConstructor.INSTANCE, (view, position, message, e) -> {});
+    List<String> actual = new ArrayList<>();
+
+    for (List<String> result : results)
+      actual.add(String.join("\n", result));
+
+    Assertions.assertEquals(expected, actual);
+  }
+
+  private void makeAbortedCase(String input, RenderBudget budget, String messageSnippet, @Nullable String positionSnippet) {
+    List<String> messages = new ArrayList<>();
+    List<String> positions = new ArrayList<>();
+
+    InterpreterLogger logger = (view, position, message, e) -> {
+      messages.add(message);
+      positions.add(view.contents.substring(position));
+    };
+
+    List<String> result = render(input, budget, logger);
+
+    Assertions.assertEquals(Collections.singletonList(""), result);
+    Assertions.assertEquals(1, messages.size(), "Expected a single message, got " + messages);
+    Assertions.assertTrue(messages.get(0).contains(messageSnippet), messages.get(0));
+
+    if (positionSnippet != null)
+      Assertions.assertTrue(positions.get(0).startsWith(positionSnippet), positions.get(0));
+  }
+
+  private void makeCase(String input, RenderBudget budget, String expectedOutput) {
+    List<String> messages = new ArrayList<>();
+    makeCase(input, budget, messages, expectedOutput);
+    Assertions.assertEquals(Collections.emptyList(), messages);
+  }
+
+  private void makeCase(String input, RenderBudget budget, List<String> messages, String expectedOutput) {
+    List<String> result = render(input, budget, (view, position, message, e) -> messages.add(message));
+    Assertions.assertEquals(expectedOutput, String.join("\n", result));
+  }
+
+  private List<String> render(String input, RenderBudget budget, InterpreterLogger logger) {
+    MarkupNode node = MarkupParser.parse(InputView.of(input), BuiltInTagRegistry.INSTANCE);
+    InterpretationEnvironment environment = new InterpretationEnvironment().withRenderBudget(budget);
+    return MarkupInterpreter.interpret(node, SlotType.CHAT, environment, PlainTextComponentConstructor.INSTANCE, logger);
+  }
+
+  private static String repeat(String input, int count) {
+    StringBuilder result = new StringBuilder();
+
+    for (int index = 0; index < count; ++index)
+      result.append(input);
+
+    return result.toString();
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.markup.interpreter;
+
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class TemporaryMemberEnvironmentTests {
+
+  @Test
+  public void shouldShadowAndRestoreVariables() {
+    TemporaryMemberEnvironment environment = new TemporaryMemberEnvironment(
+      new InterpretationEnvironment()
+        .withVariable("a", "base-a")
+        .withVariable("b", "base-b")
+    );
+
+    environment.beginScope();
+    environment.setScopeVariable("a", "outer-a");
+
+    environment.beginScope();
+    environment.beginScope();
+    environment.setScopeVariable("a", "inner-a");
+    environment.setScopeVariable("a", "inner-a-overwritten");
+    environment.setScopeVariable("c", null);
+
+    Assertions.assertEquals("inner-a-overwritten", environment.getVariableValue("a"));
+    Assertions.assertEquals("base-b", environment.getVariableValue("b"));
+    Assertions.assertTrue(environment.doesVariableExist("c"));
+
+    List<String> knownNames = new ArrayList<>();
+    environment.forEachKnownName(knownNames::add);
+    Assertions.assertEquals(Arrays.asList("c", "a", "b"), knownNames.subList(0, 3));
+
+    environment.endScope();
+
+    Assertions.assertEquals("outer-a", environment.getVariableValue("a"));
+    Assertions.assertFalse(environment.doesVariableExist("c"));
+
+    environment.endScope();
+    environment.endScope();
+
+    Assertions.assertEquals("base-a", environment.getVariableValue("a"));
+  }
+
+  @Test
+  public void shouldGrowBeyondInitialCapacity() {
+    TemporaryMemberEnvironment environment = new TemporaryMemberEnvironment(new InterpretationEnvironment());
+
+    for (int depth = 0; depth < 100; ++depth) {
+      environment.beginScope();
+      environment.setScopeVariable("depth", depth);
+      environment.setScopeVariable("name_" + depth, depth);
+    }
+
+    Assertions.assertEquals(99, environment.getVariableValue("depth"));
+
+    for (int depth = 99; depth >= 0; --depth) {
+      Assertions.assertEquals(depth, environment.getVariableValue("depth"));
+      Assertions.assertEquals(depth, environment.getVariableValue("name_" + depth));
+      environment.endScope();
+      Assertions.assertFalse(environment.doesVariableExist("name_" + depth));
+    }
+
+    Assertions.assertFalse(environment.doesVariableExist("depth"));
+  }
+}
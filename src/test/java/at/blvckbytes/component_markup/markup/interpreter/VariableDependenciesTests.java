@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.markup.interpreter;
+
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+public class VariableDependenciesTests extends InterpreterTestsBase {
+
+  @Test
+  public void shouldReportVariablesAndAccessPaths() {
+    VariableDependencies dependencies = analyze(
+      "<red *if=\"player.online\">{player.name} <gradient [c]=\"accent\" c=\"blue\">{rank}</> <style *let-x=\"stats.kills\" [color]=\"theme.primary\">{x}"
+    );
+
+    Assertions.assertEquals(
+      new HashSet<>(Arrays.asList("player", "accent", "rank", "x", "stats", "theme")),
+      dependencies.variableNames
+    );
+
+    Assertions.assertEquals(
+      new HashSet<>(Arrays.asList("player.online", "player.name", "accent", "rank", "x", "stats.kills", "theme.primary")),
+      dependencies.accessPaths
+    );
+  }
+
+  @Test
+  public void shouldReportNoDependenciesIfUndeterminable() {
+    Assertions.assertNull(VariableDependencies.of(parseMarkup("{env(name)}")));
+  }
+
+  @Test
+  public void shouldReadValuesOfAccessPaths() {
+    VariableDependencies dependencies = analyze("{player.name} {has(rank)}");
+
+    Map<String, Object> player = new HashMap<>();
+    player.put("name", "Steve");
+    player.put("health", 20);
+
+    Object[] values = dependencies.readValues(new InterpretationEnvironment().withVariable("player", player));
+    Assertions.assertNotNull(values);
+
+    player.put("health", 10);
+
+    // Members which are not accessed do not influence the values read
+    Assertions.assertArrayEquals(values, dependencies.readValues(new InterpretationEnvironment().withVariable("player", player)));
+
+    player.put("name", "Alex");
+
+    Assertions.assertFalse(Arrays.equals(values, dependencies.readValues(new InterpretationEnvironment().withVariable("player", player))));
+
+    // Existence is distinguished from holding null
+    Assertions.assertFalse(Arrays.equals(
+      dependencies.readValues(new InterpretationEnvironment().withVariable("rank", null)),
+      dependencies.readValues(new InterpretationEnvironment())
+    ));
+  }
+
+  @Test
+  public void shouldReadValuesReferencedByHeldMarkup() {
+    VariableDependencies dependencies = analyze("{line}");
+    InterpretationEnvironment environment = new InterpretationEnvironment()
+      .withVariable("line", parseMarkup("{suffix}"))
+      .withVariable("suffix", "a");
+
+    Object[] values = dependencies.readValues(environment);
+    Assertions.assertNotNull(values);
+
+    environment.withVariable("suffix", "b");
+
+    Assertions.assertFalse(Arrays.equals(values, dependencies.readValues(environment)));
+  }
+
+  private VariableDependencies analyze(String markup) {
+    VariableDependencies dependencies = VariableDependencies.of(parseMarkup(markup));
+    Assertions.assertNotNull(dependencies);
+    return dependencies;
+  }
+}
@@ -119,4 +119,47 @@ public class DurationTagTests extends InterpreterTestsBase {
         .string("text", "0d 1m 0s")
     );
   }
+
+  @Test
+  public void shouldDecomposeLongDurationsIntoSmallUnits() {
+    // 40 years, 3 days, 5 hours, 7 seconds and 42 milliseconds
+    long duration = 40 * 365L * 24 * 60 * 60 * 1000 + 3 * 24 * 60 * 60 * 1000 + 5 * 60 * 60 * 1000 + 7 * 1000 + 42;
+
+    makeCase(
+      new TextWithSubViews(
+        "<duration units='ydhmsi' [value]='duration' />"
+      ),
+      new InterpretationEnvironment()
+        .withVariable("duration", duration),
+      SlotType.CHAT,
+      new JsonObjectBuilder()
+        .string("text", "40y 3d 5h 7s 42i")
+    );
+
+    makeCase(
+      new TextWithSubViews(
+        "<duration units='i' [value]='duration' />"
+      ),
+      new InterpretationEnvironment()
+        .withVariable("duration", duration),
+      SlotType.CHAT,
+      new JsonObjectBuilder()
+        .string("text", duration + "i")
+    );
+  }
+
+  @Test
+  public void shouldEvaluateNonLiteralUnitsOnEachRender() {
+    makeCase(
+      new TextWithSubViews(
+        "<duration [units]='units' [zeroes]='zeroes' [value]='90 * 1000' />"
+      ),
+      new InterpretationEnvironment()
+        .withVariable("units", "hms")
+        .withVariable("zeroes", "h"),
+      SlotType.CHAT,
+      new JsonObjectBuilder()
+        .string("text", "0h 1m 30s")
+    );
+  }
 }
@@ -87,4 +87,27 @@ public class NumberTagTests extends InterpreterTestsBase {
         .string("text", "05.55")
     );
   }
+
+  @Test
+  public void shouldNotCarryOverRoundingToLaterFormats() {
+    TextWithSubViews text = new TextWithSubViews("<number value=1.125 format=\"0.00\" locale=\"en_US\" rounding=\"UP\"/>");
+
+    makeCase(
+      text,
+      new InterpretationEnvironment(),
+      SlotType.CHAT,
+      new JsonObjectBuilder()
+        .string("text", "1.13")
+    );
+
+    text = new TextWithSubViews("<number value=1.125 format=\"0.00\" locale=\"en_US\"/>");
+
+    makeCase(
+      text,
+      new InterpretationEnvironment(),
+      SlotType.CHAT,
+      new JsonObjectBuilder()
+        .string("text", "1.12")
+    );
+  }
 }
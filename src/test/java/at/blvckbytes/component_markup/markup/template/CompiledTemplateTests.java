@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.markup.template;
+
+import at.blvckbytes.component_markup.constructor.PlainTextComponentConstructor;
+import at.blvckbytes.component_markup.constructor.SlotType;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.markup.ast.tag.built_in.BuiltInTagRegistry;
+import at.blvckbytes.component_markup.markup.interpreter.JsonComponentConstructor;
+import at.blvckbytes.component_markup.test_utils.NullInterpreterLogger;
+import com.google.gson.JsonObject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class CompiledTemplateTests {
+
+  @Test
+  public void shouldRestoreContentOfRecursiveSubstitutions() {
+    CompiledTemplate template = CompiledTemplate.compile(
+      "<container *let-twice={<content/>;<content/>}><$twice><$twice>x</></></>",
+      BuiltInTagRegistry.INSTANCE
+    );
+
+    Assertions.assertEquals(
+      Collections.singletonList("x;x;x;x"),
+      template.render(SlotType.CHAT, new InterpretationEnvironment(), PlainTextComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE)
+    );
+  }
+
+  @Test
+  public void shouldRenderConcurrentlyWithDifferentEnvironments() throws Exception {
+    CompiledTemplate template = CompiledTemplate.compile(
+      "<container *let-box={[<content/>]}><rainbow><$box>Hello, {name}!</></></>",
+      BuiltInTagRegistry.INSTANCE
+    );
+
+    int renderCount = 200;
+    List<List<JsonObject>> expectedResults = new ArrayList<>();
+
+    for (int index = 0; index < renderCount; ++index)
+      expectedResults.add(render(template, index));
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    try {
+      List<Future<List<JsonObject>>> futures = new ArrayList<>();
+
+      for (int index = 0; index < renderCount; ++index) {
+        int renderIndex = index;
+        futures.add(executor.submit(() -> render(template, renderIndex)));
+      }
+
+      for (int index = 0; index < renderCount; ++index)
+        Assertions.assertEquals(expectedResults.get(index), futures.get(index).get());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldRenderAllInInputOrder() {
+    CompiledTemplate template = CompiledTemplate.compile(
+      "<container *let-box={[<content/>]}><rainbow><$box>Hello, {name}!</></> <red *for-item=\"items\" *let-next=\"item + 1\">{next}</></>",
+      BuiltInTagRegistry.INSTANCE
+    );
+
+    List<InterpretationEnvironment> environments = new ArrayList<>();
+    List<List<JsonObject>> expectedResults = new ArrayList<>();
+
+    for (int index = 0; index < 500; ++index) {
+      // Environments of differing contexts cannot share an interpreter, so mix them in
+      InterpretationEnvironment environment = (index % 7 == 0 ? new InterpretationEnvironment(index) : new InterpretationEnvironment())
+        .withVariable("name", "Player #" + index)
+        .withVariable("items", Arrays.asList(index, index * 2));
+
+      environments.add(environment);
+      expectedResults.add(template.render(SlotType.CHAT, environment, JsonComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE));
+    }
+
+    Assertions.assertEquals(
+      expectedResults,
+      template.renderAll(SlotType.CHAT, environments, JsonComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE)
+    );
+
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+
+    try {
+      Assertions.assertEquals(
+        expectedResults,
+        template.renderAll(SlotType.CHAT, environments.stream(), JsonComponentConstructor.INSTANCE, null, NullInterpreterLogger.INSTANCE, executor)
+      );
+    } finally {
+      executor.shutdown();
+    }
+
+    Assertions.assertTrue(template.renderAll(SlotType.CHAT, Collections.emptyList(), JsonComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE).isEmpty());
+  }
+
+  @Test
+  public void shouldCacheAndEvictLeastRecentlyUsed() {
+    TemplateCache cache = new TemplateCache(2, 1024);
+
+    CompiledTemplate first = cache.get("first", BuiltInTagRegistry.INSTANCE);
+    CompiledTemplate second = cache.get("second", BuiltInTagRegistry.INSTANCE);
+
+    Assertions.assertSame(first, cache.get("first", BuiltInTagRegistry.INSTANCE));
+
+    cache.get("third", BuiltInTagRegistry.INSTANCE);
+
+    Assertions.assertEquals(2, cache.size());
+    Assertions.assertSame(first, cache.get("first", BuiltInTagRegistry.INSTANCE));
+    Assertions.assertNotSame(second, cache.get("second", BuiltInTagRegistry.INSTANCE));
+  }
+
+  @Test
+  public void shouldEvictByTotalSourceLength() {
+    TemplateCache cache = new TemplateCache(16, 10);
+
+    cache.get("12345", BuiltInTagRegistry.INSTANCE);
+    cache.get("67890", BuiltInTagRegistry.INSTANCE);
+
+    Assertions.assertEquals(10, cache.getTotalSourceLength());
+
+    cache.get("abc", BuiltInTagRegistry.INSTANCE);
+
+    Assertions.assertEquals(2, cache.size());
+    Assertions.assertEquals(8, cache.getTotalSourceLength());
+
+    cache.get("this source exceeds the limit", BuiltInTagRegistry.INSTANCE);
+
+    Assertions.assertEquals(8, cache.getTotalSourceLength());
+  }
+
+  private static List<JsonObject> render(CompiledTemplate template, int index) {
+    return template.render(
+      SlotType.CHAT,
+      new InterpretationEnvironment().withVariable("name", "Player #" + index),
+      JsonComponentConstructor.INSTANCE,
+      NullInterpreterLogger.INSTANCE
+    );
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.markup.template;
+
+import at.blvckbytes.component_markup.constructor.PlainTextComponentConstructor;
+import at.blvckbytes.component_markup.constructor.SlotType;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.markup.ast.tag.built_in.BuiltInTagRegistry;
+import at.blvckbytes.component_markup.test_utils.NullInterpreterLogger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RenderCacheTests {
+
+  @Test
+  public void shouldReturnCachedResultsForEqualDependencies() {
+    RenderCache renderCache = new RenderCache(16);
+    CompiledTemplate template = CompiledTemplate.compile("<gradient [c]=\"accent\" c=\"blue\">Hello, {name}!", BuiltInTagRegistry.INSTANCE);
+
+    List<String> first = render(renderCache, template, environment("Steve").withVariable("unused", 1));
+    List<String> second = render(renderCache, template, environment("Steve").withVariable("unused", 2));
+
+    Assertions.assertEquals(Collections.singletonList("Hello, Steve!"), first);
+    Assertions.assertSame(first, second);
+
+    Assertions.assertEquals(Collections.singletonList("Hello, Alex!"), render(renderCache, template, environment("Alex")));
+
+    Assertions.assertEquals(1, renderCache.getHitCount());
+    Assertions.assertEquals(2, renderCache.getMissCount());
+    Assertions.assertEquals(1 / 3.0, renderCache.getHitRate(), 1e-9);
+    Assertions.assertEquals(2, renderCache.size());
+  }
+
+  @Test
+  public void shouldNotShareResultsAmongTemplatesOrSlots() {
+    RenderCache renderCache = new RenderCache(16);
+    CompiledTemplate first = CompiledTemplate.compile("A {name}", BuiltInTagRegistry.INSTANCE);
+    CompiledTemplate second = CompiledTemplate.compile("B {name}", BuiltInTagRegistry.INSTANCE);
+
+    Assertions.assertEquals(Collections.singletonList("A Steve"), render(renderCache, first, environment("Steve")));
+    Assertions.assertEquals(Collections.singletonList("B Steve"), render(renderCache, second, environment("Steve")));
+
+    renderCache.render(first, SlotType.ITEM_LORE, environment("Steve"), PlainTextComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE);
+
+    Assertions.assertEquals(0, renderCache.getHitCount());
+    Assertions.assertEquals(3, renderCache.getMissCount());
+  }
+
+  @Test
+  public void shouldBypassTemplatesWithUndeterminableDependencies() {
+    RenderCache renderCache = new RenderCache(16);
+    CompiledTemplate template = CompiledTemplate.compile("{env(key)}", BuiltInTagRegistry.INSTANCE);
+
+    AtomicInteger calls = new AtomicInteger();
+    InterpretationEnvironment environment = new InterpretationEnvironment()
+      .withVariable("key", "value")
+      .withLazyVariable("value", () -> "call-" + calls.incrementAndGet());
+
+    Assertions.assertEquals(Collections.singletonList("call-1"), render(renderCache, template, environment));
+    Assertions.assertEquals(Collections.singletonList("call-2"), render(renderCache, template, environment));
+
+    Assertions.assertEquals(2, renderCache.getBypassCount());
+    Assertions.assertEquals(0, renderCache.size());
+  }
+
+  @Test
+  public void shouldResolveLazyVariablesOncePerRender() {
+    RenderCache renderCache = new RenderCache(16);
+    CompiledTemplate template = CompiledTemplate.compile("{player.name} is level {player.level}, {rank}", BuiltInTagRegistry.INSTANCE);
+
+    AtomicInteger playerCalls = new AtomicInteger();
+    AtomicInteger rankCalls = new AtomicInteger();
+
+    Map<String, Object> player = new HashMap<>();
+    player.put("name", "Steve");
+    player.put("level", 5);
+
+    InterpretationEnvironment environment = new InterpretationEnvironment()
+      .withLazyVariable("player", () -> {
+        playerCalls.incrementAndGet();
+        return player;
+      })
+      .withLazyVariable("rank", () -> "rank-" + rankCalls.incrementAndGet());
+
+    // A miss reads the values for its key and renders based upon those very values
+    Assertions.assertEquals(Collections.singletonList("Steve is level 5, rank-1"), render(renderCache, template, environment));
+    Assertions.assertEquals(1, playerCalls.get());
+    Assertions.assertEquals(1, rankCalls.get());
+
+    // A hit still has to read the values for its key, but does so only once as well
+    rankCalls.set(0);
+
+    Assertions.assertEquals(Collections.singletonList("Steve is level 5, rank-1"), render(renderCache, template, environment));
+    Assertions.assertEquals(2, playerCalls.get());
+    Assertions.assertEquals(1, rankCalls.get());
+
+    Assertions.assertEquals(1, renderCache.getHitCount());
+    Assertions.assertEquals(1, renderCache.getMissCount());
+  }
+
+  private static InterpretationEnvironment environment(String name) {
+    return new InterpretationEnvironment()
+      .withVariable("name", name)
+      .withVariable("accent", "red");
+  }
+
+  private static List<String> render(RenderCache renderCache, CompiledTemplate template, InterpretationEnvironment environment) {
+    return renderCache.render(template, SlotType.CHAT, environment, PlainTextComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE);
+  }
+}
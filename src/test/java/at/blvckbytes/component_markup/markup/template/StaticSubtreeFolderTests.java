@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.markup.template;
+
+import at.blvckbytes.component_markup.constructor.PlainTextComponentConstructor;
+import at.blvckbytes.component_markup.constructor.SlotContext;
+import at.blvckbytes.component_markup.constructor.SlotType;
+import at.blvckbytes.component_markup.expression.interpreter.DefaultValueInterpreter;
+import at.blvckbytes.component_markup.expression.interpreter.InterpretationEnvironment;
+import at.blvckbytes.component_markup.markup.ast.node.MarkupNode;
+import at.blvckbytes.component_markup.markup.ast.node.style.Format;
+import at.blvckbytes.component_markup.markup.ast.node.terminal.PrerenderedNode;
+import at.blvckbytes.component_markup.markup.ast.tag.built_in.BuiltInTagRegistry;
+import at.blvckbytes.component_markup.markup.interpreter.JsonComponentConstructor;
+import at.blvckbytes.component_markup.markup.interpreter.RawValueTransformer;
+import at.blvckbytes.component_markup.test_utils.NullInterpreterLogger;
+import at.blvckbytes.component_markup.util.TriState;
+import at.blvckbytes.component_markup.util.TriStateBitFlags;
+import at.blvckbytes.component_markup.util.color.AnsiStyleColor;
+import at.blvckbytes.component_markup.util.color.PackedColor;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+public class StaticSubtreeFolderTests {
+
+  @Test
+  public void shouldPrerenderFullyStaticTemplates() {
+    CompiledTemplate template = makeCase("<green>All <u>static</u>, <!b><#AA00AA>really</></green>", SlotType.CHAT);
+
+    Assertions.assertInstanceOf(PrerenderedNode.class, template.getRootNode());
+    // One variant for the plain-text and one for the JSON constructor
+    Assertions.assertEquals(2, ((PrerenderedNode) template.getRootNode()).getRenderedVariantCount());
+  }
+
+  @Test
+  public void shouldPrerenderStaticSiblingsOfDynamicNodes() {
+    CompiledTemplate template = makeCase("<red>Hello, <b>world</b>! {name} <gray>static <i>tail</i></gray></red>", SlotType.CHAT);
+
+    Assertions.assertEquals(2, countPrerenderedNodes(template.getRootNode()));
+  }
+
+  @Test
+  public void shouldKeepStylesEqualToSlotDefaults() {
+    makeCase("<red>a <dark_purple><i>b</i></dark_purple> {name}</red>", SlotType.ITEM_LORE);
+  }
+
+  @Test
+  public void shouldPrerenderAcrossBreaks() {
+    makeCase("<aqua>Line one<br/><!i>Line two</></aqua>, {name}<br/><yellow><b>Last</b> line</yellow>", SlotType.ITEM_LORE);
+    makeCase("<aqua>Line one<br/><!i>Line two</></aqua>, {name}<br/><yellow><b>Last</b> line</yellow>", SlotType.CHAT);
+  }
+
+  @Test
+  public void shouldNotPrerenderDynamicOrIntercepted() {
+    CompiledTemplate template = makeCase(
+      "<container *if=\"show\"><red>a</red> <b>b</b></> <gradient color=\"red\" color=\"blue\"><b>c</b> d</gradient> <red *let-x=\"1\">e</red> <blue *use=\"show\">f</blue>",
+      SlotType.CHAT
+    );
+
+    Assertions.assertEquals(1, countPrerenderedNodes(template.getRootNode()));
+  }
+
+  @Test
+  public void shouldNotPrerenderStylesWhichReadTheEnvironment() {
+    String source = "<style [color]=\"env('accent')\">A <b>B</b></style> <style [color]=\"has('accent') then 'red' else 'blue'\">C <i>D</i></style>";
+    CompiledTemplate plainTemplate = CompiledTemplate.compile(source, BuiltInTagRegistry.INSTANCE);
+    CompiledTemplate template = CompiledTemplate.compile(source, BuiltInTagRegistry.INSTANCE, true);
+
+    // Only the constant members within both styled containers may be folded
+    Assertions.assertNotNull(template.getRootNode().children);
+
+    for (MarkupNode child : template.getRootNode().children)
+      Assertions.assertFalse(child instanceof PrerenderedNode && ((PrerenderedNode) child).subtree.children.size() > 2);
+
+    Assertions.assertEquals(2, countPrerenderedNodes(template.getRootNode()));
+
+    SlotContext slotContext = JsonComponentConstructor.INSTANCE.getSlotContext(SlotType.CHAT);
+
+    for (String accent : new String[] { "red", "green" }) {
+      InterpretationEnvironment environment = new InterpretationEnvironment().withVariable("accent", accent);
+
+      Assertions.assertEquals(
+        resolveStyledCharacters(plainTemplate.render(SlotType.CHAT, environment, JsonComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE), slotContext),
+        resolveStyledCharacters(template.render(SlotType.CHAT, environment, JsonComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE), slotContext)
+      );
+    }
+
+    String redResult = render(template, new InterpretationEnvironment().withVariable("accent", "red"), null);
+    String greenResult = render(template, new InterpretationEnvironment().withVariable("accent", "green"), null);
+    String emptyResult = render(template, new InterpretationEnvironment(), null);
+
+    Assertions.assertTrue(redResult.contains("\"color\":\"red\""));
+    Assertions.assertTrue(greenResult.contains("\"color\":\"green\""));
+    Assertions.assertTrue(emptyResult.contains("\"color\":\"blue\""));
+  }
+
+  @Test
+  public void shouldPrerenderWithTheValueInterpreterOfTheCaller() {
+    String source = "<style [color]=\"'red'\">A <b>B</b></style>";
+    CompiledTemplate plainTemplate = CompiledTemplate.compile(source, BuiltInTagRegistry.INSTANCE);
+    CompiledTemplate foldedTemplate = CompiledTemplate.compile(source, BuiltInTagRegistry.INSTANCE, true);
+
+    Assertions.assertInstanceOf(PrerenderedNode.class, foldedTemplate.getRootNode());
+
+    DefaultValueInterpreter swappingInterpreter = new DefaultValueInterpreter() {
+      @Override
+      public @NotNull String asString(@Nullable Object value) {
+        return "red".equals(value) ? "blue" : super.asString(value);
+      }
+    };
+
+    Supplier<InterpretationEnvironment> defaultEnvironment = InterpretationEnvironment::new;
+    Supplier<InterpretationEnvironment> swappingEnvironment = () -> new InterpretationEnvironment().withValueInterpreter(swappingInterpreter);
+
+    // Alternate between both, as to hit the prerendered variants of one another if they were not told apart
+    for (int renderIndex = 0; renderIndex < 2; ++renderIndex) {
+      Assertions.assertEquals(render(plainTemplate, defaultEnvironment.get(), null), render(foldedTemplate, defaultEnvironment.get(), null));
+      Assertions.assertEquals(render(plainTemplate, swappingEnvironment.get(), null), render(foldedTemplate, swappingEnvironment.get(), null));
+    }
+
+    Assertions.assertTrue(render(foldedTemplate, swappingEnvironment.get(), null).contains("\"color\":\"blue\""));
+    Assertions.assertEquals(2, ((PrerenderedNode) foldedTemplate.getRootNode()).getRenderedVariantCount());
+  }
+
+  @Test
+  public void shouldPrerenderPerRawValueTransformer() {
+    CompiledTemplate template = CompiledTemplate.compile("<red>A <b>B</b></red>", BuiltInTagRegistry.INSTANCE, true);
+    RawValueTransformer transformer = value -> value;
+
+    Assertions.assertInstanceOf(PrerenderedNode.class, template.getRootNode());
+
+    String plainResult = render(template, new InterpretationEnvironment(), null);
+
+    Assertions.assertEquals(plainResult, render(template, new InterpretationEnvironment(), transformer));
+    Assertions.assertEquals(plainResult, render(template, new InterpretationEnvironment(), null));
+    Assertions.assertEquals(2, ((PrerenderedNode) template.getRootNode()).getRenderedVariantCount());
+  }
+
+  private static String render(CompiledTemplate template, InterpretationEnvironment environment, @Nullable RawValueTransformer rawValueTransformer) {
+    return template.render(SlotType.CHAT, environment, JsonComponentConstructor.INSTANCE, rawValueTransformer, NullInterpreterLogger.INSTANCE).toString();
+  }
+
+  private CompiledTemplate makeCase(String source, SlotType slotType) {
+    CompiledTemplate plainTemplate = CompiledTemplate.compile(source, BuiltInTagRegistry.INSTANCE);
+    CompiledTemplate foldedTemplate = CompiledTemplate.compile(source, BuiltInTagRegistry.INSTANCE, true);
+
+    for (int renderIndex = 0; renderIndex < 2; ++renderIndex) {
+      InterpretationEnvironment environment = new InterpretationEnvironment()
+        .withVariable("name", "Steve")
+        .withVariable("show", true);
+
+      Assertions.assertEquals(
+        plainTemplate.render(slotType, environment, PlainTextComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE),
+        foldedTemplate.render(slotType, environment, PlainTextComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE)
+      );
+
+      List<JsonObject> plainComponents = plainTemplate.render(slotType, environment, JsonComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE);
+      List<JsonObject> foldedComponents = foldedTemplate.render(slotType, environment, JsonComponentConstructor.INSTANCE, NullInterpreterLogger.INSTANCE);
+
+      SlotContext slotContext = JsonComponentConstructor.INSTANCE.getSlotContext(slotType);
+
+      Assertions.assertEquals(resolveStyledCharacters(plainComponents, slotContext), resolveStyledCharacters(foldedComponents, slotContext));
+    }
+
+    return foldedTemplate;
+  }
+
+  /**
+   * The structure of folded output may differ, so compare what a client would display: each
+   * character along with its effectively inherited color and formats, starting out at the slot's defaults.
+   */
+  private List<String> resolveStyledCharacters(List<JsonObject> components, SlotContext slotContext) {
+    List<String> result = new ArrayList<>();
+
+    String defaultColor = PackedColor.asNonAlphaHex(slotContext.defaultStyle.getPackedColor());
+    boolean[] defaultFormats = new boolean[Format.COUNT];
+
+    for (Format format : Format.VALUES)
+      defaultFormats[format.ordinal()] = TriStateBitFlags.read(slotContext.defaultStyle.getFormats(), format.ordinal()) == TriState.TRUE;
+
+    for (int index = 0; index < components.size(); ++index) {
+      result.add("line " + index);
+      resolveStyledCharacters(components.get(index), defaultColor, defaultFormats, result);
+    }
+
+    return result;
+  }
+
+  private void resolveStyledCharacters(JsonObject component, String parentColor, boolean[] parentFormats, List<String> output) {
+    String color = parentColor;
+
+    if (component.has("color")) {
+      String colorValue = component.get("color").getAsString();
+      AnsiStyleColor ansiColor = AnsiStyleColor.fromNameLowerOrNull(colorValue);
+      color = ansiColor == null ? colorValue : PackedColor.asNonAlphaHex(ansiColor.packedColor);
+    }
+
+    boolean[] formats = parentFormats.clone();
+
+    for (Format format : Format.VALUES) {
+      String formatKey = format.name().toLowerCase();
+
+      if (component.has(formatKey))
+        formats[format.ordinal()] = component.get(formatKey).getAsBoolean();
+    }
+
+    if (component.has("text")) {
+      for (char character : component.get("text").getAsString().toCharArray())
+        output.add(character + " " + color + " " + Arrays.toString(formats));
+    }
+
+    if (component.has("extra")) {
+      for (JsonElement child : component.getAsJsonArray("extra"))
+        resolveStyledCharacters((JsonObject) child, color, formats, output);
+    }
+  }
+
+  private int countPrerenderedNodes(MarkupNode root) {
+    if (root instanceof PrerenderedNode)
+      return 1;
+
+    int[] count = { 0 };
+
+    root.forEachChildRecursively(child -> {
+      if (child instanceof PrerenderedNode) {
+        ++count[0];
+        return false;
+      }
+
+      return true;
+    });
+
+    return count[0];
+  }
+}
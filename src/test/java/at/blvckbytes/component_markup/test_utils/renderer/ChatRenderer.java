@@ -241,9 +241,9 @@ public class ChatRenderer {
 
     if (shadowColor == null) {
       if (color != null)
-        shadowColor = new Color(color.getRed(), color.getGreen(), color.getBlue(), context.defaultStyle.packedShadowColorOpacity);
+        shadowColor = new Color(color.getRed(), color.getGreen(), color.getBlue(), context.defaultStyle.getPackedShadowColorOpacity());
       else
-        shadowColor = colorFromPacked(context.defaultStyle.packedShadowColor);
+        shadowColor = colorFromPacked(context.defaultStyle.getPackedShadowColor());
     }
 
     if (color == null)
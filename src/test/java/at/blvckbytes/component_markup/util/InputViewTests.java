@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025, BlvckBytes
+ * SPDX-License-Identifier: MIT
+ */
+
+package at.blvckbytes.component_markup.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+public class InputViewTests {
+
+  private static final char[] ALPHABET = { 'a', 'B', ' ', ' ', '\n', '\t', '\\', '<' };
+
+  private static final List<EnumSet<SubstringFlag>> FLAG_SETS = Arrays.asList(
+    null, SubstringFlag.INNER_TEXT, SubstringFlag.FIRST_TEXT, SubstringFlag.LAST_TEXT, SubstringFlag.ONLY_TEXT
+  );
+
+  @Test
+  public void shouldFindNextSetIndicesAcrossWords() {
+    BitFlagArray flags = new BitFlagArray(200);
+
+    Assertions.assertEquals(-1, flags.nextSetIndex(0, 200));
+
+    flags.set(3);
+    flags.set(63);
+    flags.set(64);
+    flags.set(190);
+
+    Assertions.assertEquals(3, flags.nextSetIndex(0, 200));
+    Assertions.assertEquals(63, flags.nextSetIndex(4, 200));
+    Assertions.assertEquals(64, flags.nextSetIndex(64, 200));
+    Assertions.assertEquals(190, flags.nextSetIndex(65, 200));
+    Assertions.assertEquals(-1, flags.nextSetIndex(65, 190));
+    Assertions.assertEquals(-1, flags.nextSetIndex(4, 4));
+
+    flags.clearRange(0, 150);
+
+    Assertions.assertEquals(190, flags.nextSetIndex(0, 200));
+  }
+
+  @Test
+  public void shouldBuildStringsEquallyToCharWiseBuilding() {
+    Random random = new Random(1337);
+
+    for (int iteration = 0; iteration < 5000; ++iteration) {
+      char[] contents = new char[1 + random.nextInt(150)];
+
+      for (int index = 0; index < contents.length; ++index)
+        contents[index] = ALPHABET[random.nextInt(ALPHABET.length)];
+
+      InputView root = InputView.of(new String(contents));
+      Set<Integer> removedIndices = new HashSet<>();
+
+      for (int index = 0; index < contents.length; ++index) {
+        if (random.nextInt(10) == 0) {
+          root.addIndexToBeRemoved(index);
+          removedIndices.add(index);
+        }
+      }
+
+      int startInclusive = random.nextInt(contents.length);
+      int endExclusive = startInclusive + random.nextInt(contents.length - startInclusive + 1);
+      EnumSet<SubstringFlag> flags = FLAG_SETS.get(random.nextInt(FLAG_SETS.size()));
+      boolean lowercase = random.nextInt(4) == 0;
+
+      InputView view = root.buildSubViewAbsolute(startInclusive, endExclusive);
+
+      if (flags != null)
+        view.setBuildFlags(flags);
+
+      if (lowercase)
+        view.setLowercase();
+
+      Assertions.assertEquals(
+        buildCharWise(root.contents, removedIndices, startInclusive, endExclusive, flags, lowercase),
+        view.buildString(),
+        "iteration " + iteration
+      );
+    }
+  }
+
+  private static String buildCharWise(
+    String contents, Set<Integer> removedIndices,
+    int startInclusive, int endExclusive,
+    EnumSet<SubstringFlag> flags, boolean lowercase
+  ) {
+    StringBuilder result = new StringBuilder();
+    boolean doIgnoreWhitespace = false;
+
+    for (int index = startInclusive; index < endExclusive; ++index) {
+      if (removedIndices.contains(index))
+        continue;
+
+      char currentChar = contents.charAt(index);
+
+      if (currentChar == '\n' && flags != null && flags.contains(SubstringFlag.REMOVE_NEWLINES_INDENT)) {
+        while (result.length() > 0 && result.charAt(result.length() - 1) == ' ')
+          result.setLength(result.length() - 1);
+
+        doIgnoreWhitespace = true;
+        continue;
+      }
+
+      if (doIgnoreWhitespace) {
+        if (Character.isWhitespace(currentChar))
+          continue;
+
+        doIgnoreWhitespace = false;
+      }
+
+      if (currentChar == ' ' && flags != null && flags.contains(SubstringFlag.REMOVE_LEADING_SPACE) && result.length() == 0) {
+        doIgnoreWhitespace = true;
+        continue;
+      }
+
+      result.append(lowercase ? AsciiCasing.lower(currentChar) : currentChar);
+    }
+
+    if (flags != null && flags.contains(SubstringFlag.REMOVE_TRAILING_SPACE)) {
+      while (result.length() > 0 && result.charAt(result.length() - 1) == ' ')
+        result.setLength(result.length() - 1);
+    }
+
+    return result.toString();
+  }
+}